@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matches log lines against a list of built-in patterns, where the lines match the last patterns of the list or none of them,
+ * with the regex engine trying the patterns one after the other and with the automaton that selects the patterns to try.
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class GrokBenchmark {
+
+    private static final List<String> PATTERNS = Arrays.asList(
+        "%{SYSLOG5424LINE}",
+        "%{CATALINALOG}",
+        "%{TOMCATLOG}",
+        "%{SYSLOGLINE}",
+        "%{COMMONAPACHELOG}",
+        "%{COMBINEDAPACHELOG}"
+    );
+
+    private static final List<String> LINES = Arrays.asList(
+        "83.149.9.216 - - [17/May/2015:10:05:03 +0000] \"GET /presentations/logstash-monitorama-2013/images/kibana-search.png "
+            + "HTTP/1.1\" 200 203023 \"http://semicomplete.com/presentations/logstash-monitorama-2013/\" \"Mozilla/5.0 (Macintosh; "
+            + "Intel Mac OS X 10_9_1) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/32.0.1700.77 Safari/537.36\"",
+        "66.249.73.135 - - [17/May/2015:10:05:40 +0000] \"GET /blog/tags/ipv6 HTTP/1.1\" 200 12251 \"-\" \"Mozilla/5.0 "
+            + "(compatible; Googlebot/2.1; +http://www.google.com/bot.html)\"",
+        "Mar 16 00:01:25 evita postfix/smtpd[1713]: connect from camomile.cloud9.net[168.100.1.3]",
+        "Mar 16 00:01:26 evita postfix/smtpd[1713]: 2BC9F3C4F3: client=camomile.cloud9.net[168.100.1.3]",
+        "2016-10-25T14:49:34.123+02:00 [main] INFO org.opensearch.node.Node - version[1.0.0], pid[1234], build[tar]",
+        "{\"@timestamp\":\"2021-05-17T10:05:03Z\",\"log.level\":\"INFO\",\"message\":\"started\"}"
+    );
+
+    @Param({ "backtracking", "automaton" })
+    public String engine;
+
+    private Grok grok;
+
+    @Setup
+    public void setup() {
+        grok = new Grok(Grok.BUILTIN_PATTERNS, PATTERNS, "automaton".equals(engine), MatcherWatchdog.noop(), s -> {});
+    }
+
+    @Benchmark
+    public void match(Blackhole bh) {
+        for (String line : LINES) {
+            bh.consume(grok.match(line));
+        }
+    }
+
+    @Benchmark
+    public void captures(Blackhole bh) {
+        for (String line : LINES) {
+            bh.consume(grok.captures(line));
+        }
+    }
+}
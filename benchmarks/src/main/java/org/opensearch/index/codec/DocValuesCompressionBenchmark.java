@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec;
+
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.lucene80.Lucene80DocValuesFormat;
+import org.apache.lucene.codecs.lucene87.Lucene87Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads keyword doc values written with either mode of {@link Lucene80DocValuesFormat}, as selected per field by the
+ * {@code doc_values_compression} mapping parameter, in the loops of sorting, of a terms aggregation and of loading the
+ * values of every document.
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class DocValuesCompressionBenchmark {
+
+    private static final String FIELD = "host.name";
+    private static final int DOCS = 1 << 20;
+
+    @Param({ "BEST_COMPRESSION", "BEST_SPEED" })
+    public Lucene80DocValuesFormat.Mode mode;
+
+    @Param({ "16", "10000", "500000" })
+    public int cardinality;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private LeafReader leaf;
+    private IndexSearcher searcher;
+
+    @Setup
+    public void setup() throws IOException {
+        final DocValuesFormat format = new Lucene80DocValuesFormat(mode);
+        directory = new ByteBuffersDirectory();
+        final IndexWriterConfig config = new IndexWriterConfig().setCodec(new Lucene87Codec() {
+            @Override
+            public DocValuesFormat getDocValuesFormatForField(String field) {
+                return format;
+            }
+        });
+        final Random random = new Random(42);
+        try (IndexWriter writer = new IndexWriter(directory, config)) {
+            for (int i = 0; i < DOCS; i++) {
+                final Document doc = new Document();
+                doc.add(new SortedDocValuesField(FIELD, new BytesRef("host-" + random.nextInt(cardinality) + ".eu-west-1.compute")));
+                writer.addDocument(doc);
+            }
+            writer.forceMerge(1);
+        }
+        reader = DirectoryReader.open(directory);
+        leaf = reader.leaves().get(0).reader();
+        searcher = new IndexSearcher(reader);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public TopDocs sort() throws IOException {
+        return searcher.search(new MatchAllDocsQuery(), 100, new Sort(new SortField(FIELD, SortField.Type.STRING)));
+    }
+
+    @Benchmark
+    public void termsAggregation(Blackhole blackhole) throws IOException {
+        final SortedDocValues values = leaf.getSortedDocValues(FIELD);
+        final long[] counts = new long[values.getValueCount()];
+        for (int doc = values.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = values.nextDoc()) {
+            counts[values.ordValue()]++;
+        }
+        // the keys of the buckets are looked up once per ordinal
+        for (int ord = 0; ord < counts.length; ord++) {
+            if (counts[ord] > 0) {
+                blackhole.consume(values.lookupOrd(ord));
+            }
+        }
+    }
+
+    @Benchmark
+    public void loadValues(Blackhole blackhole) throws IOException {
+        final SortedDocValues values = leaf.getSortedDocValues(FIELD);
+        for (int doc = values.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = values.nextDoc()) {
+            blackhole.consume(values.binaryValue());
+        }
+    }
+}
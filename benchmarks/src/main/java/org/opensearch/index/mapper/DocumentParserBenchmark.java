@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.analysis.AnalyzerScope;
+import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.IndicesModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses log-like documents through {@link DocumentMapper#parse(SourceToParse)}, either with all fields sent as nested
+ * objects or with dotted field names, which covers resolving the field names against the mapping and creating the fields.
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class DocumentParserBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean dottedNames;
+
+    private static final int DOCS = 64;
+    private static final String[] LEVELS = new String[] { "DEBUG", "INFO", "WARN", "ERROR" };
+
+    private DocumentMapper mapper;
+    private BytesReference[] sources;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .build();
+        final IndexSettings indexSettings = new IndexSettings(IndexMetadata.builder("logs").settings(settings).build(), Settings.EMPTY);
+        final IndexAnalyzers indexAnalyzers = new IndexAnalyzers(
+            Collections.singletonMap("default", new NamedAnalyzer("default", AnalyzerScope.INDEX, new StandardAnalyzer())),
+            Collections.emptyMap(), Collections.emptyMap());
+        final SimilarityService similarityService = new SimilarityService(indexSettings, null, Collections.emptyMap());
+        final MapperService mapperService = new MapperService(indexSettings, indexAnalyzers, NamedXContentRegistry.EMPTY,
+            similarityService, new IndicesModule(Collections.emptyList()).getMapperRegistry(), () -> null, () -> false, null);
+        mapper = mapperService.merge("_doc", new CompressedXContent(BytesReference.bytes(mapping())),
+            MapperService.MergeReason.MAPPING_UPDATE);
+
+        final Random random = new Random(42);
+        sources = new BytesReference[DOCS];
+        for (int i = 0; i < DOCS; i++) {
+            sources[i] = BytesReference.bytes(document(random, i));
+        }
+    }
+
+    @Benchmark
+    public ParsedDocument parse() {
+        final int doc = next++ % DOCS;
+        return mapper.parse(new SourceToParse("logs", "_doc", Integer.toString(doc), sources[doc], XContentType.JSON));
+    }
+
+    private static XContentBuilder mapping() throws IOException {
+        final XContentBuilder builder = XContentFactory.jsonBuilder().startObject().startObject("_doc").startObject("properties");
+        builder.startObject("@timestamp").field("type", "date").endObject();
+        builder.startObject("message").field("type", "text").endObject();
+        builder.startObject("log").startObject("properties");
+        builder.startObject("level").field("type", "keyword").endObject();
+        builder.startObject("logger").field("type", "keyword").endObject();
+        builder.endObject().endObject();
+        builder.startObject("host").startObject("properties");
+        builder.startObject("name").field("type", "keyword").endObject();
+        builder.startObject("ip").field("type", "ip").endObject();
+        builder.endObject().endObject();
+        builder.startObject("http").startObject("properties");
+        builder.startObject("request").startObject("properties");
+        builder.startObject("method").field("type", "keyword").endObject();
+        builder.startObject("bytes").field("type", "long").endObject();
+        builder.endObject().endObject();
+        builder.startObject("response").startObject("properties");
+        builder.startObject("status_code").field("type", "integer").endObject();
+        builder.startObject("bytes").field("type", "long").endObject();
+        builder.endObject().endObject();
+        builder.endObject().endObject();
+        return builder.endObject().endObject().endObject();
+    }
+
+    private XContentBuilder document(Random random, int i) throws IOException {
+        final XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        builder.field("@timestamp", 1_600_000_000_000L + i * 1000L);
+        builder.field("message", "GET /index.html HTTP/1.1 served request number " + i);
+        if (dottedNames) {
+            builder.field("log.level", LEVELS[random.nextInt(LEVELS.length)]);
+            builder.field("log.logger", "org.opensearch.http");
+            builder.field("host.name", "host-" + random.nextInt(16));
+            builder.field("host.ip", "10.0.0." + random.nextInt(256));
+            builder.field("http.request.method", "GET");
+            builder.field("http.request.bytes", random.nextInt(4096));
+            builder.field("http.response.status_code", 200);
+            builder.field("http.response.bytes", random.nextInt(1 << 20));
+        } else {
+            builder.startObject("log");
+            builder.field("level", LEVELS[random.nextInt(LEVELS.length)]);
+            builder.field("logger", "org.opensearch.http");
+            builder.endObject();
+            builder.startObject("host");
+            builder.field("name", "host-" + random.nextInt(16));
+            builder.field("ip", "10.0.0." + random.nextInt(256));
+            builder.endObject();
+            builder.startObject("http");
+            builder.startObject("request").field("method", "GET").field("bytes", random.nextInt(4096)).endObject();
+            builder.startObject("response").field("status_code", 200).field("bytes", random.nextInt(1 << 20)).endObject();
+            builder.endObject();
+        }
+        return builder.endObject();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.matrix.stats;
+
+import org.opensearch.common.util.BigArrays;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accumulates the matrix stats of documents with 10 to 50 fields, document by document into the maps of {@link RunningStats} and
+ * in batches into the arrays of {@link MatrixStatsAccumulator}, into a single bucket or into buckets that change every few documents.
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(MatrixStatsBenchmark.NUM_DOCS)
+@State(Scope.Benchmark)
+public class MatrixStatsBenchmark {
+
+    static final int NUM_DOCS = 10_000;
+
+    @Param({ "10", "20", "50" })
+    public int numFields;
+
+    /**
+     * The number of buckets the documents are spread across, in runs of a few documents like a parent terms aggregation would.
+     */
+    @Param({ "1", "16" })
+    public int numBuckets;
+
+    private String[] fieldNames;
+    private double[][] docs;
+    private long[] buckets;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        fieldNames = new String[numFields];
+        for (int i = 0; i < numFields; i++) {
+            fieldNames[i] = "field" + i;
+        }
+        docs = new double[NUM_DOCS][numFields];
+        buckets = new long[NUM_DOCS];
+        long bucket = 0;
+        for (int doc = 0; doc < NUM_DOCS; doc++) {
+            for (int i = 0; i < numFields; i++) {
+                docs[doc][i] = 1000 + random.nextGaussian() * (i + 1);
+            }
+            if (random.nextInt(8) == 0) {
+                bucket = random.nextInt(numBuckets);
+            }
+            buckets[doc] = bucket;
+        }
+    }
+
+    @Benchmark
+    public void runningStats(Blackhole bh) {
+        RunningStats[] stats = new RunningStats[numBuckets];
+        for (int doc = 0; doc < NUM_DOCS; doc++) {
+            int bucket = (int) buckets[doc];
+            if (stats[bucket] == null) {
+                stats[bucket] = new RunningStats(fieldNames, docs[doc]);
+            } else {
+                stats[bucket].add(fieldNames, docs[doc]);
+            }
+        }
+        bh.consume(stats);
+    }
+
+    @Benchmark
+    public void accumulator(Blackhole bh) {
+        try (MatrixStatsAccumulator accumulator = new MatrixStatsAccumulator(numFields, BigArrays.NON_RECYCLING_INSTANCE)) {
+            for (int doc = 0; doc < NUM_DOCS; doc++) {
+                accumulator.add(buckets[doc], docs[doc]);
+            }
+            for (int bucket = 0; bucket < numBuckets; bucket++) {
+                bh.consume(accumulator.get(bucket, fieldNames));
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.NoopCircuitBreaker;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Replays a captured stream of transport messages, cut into network reads, through an {@link InboundPipeline} and decodes
+ * every message, which covers decoding, aggregation of the fragments and reading the aggregated content.
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class InboundPipelineBenchmark {
+
+    @Param({ "512", "4096", "65536" })
+    public int messageSize;
+
+    @Param({ "1024", "8192", "65536" })
+    public int readSize;
+
+    @Param({ "false", "true" })
+    public boolean compress;
+
+    private static final int MESSAGES = 128;
+
+    private final PageCacheRecycler recycler = new PageCacheRecycler(Settings.EMPTY);
+    private final Supplier<CircuitBreaker> breaker = () -> new NoopCircuitBreaker(CircuitBreaker.IN_FLIGHT_REQUESTS);
+    private final TcpChannel channel = new ReplayChannel();
+    private List<BytesReference> reads;
+
+    @Setup
+    public void setup() throws IOException {
+        final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        final Random random = new Random(42);
+        final BytesStreamOutput captured = new BytesStreamOutput();
+        for (int i = 0; i < MESSAGES; i++) {
+            final byte[] payload = new byte[messageSize];
+            random.nextBytes(payload);
+            final OutboundMessage message = new OutboundMessage.Request(threadContext, new String[0], new PayloadRequest(payload),
+                Version.CURRENT, "indices:data/read/search[phase/query]", i, false, compress);
+            message.serialize(new BytesStreamOutput()).writeTo(captured);
+        }
+        final BytesReference bytes = captured.bytes();
+        reads = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length(); offset += readSize) {
+            reads.add(bytes.slice(offset, Math.min(readSize, bytes.length() - offset)));
+        }
+    }
+
+    @Benchmark
+    public void replay(Blackhole blackhole) throws IOException {
+        final InboundDecoder decoder = new InboundDecoder(Version.CURRENT, recycler);
+        final InboundAggregator aggregator = new InboundAggregator(breaker, recycler, (Predicate<String>) action -> true);
+        try (InboundPipeline pipeline = new InboundPipeline(new StatsTracker(), System::currentTimeMillis, decoder, aggregator,
+            (c, m) -> {
+                try {
+                    blackhole.consume(new PayloadRequest(m.openOrGetStreamInput()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            })) {
+            for (BytesReference read : reads) {
+                try (ReleasableBytesReference reference = ReleasableBytesReference.wrap(read)) {
+                    pipeline.handleBytes(channel, reference);
+                }
+            }
+        }
+    }
+
+    /**
+     * A channel that only receives, the replayed bytes are handed to the pipeline directly.
+     */
+    private static final class ReplayChannel implements TcpChannel {
+        private final ChannelStats stats = new ChannelStats();
+
+        @Override
+        public boolean isServerChannel() {
+            return true;
+        }
+
+        @Override
+        public String getProfile() {
+            return "default";
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public void sendMessage(BytesReference reference, ActionListener<Void> listener) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addConnectListener(ActionListener<Void> listener) {
+            listener.onResponse(null);
+        }
+
+        @Override
+        public ChannelStats getChannelStats() {
+            return stats;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void addCloseListener(ActionListener<Void> listener) {
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+    }
+
+    private static final class PayloadRequest extends TransportRequest {
+        private final byte[] payload;
+
+        PayloadRequest(byte[] payload) {
+            this.payload = payload;
+        }
+
+        PayloadRequest(StreamInput in) throws IOException {
+            super(in);
+            payload = in.readByteArray();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            out.writeByteArray(payload);
+        }
+    }
+}
@@ -47,6 +47,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -87,21 +88,37 @@ public final class Grok {
     private final Regex compiledExpression;
     private final MatcherWatchdog matcherWatchdog;
     private final List<GrokCaptureConfig> captureConfig;
+    // only set if the alternatives are matched with an automaton first
+    private final GrokAutomaton automaton;
+    private final Regex[] alternativeExpressions;
+    private final int[] alternativeGroupOffsets;
+    private final int[] alternativeGroupCounts;
 
     public Grok(Map<String, String> patternBank, String grokPattern, Consumer<String> logCallBack) {
-        this(patternBank, grokPattern, true, MatcherWatchdog.noop(), logCallBack);
+        this(patternBank, Collections.singletonList(grokPattern), true, false, MatcherWatchdog.noop(), logCallBack);
     }
 
     public Grok(Map<String, String> patternBank, String grokPattern, MatcherWatchdog matcherWatchdog, Consumer<String> logCallBack) {
-        this(patternBank, grokPattern, true, matcherWatchdog, logCallBack);
+        this(patternBank, Collections.singletonList(grokPattern), true, false, matcherWatchdog, logCallBack);
+    }
+
+    /**
+     * Creates a grok that matches the given patterns as alternatives, like a single pattern that combines them with {@code |}.
+     * With {@code useAutomaton} the text is scanned once with an automaton of all patterns to find the patterns that may match,
+     * and only those are tried by the regex engine, instead of trying each pattern in turn until one matches. The captures are
+     * the same either way.
+     */
+    public Grok(Map<String, String> patternBank, List<String> grokPatterns, boolean useAutomaton, MatcherWatchdog matcherWatchdog,
+                Consumer<String> logCallBack) {
+        this(patternBank, grokPatterns, true, useAutomaton, matcherWatchdog, logCallBack);
     }
 
     Grok(Map<String, String> patternBank, String grokPattern, boolean namedCaptures, Consumer<String> logCallBack) {
-        this(patternBank, grokPattern, namedCaptures, MatcherWatchdog.noop(), logCallBack);
+        this(patternBank, Collections.singletonList(grokPattern), namedCaptures, false, MatcherWatchdog.noop(), logCallBack);
     }
 
-    private Grok(Map<String, String> patternBank, String grokPattern, boolean namedCaptures, MatcherWatchdog matcherWatchdog,
-                 Consumer<String> logCallBack) {
+    private Grok(Map<String, String> patternBank, List<String> grokPatterns, boolean namedCaptures, boolean useAutomaton,
+                 MatcherWatchdog matcherWatchdog, Consumer<String> logCallBack) {
         this.patternBank = patternBank;
         this.namedCaptures = namedCaptures;
         this.matcherWatchdog = matcherWatchdog;
@@ -112,16 +129,51 @@ public final class Grok {
             forbidCircularReferences(name, new ArrayList<>(), pattern);
         }
 
-        String expression = toRegex(grokPattern);
-        byte[] expressionBytes = expression.getBytes(StandardCharsets.UTF_8);
-        this.compiledExpression = new Regex(expressionBytes, 0, expressionBytes.length, Option.DEFAULT, UTF8Encoding.INSTANCE,
-            message -> logCallBack.accept(message));
+        List<String> expressions = new ArrayList<>(grokPatterns.size());
+        for (String grokPattern : grokPatterns) {
+            expressions.add(toRegex(grokPattern));
+        }
+        String expression = String.join("|", expressions);
+        this.compiledExpression = compile(expression, logCallBack);
 
         List<GrokCaptureConfig> captureConfig = new ArrayList<>();
         for (Iterator<NameEntry> entry = compiledExpression.namedBackrefIterator(); entry.hasNext();) {
             captureConfig.add(new GrokCaptureConfig(entry.next()));
         }
         this.captureConfig = unmodifiableList(captureConfig);
+
+        Regex[] alternativeExpressions = null;
+        int[] alternativeGroupOffsets = null;
+        int[] alternativeGroupCounts = null;
+        if (useAutomaton && expressions.size() <= GrokAutomaton.MAX_ALTERNATIVES) {
+            alternativeExpressions = new Regex[expressions.size()];
+            alternativeGroupOffsets = new int[expressions.size()];
+            alternativeGroupCounts = new int[expressions.size()];
+            // only named groups capture if there are any, the groups of each alternative follow the ones of the previous one
+            boolean onlyNamedGroups = compiledExpression.numberOfNames() > 0;
+            int groups = 0;
+            for (int i = 0; i < expressions.size(); i++) {
+                Regex alternative = expressions.size() == 1 ? compiledExpression : compile(expressions.get(i), logCallBack);
+                alternativeExpressions[i] = alternative;
+                alternativeGroupOffsets[i] = groups;
+                alternativeGroupCounts[i] = onlyNamedGroups && alternative.numberOfNames() == 0 ? 0 : alternative.numberOfCaptures();
+                groups += alternativeGroupCounts[i];
+            }
+            if (groups != compiledExpression.numberOfCaptures()) {
+                // the captures of the alternatives can't be mapped to the ones of the combined expression
+                alternativeExpressions = null;
+            }
+        }
+        this.alternativeExpressions = alternativeExpressions;
+        this.alternativeGroupOffsets = alternativeGroupOffsets;
+        this.alternativeGroupCounts = alternativeGroupCounts;
+        this.automaton = alternativeExpressions == null ? null : GrokAutomaton.build(expressions);
+    }
+
+    private static Regex compile(String expression, Consumer<String> logCallBack) {
+        byte[] expressionBytes = expression.getBytes(StandardCharsets.UTF_8);
+        return new Regex(expressionBytes, 0, expressionBytes.length, Option.DEFAULT, UTF8Encoding.INSTANCE,
+            message -> logCallBack.accept(message));
     }
 
     /**
@@ -241,7 +293,11 @@ public final class Grok {
      * @return true if grok expression matches text or there is a timeout, false otherwise.
      */
     public boolean match(String text) {
-        Matcher matcher = compiledExpression.matcher(text.getBytes(StandardCharsets.UTF_8));
+        byte[] utf8Bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (automaton != null && automaton.candidates(utf8Bytes, 0, utf8Bytes.length) == 0) {
+            return false;
+        }
+        Matcher matcher = compiledExpression.matcher(utf8Bytes);
         int result;
         try {
             matcherWatchdog.register(matcher);
@@ -277,6 +333,9 @@ public final class Grok {
      * @throws RuntimeException if there was a timeout
      */
     public boolean match(byte[] utf8Bytes, int offset, int length, GrokCaptureExtracter extracter) {
+        if (automaton != null) {
+            return matchCandidates(utf8Bytes, offset, length, extracter);
+        }
         Matcher matcher = compiledExpression.matcher(utf8Bytes, offset, offset + length);
         int result;
         try {
@@ -296,6 +355,53 @@ public final class Grok {
         return true;
     }
 
+    /**
+     * Matches the alternatives that the automaton finds in the text. Like the combined expression, the alternative that matches
+     * at the earliest position wins, and the first of them if several match there.
+     */
+    private boolean matchCandidates(byte[] utf8Bytes, int offset, int length, GrokCaptureExtracter extracter) {
+        int bestAlternative = -1;
+        int bestResult = Integer.MAX_VALUE;
+        Region bestRegion = null;
+        for (long candidates = automaton.candidates(utf8Bytes, offset, length); candidates != 0; candidates &= candidates - 1) {
+            int alternative = Long.numberOfTrailingZeros(candidates);
+            Matcher matcher = alternativeExpressions[alternative].matcher(utf8Bytes, offset, offset + length);
+            int result;
+            try {
+                matcherWatchdog.register(matcher);
+                result = matcher.search(offset, offset + length, Option.DEFAULT);
+            } finally {
+                matcherWatchdog.unregister(matcher);
+            }
+            if (result == Matcher.INTERRUPTED) {
+                throw new RuntimeException("grok pattern matching was interrupted after [" +
+                    matcherWatchdog.maxExecutionTimeInMillis() + "] ms");
+            }
+            if (result != Matcher.FAILED && result < bestResult) {
+                bestAlternative = alternative;
+                bestResult = result;
+                bestRegion = matcher.getEagerRegion();
+            }
+        }
+        if (bestAlternative == -1) {
+            return false;
+        }
+
+        // number the groups like the combined expression that the capture config refers to
+        Region region = new Region(compiledExpression.numberOfCaptures() + 1);
+        Arrays.fill(region.beg, -1);
+        Arrays.fill(region.end, -1);
+        region.beg[0] = bestRegion.beg[0];
+        region.end[0] = bestRegion.end[0];
+        int groupOffset = alternativeGroupOffsets[bestAlternative];
+        for (int group = 1; group <= alternativeGroupCounts[bestAlternative]; group++) {
+            region.beg[groupOffset + group] = bestRegion.beg[group];
+            region.end[groupOffset + group] = bestRegion.end[group];
+        }
+        extracter.extract(utf8Bytes, offset, region);
+        return true;
+    }
+
     /**
      * The list of values that this {@linkplain Grok} can capture.
      */
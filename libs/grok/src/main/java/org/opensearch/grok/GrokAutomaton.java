@@ -0,0 +1,1093 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A deterministic automaton over the UTF-8 bytes of a text that finds all alternatives of a grok expression that can match
+ * somewhere in the text in a single pass, so that the backtracking regex engine only has to try those instead of scanning the
+ * text once per alternative. The automaton is built from the regular expressions the alternatives expand to and is determinized
+ * lazily, while texts are scanned, so only the states that are actually reached are built.
+ * <p>
+ * The automaton accepts a superset of what the alternatives match, it never misses an alternative that matches. Lookarounds,
+ * anchors and word boundaries are treated as always matching, back references as matching any text, atomic groups and
+ * possessive quantifiers like plain ones, large repetition counts as unbounded and characters outside of ASCII as any character
+ * outside of ASCII. When ignoring case, ASCII letters that fold to or from characters outside of ASCII may also match those, or
+ * nothing since one of them may fold to several letters like U+00DF to {@code ss}, and characters outside of ASCII may match up to
+ * {@link #MAX_FOLD_LENGTH} such letters or characters outside of ASCII. Alternatives that use constructs it doesn't support at all
+ * are always reported as candidates.
+ */
+final class GrokAutomaton {
+
+    /**
+     * The maximum number of alternatives, the candidates are reported as the bits of a {@code long}.
+     */
+    static final int MAX_ALTERNATIVES = Long.SIZE;
+
+    /**
+     * The ASCII letters that characters outside of ASCII fold to, like U+212A KELVIN SIGN to {@code k} and U+FB01 to {@code fi}.
+     */
+    static final String FOLD_LETTERS = "afhijklnstwyAFHIJKLNSTWY";
+
+    /**
+     * The maximum number of characters a single character folds to, like U+FB03 to {@code ffi}.
+     */
+    static final int MAX_FOLD_LENGTH = 3;
+
+    private static final int MAX_NFA_STATES = 100_000;
+    private static final int MAX_DFA_STATES = 2_000;
+    private static final int MAX_COUNTED_REPETITION = 8;
+
+    private final Nfa nfa;
+    private final int maxStates;
+    private final long allAlternatives;
+    private final long unsupportedAlternatives;
+    private final Map<StateKey, State> states = new ConcurrentHashMap<>();
+    private final State start;
+
+    private GrokAutomaton(Nfa nfa, int maxStates, int alternatives, long unsupportedAlternatives) {
+        this.nfa = nfa;
+        this.maxStates = maxStates;
+        this.allAlternatives = alternatives == Long.SIZE ? -1L : (1L << alternatives) - 1;
+        this.unsupportedAlternatives = unsupportedAlternatives;
+        this.start = state(closure(new int[0], 0));
+    }
+
+    /**
+     * Builds the automaton of the given regular expressions, in the syntax of the regex engine.
+     */
+    static GrokAutomaton build(List<String> expressions) {
+        return build(expressions, MAX_DFA_STATES);
+    }
+
+    // pkg-private for testing
+    static GrokAutomaton build(List<String> expressions, int maxStates) {
+        if (expressions.size() > MAX_ALTERNATIVES) {
+            throw new IllegalArgumentException("can't build an automaton of more than [" + MAX_ALTERNATIVES + "] alternatives");
+        }
+        final Nfa nfa = new Nfa();
+        final int root = nfa.addEpsilonState();
+        final int[] starts = new int[expressions.size()];
+        int count = 0;
+        long unsupported = 0;
+        for (int i = 0; i < expressions.size(); i++) {
+            final int mark = nfa.size;
+            try {
+                final Node node = new Parser(expressions.get(i)).parse();
+                starts[count++] = node.compile(nfa, nfa.addAcceptState(i));
+            } catch (UnsupportedExpressionException e) {
+                nfa.size = mark;
+                unsupported |= 1L << i;
+            }
+        }
+        nfa.epsilons[root] = Arrays.copyOf(starts, count);
+        return new GrokAutomaton(nfa, maxStates, expressions.size(), unsupported);
+    }
+
+    /**
+     * Returns the alternatives that may match somewhere in the given text as bits of their position, all alternatives that
+     * don't is guaranteed not to match.
+     */
+    long candidates(byte[] utf8Bytes, int offset, int length) {
+        long matched = unsupportedAlternatives | start.accepts;
+        State state = start;
+        for (int i = offset; i < offset + length && matched != allAlternatives; i++) {
+            final int b = utf8Bytes[i] & 0xFF;
+            State next = state.transitions[b];
+            if (next == null) {
+                next = step(state, b);
+                if (next == null) {
+                    // too many states to keep, let the regex engine find out
+                    return allAlternatives;
+                }
+                state.transitions[b] = next;
+            }
+            state = next;
+            matched |= state.accepts;
+        }
+        return matched;
+    }
+
+    /**
+     * The number of states of the deterministic automaton that were built so far.
+     */
+    int stateCount() {
+        return states.size();
+    }
+
+    private State step(State state, int b) {
+        if (states.size() >= maxStates) {
+            // the target state couldn't be kept if it is new, so don't compute it: the transitions that were built stay usable
+            // and the texts that need any other one go to the regex engine right away
+            return null;
+        }
+        final int[] targets = new int[state.nfaStates.length];
+        int count = 0;
+        for (int nfaState : state.nfaStates) {
+            final long[] bytes = nfa.bytes[nfaState];
+            if (bytes != null && (bytes[b >>> 6] & (1L << b)) != 0) {
+                targets[count++] = nfa.targets[nfaState];
+            }
+        }
+        return state(closure(targets, count));
+    }
+
+    private State state(int[] nfaStates) {
+        long accepts = 0;
+        for (int nfaState : nfaStates) {
+            if (nfa.accepts[nfaState] >= 0) {
+                accepts |= 1L << nfa.accepts[nfaState];
+            }
+        }
+        final long stateAccepts = accepts;
+        return states.computeIfAbsent(new StateKey(nfaStates), key -> new State(key.nfaStates, stateAccepts));
+    }
+
+    /**
+     * Returns the sorted byte consuming and accepting states reachable from the given states and the root state, which is
+     * reachable from everywhere since alternatives may start to match at any position.
+     */
+    private int[] closure(int[] from, int count) {
+        final boolean[] visited = new boolean[nfa.size];
+        final int[] stack = new int[nfa.size];
+        int top = 0;
+        stack[top++] = 0;
+        visited[0] = true;
+        for (int i = 0; i < count; i++) {
+            if (visited[from[i]] == false) {
+                visited[from[i]] = true;
+                stack[top++] = from[i];
+            }
+        }
+        int[] result = new int[8];
+        int size = 0;
+        while (top > 0) {
+            final int nfaState = stack[--top];
+            if (nfa.bytes[nfaState] != null || nfa.accepts[nfaState] >= 0) {
+                if (size == result.length) {
+                    result = Arrays.copyOf(result, size << 1);
+                }
+                result[size++] = nfaState;
+            }
+            final int[] epsilons = nfa.epsilons[nfaState];
+            if (epsilons != null) {
+                for (int target : epsilons) {
+                    if (visited[target] == false) {
+                        visited[target] = true;
+                        stack[top++] = target;
+                    }
+                }
+            }
+        }
+        result = Arrays.copyOf(result, size);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * A state of the deterministic automaton. The transitions are filled in as they are taken, by any thread: a transition that
+     * another thread filled in concurrently may not be visible yet and is computed again, which leads to the same state.
+     */
+    private static final class State {
+        private final int[] nfaStates;
+        private final long accepts;
+        private final State[] transitions = new State[256];
+
+        private State(int[] nfaStates, long accepts) {
+            this.nfaStates = nfaStates;
+            this.accepts = accepts;
+        }
+    }
+
+    private static final class StateKey {
+        private final int[] nfaStates;
+        private final int hashCode;
+
+        private StateKey(int[] nfaStates) {
+            this.nfaStates = nfaStates;
+            this.hashCode = Arrays.hashCode(nfaStates);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof StateKey && Arrays.equals(nfaStates, ((StateKey) o).nfaStates);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * A non-deterministic automaton whose states either consume a byte of a set, or lead to other states without consuming
+     * anything, or accept an alternative.
+     */
+    private static final class Nfa {
+        private long[][] bytes = new long[64][];
+        private int[] targets = new int[64];
+        private int[][] epsilons = new int[64][];
+        private int[] accepts = new int[64];
+        private int size;
+
+        private int add(long[] byteSet, int target, int[] epsilonTargets, int accept) {
+            if (size == MAX_NFA_STATES) {
+                throw new UnsupportedExpressionException("too many states");
+            }
+            if (size == targets.length) {
+                bytes = Arrays.copyOf(bytes, size << 1);
+                targets = Arrays.copyOf(targets, size << 1);
+                epsilons = Arrays.copyOf(epsilons, size << 1);
+                accepts = Arrays.copyOf(accepts, size << 1);
+            }
+            bytes[size] = byteSet;
+            targets[size] = target;
+            epsilons[size] = epsilonTargets;
+            accepts[size] = accept;
+            return size++;
+        }
+
+        int addByteState(long[] byteSet, int target) {
+            return add(byteSet, target, null, -1);
+        }
+
+        int addEpsilonState(int... epsilonTargets) {
+            return add(null, -1, epsilonTargets, -1);
+        }
+
+        int addAcceptState(int alternative) {
+            return add(null, -1, null, alternative);
+        }
+    }
+
+    private static final class UnsupportedExpressionException extends RuntimeException {
+        UnsupportedExpressionException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * A node of a parsed expression, compiled into the states that match it before going on with the given state.
+     */
+    private abstract static class Node {
+        abstract int compile(Nfa nfa, int next);
+    }
+
+    private static final Node EMPTY = new Node() {
+        @Override
+        int compile(Nfa nfa, int next) {
+            return next;
+        }
+    };
+
+    /**
+     * A single byte of a set.
+     */
+    private static final class ByteNode extends Node {
+        private final long[] bytes;
+
+        private ByteNode(long[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        int compile(Nfa nfa, int next) {
+            return nfa.addByteState(bytes, next);
+        }
+    }
+
+    /**
+     * A character of a set of ASCII characters, and of any character outside of ASCII if {@code nonAscii} is set, which is
+     * matched as a byte above {@code 0x7F} followed by any number of them.
+     */
+    private static final class CharNode extends Node {
+        private static final long[] NON_ASCII = new long[] { 0, 0, -1L, -1L };
+
+        private final long[] ascii;
+        private final boolean nonAscii;
+
+        private CharNode(long[] ascii, boolean nonAscii) {
+            this.ascii = ascii;
+            this.nonAscii = nonAscii;
+        }
+
+        @Override
+        int compile(Nfa nfa, int next) {
+            final boolean hasAscii = ascii[0] != 0 || ascii[1] != 0;
+            if (nonAscii == false) {
+                return hasAscii ? nfa.addByteState(ascii, next) : nfa.addEpsilonState();
+            }
+            final int loop = nfa.addEpsilonState();
+            final int lead = nfa.addByteState(NON_ASCII, loop);
+            nfa.epsilons[loop] = new int[] { lead, next };
+            return hasAscii ? nfa.addEpsilonState(nfa.addByteState(ascii, next), lead) : lead;
+        }
+    }
+
+    private static final class ConcatNode extends Node {
+        private final List<Node> nodes;
+
+        private ConcatNode(List<Node> nodes) {
+            this.nodes = nodes;
+        }
+
+        @Override
+        int compile(Nfa nfa, int next) {
+            for (int i = nodes.size() - 1; i >= 0; i--) {
+                next = nodes.get(i).compile(nfa, next);
+            }
+            return next;
+        }
+    }
+
+    private static final class AltNode extends Node {
+        private final List<Node> nodes;
+
+        private AltNode(List<Node> nodes) {
+            this.nodes = nodes;
+        }
+
+        @Override
+        int compile(Nfa nfa, int next) {
+            final int[] starts = new int[nodes.size()];
+            for (int i = 0; i < starts.length; i++) {
+                starts[i] = nodes.get(i).compile(nfa, next);
+            }
+            return nfa.addEpsilonState(starts);
+        }
+    }
+
+    private static final class RepeatNode extends Node {
+        private final Node node;
+        private final int min;
+        private final int max;
+
+        /**
+         * @param max the maximum number of repetitions, or {@code -1} if unbounded
+         */
+        private RepeatNode(Node node, int min, int max) {
+            this.node = node;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        int compile(Nfa nfa, int next) {
+            int current;
+            if (max == -1) {
+                current = nfa.addEpsilonState();
+                final int body = node.compile(nfa, current);
+                nfa.epsilons[current] = new int[] { body, next };
+            } else {
+                current = next;
+                for (int i = min; i < max; i++) {
+                    current = nfa.addEpsilonState(node.compile(nfa, current), next);
+                }
+            }
+            for (int i = 0; i < min; i++) {
+                current = node.compile(nfa, current);
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Parses the subset of the Ruby syntax of the regex engine that grok patterns use into the nodes of a superset of the
+     * expression.
+     */
+    private static final class Parser {
+        private final String expression;
+        private int pos;
+        private boolean ignoreCase;
+
+        private Parser(String expression) {
+            this.expression = expression;
+        }
+
+        Node parse() {
+            final Node node = parseAlternation();
+            if (pos != expression.length()) {
+                throw new UnsupportedExpressionException("unbalanced parenthesis");
+            }
+            return node;
+        }
+
+        private Node parseAlternation() {
+            // options that are set within a group apply until the end of the group
+            final boolean outerIgnoreCase = ignoreCase;
+            final List<Node> alternatives = new ArrayList<>();
+            alternatives.add(parseConcatenation());
+            while (pos < expression.length() && expression.charAt(pos) == '|') {
+                pos++;
+                alternatives.add(parseConcatenation());
+            }
+            ignoreCase = outerIgnoreCase;
+            return alternatives.size() == 1 ? alternatives.get(0) : new AltNode(alternatives);
+        }
+
+        private Node parseConcatenation() {
+            final List<Node> nodes = new ArrayList<>();
+            while (pos < expression.length() && expression.charAt(pos) != '|' && expression.charAt(pos) != ')') {
+                Node node = parseAtom();
+                node = parseQuantifiers(node);
+                if (node != EMPTY) {
+                    nodes.add(node);
+                }
+            }
+            if (nodes.isEmpty()) {
+                return EMPTY;
+            }
+            return nodes.size() == 1 ? nodes.get(0) : new ConcatNode(nodes);
+        }
+
+        private Node parseQuantifiers(Node node) {
+            while (pos < expression.length()) {
+                final char c = expression.charAt(pos);
+                int min;
+                int max;
+                boolean interval = false;
+                if (c == '*') {
+                    min = 0;
+                    max = -1;
+                } else if (c == '+') {
+                    min = 1;
+                    max = -1;
+                } else if (c == '?') {
+                    min = 0;
+                    max = 1;
+                } else if (c == '{') {
+                    final int[] bounds = parseInterval();
+                    if (bounds == null) {
+                        return node;
+                    }
+                    min = bounds[0];
+                    max = bounds[1];
+                    interval = true;
+                } else {
+                    return node;
+                }
+                if (interval == false) {
+                    pos++;
+                    // lazy and possessive quantifiers match the same texts
+                    if (pos < expression.length() && (expression.charAt(pos) == '?' || expression.charAt(pos) == '+')) {
+                        pos++;
+                    }
+                } else if (pos < expression.length() && expression.charAt(pos) == '?') {
+                    // a lazy interval matches the same texts, but a '+' after an interval repeats it and is parsed as a quantifier
+                    pos++;
+                }
+                if (max > MAX_COUNTED_REPETITION) {
+                    min = Math.min(min, MAX_COUNTED_REPETITION);
+                    max = -1;
+                } else if (min > MAX_COUNTED_REPETITION) {
+                    min = MAX_COUNTED_REPETITION;
+                }
+                node = node == EMPTY ? EMPTY : new RepeatNode(node, min, max);
+            }
+            return node;
+        }
+
+        /**
+         * Parses an interval like {@code {2}}, {@code {2,}}, {@code {2,4}} or {@code {,4}}, or returns {@code null} without
+         * consuming anything if the brace starts no interval, it is a literal then.
+         */
+        private int[] parseInterval() {
+            int i = pos + 1;
+            final int minStart = i;
+            while (i < expression.length() && Character.isDigit(expression.charAt(i))) {
+                i++;
+            }
+            final String minDigits = expression.substring(minStart, i);
+            String maxDigits = minDigits;
+            boolean hasComma = false;
+            if (i < expression.length() && expression.charAt(i) == ',') {
+                hasComma = true;
+                final int maxStart = ++i;
+                while (i < expression.length() && Character.isDigit(expression.charAt(i))) {
+                    i++;
+                }
+                maxDigits = expression.substring(maxStart, i);
+            }
+            if (i >= expression.length() || expression.charAt(i) != '}' || (minDigits.isEmpty() && maxDigits.isEmpty())
+                || (minDigits.isEmpty() && hasComma == false) || minDigits.length() > 6 || maxDigits.length() > 6) {
+                return null;
+            }
+            pos = i + 1;
+            final int min = minDigits.isEmpty() ? 0 : Integer.parseInt(minDigits);
+            final int max = hasComma && maxDigits.isEmpty() ? -1 : Integer.parseInt(maxDigits);
+            if (max != -1 && max < min) {
+                throw new UnsupportedExpressionException("invalid interval");
+            }
+            return new int[] { min, max };
+        }
+
+        private Node parseAtom() {
+            final char c = expression.charAt(pos);
+            switch (c) {
+                case '(':
+                    return parseGroup();
+                case '[':
+                    pos++;
+                    return charNode(parseCharClass());
+                case '.':
+                    pos++;
+                    return new CharNode(CharSet.all().ascii, true);
+                case '^':
+                case '$':
+                    pos++;
+                    return EMPTY;
+                case '\\':
+                    return parseEscape();
+                case '{':
+                    // a brace that starts no interval is a literal
+                    if (parseInterval() != null) {
+                        throw new UnsupportedExpressionException("nothing to repeat");
+                    }
+                    pos++;
+                    return literal('{');
+                case '*':
+                case '+':
+                case '?':
+                    throw new UnsupportedExpressionException("nothing to repeat");
+                default:
+                    final int codePoint = expression.codePointAt(pos);
+                    pos += Character.charCount(codePoint);
+                    return literal(codePoint);
+            }
+        }
+
+        private Node literal(int codePoint) {
+            if (codePoint < 0x80 || ignoreCase) {
+                final CharSet set = new CharSet();
+                set.add(codePoint);
+                if (ignoreCase) {
+                    set.foldCase();
+                }
+                return charNode(set);
+            }
+            final byte[] bytes = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8);
+            final List<Node> nodes = new ArrayList<>(bytes.length);
+            for (byte b : bytes) {
+                final long[] set = new long[4];
+                set[(b & 0xFF) >>> 6] |= 1L << (b & 0xFF);
+                nodes.add(new ByteNode(set));
+            }
+            return new ConcatNode(nodes);
+        }
+
+        /**
+         * A character of the given set, which is already case folded within ASCII when ignoring case.
+         */
+        private Node charNode(CharSet set) {
+            if (ignoreCase && set.nonAscii) {
+                // the characters outside of ASCII may fold to several letters and to characters outside of ASCII
+                final CharSet folded = set.copy();
+                folded.addAll(CharSet.of(FOLD_LETTERS));
+                return new RepeatNode(new CharNode(folded.ascii, true), 0, MAX_FOLD_LENGTH);
+            }
+            if (ignoreCase && set.intersects(CharSet.of(FOLD_LETTERS))) {
+                // the letters may be matched by characters outside of ASCII, several of them by a single one
+                return new RepeatNode(new CharNode(set.ascii, true), 0, 1);
+            }
+            return new CharNode(set.ascii, set.nonAscii);
+        }
+
+        private Node parseGroup() {
+            pos++;
+            if (pos < expression.length() && expression.charAt(pos) == '?') {
+                pos++;
+                if (pos >= expression.length()) {
+                    throw new UnsupportedExpressionException("unterminated group");
+                }
+                final char kind = expression.charAt(pos);
+                if (kind == ':' || kind == '>') {
+                    // non-capturing and atomic groups
+                    pos++;
+                    return endGroup(parseAlternation());
+                } else if (kind == '=' || kind == '!') {
+                    // lookaheads
+                    pos++;
+                    endGroup(parseAlternation());
+                    return EMPTY;
+                } else if (kind == '<' && pos + 1 < expression.length()
+                    && (expression.charAt(pos + 1) == '=' || expression.charAt(pos + 1) == '!')) {
+                    // lookbehinds
+                    pos += 2;
+                    endGroup(parseAlternation());
+                    return EMPTY;
+                } else if (kind == '<' || kind == '\'') {
+                    // named groups
+                    final int end = expression.indexOf(kind == '<' ? '>' : '\'', pos + 1);
+                    if (end == -1) {
+                        throw new UnsupportedExpressionException("unterminated group name");
+                    }
+                    pos = end + 1;
+                    return endGroup(parseAlternation());
+                } else if (kind == '#') {
+                    final int end = expression.indexOf(')', pos);
+                    if (end == -1) {
+                        throw new UnsupportedExpressionException("unterminated comment");
+                    }
+                    pos = end + 1;
+                    return EMPTY;
+                } else {
+                    return parseOptions();
+                }
+            }
+            return endGroup(parseAlternation());
+        }
+
+        /**
+         * Parses options like {@code (?i)}, which apply until the end of the enclosing group, or {@code (?i:...)}. Options that
+         * are turned off are ignored, it only makes the automaton match more.
+         */
+        private Node parseOptions() {
+            boolean on = true;
+            boolean newIgnoreCase = ignoreCase;
+            while (pos < expression.length()) {
+                final char c = expression.charAt(pos++);
+                if (c == '-') {
+                    on = false;
+                } else if (c == 'i') {
+                    newIgnoreCase |= on;
+                } else if (c == 'm') {
+                    // in ruby syntax this lets '.' match newlines, which it already does here
+                } else if (c == ')') {
+                    ignoreCase = newIgnoreCase;
+                    return EMPTY;
+                } else if (c == ':') {
+                    final boolean outerIgnoreCase = ignoreCase;
+                    ignoreCase = newIgnoreCase;
+                    final Node node = endGroup(parseAlternation());
+                    ignoreCase = outerIgnoreCase;
+                    return node;
+                } else {
+                    throw new UnsupportedExpressionException("unsupported group option [" + c + "]");
+                }
+            }
+            throw new UnsupportedExpressionException("unterminated group");
+        }
+
+        private Node endGroup(Node node) {
+            if (pos >= expression.length() || expression.charAt(pos) != ')') {
+                throw new UnsupportedExpressionException("unterminated group");
+            }
+            pos++;
+            return node;
+        }
+
+        private Node parseEscape() {
+            pos++;
+            if (pos >= expression.length()) {
+                throw new UnsupportedExpressionException("trailing backslash");
+            }
+            final char c = expression.charAt(pos);
+            final CharSet set = escapedSet(c);
+            if (set != null) {
+                pos++;
+                return new CharNode(set.ascii, set.nonAscii);
+            }
+            switch (c) {
+                case 'b':
+                case 'B':
+                case 'A':
+                case 'z':
+                case 'Z':
+                case 'G':
+                case 'K':
+                    // assertions
+                    pos++;
+                    return EMPTY;
+                case 'k':
+                    // named back references
+                    pos++;
+                    if (pos < expression.length() && (expression.charAt(pos) == '<' || expression.charAt(pos) == '\'')) {
+                        final int end = expression.indexOf(expression.charAt(pos) == '<' ? '>' : '\'', pos + 1);
+                        if (end == -1) {
+                            throw new UnsupportedExpressionException("unterminated back reference");
+                        }
+                        pos = end + 1;
+                        return anyText();
+                    }
+                    return literal('k');
+                case 'R':
+                case 'X':
+                    pos++;
+                    return anyText();
+                case 'p':
+                case 'P':
+                    // character properties
+                    pos++;
+                    if (pos < expression.length() && expression.charAt(pos) == '{') {
+                        final int end = expression.indexOf('}', pos);
+                        if (end == -1) {
+                            throw new UnsupportedExpressionException("unterminated property");
+                        }
+                        pos = end + 1;
+                    }
+                    return new CharNode(CharSet.all().ascii, true);
+                case 'g':
+                    throw new UnsupportedExpressionException("subexpression calls are not supported");
+                default:
+                    if (c >= '1' && c <= '9') {
+                        // numbered back references
+                        while (pos < expression.length() && Character.isDigit(expression.charAt(pos))) {
+                            pos++;
+                        }
+                        return anyText();
+                    }
+                    return literal(escapedCodePoint());
+            }
+        }
+
+        private static Node anyText() {
+            return new RepeatNode(new CharNode(CharSet.all().ascii, true), 0, -1);
+        }
+
+        /**
+         * Returns the set of a shorthand character class like {@code \d}, or {@code null}.
+         */
+        private static CharSet escapedSet(char c) {
+            final CharSet set;
+            switch (c) {
+                case 'd':
+                case 'D':
+                    set = CharSet.range('0', '9');
+                    break;
+                case 'w':
+                case 'W':
+                    set = CharSet.range('a', 'z');
+                    set.addRange('A', 'Z');
+                    set.addRange('0', '9');
+                    set.add('_');
+                    break;
+                case 's':
+                case 'S':
+                    set = CharSet.of(" \t\n\u000B\f\r");
+                    break;
+                case 'h':
+                case 'H':
+                    set = CharSet.range('0', '9');
+                    set.addRange('a', 'f');
+                    set.addRange('A', 'F');
+                    return c == 'h' ? set : set.negate();
+                default:
+                    return null;
+            }
+            // these may match characters outside of ASCII with a unicode encoding
+            set.nonAscii = true;
+            return Character.isUpperCase(c) ? set.negate() : set;
+        }
+
+        /**
+         * Parses the character of an escape sequence that stands for a single character, starting at the escaped character.
+         */
+        private int escapedCodePoint() {
+            final char c = expression.charAt(pos++);
+            switch (c) {
+                case 't':
+                    return '\t';
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                case 'f':
+                    return '\f';
+                case 'v':
+                    return 0x0B;
+                case 'a':
+                    return 0x07;
+                case 'e':
+                    return 0x1B;
+                case 'x':
+                    if (pos < expression.length() && expression.charAt(pos) == '{') {
+                        final int end = expression.indexOf('}', pos);
+                        if (end == -1) {
+                            throw new UnsupportedExpressionException("unterminated escape");
+                        }
+                        final int codePoint = parseHex(pos + 1, end);
+                        pos = end + 1;
+                        return codePoint;
+                    }
+                    return parseHex(pos, digitsEnd(pos, 2, 16));
+                case 'u':
+                    return parseHex(pos, digitsEnd(pos, 4, 16));
+                case '0':
+                    final int end = digitsEnd(pos, 2, 8);
+                    final int codePoint = end == pos ? 0 : Integer.parseInt(expression.substring(pos, end), 8);
+                    pos = end;
+                    return codePoint;
+                default:
+                    if (Character.isLetterOrDigit(c)) {
+                        throw new UnsupportedExpressionException("unsupported escape [\\" + c + "]");
+                    }
+                    pos--;
+                    final int literal = expression.codePointAt(pos);
+                    pos += Character.charCount(literal);
+                    return literal;
+            }
+        }
+
+        private int digitsEnd(int from, int maxDigits, int radix) {
+            int i = from;
+            while (i < expression.length() && i - from < maxDigits && Character.digit(expression.charAt(i), radix) != -1) {
+                i++;
+            }
+            return i;
+        }
+
+        private int parseHex(int from, int to) {
+            if (from == to) {
+                throw new UnsupportedExpressionException("invalid hex escape");
+            }
+            pos = to;
+            try {
+                return Integer.parseInt(expression.substring(from, to), 16);
+            } catch (NumberFormatException e) {
+                throw new UnsupportedExpressionException("invalid hex escape");
+            }
+        }
+
+        /**
+         * Parses a character class, starting after its opening bracket.
+         */
+        private CharSet parseCharClass() {
+            boolean negated = false;
+            if (pos < expression.length() && expression.charAt(pos) == '^') {
+                negated = true;
+                pos++;
+            }
+            final CharSet set = new CharSet();
+            boolean first = true;
+            while (true) {
+                if (pos >= expression.length()) {
+                    throw new UnsupportedExpressionException("unterminated character class");
+                }
+                final char c = expression.charAt(pos);
+                if (c == ']' && first == false) {
+                    pos++;
+                    break;
+                }
+                first = false;
+                if (c == '[') {
+                    if (expression.startsWith("[:", pos)) {
+                        set.addAll(parsePosixClass());
+                    } else {
+                        pos++;
+                        set.addAll(parseCharClass());
+                    }
+                    continue;
+                }
+                if (c == '&' && expression.startsWith("&&", pos)) {
+                    throw new UnsupportedExpressionException("character class intersections are not supported");
+                }
+                if (c == '\\') {
+                    if (pos + 1 >= expression.length()) {
+                        throw new UnsupportedExpressionException("trailing backslash");
+                    }
+                    final CharSet escaped = escapedSet(expression.charAt(pos + 1));
+                    if (escaped != null) {
+                        pos += 2;
+                        set.addAll(escaped);
+                        continue;
+                    }
+                }
+                final int from = classCodePoint();
+                if (pos + 1 < expression.length() && expression.charAt(pos) == '-' && expression.charAt(pos + 1) != ']') {
+                    pos++;
+                    if (expression.charAt(pos) == '[') {
+                        throw new UnsupportedExpressionException("invalid range");
+                    }
+                    final int to = classCodePoint();
+                    if (to < from) {
+                        throw new UnsupportedExpressionException("invalid range");
+                    }
+                    set.addRange(from, to);
+                } else {
+                    set.addRange(from, from);
+                }
+            }
+            if (ignoreCase) {
+                set.foldCase();
+            }
+            return negated ? set.negate() : set;
+        }
+
+        private int classCodePoint() {
+            if (expression.charAt(pos) == '\\') {
+                pos++;
+                if (pos >= expression.length()) {
+                    throw new UnsupportedExpressionException("trailing backslash");
+                }
+                if (expression.charAt(pos) == 'b') {
+                    // a backspace within character classes
+                    pos++;
+                    return 0x08;
+                }
+                if (expression.charAt(pos) == 'p' || expression.charAt(pos) == 'P') {
+                    throw new UnsupportedExpressionException("character properties in classes are not supported");
+                }
+                return escapedCodePoint();
+            }
+            final int codePoint = expression.codePointAt(pos);
+            pos += Character.charCount(codePoint);
+            return codePoint;
+        }
+
+        private CharSet parsePosixClass() {
+            final int end = expression.indexOf(":]", pos + 2);
+            if (end == -1) {
+                throw new UnsupportedExpressionException("unterminated posix class");
+            }
+            String name = expression.substring(pos + 2, end);
+            pos = end + 2;
+            final boolean negated = name.startsWith("^");
+            if (negated) {
+                name = name.substring(1);
+            }
+            final CharSet set = POSIX_CLASSES.get(name);
+            if (set == null) {
+                throw new UnsupportedExpressionException("unknown posix class [" + name + "]");
+            }
+            return negated ? set.negate() : set.copy();
+        }
+    }
+
+    private static final Map<String, CharSet> POSIX_CLASSES;
+
+    static {
+        final Map<String, CharSet> classes = new HashMap<>();
+        final CharSet lower = CharSet.range('a', 'z');
+        final CharSet upper = CharSet.range('A', 'Z');
+        final CharSet digit = CharSet.range('0', '9');
+        final CharSet alpha = lower.copy();
+        alpha.addAll(upper);
+        final CharSet alnum = alpha.copy();
+        alnum.addAll(digit);
+        final CharSet punct = CharSet.of("!\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~");
+        final CharSet graph = alnum.copy();
+        graph.addAll(punct);
+        final CharSet print = graph.copy();
+        print.add(' ');
+        final CharSet word = alnum.copy();
+        word.add('_');
+        final CharSet xdigit = digit.copy();
+        xdigit.addRange('a', 'f');
+        xdigit.addRange('A', 'F');
+        final CharSet cntrl = CharSet.range(0, 0x1F);
+        cntrl.add(0x7F);
+        classes.put("alpha", alpha);
+        classes.put("alnum", alnum);
+        classes.put("blank", CharSet.of(" \t"));
+        classes.put("cntrl", cntrl);
+        classes.put("digit", digit);
+        classes.put("graph", graph);
+        classes.put("lower", lower);
+        classes.put("print", print);
+        classes.put("punct", punct);
+        classes.put("space", CharSet.of(" \t\n\u000B\f\r"));
+        classes.put("upper", upper);
+        classes.put("word", word);
+        for (CharSet set : classes.values()) {
+            // these may match characters outside of ASCII with a unicode encoding
+            set.nonAscii = true;
+        }
+        classes.put("xdigit", xdigit);
+        classes.put("ascii", CharSet.range(0, 0x7F));
+        POSIX_CLASSES = Collections.unmodifiableMap(classes);
+    }
+
+    /**
+     * A set of ASCII characters, and whether it may contain characters outside of ASCII.
+     */
+    private static final class CharSet {
+        private final long[] ascii = new long[4];
+        private boolean nonAscii;
+
+        static CharSet all() {
+            return range(0, 0x7F);
+        }
+
+        static CharSet range(int from, int to) {
+            final CharSet set = new CharSet();
+            set.addRange(from, to);
+            return set;
+        }
+
+        static CharSet of(String chars) {
+            final CharSet set = new CharSet();
+            for (int i = 0; i < chars.length(); i++) {
+                set.add(chars.charAt(i));
+            }
+            return set;
+        }
+
+        void add(int c) {
+            addRange(c, c);
+        }
+
+        void addRange(int from, int to) {
+            for (int c = from; c <= Math.min(to, 0x7F); c++) {
+                ascii[c >>> 6] |= 1L << c;
+            }
+            if (to > 0x7F) {
+                nonAscii = true;
+            }
+        }
+
+        void addAll(CharSet other) {
+            ascii[0] |= other.ascii[0];
+            ascii[1] |= other.ascii[1];
+            nonAscii |= other.nonAscii;
+        }
+
+        void foldCase() {
+            for (int c = 'a'; c <= 'z'; c++) {
+                final int upper = c - 'a' + 'A';
+                if (contains(c) || contains(upper)) {
+                    add(c);
+                    add(upper);
+                }
+            }
+        }
+
+        boolean contains(int c) {
+            return (ascii[c >>> 6] & (1L << c)) != 0;
+        }
+
+        boolean intersects(CharSet other) {
+            return (ascii[0] & other.ascii[0]) != 0 || (ascii[1] & other.ascii[1]) != 0;
+        }
+
+        /**
+         * The complement, which may always contain characters outside of ASCII since they aren't tracked precisely.
+         */
+        CharSet negate() {
+            final CharSet negated = new CharSet();
+            negated.ascii[0] = ~ascii[0];
+            negated.ascii[1] = ~ascii[1];
+            negated.nonAscii = true;
+            return negated;
+        }
+
+        CharSet copy() {
+            final CharSet copy = new CharSet();
+            copy.addAll(this);
+            return copy;
+        }
+    }
+}
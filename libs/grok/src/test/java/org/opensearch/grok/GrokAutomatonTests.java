@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class GrokAutomatonTests extends OpenSearchTestCase {
+
+    private static final List<String> LINES = Arrays.asList(
+        "Mar 16 00:01:25 evita postfix/smtpd[1713]: connect from camomile.cloud9.net[168.100.1.3]",
+        "83.149.9.216 - - [17/May/2015:10:05:03 +0000] \"GET /images/kibana-search.png HTTP/1.1\" 200 203023 \"-\" \"Mozilla/5.0\"",
+        "2016-10-25T14:49:34.123+02:00 INFO [main] org.opensearch.node.Node - started",
+        "<34>1 2003-10-11T22:14:15.003Z mymachine.example.com su - ID47 - 'su root' failed for lonvick on /dev/pts/8",
+        "fe80::1ff:fe23:4567:890a connected from 10.0.0.1:9200",
+        "2012-08-14 14:47:22.346 UTC [1234] LOG:  database system is ready",
+        "\tat com.example.Foo.bar(Foo.java:42)",
+        "\"quoted \\\"string\\\"\" and 'single'",
+        "Jörg logged in as 日本 at 10:11:12",
+        "- - -",
+        "12345",
+        ""
+    );
+
+    public void testCandidates() {
+        GrokAutomaton automaton = GrokAutomaton.build(Arrays.asList("foo\\d+", "ba[rz]", "(?i:qux)", "^x$"));
+        assertThat(candidates(automaton, "foo12 baz"), equalTo(0b0011L));
+        assertThat(candidates(automaton, "foo bar"), equalTo(0b0010L));
+        assertThat(candidates(automaton, "QuX"), equalTo(0b0100L));
+        // anchors are ignored
+        assertThat(candidates(automaton, "axb"), equalTo(0b1000L));
+        assertThat(candidates(automaton, "nothing"), equalTo(0L));
+        assertThat(candidates(automaton, ""), equalTo(0L));
+        assertThat(GrokAutomaton.build(Collections.singletonList("a*")).candidates(new byte[0], 0, 0), equalTo(1L));
+    }
+
+    public void testOffsetAndLength() {
+        GrokAutomaton automaton = GrokAutomaton.build(Arrays.asList("ab", "cd"));
+        byte[] utf8 = "abcd".getBytes(StandardCharsets.UTF_8);
+        assertThat(automaton.candidates(utf8, 0, 2), equalTo(0b01L));
+        assertThat(automaton.candidates(utf8, 1, 3), equalTo(0b10L));
+        assertThat(automaton.candidates(utf8, 1, 2), equalTo(0L));
+    }
+
+    public void testNonAsciiCharacters() {
+        GrokAutomaton automaton = GrokAutomaton.build(Arrays.asList("^.$", "é", "[^a]b", "\\w{2}c"));
+        assertThat(candidates(automaton, "é"), equalTo(0b0011L));
+        assertThat(candidates(automaton, "日b"), equalTo(0b0101L));
+        assertThat(candidates(automaton, "ééc"), equalTo(0b1011L));
+        assertThat(candidates(automaton, "ab"), equalTo(0b0001L));
+    }
+
+    public void testCaseFoldingOutsideOfAscii() {
+        GrokAutomaton automaton = GrokAutomaton.build(Arrays.asList("(?i)kb", "(?i)mass", "(?i)maß", "(?i)error"));
+        assertThat(candidates(automaton, "\u212AB"), equalTo(0b0001L));
+        assertThat(candidates(automaton, "MAß"), equalTo(0b0110L));
+        assertThat(candidates(automaton, "maſs"), equalTo(0b0110L));
+        assertThat(candidates(automaton, "MASS"), equalTo(0b0110L));
+        assertThat(candidates(automaton, "ERROR"), equalTo(0b1000L));
+        assertThat(candidates(automaton, "xyz"), equalTo(0L));
+    }
+
+    /**
+     * Every ASCII letter that a character outside of ASCII changes case to must be in {@link GrokAutomaton#FOLD_LETTERS}.
+     */
+    public void testFoldLetters() {
+        for (int codePoint = 0x80; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+            if (Character.isDefined(codePoint) == false) {
+                continue;
+            }
+            String c = new String(Character.toChars(codePoint));
+            for (String folded : Arrays.asList(c.toLowerCase(Locale.ROOT), c.toUpperCase(Locale.ROOT))) {
+                assertThat(folded, folded.codePointCount(0, folded.length()), lessThanOrEqualTo(GrokAutomaton.MAX_FOLD_LENGTH));
+                for (int i = 0; i < folded.length(); i++) {
+                    char letter = folded.charAt(i);
+                    if (letter < 0x80 && Character.isLetter(letter)) {
+                        assertTrue(c + " folds to " + folded, GrokAutomaton.FOLD_LETTERS.indexOf(letter) >= 0);
+                    }
+                }
+            }
+        }
+    }
+
+    public void testUnsupportedAlternativesAreAlwaysCandidates() {
+        GrokAutomaton automaton = GrokAutomaton.build(Arrays.asList("(?x) a b", "(?<n>a)\\g<n>", "abc", "[a-z&&[^b]]"));
+        assertThat(candidates(automaton, "xyz"), equalTo(0b1011L));
+        assertThat(candidates(automaton, "abc"), equalTo(0b1111L));
+    }
+
+    public void testBackReferencesAndLookarounds() {
+        GrokAutomaton automaton = GrokAutomaton.build(Arrays.asList("(?<q>[\"'])x\\k<q>", "(?<![0-9])1(?!0)", "(?>a+)b"));
+        assertThat(candidates(automaton, "\"x'"), equalTo(0b001L));
+        assertThat(candidates(automaton, "10"), equalTo(0b010L));
+        assertThat(candidates(automaton, "aab"), equalTo(0b100L));
+        assertThat(candidates(automaton, "x"), equalTo(0L));
+    }
+
+    /**
+     * The automaton must find every alternative that the regex engine matches.
+     */
+    public void testBuiltinPatterns() {
+        for (Map.Entry<String, String> pattern : Grok.BUILTIN_PATTERNS.entrySet()) {
+            String grokPattern = "%{" + pattern.getKey() + "}";
+            Grok grok = new Grok(Grok.BUILTIN_PATTERNS, grokPattern, logger::warn);
+            GrokAutomaton automaton = GrokAutomaton.build(Collections.singletonList(grok.toRegex(grokPattern)));
+            for (String line : LINES) {
+                if (grok.match(line)) {
+                    assertThat(pattern.getKey() + " on [" + line + "]", candidates(automaton, line), equalTo(1L));
+                }
+            }
+        }
+    }
+
+    public void testStateCount() {
+        Grok grok = new Grok(Grok.BUILTIN_PATTERNS, "%{COMBINEDAPACHELOG}", logger::warn);
+        GrokAutomaton automaton = GrokAutomaton.build(Collections.singletonList(grok.toRegex("%{COMBINEDAPACHELOG}")));
+        for (String line : LINES) {
+            candidates(automaton, line);
+        }
+        int stateCount = automaton.stateCount();
+        // the states are built once
+        for (String line : LINES) {
+            candidates(automaton, line);
+        }
+        assertThat(automaton.stateCount(), equalTo(stateCount));
+    }
+
+    public void testTooManyStates() {
+        Grok grok = new Grok(Grok.BUILTIN_PATTERNS, "%{COMBINEDAPACHELOG}", logger::warn);
+        List<String> expressions = Collections.singletonList(grok.toRegex("%{COMBINEDAPACHELOG}"));
+        GrokAutomaton complete = GrokAutomaton.build(expressions);
+        int maxStates = randomIntBetween(1, 20);
+        GrokAutomaton saturated = GrokAutomaton.build(expressions, maxStates);
+        for (String line : LINES) {
+            long candidates = candidates(saturated, line);
+            // once saturated, the automaton falls back to reporting all alternatives but never misses one
+            assertThat(candidates & candidates(complete, line), equalTo(candidates(complete, line)));
+            assertThat(saturated.stateCount(), lessThanOrEqualTo(maxStates));
+        }
+    }
+
+    private static long candidates(GrokAutomaton automaton, String text) {
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        return automaton.candidates(utf8, 0, utf8.length);
+    }
+}
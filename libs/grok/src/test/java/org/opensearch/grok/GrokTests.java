@@ -36,6 +36,7 @@ import org.opensearch.grok.GrokCaptureConfig.NativeExtracterMap;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -501,6 +502,53 @@ public class GrokTests extends OpenSearchTestCase {
                 "YaBrowser/13.12.1599.12785 Safari/537.36\"", matches.get("agent"));
     }
 
+    public void testAutomatonMatchesLikeRegex() {
+        List<String> patterns = Arrays.asList(
+            "%{SYSLOGLINE}",
+            "%{COMBINEDAPACHELOG}",
+            "%{TIMESTAMP_ISO8601:timestamp} %{LOGLEVEL:level} %{GREEDYDATA:message}",
+            "%{IP:client} %{WORD:method} %{URIPATHPARAM:request} %{NUMBER:bytes:int} %{NUMBER:duration:float}",
+            "%{NUMBER:number:long}"
+        );
+        List<String> lines = Arrays.asList(
+            "Mar 16 00:01:25 evita postfix/smtpd[1713]: connect from camomile.cloud9.net[168.100.1.3]",
+            "83.149.9.216 - - [17/May/2015:10:05:03 +0000] \"GET /presentations/logstash-monitorama-2013/images/kibana-search.png "
+                + "HTTP/1.1\" 200 203023 \"http://semicomplete.com/presentations/\" \"Mozilla/5.0 (Macintosh; Intel Mac OS X 10_9_1)\"",
+            "2016-10-25T14:49:34.123+02:00 INFO started node [node-1]",
+            "55.3.244.1 GET /index.html 15824 0.043",
+            "took 0.043 seconds and 15824 bytes",
+            "no digits here",
+            "Jörg logged in at 10:11:12",
+            ""
+        );
+        for (boolean traceMatch : new boolean[] { false, true }) {
+            List<String> alternatives = new ArrayList<>(patterns.size());
+            for (int i = 0; i < patterns.size(); i++) {
+                alternatives.add(traceMatch ? "(?<trace." + i + ">" + patterns.get(i) + ")" : "(?:" + patterns.get(i) + ")");
+            }
+            Grok regex = new Grok(Grok.BUILTIN_PATTERNS, alternatives, false, MatcherWatchdog.noop(), logger::warn);
+            Grok automaton = new Grok(Grok.BUILTIN_PATTERNS, alternatives, true, MatcherWatchdog.noop(), logger::warn);
+            assertThat(automaton.captureConfig().size(), equalTo(regex.captureConfig().size()));
+            assertThat(regex.captures(lines.get(0)), equalTo(new Grok(Grok.BUILTIN_PATTERNS, String.join("|", alternatives),
+                logger::warn).captures(lines.get(0))));
+            for (String line : lines) {
+                assertThat(line, automaton.captures(line), equalTo(regex.captures(line)));
+                assertThat(line, automaton.match(line), equalTo(regex.match(line)));
+            }
+        }
+    }
+
+    public void testAutomatonPicksEarliestMatch() {
+        List<String> alternatives = Arrays.asList("(?:b(?<second>c))", "(?:(?<first>a)b)", "(?:(?<third>a)bc)");
+        Grok grok = new Grok(Collections.emptyMap(), alternatives, true, MatcherWatchdog.noop(), logger::warn);
+        // the second alternative matches first, the third one at the same position is not tried
+        assertThat(grok.captures("xabc"), equalTo(org.opensearch.common.collect.Map.of("first", "a")));
+        assertThat(grok.captures("xbc"), equalTo(org.opensearch.common.collect.Map.of("second", "c")));
+        assertThat(grok.captures("xyz"), nullValue());
+        byte[] utf8 = "abc bc".getBytes(StandardCharsets.UTF_8);
+        assertThat(captureBytes(grok, utf8, 3, 3), equalTo(org.opensearch.common.collect.Map.of("second", "c")));
+    }
+
     public void testComplete() {
         Map<String, String> bank = new HashMap<>();
         bank.put("MONTHDAY", "(?:(?:0[1-9])|(?:[12][0-9])|(?:3[01])|[1-9])");
@@ -58,15 +58,10 @@ public class BytesChannelContext extends SocketChannelContext {
     @Override
     public void flushChannel() throws IOException {
         getSelector().assertOnSelectorThread();
-        boolean lastOpCompleted = true;
-        FlushOperation flushOperation;
-        while (lastOpCompleted && (flushOperation = getPendingFlush()) != null) {
+        boolean channelWritable = true;
+        while (channelWritable && getPendingFlush() != null) {
             try {
-                if (singleFlush(flushOperation)) {
-                    currentFlushOperationComplete();
-                } else {
-                    lastOpCompleted = false;
-                }
+                channelWritable = flushPendingToChannel();
             } catch (IOException e) {
                 currentFlushOperationFailed(e);
                 throw e;
@@ -85,12 +80,4 @@ public class BytesChannelContext extends SocketChannelContext {
     public boolean selectorShouldClose() {
         return closeNow() || isClosing.get();
     }
-
-    /**
-     * Returns a boolean indicating if the operation was fully flushed.
-     */
-    private boolean singleFlush(FlushOperation flushOperation) throws IOException {
-        flushToChannel(flushOperation);
-        return flushOperation.isFullyFlushed();
-    }
 }
@@ -61,6 +61,8 @@ public final class InboundChannelBuffer implements AutoCloseable {
     private final AtomicBoolean isClosed = new AtomicBoolean(false);
 
     private long capacity = 0;
+    // the number of pages that aren't backed by direct memory, so reads can tell whether to read straight into the pages
+    private int heapPages = 0;
     private long internalIndex = 0;
     // The offset is an int as it is the offset of where the bytes begin in the first buffer
     private int offset = 0;
@@ -79,6 +81,9 @@ public final class InboundChannelBuffer implements AutoCloseable {
             Page page;
             List<RuntimeException> closingExceptions = new ArrayList<>();
             while ((page = pages.pollFirst()) != null) {
+                if (page.byteBuffer().isDirect() == false) {
+                    heapPages--;
+                }
                 try {
                     page.close();
                 } catch (RuntimeException e) {
@@ -99,6 +104,9 @@ public final class InboundChannelBuffer implements AutoCloseable {
             for (int i = 0; i < pagesToAdd; i++) {
                 Page page = pageAllocator.apply(PAGE_SIZE);
                 pages.addLast(page);
+                if (page.byteBuffer().isDirect() == false) {
+                    heapPages++;
+                }
             }
             capacity += pagesToAdd * PAGE_SIZE;
         }
@@ -117,7 +125,11 @@ public final class InboundChannelBuffer implements AutoCloseable {
 
         int pagesToRelease = pageIndex(offset + bytesToRelease);
         for (int i = 0; i < pagesToRelease; i++) {
-            pages.removeFirst().close();
+            Page page = pages.removeFirst();
+            if (page.byteBuffer().isDirect() == false) {
+                heapPages--;
+            }
+            page.close();
         }
         capacity -= bytesToRelease;
         internalIndex = Math.max(internalIndex - bytesToRelease, 0);
@@ -256,6 +268,13 @@ public final class InboundChannelBuffer implements AutoCloseable {
         return capacity;
     }
 
+    /**
+     * Whether all pages of this buffer are backed by direct memory, so a channel can read into them without copying.
+     */
+    public boolean isDirect() {
+        return heapPages == 0;
+    }
+
     public long getRemaining() {
         long remaining = capacity - internalIndex;
         assert remaining >= 0 : "The remaining [" + remaining + "] number of bytes should not be less than zero.";
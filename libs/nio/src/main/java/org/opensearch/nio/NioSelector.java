@@ -166,9 +166,12 @@ public class NioSelector implements Closeable {
         try {
             closePendingChannels();
             preSelect();
+            // From here on other threads have to wake the selector up. Work that was queued before is picked up by
+            // selecting without blocking.
+            wokenUp.set(false);
             long nanosUntilNextTask = taskScheduler.nanosUntilNextTask(System.nanoTime());
             int ready;
-            if (wokenUp.getAndSet(false) || nanosUntilNextTask == 0) {
+            if (hasQueuedWork() || nanosUntilNextTask == 0 || isOpen() == false) {
                 ready = selector.selectNow();
             } else {
                 long millisUntilNextTask = TimeUnit.NANOSECONDS.toMillis(nanosUntilNextTask);
@@ -176,6 +179,9 @@ public class NioSelector implements Closeable {
                 // that blocks without a timeout.
                 ready = selector.select(Math.min(300, Math.max(millisUntilNextTask, 1)));
             }
+            // The selector is awake until the next select call and picks up newly queued work on its own, so other
+            // threads can skip the wakeup syscall.
+            wokenUp.set(true);
             if (ready > 0) {
                 Set<SelectionKey> selectionKeys = selector.selectedKeys();
                 Iterator<SelectionKey> keyIterator = selectionKeys.iterator();
@@ -413,6 +419,10 @@ public class NioSelector implements Closeable {
         }
     }
 
+    private boolean hasQueuedWork() {
+        return queuedWrites.isEmpty() == false || channelsToClose.isEmpty() == false || channelsToRegister.isEmpty() == false;
+    }
+
     private void wakeup() {
         assert isOnCurrentThread() == false;
         if (wokenUp.compareAndSet(false, true)) {
@@ -36,6 +36,7 @@ import org.opensearch.nio.utils.ExceptionsHelper;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.channels.spi.SelectorProvider;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
@@ -94,6 +95,25 @@ public class NioSelectorGroup implements NioGroup {
      */
     public NioSelectorGroup(ThreadFactory acceptorThreadFactory, int dedicatedAcceptorCount, ThreadFactory selectorThreadFactory,
                             int selectorCount, Function<Supplier<NioSelector>, EventHandler> eventHandlerFunction) throws IOException {
+        this(acceptorThreadFactory, dedicatedAcceptorCount, selectorThreadFactory, selectorCount, SelectorProvider.provider(),
+            eventHandlerFunction);
+    }
+
+    /**
+     * This will create an NioSelectorGroup with dedicated acceptors whose selectors are opened by the given
+     * {@link SelectorProvider}. This allows to plug in an event loop backend other than the default one of the JDK.
+     *
+     * @param acceptorThreadFactory factory to create acceptor selector threads
+     * @param dedicatedAcceptorCount the number of dedicated acceptor selectors to be created
+     * @param selectorThreadFactory factory to create non-acceptor selector threads
+     * @param selectorCount the number of non-acceptor selectors to be created
+     * @param selectorProvider provider to open the raw selectors with
+     * @param eventHandlerFunction function for creating event handlers
+     * @throws IOException occurs if there is a problem while opening a java.nio.Selector
+     */
+    public NioSelectorGroup(ThreadFactory acceptorThreadFactory, int dedicatedAcceptorCount, ThreadFactory selectorThreadFactory,
+                            int selectorCount, SelectorProvider selectorProvider,
+                            Function<Supplier<NioSelector>, EventHandler> eventHandlerFunction) throws IOException {
         dedicatedAcceptors = new ArrayList<>(dedicatedAcceptorCount);
         selectors = new ArrayList<>(selectorCount);
 
@@ -102,7 +122,7 @@ public class NioSelectorGroup implements NioGroup {
             for (int i = 0; i < selectorCount; ++i) {
                 RoundRobinSupplier<NioSelector> supplier = new RoundRobinSupplier<>();
                 suppliersToSet.add(supplier);
-                NioSelector selector = new NioSelector(eventHandlerFunction.apply(supplier));
+                NioSelector selector = new NioSelector(eventHandlerFunction.apply(supplier), selectorProvider.openSelector());
                 selectors.add(selector);
             }
             for (RoundRobinSupplier<NioSelector> supplierToSet : suppliersToSet) {
@@ -112,7 +132,7 @@ public class NioSelectorGroup implements NioGroup {
 
             for (int i = 0; i < dedicatedAcceptorCount; ++i) {
                 RoundRobinSupplier<NioSelector> supplier = new RoundRobinSupplier<>(selectors.toArray(new NioSelector[0]));
-                NioSelector acceptor = new NioSelector(eventHandlerFunction.apply(supplier));
+                NioSelector acceptor = new NioSelector(eventHandlerFunction.apply(supplier), selectorProvider.openSelector());
                 dedicatedAcceptors.add(acceptor);
             }
 
@@ -275,8 +275,14 @@ public abstract class SocketChannelContext extends ChannelContext<SocketChannel>
     // The choice of 64KB is rather arbitrary. We can explore different sizes in the future. However, any
     // data that is copied to the buffer for a write, but not successfully flushed immediately, must be
     // copied again on the next call.
+    //
+    // Direct buffers need no such copy. A channel buffer whose pages are all direct is read into straight away, and
+    // direct buffers of flush operations are written with a gathering write.
 
     protected int readFromChannel(InboundChannelBuffer channelBuffer) throws IOException {
+        if (channelBuffer.getRemaining() > 0 && channelBuffer.isDirect()) {
+            return scatteringReadFromChannel(channelBuffer, channelBuffer.sliceBuffersFrom(channelBuffer.getIndex()));
+        }
         ByteBuffer ioBuffer = getSelector().getIoBuffer();
         int bytesRead;
         try {
@@ -302,9 +308,31 @@ public abstract class SocketChannelContext extends ChannelContext<SocketChannel>
         }
     }
 
+    private int scatteringReadFromChannel(InboundChannelBuffer channelBuffer, ByteBuffer[] buffers) throws IOException {
+        long bytesRead;
+        try {
+            bytesRead = rawChannel.read(buffers, 0, buffers.length);
+        } catch (IOException e) {
+            closeNow = true;
+            throw e;
+        }
+        if (bytesRead < 0) {
+            closeNow = true;
+            return 0;
+        } else {
+            channelBuffer.incrementIndex(bytesRead);
+            return (int) bytesRead;
+        }
+    }
+
     // Currently we limit to 64KB. This is a trade-off which means more syscalls, in exchange for less
     // copying.
     private static final int WRITE_LIMIT = 1 << 16;
+    // The maximum number of flush operations that are gathered into a single write.
+    private static final int MAX_GATHERED_OPERATIONS = 64;
+
+    private final int[] gatheredBytes = new int[MAX_GATHERED_OPERATIONS];
+    private final ArrayList<ByteBuffer> gatheredBuffers = new ArrayList<>();
 
     protected int flushToChannel(FlushOperation flushOperation) throws IOException {
         ByteBuffer ioBuffer = getSelector().getIoBuffer();
@@ -331,6 +359,87 @@ public abstract class SocketChannelContext extends ChannelContext<SocketChannel>
         return totalBytesFlushed;
     }
 
+    /**
+     * Gathers as many pending flush operations as fit into a single write call, so that a number of small messages
+     * costs a single syscall. Operations backed by heap buffers are copied into the io buffer first. Operations backed
+     * by direct buffers are handed to the channel as they are with a gathering write, without any copy. Fully flushed
+     * operations are completed in order.
+     *
+     * @return true if all gathered bytes were written and the channel might accept more
+     */
+    protected boolean flushPendingToChannel() throws IOException {
+        ByteBuffer ioBuffer = getSelector().getIoBuffer();
+        ioBuffer.limit(Math.min(WRITE_LIMIT, ioBuffer.limit()));
+        int writeLimit = ioBuffer.remaining();
+        int gathered = 0;
+        int bytesGathered = 0;
+        // null until the first operation with bytes to write decided whether this write copies or not
+        Boolean zeroCopy = null;
+        gatheredBuffers.clear();
+        for (FlushOperation flushOperation : pendingFlushes) {
+            if (gathered == gatheredBytes.length || bytesGathered == writeLimit) {
+                break;
+            }
+            int bytesCopied = 0;
+            if (flushOperation.isFullyFlushed() == false) {
+                ByteBuffer[] buffers = flushOperation.getBuffersToWrite(writeLimit - bytesGathered);
+                boolean direct = isDirect(buffers);
+                if (zeroCopy == null) {
+                    zeroCopy = direct;
+                } else if (zeroCopy != direct) {
+                    break;
+                }
+                if (direct) {
+                    for (ByteBuffer buffer : buffers) {
+                        gatheredBuffers.add(buffer);
+                        bytesCopied += buffer.remaining();
+                    }
+                } else {
+                    bytesCopied = (int) ByteBufferUtils.copyBytes(buffers, ioBuffer);
+                }
+            }
+            gatheredBytes[gathered++] = bytesCopied;
+            bytesGathered += bytesCopied;
+        }
+        long bytesFlushed;
+        try {
+            if (zeroCopy == Boolean.TRUE) {
+                ByteBuffer[] buffers = gatheredBuffers.toArray(new ByteBuffer[0]);
+                bytesFlushed = rawChannel.write(buffers, 0, buffers.length);
+            } else {
+                ioBuffer.flip();
+                bytesFlushed = rawChannel.write(ioBuffer);
+            }
+        } catch (IOException e) {
+            closeNow = true;
+            throw e;
+        } finally {
+            gatheredBuffers.clear();
+        }
+        boolean allFlushed = bytesFlushed == bytesGathered;
+        for (int i = 0; i < gathered; i++) {
+            FlushOperation flushOperation = pendingFlushes.peekFirst();
+            int bytesForOperation = (int) Math.min(bytesFlushed, gatheredBytes[i]);
+            flushOperation.incrementIndex(bytesForOperation);
+            bytesFlushed -= bytesForOperation;
+            if (flushOperation.isFullyFlushed()) {
+                currentFlushOperationComplete();
+            } else {
+                break;
+            }
+        }
+        return allFlushed;
+    }
+
+    private static boolean isDirect(ByteBuffer[] buffers) {
+        for (ByteBuffer buffer : buffers) {
+            if (buffer.isDirect() == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void configureSocket(Socket socket, boolean isConnectComplete) throws IOException {
         if (socketOptionsSet) {
             return;
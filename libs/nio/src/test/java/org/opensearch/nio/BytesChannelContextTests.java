@@ -241,6 +241,41 @@ public class BytesChannelContextTests extends OpenSearchTestCase {
         assertFalse(context.readyForFlush());
     }
 
+    @SuppressWarnings("unchecked")
+    public void testPendingWritesAreGatheredIntoSingleWrite() throws IOException {
+        BiConsumer<Void, Exception> listener2 = mock(BiConsumer.class);
+        byte[] bytes1 = createMessage(messageLength);
+        byte[] bytes2 = createMessage(messageLength);
+        context.queueWriteOperation(new FlushReadyWrite(context, new ByteBuffer[] {ByteBuffer.wrap(bytes1)}, listener));
+        context.queueWriteOperation(new FlushReadyWrite(context, new ByteBuffer[] {ByteBuffer.wrap(bytes2)}, listener2));
+
+        ByteBuffer written = ByteBuffer.allocate(messageLength * 2);
+        // the channel accepts the first message and part of the second one
+        when(rawChannel.write(any(ByteBuffer.class))).thenAnswer(invocationOnMock -> {
+            ByteBuffer buffer = (ByteBuffer) invocationOnMock.getArguments()[0];
+            int length = Math.min(buffer.remaining(), messageLength + 5);
+            for (int i = 0; i < length; i++) {
+                written.put(buffer.get());
+            }
+            return length;
+        });
+        context.flushChannel();
+
+        verify(rawChannel, times(1)).write(any(ByteBuffer.class));
+        verify(selector).executeListener(listener, null);
+        verify(selector, times(0)).executeListener(listener2, null);
+        assertTrue(context.readyForFlush());
+
+        context.flushChannel();
+        verify(selector).executeListener(listener2, null);
+        assertFalse(context.readyForFlush());
+        written.flip();
+        byte[] expected = new byte[messageLength * 2];
+        System.arraycopy(bytes1, 0, expected, 0, messageLength);
+        System.arraycopy(bytes2, 0, expected, messageLength, messageLength);
+        assertEquals(ByteBuffer.wrap(expected), written);
+    }
+
     public void testWhenIOExceptionThrownListenerIsCalled() throws IOException {
         assertFalse(context.readyForFlush());
 
@@ -166,6 +166,25 @@ public class InboundChannelBufferTests extends OpenSearchTestCase {
         assertFalse(queue.poll().get());
     }
 
+    public void testIsDirect() {
+        InboundChannelBuffer heapBuffer = new InboundChannelBuffer(defaultPageAllocator);
+        heapBuffer.ensureCapacity(InboundChannelBuffer.PAGE_SIZE * 2);
+        assertFalse(heapBuffer.isDirect());
+
+        AtomicBoolean direct = new AtomicBoolean(false);
+        InboundChannelBuffer channelBuffer = new InboundChannelBuffer(
+            n -> new Page(direct.get() ? ByteBuffer.allocateDirect(n) : ByteBuffer.allocate(n), () -> {}));
+        assertTrue(channelBuffer.isDirect());
+        channelBuffer.ensureCapacity(InboundChannelBuffer.PAGE_SIZE);
+        assertFalse(channelBuffer.isDirect());
+        direct.set(true);
+        channelBuffer.ensureCapacity(InboundChannelBuffer.PAGE_SIZE * 2);
+        assertFalse(channelBuffer.isDirect());
+        // releasing the heap page leaves only direct pages
+        channelBuffer.release(InboundChannelBuffer.PAGE_SIZE);
+        assertTrue(channelBuffer.isDirect());
+    }
+
     public void testClose() {
         ConcurrentLinkedQueue<AtomicBoolean> queue = new ConcurrentLinkedQueue<>();
         IntFunction<Page> allocator = (n) -> {
@@ -38,6 +38,14 @@ import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.net.ProtocolFamily;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.Pipe;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.spi.AbstractSelector;
+import java.nio.channels.spi.SelectorProvider;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import static org.opensearch.common.util.concurrent.OpenSearchExecutors.daemonThreadFactory;
@@ -84,6 +92,48 @@ public class NioSelectorGroupTests extends OpenSearchTestCase {
         nioGroup.close();
     }
 
+    @SuppressWarnings("unchecked")
+    public void testSelectorsAreOpenedWithProvider() throws IOException {
+        AtomicInteger openedSelectors = new AtomicInteger();
+        SelectorProvider defaultProvider = SelectorProvider.provider();
+        SelectorProvider provider = new SelectorProvider() {
+            @Override
+            public DatagramChannel openDatagramChannel() throws IOException {
+                return defaultProvider.openDatagramChannel();
+            }
+
+            @Override
+            public DatagramChannel openDatagramChannel(ProtocolFamily family) throws IOException {
+                return defaultProvider.openDatagramChannel(family);
+            }
+
+            @Override
+            public Pipe openPipe() throws IOException {
+                return defaultProvider.openPipe();
+            }
+
+            @Override
+            public AbstractSelector openSelector() throws IOException {
+                openedSelectors.incrementAndGet();
+                return defaultProvider.openSelector();
+            }
+
+            @Override
+            public ServerSocketChannel openServerSocketChannel() throws IOException {
+                return defaultProvider.openServerSocketChannel();
+            }
+
+            @Override
+            public SocketChannel openSocketChannel() throws IOException {
+                return defaultProvider.openSocketChannel();
+            }
+        };
+        NioSelectorGroup group = new NioSelectorGroup(daemonThreadFactory(Settings.EMPTY, "acceptor"), 1,
+            daemonThreadFactory(Settings.EMPTY, "selector"), 2, provider, (s) -> new EventHandler(mock(Consumer.class), s));
+        group.close();
+        assertEquals(3, openedSelectors.get());
+    }
+
     @SuppressWarnings("unchecked")
     public void testExceptionAtStartIsHandled() throws IOException {
         RuntimeException ex = new RuntimeException();
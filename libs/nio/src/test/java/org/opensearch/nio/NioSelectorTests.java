@@ -190,6 +190,23 @@ public class NioSelectorTests extends OpenSearchTestCase {
         });
     }
 
+    public void testWakeupIsSkippedWhileSelectorIsAwake() throws Exception {
+        executeOnNewThread(() -> selector.queueChannelClose(channel));
+        executeOnNewThread(() -> selector.queueChannelClose(channel));
+        // the second close is picked up by the same wakeup
+        verify(rawSelector, times(1)).wakeup();
+
+        selector.singleLoop();
+        verify(eventHandler, times(2)).handleClose(channelContext);
+        verify(rawSelector).select(300);
+
+        // the selector processes its queues before the next select, so it does not have to be woken up
+        executeOnNewThread(() -> selector.queueChannelClose(channel));
+        verify(rawSelector, times(1)).wakeup();
+        selector.singleLoop();
+        verify(eventHandler, times(3)).handleClose(channelContext);
+    }
+
     public void testSelectorClosedExceptionIsNotCaughtWhileRunning() throws IOException {
         boolean closedSelectorExceptionCaught = false;
         when(rawSelector.select(anyInt())).thenThrow(new ClosedSelectorException());
@@ -371,6 +371,23 @@ public class SocketChannelContextTests extends OpenSearchTestCase {
         assertEquals(ioBuffer.capacity(), channelBuffer.getIndex());
     }
 
+    public void testReadToDirectChannelBufferDoesNotCopy() throws IOException {
+        byte[] bytes = createMessage(100);
+        when(rawChannel.read(any(ByteBuffer[].class), anyInt(), anyInt())).thenAnswer(invocationOnMock -> {
+            ByteBuffer[] buffers = (ByteBuffer[]) invocationOnMock.getArguments()[0];
+            buffers[0].put(bytes);
+            return (long) bytes.length;
+        });
+
+        InboundChannelBuffer channelBuffer = new InboundChannelBuffer(n -> new Page(ByteBuffer.allocateDirect(n), () -> {}));
+        channelBuffer.ensureCapacity(InboundChannelBuffer.PAGE_SIZE);
+        assertEquals(bytes.length, context.readFromChannel(channelBuffer));
+        assertEquals(bytes.length, channelBuffer.getIndex());
+        verify(rawChannel, times(0)).read(any(ByteBuffer.class));
+        ByteBuffer read = channelBuffer.sliceBuffersTo(bytes.length)[0];
+        assertEquals(ByteBuffer.wrap(bytes), read);
+    }
+
     public void testReadToChannelBufferHandlesIOException() throws IOException  {
         when(rawChannel.read(any(ByteBuffer.class))).thenThrow(new IOException());
 
@@ -459,6 +476,37 @@ public class SocketChannelContextTests extends OpenSearchTestCase {
         assertEquals(1, flushOperation.getBuffersToWrite()[0].position());
     }
 
+    @SuppressWarnings("unchecked")
+    public void testDirectFlushOperationsAreWrittenWithGatheringWrite() throws IOException {
+        BiConsumer<Void, Exception> listener2 = mock(BiConsumer.class);
+        ByteBuffer[] buffers1 = {ByteBuffer.allocateDirect(10), ByteBuffer.allocateDirect(10)};
+        ByteBuffer[] buffers2 = {ByteBuffer.allocateDirect(10)};
+        FlushReadyWrite flushOperation1 = new FlushReadyWrite(context, buffers1, listener);
+        FlushReadyWrite flushOperation2 = new FlushReadyWrite(context, buffers2, listener2);
+        when(handler.writeToBytes(flushOperation1)).thenReturn(Collections.singletonList(flushOperation1));
+        when(handler.writeToBytes(flushOperation2)).thenReturn(Collections.singletonList(flushOperation2));
+        context.queueWriteOperation(flushOperation1);
+        context.queueWriteOperation(flushOperation2);
+
+        AtomicReference<ByteBuffer[]> written = new AtomicReference<>();
+        when(rawChannel.write(any(ByteBuffer[].class), anyInt(), anyInt())).thenAnswer(invocationOnMock -> {
+            ByteBuffer[] buffers = (ByteBuffer[]) invocationOnMock.getArguments()[0];
+            written.set(buffers);
+            // the first operation and half of the second one
+            buffers[0].position(buffers[0].limit());
+            buffers[1].position(buffers[1].limit());
+            buffers[2].position(5);
+            return 25L;
+        });
+
+        assertFalse(context.flushPendingToChannel());
+        verify(rawChannel, times(0)).write(any(ByteBuffer.class));
+        assertEquals(3, written.get().length);
+        verify(selector).executeListener(listener, null);
+        verify(selector, times(0)).executeListener(listener2, null);
+        assertEquals(5, flushOperation2.getBuffersToWrite()[0].remaining());
+    }
+
     private static Config.Socket getSocketConfig() {
         return new Config.Socket(randomBoolean(), randomBoolean(), -1, -1, -1, randomBoolean(), -1, -1, mock(InetSocketAddress.class),
             randomBoolean());
@@ -0,0 +1,267 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.xcontent.support.filtering;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.opensearch.common.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Filters a JSON object by the full paths of its fields without building it up in memory or re-generating it. Kept values
+ * are copied from the source bytes as they are and removed values are skipped, so only the field names on the way to the
+ * kept and removed values are decoded. Objects and arrays that end up empty are only written if they matched an include
+ * themselves, which gives the same result as filtering the map of the source.
+ * <p>
+ * The paths are matched with {@link PathAutomaton}s that are stepped through the characters of the field names, with a
+ * {@code '.'} between the names of an object and its fields. Once an include accepts the path of an object all of its fields
+ * are included, and once an exclude accepts it all of its fields are excluded.
+ * <p>
+ * The filter only accepts strict JSON, e.g. no comments, and fails on anything else so that it can be filtered differently.
+ */
+public final class JsonSourceFilter {
+
+    /**
+     * A deterministic automaton over the characters of a path.
+     */
+    public interface PathAutomaton {
+
+        /**
+         * Returns the state after reading the given character, or {@code -1} if no path starting like this can be accepted.
+         */
+        int step(int state, int c);
+
+        boolean isAccept(int state);
+    }
+
+    private static final PathAutomaton MATCH_ALL = new PathAutomaton() {
+        @Override
+        public int step(int state, int c) {
+            return 0;
+        }
+
+        @Override
+        public boolean isAccept(int state) {
+            return true;
+        }
+    };
+
+    private static final JsonFactory jsonFactory;
+
+    static {
+        jsonFactory = new JsonFactory();
+        jsonFactory.configure(JsonFactory.Feature.FAIL_ON_SYMBOL_HASH_OVERFLOW, false);
+        jsonFactory.configure(JsonParser.Feature.STRICT_DUPLICATE_DETECTION, true);
+    }
+
+    private final PathAutomaton include;
+    private final PathAutomaton exclude;
+
+    /**
+     * @param include   the paths to keep, all paths are kept if {@code null}
+     * @param exclude   the paths to remove, no path is removed if {@code null}
+     */
+    public JsonSourceFilter(@Nullable PathAutomaton include, @Nullable PathAutomaton exclude) {
+        this.include = include == null ? MATCH_ALL : include;
+        this.exclude = exclude;
+    }
+
+    /**
+     * Writes the filtered JSON object in the given bytes to the output.
+     */
+    public void filter(byte[] bytes, int offset, int length, OutputStream out) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(bytes, offset, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "expected an object but got [" + parser.currentToken() + "]");
+            }
+            final Output output = new Output(bytes, offset, out);
+            output.open(null, '{', '}', true);
+            filterObject(parser, output, include, 0, exclude == null ? -1 : 0);
+            output.close();
+        }
+    }
+
+    private void filterObject(JsonParser parser, Output output, PathAutomaton include, int includeState,
+                              int excludeState) throws IOException {
+        for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            final String name = parser.getCurrentName();
+            token = parser.nextToken();
+
+            final int nameIncludeState = step(include, name, includeState);
+            if (nameIncludeState == -1) {
+                parser.skipChildren();
+                continue;
+            }
+            final int nameExcludeState = step(exclude, name, excludeState);
+            if (nameExcludeState != -1 && exclude.isAccept(nameExcludeState)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            final boolean included = include.isAccept(nameIncludeState);
+            PathAutomaton valueInclude = include;
+            int valueIncludeState = nameIncludeState;
+            if (included) {
+                if (nameExcludeState == -1 || exclude.step(nameExcludeState, '.') == -1) {
+                    // no exclude can match within the value
+                    output.copy(parser, name);
+                    continue;
+                }
+                // only the excludes matter within the value
+                valueInclude = MATCH_ALL;
+                valueIncludeState = 0;
+            }
+
+            if (token == JsonToken.START_OBJECT) {
+                valueIncludeState = valueInclude.step(valueIncludeState, '.');
+                if (valueIncludeState == -1) {
+                    parser.skipChildren();
+                    continue;
+                }
+                output.open(name, '{', '}', included);
+                filterObject(parser, output, valueInclude, valueIncludeState, step(exclude, nameExcludeState, '.'));
+                output.close();
+            } else if (token == JsonToken.START_ARRAY) {
+                output.open(name, '[', ']', included);
+                filterArray(parser, output, valueInclude, valueIncludeState, nameExcludeState);
+                output.close();
+            } else if (included) {
+                output.copy(parser, name);
+            }
+        }
+    }
+
+    private void filterArray(JsonParser parser, Output output, PathAutomaton include, int includeState,
+                             int excludeState) throws IOException {
+        final boolean included = include.isAccept(includeState);
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == JsonToken.START_OBJECT) {
+                output.open(null, '{', '}', false);
+                filterObject(parser, output, include, include.step(includeState, '.'), step(exclude, excludeState, '.'));
+                output.close();
+            } else if (token == JsonToken.START_ARRAY) {
+                output.open(null, '[', ']', false);
+                filterArray(parser, output, include, includeState, excludeState);
+                output.close();
+            } else if (included) {
+                output.copy(parser, null);
+            }
+        }
+    }
+
+    private static int step(PathAutomaton automaton, String name, int state) {
+        for (int i = 0; state != -1 && i < name.length(); i++) {
+            state = automaton.step(state, name.charAt(i));
+        }
+        return state;
+    }
+
+    private static int step(PathAutomaton automaton, int state, char c) {
+        return state == -1 ? -1 : automaton.step(state, c);
+    }
+
+    /**
+     * Writes the filtered object. Objects and arrays are only opened once a value is written into them, unless they have to be
+     * written even if they end up empty.
+     */
+    private static final class Output {
+        private final byte[] source;
+        private final int offset;
+        private final OutputStream out;
+
+        private byte[][] names = new byte[8][];
+        private byte[] openers = new byte[8];
+        private byte[] closers = new byte[8];
+        private boolean[] hasValues = new boolean[8];
+        private int depth;
+        private int written;
+
+        Output(byte[] source, int offset, OutputStream out) {
+            this.source = source;
+            this.offset = offset;
+            this.out = out;
+        }
+
+        void open(@Nullable String name, char opener, char closer, boolean eager) throws IOException {
+            if (depth == names.length) {
+                names = Arrays.copyOf(names, depth << 1);
+                openers = Arrays.copyOf(openers, depth << 1);
+                closers = Arrays.copyOf(closers, depth << 1);
+                hasValues = Arrays.copyOf(hasValues, depth << 1);
+            }
+            names[depth] = name == null ? null : quote(name);
+            openers[depth] = (byte) opener;
+            closers[depth] = (byte) closer;
+            hasValues[depth] = false;
+            depth++;
+            if (eager) {
+                writePending();
+            }
+        }
+
+        void close() throws IOException {
+            depth--;
+            if (written > depth) {
+                out.write(closers[depth]);
+                written = depth;
+            }
+        }
+
+        /**
+         * Copies the current value of the parser.
+         */
+        void copy(JsonParser parser, @Nullable String name) throws IOException {
+            final int start = offset + (int) parser.getTokenLocation().getByteOffset();
+            if (parser.currentToken().isStructStart()) {
+                parser.skipChildren();
+            } else {
+                parser.finishToken();
+            }
+            final int end = offset + (int) parser.getCurrentLocation().getByteOffset();
+            writePending();
+            writeSeparator(depth - 1, name == null ? null : quote(name));
+            out.write(source, start, end - start);
+        }
+
+        private void writePending() throws IOException {
+            for (; written < depth; written++) {
+                if (written > 0) {
+                    writeSeparator(written - 1, names[written]);
+                }
+                out.write(openers[written]);
+            }
+        }
+
+        private void writeSeparator(int parent, @Nullable byte[] name) throws IOException {
+            if (hasValues[parent]) {
+                out.write(',');
+            }
+            hasValues[parent] = true;
+            if (name != null) {
+                out.write(name);
+            }
+        }
+
+        private static byte[] quote(String name) {
+            final byte[] escaped = JsonStringEncoder.getInstance().quoteAsUTF8(name);
+            final byte[] quoted = new byte[escaped.length + 3];
+            quoted[0] = '"';
+            System.arraycopy(escaped, 0, quoted, 1, escaped.length);
+            quoted[escaped.length + 1] = '"';
+            quoted[escaped.length + 2] = ':';
+            return quoted;
+        }
+    }
+}
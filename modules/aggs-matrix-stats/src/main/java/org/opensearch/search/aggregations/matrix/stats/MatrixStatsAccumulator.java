@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.matrix.stats;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.DoubleArray;
+
+import java.util.Arrays;
+
+/**
+ * Per bucket descriptive stats of a fixed list of fields, kept in primitive arrays rather than in the maps of {@link RunningStats}.
+ * The stats of a bucket are laid out as the doc count, then the sums, means and second, third and fourth central moments of every
+ * field, then the co-moments of every pair of fields in row-major order of the upper triangle of the matrix.
+ * <p>
+ * Documents are buffered in batches: the moments of a batch are computed with two passes over its values and then merged into the
+ * stats of the bucket with the same pairwise formulas that merge the stats of shards, which is both cheaper and more stable than
+ * updating every moment for every document. See http://prod.sandia.gov/techlib/access-control.cgi/2008/086212.pdf
+ */
+final class MatrixStatsAccumulator implements Releasable {
+
+    /** the maximum number of documents that are buffered before being merged into the stats of their bucket */
+    static final int BATCH_SIZE = 128;
+
+    private final BigArrays bigArrays;
+    private final int numFields;
+    private final int numPairs;
+    private final long stride;
+    private DoubleArray stats;
+
+    // the buffered values, one row of numFields values per document, all of the same bucket
+    private final double[] batch;
+    private int batchDocs;
+    private long batchBucket = -1;
+
+    // scratch space for the moments of a batch
+    private final double[] sums;
+    private final double[] means;
+    private final double[] m2;
+    private final double[] m3;
+    private final double[] m4;
+    private final double[] coMoments;
+    private final double[] deltas;
+
+    MatrixStatsAccumulator(int numFields, BigArrays bigArrays) {
+        if (numFields <= 0) {
+            throw new IllegalArgumentException("matrix stats require at least one field");
+        }
+        this.bigArrays = bigArrays;
+        this.numFields = numFields;
+        this.numPairs = numFields * (numFields - 1) / 2;
+        this.stride = 1L + 5L * numFields + numPairs;
+        this.stats = bigArrays.newDoubleArray(stride);
+        this.batch = new double[BATCH_SIZE * numFields];
+        this.sums = new double[numFields];
+        this.means = new double[numFields];
+        this.m2 = new double[numFields];
+        this.m3 = new double[numFields];
+        this.m4 = new double[numFields];
+        this.coMoments = new double[numPairs];
+        this.deltas = new double[numFields];
+    }
+
+    /**
+     * Adds the values of a document, in the order of the fields, to the stats of a bucket.
+     */
+    void add(long bucket, double[] fieldVals) {
+        assert fieldVals.length == numFields;
+        if (bucket != batchBucket || batchDocs == BATCH_SIZE) {
+            flush();
+            batchBucket = bucket;
+        }
+        System.arraycopy(fieldVals, 0, batch, batchDocs * numFields, numFields);
+        batchDocs++;
+    }
+
+    /**
+     * Merges the buffered documents into the stats of their bucket.
+     */
+    void flush() {
+        if (batchDocs == 0) {
+            return;
+        }
+        final int n = batchDocs;
+        batchDocs = 0;
+        // first pass: sums and means
+        for (int i = 0; i < numFields; i++) {
+            double sum = 0;
+            for (int doc = 0, offset = i; doc < n; doc++, offset += numFields) {
+                sum += batch[offset];
+            }
+            sums[i] = sum;
+            means[i] = sum / n;
+        }
+        // second pass: central moments and co-moments around the means of the batch
+        Arrays.fill(m2, 0);
+        Arrays.fill(m3, 0);
+        Arrays.fill(m4, 0);
+        Arrays.fill(coMoments, 0);
+        for (int doc = 0, offset = 0; doc < n; doc++, offset += numFields) {
+            for (int i = 0; i < numFields; i++) {
+                final double d = batch[offset + i] - means[i];
+                final double d2 = d * d;
+                deltas[i] = d;
+                m2[i] += d2;
+                m3[i] += d2 * d;
+                m4[i] += d2 * d2;
+            }
+            for (int i = 0, pair = 0; i < numFields; i++) {
+                final double d = deltas[i];
+                for (int j = i + 1; j < numFields; j++, pair++) {
+                    coMoments[pair] += d * deltas[j];
+                }
+            }
+        }
+        merge(batchBucket, n);
+    }
+
+    /** Merges the moments of a batch of {@code nB} documents into the stats of a bucket */
+    private void merge(long bucket, long nB) {
+        final long start = bucket * stride;
+        stats = bigArrays.grow(stats, start + stride);
+        final double nA = stats.get(start);
+        final double n = nA + nB;
+        stats.set(start, n);
+        final long sumsStart = start + 1;
+        final long meansStart = sumsStart + numFields;
+        final long m2Start = meansStart + numFields;
+        final long m3Start = m2Start + numFields;
+        final long m4Start = m3Start + numFields;
+        final long coMomentsStart = m4Start + numFields;
+        if (nA == 0) {
+            for (int i = 0; i < numFields; i++) {
+                stats.set(sumsStart + i, sums[i]);
+                stats.set(meansStart + i, means[i]);
+                stats.set(m2Start + i, m2[i]);
+                stats.set(m3Start + i, m3[i]);
+                stats.set(m4Start + i, m4[i]);
+            }
+            for (int pair = 0; pair < numPairs; pair++) {
+                stats.set(coMomentsStart + pair, coMoments[pair]);
+            }
+            return;
+        }
+        final double n2 = n * n;
+        final double nA2 = nA * nA;
+        final double nB2 = (double) nB * nB;
+        for (int i = 0; i < numFields; i++) {
+            final double meanA = stats.get(meansStart + i);
+            final double m2A = stats.get(m2Start + i);
+            final double m3A = stats.get(m3Start + i);
+            final double m4A = stats.get(m4Start + i);
+            final double d = means[i] - meanA;
+            final double d2 = d * d;
+            deltas[i] = d;
+            stats.increment(sumsStart + i, sums[i]);
+            stats.set(meansStart + i, meanA + d * nB / n);
+            stats.set(m2Start + i, m2A + m2[i] + d2 * nA * nB / n);
+            stats.set(m3Start + i, m3A + m3[i] + d2 * d * nA * nB * (nA - nB) / n2 + 3D * d * (nA * m2[i] - nB * m2A) / n);
+            stats.set(m4Start + i, m4A + m4[i] + d2 * d2 * nA * nB * (nA2 - nA * nB + nB2) / (n2 * n)
+                + 6D * d2 * (nA2 * m2[i] + nB2 * m2A) / n2 + 4D * d * (nA * m3[i] - nB * m3A) / n);
+        }
+        final double f = nA * nB / n;
+        for (int i = 0, pair = 0; i < numFields; i++) {
+            final double d = f * deltas[i];
+            for (int j = i + 1; j < numFields; j++, pair++) {
+                stats.increment(coMomentsStart + pair, coMoments[pair] + d * deltas[j]);
+            }
+        }
+    }
+
+    /**
+     * Returns the stats of a bucket in the format that shards send to the coordinating node, or {@code null} if no document was
+     * added to the bucket.
+     */
+    RunningStats get(long bucket, String[] fieldNames) {
+        assert fieldNames.length == numFields;
+        flush();
+        final long start = bucket * stride;
+        if (start >= stats.size() || stats.get(start) == 0) {
+            return null;
+        }
+        final long docCount = (long) stats.get(start);
+        final double[] values = new double[Math.toIntExact(stride - 1)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = stats.get(start + 1 + i);
+        }
+        return new RunningStats(fieldNames, docCount, values);
+    }
+
+    @Override
+    public void close() {
+        Releasables.close(stats);
+    }
+}
@@ -34,8 +34,6 @@ package org.opensearch.search.aggregations.matrix.stats;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.ScoreMode;
 import org.opensearch.common.lease.Releasables;
-import org.opensearch.common.util.BigArrays;
-import org.opensearch.common.util.ObjectArray;
 import org.opensearch.index.fielddata.NumericDoubleValues;
 import org.opensearch.search.MultiValueMode;
 import org.opensearch.search.aggregations.Aggregator;
@@ -57,15 +55,15 @@ final class MatrixStatsAggregator extends MetricsAggregator {
     /** Multiple ValuesSource with field names */
     private final ArrayValuesSource.NumericArrayValuesSource valuesSources;
 
-    /** array of descriptive stats, per shard, needed to compute the correlation */
-    ObjectArray<RunningStats> stats;
+    /** descriptive stats, per bucket, needed to compute the correlation */
+    MatrixStatsAccumulator stats;
 
     MatrixStatsAggregator(String name, Map<String, ValuesSource.Numeric> valuesSources, SearchContext context,
                                  Aggregator parent, MultiValueMode multiValueMode, Map<String,Object> metadata) throws IOException {
         super(name, context, parent, metadata);
         if (valuesSources != null && !valuesSources.isEmpty()) {
             this.valuesSources = new ArrayValuesSource.NumericArrayValuesSource(valuesSources, multiValueMode);
-            stats = context.bigArrays().newObjectArray(1);
+            stats = new MatrixStatsAccumulator(this.valuesSources.fieldNames().length, context.bigArrays());
         } else {
             this.valuesSources = null;
         }
@@ -82,29 +80,20 @@ final class MatrixStatsAggregator extends MetricsAggregator {
         if (valuesSources == null) {
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
-        final BigArrays bigArrays = context.bigArrays();
         final NumericDoubleValues[] values = new NumericDoubleValues[valuesSources.fieldNames().length];
         for (int i = 0; i < values.length; ++i) {
             values[i] = valuesSources.getField(i, ctx);
         }
 
         return new LeafBucketCollectorBase(sub, values) {
-            final String[] fieldNames = valuesSources.fieldNames();
-            final double[] fieldVals = new double[fieldNames.length];
+            final double[] fieldVals = new double[values.length];
 
             @Override
             public void collect(int doc, long bucket) throws IOException {
                 // get fields
                 if (includeDocument(doc)) {
-                    stats = bigArrays.grow(stats, bucket + 1);
-                    RunningStats stat = stats.get(bucket);
                     // add document fields to correlation stats
-                    if (stat == null) {
-                        stat = new RunningStats(fieldNames, fieldVals);
-                        stats.set(bucket, stat);
-                    } else {
-                        stat.add(fieldNames, fieldVals);
-                    }
+                    stats.add(bucket, fieldVals);
                 }
             }
 
@@ -133,10 +122,21 @@ final class MatrixStatsAggregator extends MetricsAggregator {
 
     @Override
     public InternalAggregation buildAggregation(long bucket) {
-        if (valuesSources == null || bucket >= stats.size()) {
+        if (valuesSources == null) {
+            return buildEmptyAggregation();
+        }
+        RunningStats bucketStats = stats.get(bucket, valuesSources.fieldNames());
+        if (bucketStats == null) {
             return buildEmptyAggregation();
         }
-        return new InternalMatrixStats(name, stats.size(), stats.get(bucket), null, metadata());
+        return new InternalMatrixStats(name, bucketStats.docCount, bucketStats, null, metadata());
+    }
+
+    @Override
+    protected void doPostCollection() {
+        if (stats != null) {
+            stats.flush();
+        }
     }
 
     @Override
@@ -78,6 +78,34 @@ public class RunningStats implements Writeable, Cloneable {
         }
     }
 
+    /**
+     * Creates the stats of the given fields from their flattened moments: the sums, means and second, third and fourth central
+     * moments of every field followed by the co-moments of every pair of fields in row-major order of the upper triangle.
+     */
+    RunningStats(final String[] fieldNames, final long docCount, final double[] moments) {
+        init();
+        final int numFields = fieldNames.length;
+        assert moments.length == 5 * numFields + numFields * (numFields - 1) / 2;
+        this.docCount = docCount;
+        int pair = 5 * numFields;
+        for (int i = 0; i < numFields; ++i) {
+            final String fieldName = fieldNames[i];
+            counts.put(fieldName, docCount);
+            fieldSum.put(fieldName, moments[i]);
+            means.put(fieldName, moments[numFields + i]);
+            variances.put(fieldName, moments[2 * numFields + i]);
+            skewness.put(fieldName, moments[3 * numFields + i]);
+            kurtosis.put(fieldName, moments[4 * numFields + i]);
+            if (i < numFields - 1) {
+                final HashMap<String, Double> cFieldVals = new HashMap<>();
+                for (int j = i + 1; j < numFields; ++j) {
+                    cFieldVals.put(fieldNames[j], moments[pair++]);
+                }
+                covariances.put(fieldName, cFieldVals);
+            }
+        }
+    }
+
     private void init() {
         counts = new HashMap<>();
         fieldSum = new HashMap<>();
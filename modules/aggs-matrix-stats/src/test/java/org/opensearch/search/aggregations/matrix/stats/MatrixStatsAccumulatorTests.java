@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.matrix.stats;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.MockBigArrays;
+import org.opensearch.common.util.MockPageCacheRecycler;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+
+import java.util.Map;
+
+import static org.hamcrest.Matchers.closeTo;
+
+public class MatrixStatsAccumulatorTests extends BaseMatrixStatsTestCase {
+
+    private final MockBigArrays bigArrays = new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+
+    /** test the accumulated stats against the multi-pass computation, with the documents of the bucket interleaved with others */
+    public void testAccumulatedStats() {
+        final String[] fieldNames = new String[] { fieldAKey, fieldBKey };
+        try (MatrixStatsAccumulator accumulator = new MatrixStatsAccumulator(2, bigArrays)) {
+            final long bucket = randomIntBetween(0, 3);
+            for (int n = 0; n < numObs; ++n) {
+                if (randomInt(20) == 0) {
+                    accumulator.add(bucket + 1, new double[] { randomDouble(), randomDouble() });
+                }
+                accumulator.add(bucket, new double[] { fieldA.get(n), fieldB.get(n) });
+            }
+            actualStats.assertNearlyEqual(new MatrixStatsResults(accumulator.get(bucket, fieldNames)));
+            assertNull(accumulator.get(bucket + 2, fieldNames));
+            if (bucket > 0) {
+                assertNull(accumulator.get(bucket - 1, fieldNames));
+            }
+        }
+    }
+
+    /** test the accumulated stats against the stats updated document by document */
+    public void testMatchesRunningStats() {
+        final int numFields = randomIntBetween(1, 10);
+        final String[] fieldNames = new String[numFields];
+        for (int i = 0; i < numFields; ++i) {
+            fieldNames[i] = "field" + i;
+        }
+        final int numBuckets = randomIntBetween(1, 5);
+        final RunningStats[] expected = new RunningStats[numBuckets];
+        try (MatrixStatsAccumulator accumulator = new MatrixStatsAccumulator(numFields, bigArrays)) {
+            final int numDocs = randomIntBetween(1, 2000);
+            final double[] fieldVals = new double[numFields];
+            int bucket = 0;
+            for (int n = 0; n < numDocs; ++n) {
+                if (randomInt(10) == 0) {
+                    bucket = randomInt(numBuckets - 1);
+                }
+                for (int i = 0; i < numFields; ++i) {
+                    fieldVals[i] = randomDoubleBetween(-1000, 1000, true);
+                }
+                accumulator.add(bucket, fieldVals);
+                if (expected[bucket] == null) {
+                    expected[bucket] = new RunningStats(fieldNames, fieldVals);
+                } else {
+                    expected[bucket].add(fieldNames, fieldVals);
+                }
+            }
+            for (int b = 0; b < numBuckets; ++b) {
+                final RunningStats actual = accumulator.get(b, fieldNames);
+                if (expected[b] == null) {
+                    assertNull(actual);
+                    continue;
+                }
+                assertEquals(expected[b].docCount, actual.docCount);
+                assertEquals(expected[b].counts, actual.counts);
+                assertEquals(expected[b].covariances.keySet(), actual.covariances.keySet());
+                // moments can be close to zero so the error is bounded by the magnitude of the values rather than of the moments
+                final double n = actual.docCount;
+                assertNearlyEqual(expected[b].fieldSum, actual.fieldSum, 1e-6 * n * 1000);
+                assertNearlyEqual(expected[b].means, actual.means, 1e-6 * 1000);
+                assertNearlyEqual(expected[b].variances, actual.variances, 1e-6 * n * 1000 * 1000);
+                assertNearlyEqual(expected[b].skewness, actual.skewness, 1e-6 * n * 1000 * 1000 * 1000);
+                assertNearlyEqual(expected[b].kurtosis, actual.kurtosis, 1e-6 * n * 1000 * 1000 * 1000 * 1000);
+                for (String fieldName : expected[b].covariances.keySet()) {
+                    assertNearlyEqual(expected[b].covariances.get(fieldName), actual.covariances.get(fieldName), 1e-6 * n * 1000 * 1000);
+                }
+            }
+        }
+    }
+
+    private static void assertNearlyEqual(Map<String, Double> expected, Map<String, Double> actual, double error) {
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Map.Entry<String, Double> entry : expected.entrySet()) {
+            assertThat(entry.getKey(), actual.get(entry.getKey()), closeTo(entry.getValue(), error));
+        }
+    }
+}
@@ -34,9 +34,11 @@ package org.opensearch.ingest.common;
 
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.time.DateFormatter;
 import org.opensearch.common.util.LocaleUtils;
 import org.opensearch.ingest.AbstractProcessor;
+import org.opensearch.ingest.BatchProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.Processor;
@@ -47,12 +49,14 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
-public final class DateProcessor extends AbstractProcessor {
+public final class DateProcessor extends AbstractProcessor implements BatchProcessor {
 
     public static final String TYPE = "date";
     static final String DEFAULT_TARGET_FIELD = "@timestamp";
@@ -64,7 +68,7 @@ public final class DateProcessor extends AbstractProcessor {
     private final String field;
     private final String targetField;
     private final List<String> formats;
-    private final List<Function<Map<String, Object>, Function<String, ZonedDateTime>>> dateParsers;
+    private final List<BiFunction<ZoneId, Locale, Function<String, ZonedDateTime>>> dateParsers;
     private final String outputFormat;
 
     DateProcessor(String tag, String description, @Nullable TemplateScript.Factory timezone, @Nullable TemplateScript.Factory locale,
@@ -83,7 +87,7 @@ public final class DateProcessor extends AbstractProcessor {
         this.dateParsers = new ArrayList<>(this.formats.size());
         for (String format : formats) {
             DateFormat dateFormat = DateFormat.fromString(format);
-            dateParsers.add((params) -> dateFormat.getFunction(format, newDateTimeZone(params), newLocale(params)));
+            dateParsers.add((timezone, locale) -> dateFormat.getFunction(format, timezone, locale));
         }
         this.outputFormat = outputFormat;
         formatter = DateFormatter.forPattern(this.outputFormat);
@@ -99,6 +103,30 @@ public final class DateProcessor extends AbstractProcessor {
 
     @Override
     public IngestDocument execute(IngestDocument ingestDocument) {
+        return execute(ingestDocument, null);
+    }
+
+    /**
+     * Executes the processor on all documents of the batch, with the parsers built once per time zone and locale instead of
+     * once per document.
+     */
+    @Override
+    public void executeBatch(List<IngestDocument> ingestDocuments, BatchHandler handler) {
+        final Map<Tuple<ZoneId, Locale>, List<Function<String, ZonedDateTime>>> parsers = new HashMap<>();
+        for (int slot = 0; slot < ingestDocuments.size(); slot++) {
+            final IngestDocument result;
+            try {
+                result = execute(ingestDocuments.get(slot), parsers);
+            } catch (Exception e) {
+                handler.accept(slot, null, e);
+                continue;
+            }
+            handler.accept(slot, result, null);
+        }
+    }
+
+    private IngestDocument execute(IngestDocument ingestDocument,
+                                   @Nullable Map<Tuple<ZoneId, Locale>, List<Function<String, ZonedDateTime>>> parsersCache) {
         Object obj = ingestDocument.getFieldValue(field, Object.class);
         String value = null;
         if (obj != null) {
@@ -106,11 +134,27 @@ public final class DateProcessor extends AbstractProcessor {
             value = obj.toString();
         }
 
+        final Tuple<ZoneId, Locale> timezoneAndLocale;
+        try {
+            Map<String, Object> params = ingestDocument.getSourceAndMetadata();
+            timezoneAndLocale = new Tuple<>(newDateTimeZone(params), newLocale(params));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("unable to parse date [" + value + "]", e);
+        }
+        // a single document only builds the parsers of the formats it tries, a batch shares all of them across its documents
+        final List<Function<String, ZonedDateTime>> parsers = parsersCache == null
+            ? null
+            : parsersCache.computeIfAbsent(timezoneAndLocale, this::newParsers);
+
         ZonedDateTime dateTime = null;
         Exception lastException = null;
-        for (Function<Map<String, Object>, Function<String, ZonedDateTime>> dateParser : dateParsers) {
+        for (int i = 0; i < dateParsers.size(); i++) {
             try {
-                dateTime = dateParser.apply(ingestDocument.getSourceAndMetadata()).apply(value);
+                final Function<String, ZonedDateTime> parser = parsers == null
+                    ? dateParsers.get(i).apply(timezoneAndLocale.v1(), timezoneAndLocale.v2())
+                    : parsers.get(i);
+                dateTime = parser.apply(value);
+                break;
             } catch (Exception e) {
                 //try the next parser and keep track of the exceptions
                 lastException = ExceptionsHelper.useOrSuppress(lastException, e);
@@ -125,6 +169,21 @@ public final class DateProcessor extends AbstractProcessor {
         return ingestDocument;
     }
 
+    private List<Function<String, ZonedDateTime>> newParsers(Tuple<ZoneId, Locale> timezoneAndLocale) {
+        List<Function<String, ZonedDateTime>> parsers = new ArrayList<>(dateParsers.size());
+        for (BiFunction<ZoneId, Locale, Function<String, ZonedDateTime>> dateParser : dateParsers) {
+            try {
+                parsers.add(dateParser.apply(timezoneAndLocale.v1(), timezoneAndLocale.v2()));
+            } catch (RuntimeException e) {
+                // fail like the parser itself when it is applied
+                parsers.add(value -> {
+                    throw e;
+                });
+            }
+        }
+        return parsers;
+    }
+
     @Override
     public String getType() {
         return TYPE;
@@ -41,8 +41,10 @@ import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.Processor;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
@@ -58,15 +60,23 @@ public final class GrokProcessor extends AbstractProcessor {
     private final Grok grok;
     private final boolean traceMatch;
     private final boolean ignoreMissing;
+    private final Engine engine;
 
     GrokProcessor(String tag, String description, Map<String, String> patternBank, List<String> matchPatterns, String matchField,
                   boolean traceMatch, boolean ignoreMissing, MatcherWatchdog matcherWatchdog) {
+        this(tag, description, patternBank, matchPatterns, matchField, traceMatch, ignoreMissing, Engine.BACKTRACKING, matcherWatchdog);
+    }
+
+    GrokProcessor(String tag, String description, Map<String, String> patternBank, List<String> matchPatterns, String matchField,
+                  boolean traceMatch, boolean ignoreMissing, Engine engine, MatcherWatchdog matcherWatchdog) {
         super(tag, description);
         this.matchField = matchField;
         this.matchPatterns = matchPatterns;
-        this.grok = new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::debug);
+        this.grok = new Grok(patternBank, wrapPatterns(matchPatterns, traceMatch), engine == Engine.AUTOMATON, matcherWatchdog,
+            logger::debug);
         this.traceMatch = traceMatch;
         this.ignoreMissing = ignoreMissing;
+        this.engine = engine;
         // Joni warnings are only emitted on an attempt to match, and the warning emitted for every call to match which is too verbose
         // so here we emit a warning (if there is one) to the logfile at warn level on construction / processor creation.
         new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::warn).match("___nomatch___");
@@ -124,29 +134,55 @@ public final class GrokProcessor extends AbstractProcessor {
         return matchPatterns;
     }
 
+    Engine getEngine() {
+        return engine;
+    }
+
     static String combinePatterns(List<String> patterns, boolean traceMatch) {
-        String combinedPattern;
-        if (patterns.size() > 1) {
-            combinedPattern = "";
-            for (int i = 0; i < patterns.size(); i++) {
-                String pattern = patterns.get(i);
-                String valueWrap;
-                if (traceMatch) {
-                    valueWrap = "(?<" + PATTERN_MATCH_KEY + "." + i + ">" + pattern + ")";
-                } else {
-                    valueWrap = "(?:" + patterns.get(i) + ")";
-                }
-                if (combinedPattern.equals("")) {
-                    combinedPattern = valueWrap;
-                } else {
-                    combinedPattern = combinedPattern + "|" + valueWrap;
-                }
+        return String.join("|", wrapPatterns(patterns, traceMatch));
+    }
+
+    /**
+     * Wraps each of multiple patterns in a group, which captures the index of the pattern if the match is traced.
+     */
+    static List<String> wrapPatterns(List<String> patterns, boolean traceMatch) {
+        if (patterns.size() == 1) {
+            return patterns;
+        }
+        List<String> wrappedPatterns = new ArrayList<>(patterns.size());
+        for (int i = 0; i < patterns.size(); i++) {
+            String pattern = patterns.get(i);
+            if (traceMatch) {
+                wrappedPatterns.add("(?<" + PATTERN_MATCH_KEY + "." + i + ">" + pattern + ")");
+            } else {
+                wrappedPatterns.add("(?:" + pattern + ")");
             }
-        }  else {
-            combinedPattern = patterns.get(0);
         }
+        return wrappedPatterns;
+    }
 
-        return combinedPattern;
+    /**
+     * How the patterns are matched.
+     */
+    enum Engine {
+        /**
+         * The regex engine tries the patterns one after the other.
+         */
+        BACKTRACKING,
+        /**
+         * An automaton of all patterns finds the patterns that may match in a single pass over the text first, only those are
+         * tried by the regex engine.
+         */
+        AUTOMATON;
+
+        static Engine fromString(String processorTag, String engine) {
+            try {
+                return valueOf(engine.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw newConfigurationException(TYPE, processorTag, "engine", "engine [" + engine + "] not supported, expected one of "
+                    + "[backtracking, automaton]");
+            }
+        }
     }
 
     public static final class Factory implements Processor.Factory {
@@ -166,6 +202,8 @@ public final class GrokProcessor extends AbstractProcessor {
             List<String> matchPatterns = ConfigurationUtils.readList(TYPE, processorTag, config, "patterns");
             boolean traceMatch = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, "trace_match", false);
             boolean ignoreMissing = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, "ignore_missing", false);
+            Engine engine = Engine.fromString(processorTag,
+                ConfigurationUtils.readStringProperty(TYPE, processorTag, config, "engine", "backtracking"));
 
             if (matchPatterns.isEmpty()) {
                 throw newConfigurationException(TYPE, processorTag, "patterns", "List of patterns must not be empty");
@@ -178,7 +216,7 @@ public final class GrokProcessor extends AbstractProcessor {
 
             try {
                 return new GrokProcessor(processorTag, description, patternBank, matchPatterns, matchField, traceMatch, ignoreMissing,
-                    matcherWatchdog);
+                    engine, matcherWatchdog);
             } catch (Exception e) {
                 throw newConfigurationException(TYPE, processorTag, "patterns",
                     "Invalid regex pattern found in: " + matchPatterns + ". " + e.getMessage());
@@ -43,6 +43,7 @@ import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.ingest.AbstractProcessor;
+import org.opensearch.ingest.BatchProcessor;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.Processor;
 import org.opensearch.script.DynamicMap;
@@ -54,6 +55,7 @@ import org.opensearch.script.ScriptType;
 
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -62,7 +64,7 @@ import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException
 /**
  * Processor that evaluates a script with an ingest document in its context.
  */
-public final class ScriptProcessor extends AbstractProcessor {
+public final class ScriptProcessor extends AbstractProcessor implements BatchProcessor {
 
     private static final DeprecationLogger deprecationLogger =
             DeprecationLogger.getLogger(DynamicMap.class);
@@ -102,13 +104,44 @@ public final class ScriptProcessor extends AbstractProcessor {
      */
     @Override
     public IngestDocument execute(IngestDocument document) {
+        return execute(document, ingestScript());
+    }
+
+    /**
+     * Executes the script on all documents of the batch, with stored and non-inline scripts compiled once for the batch.
+     */
+    @Override
+    public void executeBatch(List<IngestDocument> documents, BatchHandler handler) {
         final IngestScript ingestScript;
+        try {
+            ingestScript = ingestScript();
+        } catch (Exception e) {
+            for (int slot = 0; slot < documents.size(); slot++) {
+                handler.accept(slot, null, e);
+            }
+            return;
+        }
+        for (int slot = 0; slot < documents.size(); slot++) {
+            final IngestDocument result;
+            try {
+                result = execute(documents.get(slot), ingestScript);
+            } catch (Exception e) {
+                handler.accept(slot, null, e);
+                continue;
+            }
+            handler.accept(slot, result, null);
+        }
+    }
+
+    private IngestScript ingestScript() {
         if (precompiledIngestScript == null) {
             IngestScript.Factory factory = scriptService.compile(script, IngestScript.CONTEXT);
-            ingestScript = factory.newInstance(script.getParams());
-        } else {
-            ingestScript = precompiledIngestScript;
+            return factory.newInstance(script.getParams());
         }
+        return precompiledIngestScript;
+    }
+
+    private static IngestDocument execute(IngestDocument document, IngestScript ingestScript) {
         ingestScript.execute(new DynamicMap(document.getSourceAndMetadata(), PARAMS_FUNCTIONS));
         CollectionUtils.ensureNoSelfReferences(document.getSourceAndMetadata(), "ingest script");
         return document;
@@ -112,6 +112,27 @@ public class DateProcessorTests extends OpenSearchTestCase {
         }
     }
 
+    public void testFirstMatchingFormatWins() {
+        DateProcessor dateProcessor = new DateProcessor(randomAlphaOfLength(10),
+            null, templatize(ZoneOffset.UTC), templatize(Locale.ENGLISH),
+            "date_as_string", Arrays.asList("yyyy dd MM", "yyyy MM dd", "invalid pattern"), "date_as_date");
+        Map<String, Object> document = new HashMap<>();
+        document.put("date_as_string", "2010 12 06");
+        IngestDocument ingestDocument = RandomDocumentPicks.randomIngestDocument(random(), document);
+        dateProcessor.execute(ingestDocument);
+        assertThat(ingestDocument.getFieldValue("date_as_date", String.class), equalTo("2010-06-12T00:00:00.000Z"));
+
+        // documents of a batch parse the same way
+        List<IngestDocument> batch = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            batch.add(RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>(document)));
+        }
+        dateProcessor.executeBatch(batch, (slot, result, e) -> {
+            assertNull(e);
+            assertThat(result.getFieldValue("date_as_date", String.class), equalTo("2010-06-12T00:00:00.000Z"));
+        });
+    }
+
     public void testJavaPatternNoTimezone() {
         DateProcessor dateProcessor = new DateProcessor(randomAlphaOfLength(10),
             null, null, null,
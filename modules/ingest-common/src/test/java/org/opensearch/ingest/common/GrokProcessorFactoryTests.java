@@ -36,6 +36,7 @@ import org.opensearch.OpenSearchParseException;
 import org.opensearch.grok.MatcherWatchdog;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -58,6 +59,30 @@ public class GrokProcessorFactoryTests extends OpenSearchTestCase {
         assertThat(processor.getMatchField(), equalTo("_field"));
         assertThat(processor.getGrok(), notNullValue());
         assertThat(processor.isIgnoreMissing(), is(false));
+        assertThat(processor.getEngine(), equalTo(GrokProcessor.Engine.BACKTRACKING));
+    }
+
+    public void testBuildWithEngine() throws Exception {
+        GrokProcessor.Factory factory = new GrokProcessor.Factory(Collections.emptyMap(), MatcherWatchdog.noop());
+
+        Map<String, Object> config = new HashMap<>();
+        config.put("field", "_field");
+        config.put("patterns", Arrays.asList("(?<foo>\\d+)", "(?<bar>\\w+)"));
+        config.put("engine", "automaton");
+        GrokProcessor processor = factory.create(null, null, null, config);
+        assertThat(processor.getEngine(), equalTo(GrokProcessor.Engine.AUTOMATON));
+        assertThat(processor.getGrok().match("foo"), equalTo(true));
+    }
+
+    public void testBuildWithInvalidEngine() throws Exception {
+        GrokProcessor.Factory factory = new GrokProcessor.Factory(Collections.emptyMap(), MatcherWatchdog.noop());
+
+        Map<String, Object> config = new HashMap<>();
+        config.put("field", "_field");
+        config.put("patterns", Collections.singletonList("(?<foo>\\w+)"));
+        config.put("engine", "dfa");
+        OpenSearchParseException e = expectThrows(OpenSearchParseException.class, () -> factory.create(null, null, null, config));
+        assertThat(e.getMessage(), equalTo("[engine] engine [dfa] not supported, expected one of [backtracking, automaton]"));
     }
 
     public void testBuildWithIgnoreMissing() throws Exception {
@@ -32,18 +32,25 @@
 
 package org.opensearch.ingest.geoip;
 
+import com.maxmind.db.Network;
 import com.maxmind.db.NoCache;
 import com.maxmind.db.NodeCache;
 import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
+import com.maxmind.geoip2.model.AbstractCountryResponse;
 import com.maxmind.geoip2.model.AbstractResponse;
+import com.maxmind.geoip2.model.AsnResponse;
+import com.maxmind.geoip2.model.CityResponse;
+import com.maxmind.geoip2.model.CountryResponse;
+import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.Booleans;
 import org.opensearch.common.SuppressForbidden;
-import org.opensearch.common.cache.Cache;
-import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.io.PathUtils;
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.ingest.IngestStats;
 import org.opensearch.ingest.Processor;
 import org.opensearch.plugins.IngestPlugin;
 import org.opensearch.plugins.Plugin;
@@ -58,15 +65,25 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 public class IngestGeoIpPlugin extends Plugin implements IngestPlugin, Closeable {
+    /**
+     * The maximum number of entries of the cache. Entries are now bounded by {@link #CACHE_MEMORY_SIZE}, this setting only applies
+     * when it is set explicitly.
+     */
     public static final Setting<Long> CACHE_SIZE =
-        Setting.longSetting("ingest.geoip.cache_size", 1000, 0, Setting.Property.NodeScope);
+        Setting.longSetting("ingest.geoip.cache_size", 1000, 0, Setting.Property.NodeScope, Setting.Property.Deprecated);
+    public static final Setting<ByteSizeValue> CACHE_MEMORY_SIZE = Setting.byteSizeSetting("ingest.geoip.cache_memory_size",
+        new ByteSizeValue(32, ByteSizeUnit.MB), Setting.Property.NodeScope);
 
     static String[] DEFAULT_DATABASE_FILENAMES = new String[]{"GeoLite2-ASN.mmdb", "GeoLite2-City.mmdb", "GeoLite2-Country.mmdb"};
 
@@ -74,7 +91,7 @@ public class IngestGeoIpPlugin extends Plugin implements IngestPlugin, Closeable
 
     @Override
     public List<Setting<?>> getSettings() {
-        return Arrays.asList(CACHE_SIZE);
+        return Arrays.asList(CACHE_SIZE, CACHE_MEMORY_SIZE);
     }
 
     @Override
@@ -84,13 +101,16 @@ public class IngestGeoIpPlugin extends Plugin implements IngestPlugin, Closeable
         }
         final Path geoIpDirectory = getGeoIpDirectory(parameters);
         final Path geoIpConfigDirectory = parameters.env.configFile().resolve("ingest-geoip");
-        long cacheSize = CACHE_SIZE.get(parameters.env.settings());
+        long cacheSize = CACHE_SIZE.exists(parameters.env.settings()) ? CACHE_SIZE.get(parameters.env.settings()) : Long.MAX_VALUE;
+        long cacheMemorySize = CACHE_MEMORY_SIZE.get(parameters.env.settings()).getBytes();
         try {
             databaseReaders = loadDatabaseReaders(geoIpDirectory, geoIpConfigDirectory);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-        return Collections.singletonMap(GeoIpProcessor.TYPE, new GeoIpProcessor.Factory(databaseReaders, new GeoIpCache(cacheSize)));
+        GeoIpCache cache = new GeoIpCache(cacheSize, cacheMemorySize);
+        parameters.ingestService.registerCacheStats(GeoIpProcessor.TYPE, cache::stats);
+        return Collections.singletonMap(GeoIpProcessor.TYPE, new GeoIpProcessor.Factory(databaseReaders, cache));
     }
 
     /*
@@ -182,69 +202,257 @@ public class IngestGeoIpPlugin extends Plugin implements IngestPlugin, Closeable
      * This cache differs from the maxmind's {@link NodeCache} such that this cache stores the deserialized Json objects to avoid the
      * cost of deserialization for each lookup (cached or not). This comes at slight expense of higher memory usage, but significant
      * reduction of CPU usage.
+     *
+     * The responses are cached by the network of the database record they were read from rather than by IP address, so that one
+     * entry serves all the addresses of a network. The networks of the records of a database are disjoint, so an address is in the
+     * network of at most one cached response of a type, which is found by probing the prefix lengths that the cached networks of
+     * that type have, from the longest one. The entries are spread over segments that are locked independently and each evict
+     * their least recently used entries to stay within their share of the maximum size.
      */
     static class GeoIpCache {
-        private final Cache<CacheKey<?>, AbstractResponse> cache;
+        private static final int MAX_SEGMENTS = 16;
+
+        private final Segment[] segments;
+        private final Map<Class<?>, PrefixLengths> prefixLengths = new ConcurrentHashMap<>();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
 
         //package private for testing
         GeoIpCache(long maxSize) {
-            if (maxSize < 0) {
+            this(maxSize, Long.MAX_VALUE);
+        }
+
+        GeoIpCache(long maxEntries, long maxSizeInBytes) {
+            if (maxEntries < 0) {
                 throw new IllegalArgumentException("geoip max cache size must be 0 or greater");
             }
-            this.cache = CacheBuilder.<CacheKey<?>, AbstractResponse>builder().setMaximumWeight(maxSize).build();
+            if (maxSizeInBytes < 0) {
+                throw new IllegalArgumentException("geoip max cache memory size must be 0 or greater");
+            }
+            // every segment must be able to hold at least one entry
+            final int numSegments = (int) Math.max(1, Math.min(MAX_SEGMENTS, maxEntries));
+            this.segments = new Segment[numSegments];
+            for (int i = 0; i < numSegments; i++) {
+                segments[i] = new Segment(maxEntries / numSegments, maxSizeInBytes / numSegments);
+            }
         }
 
         <T extends AbstractResponse> T putIfAbsent(InetAddress ip, Class<T> responseType,
                                                    Function<InetAddress, AbstractResponse> retrieveFunction) {
-
-            //can't use cache.computeIfAbsent due to the elevated permissions for the jackson (run via the cache loader)
-            CacheKey<T> cacheKey = new CacheKey<>(ip, responseType);
+            AbstractResponse response = lookup(ip, responseType);
+            if (response != null) {
+                hits.increment();
+                return responseType.cast(response);
+            }
+            misses.increment();
             //intentionally non-locking for simplicity...it's OK if we re-put the same key/value in the cache during a race condition.
-            AbstractResponse response = cache.get(cacheKey);
-            if (response == null) {
-                response = retrieveFunction.apply(ip);
-                cache.put(cacheKey, response);
+            response = retrieveFunction.apply(ip);
+            final byte[] address = ip.getAddress();
+            int prefixLength = address.length * Byte.SIZE;
+            final Network network = network(response);
+            if (network != null && network.getPrefixLength() < prefixLength
+                && Arrays.equals(mask(address, network.getPrefixLength()), network.getNetworkAddress().getAddress())) {
+                prefixLength = network.getPrefixLength();
             }
+            final CacheKey key = new CacheKey(responseType, mask(address, prefixLength), prefixLength);
+            prefixLengths.computeIfAbsent(responseType, k -> new PrefixLengths()).add(address.length, prefixLength);
+            segment(key).put(key, response, sizeInBytes(key, response), evictions);
             return responseType.cast(response);
         }
 
         //only useful for testing
         <T extends AbstractResponse> T get(InetAddress ip, Class<T> responseType) {
-            CacheKey<T> cacheKey = new CacheKey<>(ip, responseType);
-            return responseType.cast(cache.get(cacheKey));
+            return responseType.cast(lookup(ip, responseType));
+        }
+
+        private AbstractResponse lookup(InetAddress ip, Class<?> responseType) {
+            final PrefixLengths lengths = prefixLengths.get(responseType);
+            if (lengths == null) {
+                return null;
+            }
+            final byte[] address = ip.getAddress();
+            for (int prefixLength = lengths.longest(address.length, address.length * Byte.SIZE); prefixLength >= 0;
+                 prefixLength = lengths.longest(address.length, prefixLength - 1)) {
+                final CacheKey key = new CacheKey(responseType, mask(address, prefixLength), prefixLength);
+                final AbstractResponse response = segment(key).get(key);
+                if (response != null) {
+                    return response;
+                }
+            }
+            return null;
+        }
+
+        IngestStats.CacheStats stats() {
+            long count = 0;
+            long sizeInBytes = 0;
+            for (Segment segment : segments) {
+                synchronized (segment) {
+                    count += segment.entries.size();
+                    sizeInBytes += segment.sizeInBytes;
+                }
+            }
+            return new IngestStats.CacheStats(count, sizeInBytes, hits.sum(), misses.sum(), evictions.sum());
+        }
+
+        private Segment segment(CacheKey key) {
+            return segments[Math.floorMod(key.hashCode, segments.length)];
+        }
+
+        private static Network network(AbstractResponse response) {
+            if (response instanceof AbstractCountryResponse) {
+                return ((AbstractCountryResponse) response).getTraits().getNetwork();
+            } else if (response instanceof AsnResponse) {
+                return ((AsnResponse) response).getNetwork();
+            }
+            return null;
+        }
+
+        private static byte[] mask(byte[] address, int prefixLength) {
+            final byte[] masked = new byte[address.length];
+            final int fullBytes = prefixLength / Byte.SIZE;
+            System.arraycopy(address, 0, masked, 0, fullBytes);
+            if (fullBytes < address.length) {
+                final int remainingBits = prefixLength % Byte.SIZE;
+                masked[fullBytes] = (byte) (address[fullBytes] & (0xFF00 >>> remainingBits));
+            }
+            return masked;
+        }
+
+        /**
+         * Estimates the memory used by an entry. The responses are graphs of records with a map of localized names each, so they
+         * are estimated from the number of records of their type rather than measured.
+         */
+        private static long sizeInBytes(CacheKey key, AbstractResponse response) {
+            final long keySize = RamUsageEstimator.shallowSizeOf(key) + RamUsageEstimator.sizeOf(key.network);
+            if (response instanceof CityResponse) {
+                return keySize + CITY_RESPONSE_SIZE;
+            } else if (response instanceof CountryResponse) {
+                return keySize + COUNTRY_RESPONSE_SIZE;
+            } else if (response instanceof AsnResponse) {
+                AsnResponse asnResponse = (AsnResponse) response;
+                return keySize + ASN_RESPONSE_SIZE + RamUsageEstimator.sizeOf(asnResponse.getAutonomousSystemOrganization());
+            }
+            return keySize + DEFAULT_RESPONSE_SIZE;
+        }
+
+        private static final long NAMED_RECORD_SIZE = 1024;
+        // city, continent, country, registered country, represented country, subdivisions, location, postal, traits
+        private static final long CITY_RESPONSE_SIZE = 6 * NAMED_RECORD_SIZE + 3 * 128;
+        // continent, country, registered country, represented country, traits
+        private static final long COUNTRY_RESPONSE_SIZE = 4 * NAMED_RECORD_SIZE + 128;
+        private static final long ASN_RESPONSE_SIZE = 128;
+        private static final long DEFAULT_RESPONSE_SIZE = NAMED_RECORD_SIZE;
+
+        /**
+         * A lock-protected part of the cache that evicts its least recently used entries.
+         */
+        private static final class Segment {
+            private final long maxEntries;
+            private final long maxSizeInBytes;
+            private final LinkedHashMap<CacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+            private long sizeInBytes;
+
+            private Segment(long maxEntries, long maxSizeInBytes) {
+                this.maxEntries = maxEntries;
+                this.maxSizeInBytes = maxSizeInBytes;
+            }
+
+            synchronized AbstractResponse get(CacheKey key) {
+                final Entry entry = entries.get(key);
+                return entry == null ? null : entry.response;
+            }
+
+            synchronized void put(CacheKey key, AbstractResponse response, long entrySizeInBytes, LongAdder evictions) {
+                final Entry previous = entries.put(key, new Entry(response, entrySizeInBytes));
+                if (previous != null) {
+                    sizeInBytes -= previous.sizeInBytes;
+                }
+                sizeInBytes += entrySizeInBytes;
+                final Iterator<Entry> iterator = entries.values().iterator();
+                while (iterator.hasNext() && (entries.size() > maxEntries || sizeInBytes > maxSizeInBytes)) {
+                    sizeInBytes -= iterator.next().sizeInBytes;
+                    iterator.remove();
+                    evictions.increment();
+                }
+            }
+        }
+
+        private static final class Entry {
+            private final AbstractResponse response;
+            private final long sizeInBytes;
+
+            private Entry(AbstractResponse response, long sizeInBytes) {
+                this.response = response;
+                this.sizeInBytes = sizeInBytes;
+            }
+        }
+
+        /**
+         * The prefix lengths of the networks that were cached for a response type, per address length. They are never cleared,
+         * an evicted network only costs a probe.
+         */
+        private static final class PrefixLengths {
+            // one bit per prefix length of IPv4 addresses, from 0 to 32
+            private final AtomicLong ipv4 = new AtomicLong();
+            // one bit per prefix length of IPv6 addresses, from 0 to 128
+            private final AtomicLongArray ipv6 = new AtomicLongArray(3);
+
+            void add(int addressLength, int prefixLength) {
+                if (addressLength == 4) {
+                    ipv4.accumulateAndGet(1L << prefixLength, (a, b) -> a | b);
+                } else {
+                    ipv6.accumulateAndGet(prefixLength >>> 6, 1L << prefixLength, (a, b) -> a | b);
+                }
+            }
+
+            /**
+             * @return the longest prefix length that is at most {@code max}, or -1 if there is none
+             */
+            int longest(int addressLength, int max) {
+                for (int i = max; i >= 0; i--) {
+                    final long bits = addressLength == 4 ? ipv4.get() : ipv6.get(i >>> 6);
+                    if ((bits & (1L << i)) != 0) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
         }
 
-         /**
+        /**
          * The key to use for the cache. Since this cache can span multiple geoip processors that all use different databases, the response
-         * type is needed to be included in the cache key. For example, if we only used the IP address as the key the City and ASN the same
-         * IP may be in both with different values and we need to cache both. The response type scopes the IP to the correct database
-         * provides a means to safely cast the return objects.
-         * @param <T> The AbstractResponse type used to scope the key and cast the result.
+         * type is needed to be included in the cache key. For example, if we only used the network as the key the City and ASN the same
+         * network may be in both with different values and we need to cache both. The response type scopes the network to the correct
+         * database provides a means to safely cast the return objects.
          */
-        private static class CacheKey<T extends AbstractResponse> {
+        private static final class CacheKey {
 
-            private final InetAddress ip;
-            private final Class<T> responseType;
+            private final Class<?> responseType;
+            private final byte[] network;
+            private final int prefixLength;
+            private final int hashCode;
 
-            private CacheKey(InetAddress ip, Class<T> responseType) {
-                this.ip = ip;
+            private CacheKey(Class<?> responseType, byte[] network, int prefixLength) {
                 this.responseType = responseType;
+                this.network = network;
+                this.prefixLength = prefixLength;
+                this.hashCode = 31 * (31 * responseType.hashCode() + Arrays.hashCode(network)) + prefixLength;
             }
 
-            //generated
             @Override
             public boolean equals(Object o) {
                 if (this == o) return true;
                 if (o == null || getClass() != o.getClass()) return false;
-                CacheKey<?> cacheKey = (CacheKey<?>) o;
-                return Objects.equals(ip, cacheKey.ip) &&
-                    Objects.equals(responseType, cacheKey.responseType);
+                CacheKey cacheKey = (CacheKey) o;
+                return prefixLength == cacheKey.prefixLength
+                    && responseType == cacheKey.responseType
+                    && Arrays.equals(network, cacheKey.network);
             }
 
-            //generated
             @Override
             public int hashCode() {
-                return Objects.hash(ip, responseType);
+                return hashCode;
             }
         }
     }
@@ -32,11 +32,21 @@
 
 package org.opensearch.ingest.geoip;
 
+import com.maxmind.db.Network;
+import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.model.AbstractResponse;
+import com.maxmind.geoip2.model.AsnResponse;
 import org.opensearch.common.network.InetAddresses;
+import org.opensearch.ingest.IngestStats;
 import org.opensearch.ingest.geoip.IngestGeoIpPlugin.GeoIpCache;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.net.InetAddress;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.Mockito.mock;
 
 public class IngestGeoIpPluginTests extends OpenSearchTestCase {
@@ -62,6 +72,59 @@ public class IngestGeoIpPluginTests extends OpenSearchTestCase {
         assertNotSame(response1, cache.get(InetAddresses.forString("127.0.0.1"), AbstractResponse.class));
     }
 
+    public void testCachesResultsByNetwork() throws Exception {
+        try (DatabaseReader reader = new DatabaseReader.Builder(GeoIpProcessor.class.getResourceAsStream("/GeoLite2-ASN.mmdb")).build()) {
+            GeoIpCache cache = new GeoIpCache(1000);
+            InetAddress ip = InetAddresses.forString("82.171.64.0");
+            AsnResponse response = cache.putIfAbsent(ip, AsnResponse.class, address -> {
+                try {
+                    return reader.asn(address);
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+            Network network = response.getNetwork();
+            assertThat(network.getPrefixLength(), lessThan(32));
+
+            // the last address of the network is served by the same entry
+            byte[] last = network.getNetworkAddress().getAddress();
+            for (int bit = network.getPrefixLength(); bit < 32; bit++) {
+                last[bit / 8] |= 0x80 >>> (bit % 8);
+            }
+            InetAddress lastAddress = InetAddress.getByAddress(last);
+            assertSame(response, cache.putIfAbsent(lastAddress, AsnResponse.class, address -> {
+                throw new AssertionError("expected a cache hit for [" + address + "]");
+            }));
+            assertSame(response, cache.get(lastAddress, AsnResponse.class));
+            // but not the same address for another database
+            assertNull(cache.get(lastAddress, AbstractResponse.class));
+
+            IngestStats.CacheStats stats = cache.stats();
+            assertThat(stats.getCount(), equalTo(1L));
+            assertThat(stats.getHits(), equalTo(1L));
+            assertThat(stats.getMisses(), equalTo(1L));
+            assertThat(stats.getEvictions(), equalTo(0L));
+            assertThat(stats.getSizeInBytes(), greaterThan(0L));
+        }
+    }
+
+    public void testEvictsResultsBySize() {
+        long maxSizeInBytes = 64 * 1024;
+        GeoIpCache cache = new GeoIpCache(Long.MAX_VALUE, maxSizeInBytes);
+        int lookups = 1000;
+        for (int i = 0; i < lookups; i++) {
+            AbstractResponse response = mock(AbstractResponse.class);
+            InetAddress ip = InetAddresses.forString("10.0." + (i / 256) + "." + (i % 256));
+            assertSame(response, cache.putIfAbsent(ip, AbstractResponse.class, address -> response));
+        }
+        IngestStats.CacheStats stats = cache.stats();
+        assertThat(stats.getSizeInBytes(), lessThanOrEqualTo(maxSizeInBytes));
+        assertThat(stats.getCount(), greaterThan(0L));
+        assertThat(stats.getMisses(), equalTo((long) lookups));
+        assertThat(stats.getHits(), equalTo(0L));
+        assertThat(stats.getEvictions(), equalTo(lookups - stats.getCount()));
+    }
+
     public void testThrowsFunctionsException() {
         GeoIpCache cache = new GeoIpCache(1);
         IllegalArgumentException ex = expectThrows(IllegalArgumentException.class,
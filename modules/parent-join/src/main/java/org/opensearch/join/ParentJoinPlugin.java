@@ -32,11 +32,13 @@
 
 package org.opensearch.join;
 
+import org.opensearch.common.settings.Setting;
 import org.opensearch.index.mapper.Mapper;
 import org.opensearch.join.aggregations.ChildrenAggregationBuilder;
 import org.opensearch.join.aggregations.InternalChildren;
 import org.opensearch.join.aggregations.InternalParent;
 import org.opensearch.join.aggregations.ParentAggregationBuilder;
+import org.opensearch.join.aggregations.ParentJoinAggregator;
 import org.opensearch.join.mapper.ParentJoinFieldMapper;
 import org.opensearch.join.query.HasChildQueryBuilder;
 import org.opensearch.join.query.HasParentQueryBuilder;
@@ -74,6 +76,11 @@ public class ParentJoinPlugin extends Plugin implements SearchPlugin, MapperPlug
         );
     }
 
+    @Override
+    public List<Setting<?>> getSettings() {
+        return Collections.singletonList(ParentJoinAggregator.JOIN_INDEX_SETTING);
+    }
+
     @Override
     public Map<String, Mapper.TypeParser> getMappers() {
         return Collections.singletonMap(ParentJoinFieldMapper.CONTENT_TYPE, new ParentJoinFieldMapper.TypeParser());
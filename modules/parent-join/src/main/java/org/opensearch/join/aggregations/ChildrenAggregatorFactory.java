@@ -94,7 +94,7 @@ public class ChildrenAggregatorFactory extends ValuesSourceAggregatorFactory {
         WithOrdinals valuesSource = (WithOrdinals) rawValuesSource;
         long maxOrd = valuesSource.globalMaxOrd(searchContext.searcher());
         return new ParentToChildrenAggregator(name, factories, searchContext, parent, childFilter,
-            parentFilter, valuesSource, maxOrd, cardinality, metadata);
+            parentFilter, valuesSource, config.fieldContext().field(), maxOrd, cardinality, metadata);
     }
 
     @Override
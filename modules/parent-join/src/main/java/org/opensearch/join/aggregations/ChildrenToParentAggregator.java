@@ -53,9 +53,9 @@ public class ChildrenToParentAggregator extends ParentJoinAggregator {
 
     public ChildrenToParentAggregator(String name, AggregatorFactories factories,
             SearchContext context, Aggregator parent, Query childFilter,
-            Query parentFilter, ValuesSource.Bytes.WithOrdinals valuesSource,
+            Query parentFilter, ValuesSource.Bytes.WithOrdinals valuesSource, String ordinalsField,
             long maxOrd, CardinalityUpperBound cardinality, Map<String, Object> metadata) throws IOException {
-        super(name, factories, context, parent, childFilter, parentFilter, valuesSource, maxOrd, cardinality, metadata);
+        super(name, factories, context, parent, childFilter, parentFilter, valuesSource, ordinalsField, maxOrd, cardinality, metadata);
     }
 
     @Override
@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.join.aggregations;
+
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.apache.lucene.util.packed.PackedInts;
+import org.apache.lucene.util.packed.PackedLongValues;
+import org.opensearch.index.fielddata.LeafFieldData;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.index.fielddata.SortedBinaryDocValues;
+
+import java.io.IOException;
+
+/**
+ * Maps the ordinals of the join field of a segment to the documents of one side of a relation that hold them, for instance a
+ * parent id to the child documents of that parent. The documents are grouped by ordinal, in increasing order within an ordinal,
+ * and both the documents and the offsets of the ordinals are stored as packed longs.
+ * <p>
+ * A join index only depends on the documents of a segment and not on its deletions so it is built once per segment and relation
+ * and reused until the segment is closed or the join index is evicted, see {@link JoinIndexFieldData}. Segments that are created by
+ * a refresh or a merge get their own join index while the join indices of the other segments are kept.
+ */
+final class JoinIndex implements LeafFieldData {
+
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(JoinIndex.class);
+
+    private final PackedLongValues offsets;
+    private final PackedLongValues docs;
+
+    private JoinIndex(PackedLongValues offsets, PackedLongValues docs) {
+        this.offsets = offsets;
+        this.docs = docs;
+    }
+
+    /**
+     * Builds a join index from the documents of one side of a relation and the segment ordinals of the join field.
+     */
+    static JoinIndex build(DocIdSetIterator docsIterator, SortedSetDocValues ordinals) throws IOException {
+        final int maxOrd = Math.toIntExact(ordinals.getValueCount());
+        final int[] starts = new int[maxOrd + 1];
+        int[] docIds = new int[16];
+        int[] docOrds = new int[16];
+        int size = 0;
+        for (int docId = docsIterator.nextDoc(); docId != DocIdSetIterator.NO_MORE_DOCS; docId = docsIterator.nextDoc()) {
+            if (ordinals.advanceExact(docId) == false) {
+                continue;
+            }
+            int ord = (int) ordinals.nextOrd();
+            assert ord != -1 && ordinals.nextOrd() == SortedSetDocValues.NO_MORE_ORDS;
+            docIds = ArrayUtil.grow(docIds, size + 1);
+            docOrds = ArrayUtil.grow(docOrds, size + 1);
+            docIds[size] = docId;
+            docOrds[size] = ord;
+            size++;
+            starts[ord + 1]++;
+        }
+        for (int ord = 0; ord < maxOrd; ord++) {
+            starts[ord + 1] += starts[ord];
+        }
+        // a stable counting sort keeps the documents of an ordinal in increasing order
+        final int[] sorted = new int[size];
+        final int[] next = ArrayUtil.copyOfSubArray(starts, 0, maxOrd);
+        for (int i = 0; i < size; i++) {
+            sorted[next[docOrds[i]]++] = docIds[i];
+        }
+        PackedLongValues.Builder offsets = PackedLongValues.monotonicBuilder(PackedInts.COMPACT);
+        for (int start : starts) {
+            offsets.add(start);
+        }
+        PackedLongValues.Builder docs = PackedLongValues.deltaPackedBuilder(PackedInts.COMPACT);
+        for (int docId : sorted) {
+            docs.add(docId);
+        }
+        return new JoinIndex(offsets.build(), docs.build());
+    }
+
+    /**
+     * The number of ordinals of the join field in the segment.
+     */
+    int maxOrd() {
+        return Math.toIntExact(offsets.size() - 1);
+    }
+
+    /**
+     * Whether any document holds the given segment ordinal.
+     */
+    boolean hasDocs(int ord) {
+        return offsets.get(ord) != offsets.get(ord + 1);
+    }
+
+    /**
+     * Sets the bits of the documents holding the given segment ordinal.
+     */
+    void addDocs(int ord, FixedBitSet bits) {
+        long end = offsets.get(ord + 1);
+        for (long i = offsets.get(ord); i < end; i++) {
+            bits.set((int) docs.get(i));
+        }
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return BASE_RAM_BYTES_USED + offsets.ramBytesUsed() + docs.ramBytesUsed();
+    }
+
+    @Override
+    public ScriptDocValues<?> getScriptValues() {
+        throw new IllegalArgumentException("can't access a join index from scripts");
+    }
+
+    @Override
+    public SortedBinaryDocValues getBytesValues() {
+        throw new IllegalArgumentException("can't read the values of a join index");
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.join.aggregations;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.CheckedFunction;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.index.fielddata.IndexFieldData;
+import org.opensearch.index.fielddata.IndexFieldDataCache;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.TextSearchInfo;
+import org.opensearch.index.mapper.ValueFetcher;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.indices.breaker.CircuitBreakerService;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.MultiValueMode;
+import org.opensearch.search.aggregations.support.CoreValuesSourceType;
+import org.opensearch.search.aggregations.support.ValuesSourceType;
+import org.opensearch.search.lookup.SearchLookup;
+import org.opensearch.search.sort.BucketedSort;
+import org.opensearch.search.sort.SortOrder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.function.Supplier;
+
+/**
+ * Loads the {@link JoinIndex} of the documents on one side of a relation per segment through the field data cache of the index.
+ * Join indices are thus bounded by the size of the field data cache of the node and evicted with the rest of the field data,
+ * accounted on the field data circuit breaker and reported in the field data stats under the name of the relation.
+ */
+final class JoinIndexFieldData implements IndexFieldData<JoinIndex> {
+
+    private final String fieldName;
+    private final IndexFieldDataCache cache;
+    private final CircuitBreakerService breakerService;
+    private final CheckedFunction<LeafReaderContext, JoinIndex, IOException> builder;
+
+    JoinIndexFieldData(String fieldName, IndexFieldDataCache cache, CircuitBreakerService breakerService,
+                       CheckedFunction<LeafReaderContext, JoinIndex, IOException> builder) {
+        this.fieldName = fieldName;
+        this.cache = cache;
+        this.breakerService = breakerService;
+        this.builder = builder;
+    }
+
+    /**
+     * The name under which the join indices of the documents matching {@code outFilter} are cached. A join index depends on the
+     * documents it maps and on the field that holds the ordinals they are joined on. Documents of a join type in the middle of a
+     * relation are joined with their parents on one field and with their children on another one.
+     */
+    static String fieldName(Query outFilter, String ordinalsField) {
+        return "_join_index[" + ordinalsField + "][" + outFilter + "]";
+    }
+
+    @Override
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public ValuesSourceType getValuesSourceType() {
+        return CoreValuesSourceType.BYTES;
+    }
+
+    @Override
+    public JoinIndex load(LeafReaderContext context) {
+        try {
+            return cache.load(context, this);
+        } catch (Exception e) {
+            if (e instanceof OpenSearchException) {
+                throw (OpenSearchException) e;
+            } else {
+                throw new OpenSearchException(e);
+            }
+        }
+    }
+
+    @Override
+    public JoinIndex loadDirect(LeafReaderContext context) throws Exception {
+        JoinIndex joinIndex = builder.apply(context);
+        breakerService.getBreaker(CircuitBreaker.FIELDDATA).addEstimateBytesAndMaybeBreak(joinIndex.ramBytesUsed(), fieldName);
+        return joinIndex;
+    }
+
+    @Override
+    public SortField sortField(@Nullable Object missingValue, MultiValueMode sortMode, XFieldComparatorSource.Nested nested,
+                               boolean reverse) {
+        throw new IllegalArgumentException("can't sort on the join index [" + fieldName + "]");
+    }
+
+    @Override
+    public BucketedSort newBucketedSort(BigArrays bigArrays, Object missingValue, MultiValueMode sortMode,
+                                        XFieldComparatorSource.Nested nested, SortOrder sortOrder, DocValueFormat format,
+                                        int bucketSize, BucketedSort.ExtraData extra) {
+        throw new IllegalArgumentException("can't sort on the join index [" + fieldName + "]");
+    }
+
+    /**
+     * The field type that {@link QueryShardContext#getForField} resolves to the field data of the join indices of a relation, so
+     * that they are cached in the field data cache of the index.
+     */
+    static final class FieldType extends MappedFieldType {
+
+        private final CheckedFunction<LeafReaderContext, JoinIndex, IOException> builder;
+
+        FieldType(Query outFilter, String ordinalsField, CheckedFunction<LeafReaderContext, JoinIndex, IOException> builder) {
+            super(fieldName(outFilter, ordinalsField), false, false, false, TextSearchInfo.NONE, Collections.emptyMap());
+            this.builder = builder;
+        }
+
+        @Override
+        public IndexFieldData.Builder fielddataBuilder(String fullyQualifiedIndexName, Supplier<SearchLookup> searchLookup) {
+            return (cache, breakerService) -> new JoinIndexFieldData(name(), cache, breakerService, builder);
+        }
+
+        @Override
+        public ValueFetcher valueFetcher(MapperService mapperService, SearchLookup searchLookup, String format) {
+            throw new IllegalArgumentException("can't fetch the join index [" + name() + "]");
+        }
+
+        @Override
+        public String typeName() {
+            return "join_index";
+        }
+
+        @Override
+        public Query termQuery(Object value, QueryShardContext context) {
+            throw new IllegalArgumentException("can't query the join index [" + name() + "]");
+        }
+    }
+}
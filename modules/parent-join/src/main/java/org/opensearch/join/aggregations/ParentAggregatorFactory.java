@@ -94,7 +94,7 @@ public class ParentAggregatorFactory extends ValuesSourceAggregatorFactory {
         WithOrdinals valuesSource = (WithOrdinals) rawValuesSource;
         long maxOrd = valuesSource.globalMaxOrd(searchContext.searcher());
         return new ChildrenToParentAggregator(name, factories, searchContext, children, childFilter,
-            parentFilter, valuesSource, maxOrd, cardinality, metadata);
+            parentFilter, valuesSource, config.fieldContext().field(), maxOrd, cardinality, metadata);
     }
 
     @Override
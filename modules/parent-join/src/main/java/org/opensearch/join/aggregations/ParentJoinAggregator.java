@@ -40,10 +40,14 @@ import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.BitArray;
 import org.opensearch.search.aggregations.Aggregator;
@@ -58,6 +62,7 @@ import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.function.LongUnaryOperator;
 
 /**
  * An aggregator that joins documents based on global ordinals.
@@ -65,9 +70,18 @@ import java.util.Map;
  * with documents matching the <code>outFilter</code> query.
  */
 public abstract class ParentJoinAggregator extends BucketsAggregator implements SingleBucketAggregator {
+
+    /**
+     * Whether the documents of the collected ordinals are replayed from a {@link JoinIndex} that is kept per segment in the field data
+     * cache rather than by going over all the documents matching the <code>outFilter</code> query on every request.
+     */
+    public static final Setting<Boolean> JOIN_INDEX_SETTING =
+        Setting.boolSetting("index.parent_join.join_index", false, Property.IndexScope, Property.Dynamic);
+
     private final Weight inFilter;
     private final Weight outFilter;
     private final ValuesSource.Bytes.WithOrdinals valuesSource;
+    private final JoinIndexFieldData joinIndexFieldData;
 
     /**
      * Strategy for collecting results.
@@ -81,6 +95,7 @@ public abstract class ParentJoinAggregator extends BucketsAggregator implements
                                     Query inFilter,
                                     Query outFilter,
                                     ValuesSource.Bytes.WithOrdinals valuesSource,
+                                    String ordinalsField,
                                     long maxOrd,
                                     CardinalityUpperBound cardinality,
                                     Map<String, Object> metadata) throws IOException {
@@ -99,6 +114,17 @@ public abstract class ParentJoinAggregator extends BucketsAggregator implements
         this.inFilter = context.searcher().createWeight(context.searcher().rewrite(inFilter), ScoreMode.COMPLETE_NO_SCORES, 1f);
         this.outFilter = context.searcher().createWeight(context.searcher().rewrite(outFilter), ScoreMode.COMPLETE_NO_SCORES, 1f);
         this.valuesSource = valuesSource;
+        if (JOIN_INDEX_SETTING.get(context.getQueryShardContext().getIndexSettings().getSettings())) {
+            final Weight outFilterWeight = this.outFilter;
+            final JoinIndexFieldData.FieldType fieldType = new JoinIndexFieldData.FieldType(outFilter, ordinalsField, ctx -> {
+                Scorer childDocsScorer = outFilterWeight.scorer(ctx);
+                DocIdSetIterator childDocs = childDocsScorer == null ? DocIdSetIterator.empty() : childDocsScorer.iterator();
+                return JoinIndex.build(childDocs, valuesSource.ordinalsValues(ctx));
+            });
+            this.joinIndexFieldData = context.getQueryShardContext().getForField(fieldType);
+        } else {
+            this.joinIndexFieldData = null;
+        }
         boolean singleAggregator = parent == null;
         collectionStrategy = singleAggregator && cardinality == CardinalityUpperBound.ONE
             ? new DenseCollectionStrategy(maxOrd, context.bigArrays())
@@ -134,11 +160,16 @@ public abstract class ParentJoinAggregator extends BucketsAggregator implements
     protected void beforeBuildingBuckets(long[] ordsToCollect) throws IOException {
         IndexReader indexReader = context().searcher().getIndexReader();
         for (LeafReaderContext ctx : indexReader.leaves()) {
-            Scorer childDocsScorer = outFilter.scorer(ctx);
-            if (childDocsScorer == null) {
+            final DocIdSetIterator childDocsIter;
+            if (joinIndexFieldData != null) {
+                childDocsIter = joinedDocs(ctx, ordsToCollect);
+            } else {
+                Scorer childDocsScorer = outFilter.scorer(ctx);
+                childDocsIter = childDocsScorer == null ? null : childDocsScorer.iterator();
+            }
+            if (childDocsIter == null) {
                 continue;
             }
-            DocIdSetIterator childDocsIter = childDocsScorer.iterator();
 
             final LeafBucketCollector sub = collectableSubAggregators.getLeafCollector(ctx);
 
@@ -183,6 +214,32 @@ public abstract class ParentJoinAggregator extends BucketsAggregator implements
         super.postCollection(); // Run post collection after collecting the sub-aggs
     }
 
+    /**
+     * The documents matching the <code>outFilter</code> query that hold a collected ordinal, looked up by ordinal in the join index
+     * of the segment. Returns {@code null} if there are none.
+     */
+    private DocIdSetIterator joinedDocs(LeafReaderContext ctx, long[] ordsToCollect) throws IOException {
+        JoinIndex joinIndex = joinIndexFieldData.load(ctx);
+        LongUnaryOperator globalOrdinals = valuesSource.globalOrdinalsMapping(ctx);
+        FixedBitSet joinedDocs = null;
+        for (int ord = 0; ord < joinIndex.maxOrd(); ord++) {
+            if (joinIndex.hasDocs(ord) == false) {
+                continue;
+            }
+            int globalOrdinal = (int) globalOrdinals.applyAsLong(ord);
+            for (long owningBucketOrd : ordsToCollect) {
+                if (collectionStrategy.exists(owningBucketOrd, globalOrdinal)) {
+                    if (joinedDocs == null) {
+                        joinedDocs = new FixedBitSet(ctx.reader().maxDoc());
+                    }
+                    joinIndex.addDocs(ord, joinedDocs);
+                    break;
+                }
+            }
+        }
+        return joinedDocs == null ? null : new BitSetIterator(joinedDocs, joinedDocs.approximateCardinality());
+    }
+
     @Override
     protected void doClose() {
         Releasables.close(collectionStrategy);
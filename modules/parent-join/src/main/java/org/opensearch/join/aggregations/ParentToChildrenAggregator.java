@@ -49,9 +49,9 @@ public class ParentToChildrenAggregator extends ParentJoinAggregator {
 
     public ParentToChildrenAggregator(String name, AggregatorFactories factories,
             SearchContext context, Aggregator parent, Query childFilter,
-            Query parentFilter, ValuesSource.Bytes.WithOrdinals valuesSource,
+            Query parentFilter, ValuesSource.Bytes.WithOrdinals valuesSource, String ordinalsField,
             long maxOrd, CardinalityUpperBound cardinality, Map<String, Object> metadata) throws IOException {
-        super(name, factories, context, parent, parentFilter, childFilter, valuesSource, maxOrd, cardinality, metadata);
+        super(name, factories, context, parent, parentFilter, childFilter, valuesSource, ordinalsField, maxOrd, cardinality, metadata);
     }
 
     @Override
@@ -0,0 +1,196 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.join.aggregations;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.Index;
+import org.opensearch.index.fielddata.IndexFieldDataCache;
+import org.opensearch.index.fielddata.ShardFieldData;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.indices.breaker.CircuitBreakerService;
+import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
+import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class JoinIndexTests extends OpenSearchTestCase {
+
+    public void testBuild() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig())) {
+                // parent ids are indexed out of order and some parents have no children
+                String[] parents = new String[] { "b", null, "a", "b", "d", "a", "b" };
+                for (String parent : parents) {
+                    Document document = new Document();
+                    document.add(new StringField("join_field", parent == null ? "parent" : "child", Field.Store.NO));
+                    document.add(new SortedSetDocValuesField("join_field#parent", new BytesRef(parent == null ? "c" : parent)));
+                    indexWriter.addDocument(document);
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                assertEquals(1, reader.leaves().size());
+                LeafReaderContext ctx = reader.leaves().get(0);
+                JoinIndex joinIndex = JoinIndex.build(joinTypeDocs(reader, ctx, "child"),
+                    ctx.reader().getSortedSetDocValues("join_field#parent"));
+                assertEquals(4, joinIndex.maxOrd());
+                assertEquals(List.of(2, 5), docs(joinIndex, ctx.reader(), 0));
+                assertEquals(List.of(0, 3, 6), docs(joinIndex, ctx.reader(), 1));
+                assertFalse(joinIndex.hasDocs(2));
+                assertEquals(List.of(), docs(joinIndex, ctx.reader(), 2));
+                assertEquals(List.of(4), docs(joinIndex, ctx.reader(), 3));
+            }
+        }
+    }
+
+    public void testCachedInFieldDataCache() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig())) {
+                Document document = new Document();
+                document.add(new StringField("join_field", "child", Field.Store.NO));
+                document.add(new SortedSetDocValuesField("join_field#parent", new BytesRef("a")));
+                indexWriter.addDocument(document);
+            }
+            CircuitBreakerService breakerService = new HierarchyCircuitBreakerService(Settings.EMPTY, Collections.emptyList(),
+                new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+            CircuitBreaker breaker = breakerService.getBreaker(CircuitBreaker.FIELDDATA);
+            // releases the field data breaker like the listener of the indices service
+            IndicesFieldDataCache indicesFieldDataCache = new IndicesFieldDataCache(Settings.EMPTY, new IndexFieldDataCache.Listener() {
+                @Override
+                public void onRemoval(ShardId shardId, String fieldName, boolean wasEvicted, long sizeInBytes) {
+                    breaker.addWithoutBreaking(-sizeInBytes);
+                }
+            });
+            ShardFieldData shardFieldData = new ShardFieldData();
+            String fieldName = JoinIndexFieldData.fieldName(new TermQuery(new Term("join_field", "child")), "join_field#parent");
+            IndexFieldDataCache cache = indicesFieldDataCache.buildIndexFieldDataCache(shardFieldData, new Index("_index", "_na_"),
+                fieldName);
+            AtomicInteger builds = new AtomicInteger();
+            ShardId shardId = new ShardId("_index", "_na_", 0);
+            try (DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(directory), shardId)) {
+                LeafReaderContext ctx = reader.leaves().get(0);
+                JoinIndexFieldData fieldData = new JoinIndexFieldData(fieldName, cache, breakerService, context -> {
+                    builds.incrementAndGet();
+                    return JoinIndex.build(joinTypeDocs(reader, context, "child"),
+                        context.reader().getSortedSetDocValues("join_field#parent"));
+                });
+                JoinIndex joinIndex = fieldData.load(ctx);
+                assertSame(joinIndex, fieldData.load(ctx));
+                assertEquals(1, builds.get());
+                assertEquals(joinIndex.ramBytesUsed(), breaker.getUsed());
+                assertEquals(joinIndex.ramBytesUsed(), shardFieldData.stats(fieldName).getFields().get(fieldName));
+            }
+            assertEquals(0, breaker.getUsed());
+            assertEquals(0, shardFieldData.stats().getMemorySizeInBytes());
+            indicesFieldDataCache.close();
+        }
+    }
+
+    public void testMultiLevelJoinIndicesCachedSeparately() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig())) {
+                // a grandparent, two parents and a child of the second parent
+                String[][] docs = new String[][] {
+                    { "grandparent", "g", null },
+                    { "parent", "g", "p1" },
+                    { "parent", "g", "p2" },
+                    { "child", null, "p2" } };
+                for (String[] doc : docs) {
+                    Document document = new Document();
+                    document.add(new StringField("join_field", doc[0], Field.Store.NO));
+                    if (doc[1] != null) {
+                        document.add(new SortedSetDocValuesField("join_field#grandparent", new BytesRef(doc[1])));
+                    }
+                    if (doc[2] != null) {
+                        document.add(new SortedSetDocValuesField("join_field#parent", new BytesRef(doc[2])));
+                    }
+                    indexWriter.addDocument(document);
+                }
+            }
+            IndicesFieldDataCache indicesFieldDataCache = new IndicesFieldDataCache(Settings.EMPTY, new IndexFieldDataCache.Listener() {
+            });
+            CircuitBreakerService breakerService = new HierarchyCircuitBreakerService(Settings.EMPTY, Collections.emptyList(),
+                new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+            ShardFieldData shardFieldData = new ShardFieldData();
+            Index index = new Index("_index", "_na_");
+            // the parents are joined with the grandparent on one field and with their children on another one
+            Query parentFilter = new TermQuery(new Term("join_field", "parent"));
+            String toGrandparent = JoinIndexFieldData.fieldName(parentFilter, "join_field#grandparent");
+            String toChildren = JoinIndexFieldData.fieldName(parentFilter, "join_field#parent");
+            assertNotEquals(toGrandparent, toChildren);
+            try (DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(directory), new ShardId(index, 0))) {
+                LeafReaderContext ctx = reader.leaves().get(0);
+                JoinIndexFieldData grandparentFieldData = new JoinIndexFieldData(toGrandparent,
+                    indicesFieldDataCache.buildIndexFieldDataCache(shardFieldData, index, toGrandparent), breakerService,
+                    context -> JoinIndex.build(joinTypeDocs(reader, context, "parent"),
+                        context.reader().getSortedSetDocValues("join_field#grandparent")));
+                JoinIndexFieldData childrenFieldData = new JoinIndexFieldData(toChildren,
+                    indicesFieldDataCache.buildIndexFieldDataCache(shardFieldData, index, toChildren), breakerService,
+                    context -> JoinIndex.build(joinTypeDocs(reader, context, "parent"),
+                        context.reader().getSortedSetDocValues("join_field#parent")));
+                JoinIndex byGrandparent = grandparentFieldData.load(ctx);
+                JoinIndex byParent = childrenFieldData.load(ctx);
+                assertNotSame(byGrandparent, byParent);
+                assertEquals(1, byGrandparent.maxOrd());
+                assertEquals(List.of(1, 2), docs(byGrandparent, ctx.reader(), 0));
+                assertEquals(2, byParent.maxOrd());
+                assertEquals(List.of(1), docs(byParent, ctx.reader(), 0));
+                assertEquals(List.of(2), docs(byParent, ctx.reader(), 1));
+                assertSame(byGrandparent, grandparentFieldData.load(ctx));
+                assertSame(byParent, childrenFieldData.load(ctx));
+            }
+            indicesFieldDataCache.close();
+        }
+    }
+
+    private static DocIdSetIterator joinTypeDocs(DirectoryReader reader, LeafReaderContext ctx, String type) throws IOException {
+        IndexSearcher searcher = new IndexSearcher(reader);
+        Query query = searcher.rewrite(new TermQuery(new Term("join_field", type)));
+        Scorer scorer = searcher.createWeight(query, ScoreMode.COMPLETE_NO_SCORES, 1f).scorer(ctx);
+        return scorer.iterator();
+    }
+
+    private static List<Integer> docs(JoinIndex joinIndex, LeafReader reader, int ord) {
+        FixedBitSet bits = new FixedBitSet(reader.maxDoc());
+        joinIndex.addDocs(ord, bits);
+        List<Integer> docs = new ArrayList<>();
+        BitSetIterator iterator = new BitSetIterator(bits, 0);
+        for (int docId = iterator.nextDoc(); docId != DocIdSetIterator.NO_MORE_DOCS; docId = iterator.nextDoc()) {
+            docs.add(docId);
+        }
+        return docs;
+    }
+}
@@ -52,6 +52,7 @@ import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.Index;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.mapper.ContentPath;
 import org.opensearch.index.mapper.MappingLookup;
 import org.opensearch.index.mapper.DocumentMapper;
@@ -239,6 +240,16 @@ public class ParentToChildrenAggregatorTests extends AggregatorTestCase {
         return new SortedDocValuesField("join_field#" + parentType, new BytesRef(id));
     }
 
+    @Override
+    protected IndexSettings createIndexSettings() {
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(ParentJoinAggregator.JOIN_INDEX_SETTING.getKey(), randomBoolean())
+            .build();
+        return new IndexSettings(IndexMetadata.builder("_index").settings(settings).numberOfShards(1).numberOfReplicas(0).build(),
+            Settings.EMPTY);
+    }
+
     @Override
     protected MapperService mapperServiceMock() {
         ParentJoinFieldMapper joinFieldMapper = createJoinFieldMapper();
@@ -42,26 +42,30 @@ import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.ScorerSupplier;
-import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TwoPhaseIterator;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.common.CheckedFunction;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.lucene.Lucene;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 final class PercolateQuery extends Query implements Accountable {
 
     // cost of matching the query against the document, arbitrary as it would be really complex to estimate
     private static final float MATCH_COST = 1000;
+    // the maximum number of distinct stored queries whose verification outcome is remembered per percolate query
+    static final int MAX_VERIFIED_QUERIES = 10_000;
 
     private final String name;
     private final QueryStore queryStore;
@@ -70,10 +74,21 @@ final class PercolateQuery extends Query implements Accountable {
     private final Query verifiedMatchesQuery;
     private final IndexSearcher percolatorIndexSearcher;
     private final Query nonNestedDocsFilter;
+    // Many stored queries are often identical, for instance alerts that only differ in their metadata. Each distinct query is
+    // verified once against all the documents being percolated and the outcome is reused for the other candidates in all segments
+    // and by the fetch phase. Shared with the rewritten query because the fetch phase only sees the original one.
+    private final Map<Query, Verification> verifications;
 
     PercolateQuery(String name, QueryStore queryStore, List<BytesReference> documents,
                    Query candidateMatchesQuery, IndexSearcher percolatorIndexSearcher,
                    Query nonNestedDocsFilter, Query verifiedMatchesQuery) {
+        this(name, queryStore, documents, candidateMatchesQuery, percolatorIndexSearcher, nonNestedDocsFilter, verifiedMatchesQuery,
+            new ConcurrentHashMap<>());
+    }
+
+    private PercolateQuery(String name, QueryStore queryStore, List<BytesReference> documents,
+                           Query candidateMatchesQuery, IndexSearcher percolatorIndexSearcher,
+                           Query nonNestedDocsFilter, Query verifiedMatchesQuery, Map<Query, Verification> verifications) {
         this.name = name;
         this.documents = Objects.requireNonNull(documents);
         this.candidateMatchesQuery = Objects.requireNonNull(candidateMatchesQuery);
@@ -81,6 +96,7 @@ final class PercolateQuery extends Query implements Accountable {
         this.percolatorIndexSearcher = Objects.requireNonNull(percolatorIndexSearcher);
         this.nonNestedDocsFilter = nonNestedDocsFilter;
         this.verifiedMatchesQuery = Objects.requireNonNull(verifiedMatchesQuery);
+        this.verifications = verifications;
     }
 
     @Override
@@ -88,7 +104,7 @@ final class PercolateQuery extends Query implements Accountable {
         Query rewritten = candidateMatchesQuery.rewrite(reader);
         if (rewritten != candidateMatchesQuery) {
             return new PercolateQuery(name, queryStore, documents, rewritten, percolatorIndexSearcher,
-                    nonNestedDocsFilter, verifiedMatchesQuery);
+                    nonNestedDocsFilter, verifiedMatchesQuery, verifications);
         } else {
             return this;
         }
@@ -142,19 +158,12 @@ final class PercolateQuery extends Query implements Accountable {
                         boolean matchDocId(int docId) throws IOException {
                             Query query = percolatorQueries.apply(docId);
                             if (query != null) {
-                                if (nonNestedDocsFilter != null) {
-                                    query = new BooleanQuery.Builder()
-                                            .add(query, Occur.MUST)
-                                            .add(nonNestedDocsFilter, Occur.FILTER)
-                                            .build();
-                                }
-                                TopDocs topDocs = percolatorIndexSearcher.search(query, 1);
-                                if (topDocs.scoreDocs.length > 0) {
-                                    score = topDocs.scoreDocs[0].score;
+                                Verification verification = verify(query, true);
+                                if (verification.matches()) {
+                                    score = verification.score;
                                     return true;
-                                } else {
-                                    return false;
                                 }
+                                return false;
                             } else {
                                 return false;
                             }
@@ -188,13 +197,7 @@ final class PercolateQuery extends Query implements Accountable {
                             if (query == null) {
                                 return false;
                             }
-                            if (nonNestedDocsFilter != null) {
-                                query = new BooleanQuery.Builder()
-                                        .add(query, Occur.MUST)
-                                        .add(nonNestedDocsFilter, Occur.FILTER)
-                                        .build();
-                            }
-                            return Lucene.exists(percolatorIndexSearcher, query);
+                            return verify(query, false).matches();
                         }
                     };
                 }
@@ -209,6 +212,50 @@ final class PercolateQuery extends Query implements Accountable {
         };
     }
 
+    private Query excludeNestedDocs(Query query) {
+        if (nonNestedDocsFilter == null) {
+            return query;
+        }
+        return new BooleanQuery.Builder()
+                .add(query, Occur.MUST)
+                .add(nonNestedDocsFilter, Occur.FILTER)
+                .build();
+    }
+
+    /**
+     * Verifies a stored query against all the percolated documents at once, or returns the outcome of verifying an equal query.
+     */
+    Verification verify(Query query, boolean needsScores) throws IOException {
+        Verification verification = verifications.get(query);
+        if (verification != null && (needsScores == false || verification.scored)) {
+            return verification;
+        }
+        IndexReader reader = percolatorIndexSearcher.getIndexReader();
+        Query rewritten = percolatorIndexSearcher.rewrite(excludeNestedDocs(query));
+        Weight weight = percolatorIndexSearcher.createWeight(rewritten,
+            needsScores ? ScoreMode.COMPLETE : ScoreMode.COMPLETE_NO_SCORES, 1f);
+        FixedBitSet matchingDocs = new FixedBitSet(reader.maxDoc());
+        float maxScore = Float.NEGATIVE_INFINITY;
+        for (LeafReaderContext leaf : reader.leaves()) {
+            Scorer scorer = weight.scorer(leaf);
+            if (scorer == null) {
+                continue;
+            }
+            DocIdSetIterator iterator = scorer.iterator();
+            for (int docId = iterator.nextDoc(); docId != DocIdSetIterator.NO_MORE_DOCS; docId = iterator.nextDoc()) {
+                matchingDocs.set(leaf.docBase + docId);
+                if (needsScores) {
+                    maxScore = Math.max(maxScore, scorer.score());
+                }
+            }
+        }
+        verification = new Verification(matchingDocs, maxScore, needsScores);
+        if (verifications.size() < MAX_VERIFIED_QUERIES || verifications.containsKey(query)) {
+            verifications.put(query, verification);
+        }
+        return verification;
+    }
+
     String getName() {
         return name;
     }
@@ -272,6 +319,26 @@ final class PercolateQuery extends Query implements Accountable {
         return ramUsed;
     }
 
+    /**
+     * The percolated documents that a stored query matches, by doc id in the percolator index.
+     */
+    static final class Verification {
+        final FixedBitSet matchingDocs;
+        // the best score of the matching documents, only set if scored
+        final float score;
+        final boolean scored;
+
+        Verification(FixedBitSet matchingDocs, float score, boolean scored) {
+            this.matchingDocs = matchingDocs;
+            this.score = score;
+            this.scored = scored;
+        }
+
+        boolean matches() {
+            return matchingDocs.cardinality() > 0;
+        }
+    }
+
     @FunctionalInterface
     interface QueryStore {
         CheckedFunction<Integer, Query, IOException> getQueries(LeafReaderContext ctx) throws IOException;
@@ -102,7 +102,9 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -659,9 +661,15 @@ public class PercolateQueryBuilder extends AbstractQueryBuilder<PercolateQueryBu
                 return docId -> null;
             }
             if (indexVersion.onOrAfter(LegacyESVersion.V_6_0_0_beta2)) {
+                // identical stored queries are parsed once per segment, which also lets PercolateQuery verify them only once
+                Map<BytesRef, Query> parsedQueries = new HashMap<>();
                 return docId -> {
                     if (binaryDocValues.advanceExact(docId)) {
                         BytesRef qbSource = binaryDocValues.binaryValue();
+                        Query parsedQuery = parsedQueries.get(qbSource);
+                        if (parsedQuery != null) {
+                            return parsedQuery;
+                        }
                         try (InputStream in = new ByteArrayInputStream(qbSource.bytes, qbSource.offset, qbSource.length)) {
                             try (StreamInput input = new NamedWriteableAwareStreamInput(
                                     new InputStreamStreamInput(in, qbSource.length), registry)) {
@@ -677,7 +685,11 @@ public class PercolateQueryBuilder extends AbstractQueryBuilder<PercolateQueryBu
                                 QueryBuilder queryBuilder = input.readNamedWriteable(QueryBuilder.class);
                                 assert in.read() == -1;
                                 queryBuilder = Rewriteable.rewrite(queryBuilder, context);
-                                return queryBuilder.toQuery(context);
+                                parsedQuery = queryBuilder.toQuery(context);
+                                if (parsedQuery != null && parsedQueries.size() < PercolateQuery.MAX_VERIFIED_QUERIES) {
+                                    parsedQueries.put(BytesRef.deepCopyOf(qbSource), parsedQuery);
+                                }
+                                return parsedQuery;
                             }
                         }
                     } else {
@@ -100,17 +100,26 @@ final class PercolatorMatchedSlotSubFetchPhase implements FetchSubPhase {
                         // This is not a document with a percolator field.
                         continue;
                     }
-                    query = pc.filterNestedDocs(query);
-                    IndexSearcher percolatorIndexSearcher = pc.percolateQuery.getPercolatorIndexSearcher();
-                    int memoryIndexMaxDoc = percolatorIndexSearcher.getIndexReader().maxDoc();
-                    TopDocs topDocs = percolatorIndexSearcher.search(query, memoryIndexMaxDoc, new Sort(SortField.FIELD_DOC));
-                    if (topDocs.totalHits.value == 0) {
-                        // This hit didn't match with a percolate query,
-                        // likely to happen when percolating multiple documents
-                        continue;
+                    final IntStream slots;
+                    if (pc.reuseVerifications) {
+                        // the query phase verified the query against all documents at once, or an equal query
+                        BitSet matchingDocs = pc.percolateQuery.verify(query, false).matchingDocs;
+                        if (matchingDocs.cardinality() == 0) {
+                            continue;
+                        }
+                        slots = convertMatchingDocsToSlots(matchingDocs, pc.rootDocsBySlot);
+                    } else {
+                        query = pc.filterNestedDocs(query);
+                        IndexSearcher percolatorIndexSearcher = pc.percolateQuery.getPercolatorIndexSearcher();
+                        int memoryIndexMaxDoc = percolatorIndexSearcher.getIndexReader().maxDoc();
+                        TopDocs topDocs = percolatorIndexSearcher.search(query, memoryIndexMaxDoc, new Sort(SortField.FIELD_DOC));
+                        if (topDocs.totalHits.value == 0) {
+                            // This hit didn't match with a percolate query,
+                            // likely to happen when percolating multiple documents
+                            continue;
+                        }
+                        slots = convertTopDocsToSlots(topDocs, pc.rootDocsBySlot);
                     }
-
-                    IntStream slots = convertTopDocsToSlots(topDocs, pc.rootDocsBySlot);
                     // _percolator_document_slot fields are document fields and should be under "fields" section in a hit
                     hitContext.hit().setDocumentField(fieldName, new DocumentField(fieldName, slots.boxed().collect(Collectors.toList())));
                 }
@@ -122,6 +131,8 @@ final class PercolatorMatchedSlotSubFetchPhase implements FetchSubPhase {
         final PercolateQuery percolateQuery;
         final boolean singlePercolateQuery;
         final int[] rootDocsBySlot;
+        // whether the percolate query filters out nested documents exactly when the slots need to be
+        final boolean reuseVerifications;
 
         PercolateContext(PercolateQuery pq, boolean singlePercolateQuery) throws IOException {
             this.percolateQuery = pq;
@@ -138,6 +149,7 @@ final class PercolatorMatchedSlotSubFetchPhase implements FetchSubPhase {
             } else {
                 this.rootDocsBySlot = null;
             }
+            this.reuseVerifications = percolateQuery.excludesNestedDocs() == hasNestedDocs;
         }
 
         String fieldName() {
@@ -165,6 +177,19 @@ final class PercolatorMatchedSlotSubFetchPhase implements FetchSubPhase {
         return stream;
     }
 
+    static IntStream convertMatchingDocsToSlots(BitSet matchingDocs, int[] rootDocsBySlot) {
+        IntStream.Builder docIds = IntStream.builder();
+        BitSetIterator iterator = new BitSetIterator(matchingDocs, 0);
+        for (int docId = iterator.nextDoc(); docId != NO_MORE_DOCS; docId = iterator.nextDoc()) {
+            docIds.add(docId);
+        }
+        IntStream stream = docIds.build();
+        if (rootDocsBySlot != null) {
+            stream = stream.map(docId -> Arrays.binarySearch(rootDocsBySlot, docId));
+        }
+        return stream;
+    }
+
     static int[] buildRootDocsSlots(BitSet rootDocs) {
         int slot = 0;
         int[] rootDocsBySlot = new int[rootDocs.cardinality()];
@@ -51,8 +51,10 @@ import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.PhraseQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.spans.SpanNearQuery;
 import org.apache.lucene.search.spans.SpanTermQuery;
 import org.apache.lucene.store.Directory;
@@ -61,9 +63,11 @@ import org.opensearch.test.OpenSearchTestCase;
 import org.junit.After;
 import org.junit.Before;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.equalTo;
@@ -188,4 +192,46 @@ public class PercolateQueryTests extends OpenSearchTestCase {
         assertThat(explanation.getDetails(), arrayWithSize(1));
     }
 
+    public void testIdenticalQueriesAreVerifiedOnce() throws Exception {
+        List<Iterable<? extends IndexableField>> docs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            docs.add(Collections.singleton(new StringField("select", "a", Field.Store.NO)));
+        }
+        indexWriter.addDocuments(docs);
+        indexWriter.close();
+        directoryReader = DirectoryReader.open(directory);
+        IndexSearcher shardSearcher = newSearcher(directoryReader);
+        // a new but equal query instance for every stored query, half of them matching
+        PercolateQuery.QueryStore queryStore =
+            ctx -> docId -> new TermQuery(new Term("field", (ctx.docBase + docId) % 2 == 0 ? "fox" : "cat"));
+
+        MemoryIndex memoryIndex = new MemoryIndex();
+        memoryIndex.addField("field", "the quick brown fox jumps over the lazy dog", new WhitespaceAnalyzer());
+        AtomicInteger verifications = new AtomicInteger();
+        IndexSearcher percolateSearcher = new IndexSearcher(memoryIndex.createSearcher().getIndexReader()) {
+            @Override
+            public Weight createWeight(Query query, ScoreMode scoreMode, float boost) throws IOException {
+                verifications.incrementAndGet();
+                return super.createWeight(query, scoreMode, boost);
+            }
+        };
+        percolateSearcher.setQueryCache(null);
+
+        Query query = new ConstantScoreQuery(new PercolateQuery("_name", queryStore, Collections.singletonList(new BytesArray("a")),
+            new MatchAllDocsQuery(), percolateSearcher, null, new MatchNoDocsQuery("")));
+        TopDocs topDocs = shardSearcher.search(query, 10);
+        assertThat(topDocs.totalHits.value, equalTo(5L));
+        assertThat(verifications.get(), equalTo(2));
+
+        verifications.set(0);
+        query = new PercolateQuery("_name", queryStore, Collections.singletonList(new BytesArray("a")),
+            new MatchAllDocsQuery(), percolateSearcher, null, new MatchNoDocsQuery(""));
+        topDocs = shardSearcher.search(query, 10);
+        assertThat(topDocs.totalHits.value, equalTo(5L));
+        assertThat(verifications.get(), equalTo(2));
+        for (int i = 1; i < topDocs.scoreDocs.length; i++) {
+            assertThat(topDocs.scoreDocs[i].score, equalTo(topDocs.scoreDocs[0].score));
+        }
+    }
+
 }
@@ -33,18 +33,26 @@ package org.opensearch.percolator;
 
 import org.apache.lucene.analysis.core.WhitespaceAnalyzer;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
 import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.RandomIndexWriter;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.index.memory.MemoryIndex;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.index.mapper.SeqNoFieldMapper;
@@ -55,7 +63,10 @@ import org.opensearch.search.fetch.FetchSubPhaseProcessor;
 import org.opensearch.search.lookup.SourceLookup;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import static org.mockito.Mockito.mock;
@@ -151,6 +162,71 @@ public class PercolatorMatchedSlotSubFetchPhaseTests extends OpenSearchTestCase
         }
     }
 
+    public void testSlotsOfMultipleDocumentsAreVerifiedOnce() throws Exception {
+        try (Directory directory = newDirectory(); Directory percolatorDirectory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                indexWriter.addDocument(new Document());
+                indexWriter.addDocument(new Document());
+            }
+            try (IndexWriter indexWriter = new IndexWriter(percolatorDirectory, new IndexWriterConfig(new WhitespaceAnalyzer()))) {
+                for (String value : new String[] { "value", "value1", "value" }) {
+                    Document document = new Document();
+                    document.add(new TextField("field", value, Field.Store.NO));
+                    document.add(new NumericDocValuesField(SeqNoFieldMapper.PRIMARY_TERM_NAME, 0));
+                    indexWriter.addDocument(document);
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory);
+                 DirectoryReader percolatorReader = DirectoryReader.open(percolatorDirectory)) {
+                AtomicInteger verifications = new AtomicInteger();
+                IndexSearcher percolatorSearcher = new IndexSearcher(percolatorReader) {
+                    @Override
+                    public Weight createWeight(Query query, ScoreMode scoreMode, float boost) throws IOException {
+                        if (query instanceof TermQuery) {
+                            verifications.incrementAndGet();
+                        }
+                        return super.createWeight(query, scoreMode, boost);
+                    }
+                };
+                percolatorSearcher.setQueryCache(null);
+                // both hits hold an equal query
+                PercolateQuery.QueryStore queryStore = ctx -> docId -> new TermQuery(new Term("field", "value"));
+                PercolateQuery percolateQuery = new PercolateQuery("_name", queryStore, Collections.emptyList(),
+                    new MatchAllDocsQuery(), percolatorSearcher, null, new MatchNoDocsQuery());
+
+                FetchContext sc = mock(FetchContext.class);
+                when(sc.query()).thenReturn(percolateQuery);
+                FetchSubPhaseProcessor processor = new PercolatorMatchedSlotSubFetchPhase().getProcessor(sc);
+                processor.setNextReader(reader.leaves().get(0));
+                for (int docId = 0; docId < 2; docId++) {
+                    HitContext hit = new HitContext(new SearchHit(docId), reader.leaves().get(0), docId, new SourceLookup());
+                    processor.process(hit);
+                    assertEquals(Arrays.asList(0, 2), hit.hit().field(PercolatorMatchedSlotSubFetchPhase.FIELD_NAME_PREFIX).getValues());
+                }
+                assertEquals(1, verifications.get());
+            }
+        }
+    }
+
+    public void testConvertMatchingDocsToSlots() {
+        FixedBitSet matchingDocs = new FixedBitSet(15);
+        matchingDocs.set(2);
+        matchingDocs.set(8);
+        matchingDocs.set(14);
+        assertArrayEquals(new int[] { 2, 8, 14 },
+            PercolatorMatchedSlotSubFetchPhase.convertMatchingDocsToSlots(matchingDocs, null).toArray());
+
+        FixedBitSet rootDocs = new FixedBitSet(15);
+        rootDocs.set(2);
+        rootDocs.set(5);
+        rootDocs.set(8);
+        rootDocs.set(11);
+        rootDocs.set(14);
+        int[] rootDocsBySlot = PercolatorMatchedSlotSubFetchPhase.buildRootDocsSlots(rootDocs);
+        assertArrayEquals(new int[] { 0, 2, 4 },
+            PercolatorMatchedSlotSubFetchPhase.convertMatchingDocsToSlots(matchingDocs, rootDocsBySlot).toArray());
+    }
+
     public void testConvertTopDocsToSlots() {
         ScoreDoc[] scoreDocs = new ScoreDoc[randomInt(128)];
         for (int i = 0; i < scoreDocs.length; i++) {
@@ -86,6 +86,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 
@@ -125,7 +126,13 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
     private final ParentTaskAssigningClient client;
     private final ActionListener<BulkByScrollResponse> listener;
     private final Retry bulkRetry;
+    private final AtomicInteger bulkRejections = new AtomicInteger();
     private final ScrollableHitSource scrollSource;
+    /**
+     * Sizes the bulk requests when prefetching, {@code null} otherwise.
+     */
+    @Nullable
+    private final AdaptiveBulkSize adaptiveBulkSize;
 
     /**
      * This BiFunction is used to apply various changes depending of the Reindex action and  the search hit,
@@ -153,8 +160,12 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
         this.mainRequest = mainRequest;
         this.listener = listener;
         BackoffPolicy backoffPolicy = buildBackoffPolicy();
-        bulkRetry = new Retry(BackoffPolicy.wrap(backoffPolicy, worker::countBulkRetry), threadPool);
+        bulkRetry = new Retry(BackoffPolicy.wrap(backoffPolicy, () -> {
+            worker.countBulkRetry();
+            bulkRejections.incrementAndGet();
+        }), threadPool);
         scrollSource = buildScrollableResultSource(backoffPolicy);
+        scrollSource.setPrefetch(mainRequest.getPrefetch());
         scriptApplier = Objects.requireNonNull(buildScriptApplier(), "script applier must not be null");
         /*
          * Default to sorting by doc. We can't do this in the request itself because it is normal to *add* to the sorts rather than replace
@@ -168,6 +179,12 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
         }
         sourceBuilder.version(needsSourceDocumentVersions);
         sourceBuilder.seqNoAndPrimaryTerm(needsSourceDocumentSeqNoAndPrimaryTerm);
+        if (mainRequest.getPrefetch() > 0) {
+            int scrollSize = sourceBuilder.size() > 0 ? sourceBuilder.size() : AbstractBulkByScrollRequest.DEFAULT_SCROLL_SIZE;
+            adaptiveBulkSize = new AdaptiveBulkSize(scrollSize);
+        } else {
+            adaptiveBulkSize = null;
+        }
     }
 
     /**
@@ -233,6 +250,11 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
     }
 
     protected ScrollableHitSource buildScrollableResultSource(BackoffPolicy backoffPolicy) {
+        if (mainRequest.isUsePointInTime()) {
+            return new PointInTimeHitSource(logger, backoffPolicy, threadPool, worker::countSearchRetry,
+                this::onScrollResponse, this::finishHim, client, mainRequest.getSearchRequest(), mainRequest.getScrollTime(),
+                mainRequest.getMaxRetries());
+        }
         return new ClientScrollableHitSource(logger, backoffPolicy, threadPool, worker::countSearchRetry,
             this::onScrollResponse, this::finishHim, client,
                 mainRequest.getSearchRequest());
@@ -350,9 +372,37 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
             notifyDone(thisBatchStartTimeNS, asyncResponse, 0);
             return;
         }
+        Runnable onSuccess = () -> notifyDone(thisBatchStartTimeNS, asyncResponse, request.requests().size());
+        if (adaptiveBulkSize != null) {
+            sendAdaptiveBulkRequests(request.requests(), 0, onSuccess);
+            return;
+        }
+        request.timeout(mainRequest.getTimeout());
+        request.waitForActiveShards(mainRequest.getWaitForActiveShards());
+        sendBulkRequest(request, onSuccess);
+    }
+
+    /**
+     * Send the requests of a batch as consecutive bulk requests sized by {@link AdaptiveBulkSize}, starting at the given offset.
+     */
+    void sendAdaptiveBulkRequests(List<DocWriteRequest<?>> requests, int from, Runnable onSuccess) {
+        int to = min(requests.size(), from + adaptiveBulkSize.size());
+        BulkRequest request = new BulkRequest();
+        for (int i = from; i < to; i++) {
+            request.add(requests.get(i));
+        }
         request.timeout(mainRequest.getTimeout());
         request.waitForActiveShards(mainRequest.getWaitForActiveShards());
-        sendBulkRequest(request, () -> notifyDone(thisBatchStartTimeNS, asyncResponse, request.requests().size()));
+        long startNanos = System.nanoTime();
+        int rejectionsBefore = bulkRejections.get();
+        sendBulkRequest(request, () -> {
+            adaptiveBulkSize.onBulk(to - from, System.nanoTime() - startNanos, bulkRejections.get() != rejectionsBefore);
+            if (to < requests.size()) {
+                sendAdaptiveBulkRequests(requests, to, onSuccess);
+            } else {
+                onSuccess.run();
+            }
+        });
     }
 
     /**
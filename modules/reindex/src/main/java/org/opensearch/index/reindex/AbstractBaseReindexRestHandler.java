@@ -107,6 +107,11 @@ public abstract class AbstractBaseReindexRestHandler<
         if (slices != null) {
             request.setSlices(slices);
         }
+        String sliceField = restRequest.param("slice_field");
+        if (sliceField != null) {
+            request.setSliceField(sliceField);
+        }
+        request.setPrefetch(restRequest.paramAsInt("prefetch", request.getPrefetch()));
 
         String waitForActiveShards = restRequest.param("wait_for_active_shards");
         if (waitForActiveShards != null) {
@@ -76,6 +76,7 @@ public abstract class AbstractBulkByQueryRestHandler<
         if (conflicts != null) {
             internal.setConflicts(conflicts);
         }
+        internal.setUsePointInTime(restRequest.paramAsBoolean("point_in_time", internal.isUsePointInTime()));
 
         // Let the requester set search timeout. It is probably only going to be useful for testing but who knows.
         if (restRequest.hasParam("search_timeout")) {
@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.reindex;
+
+/**
+ * Adapts the number of documents sent per bulk request to the observed bulk latency and rejections. The size is halved when a bulk
+ * was rejected or took more than twice as long per document as the moving average of the previous bulks, and grows back linearly
+ * towards the maximum otherwise.
+ */
+final class AdaptiveBulkSize {
+
+    /**
+     * The weight of the latest bulk in the moving average of the latency per document.
+     */
+    private static final double ALPHA = 0.2;
+    /**
+     * A bulk that took this many times longer per document than the moving average is considered slow.
+     */
+    private static final double SLOW_FACTOR = 2.0;
+
+    private final int max;
+    private final int min;
+    private final int step;
+    private int size;
+    private double averageNanosPerDoc = -1;
+
+    AdaptiveBulkSize(int max) {
+        if (max < 1) {
+            throw new IllegalArgumentException("[max] must be at least 1 but was [" + max + "]");
+        }
+        this.max = max;
+        this.min = Math.min(10, max);
+        this.step = Math.max(1, max / 10);
+        this.size = max;
+    }
+
+    /**
+     * The number of documents to send in the next bulk request.
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Records the outcome of a bulk request.
+     *
+     * @param docs      the number of documents in the bulk request
+     * @param tookNanos the time from sending the bulk request until its response, including retries
+     * @param rejected  whether the bulk request was rejected at least once
+     */
+    synchronized void onBulk(int docs, long tookNanos, boolean rejected) {
+        if (docs <= 0) {
+            return;
+        }
+        if (rejected) {
+            // the time includes the backoff so it says nothing about the latency
+            size = Math.max(min, size / 2);
+            return;
+        }
+        final double nanosPerDoc = (double) tookNanos / docs;
+        if (averageNanosPerDoc >= 0 && nanosPerDoc > SLOW_FACTOR * averageNanosPerDoc) {
+            size = Math.max(min, size / 2);
+        } else {
+            size = Math.min(max, size + step);
+        }
+        averageNanosPerDoc = averageNanosPerDoc < 0 ? nanosPerDoc : (1 - ALPHA) * averageNanosPerDoc + ALPHA * nanosPerDoc;
+    }
+}
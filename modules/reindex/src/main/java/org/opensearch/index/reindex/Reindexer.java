@@ -62,6 +62,7 @@ import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.mapper.VersionFieldMapper;
+import org.opensearch.index.reindex.remote.RemoteAutoSlices;
 import org.opensearch.index.reindex.remote.RemoteScrollableHitSource;
 import org.opensearch.script.Script;
 import org.opensearch.script.ScriptService;
@@ -102,6 +103,18 @@ public class Reindexer {
     }
 
     public void initTask(BulkByScrollTask task, ReindexRequest request, ActionListener<Void> listener) {
+        if (request.getRemoteInfo() != null && request.getSlices() == AbstractBulkByScrollRequest.AUTO_SLICES) {
+            // the local search shards API doesn't know about the remote indices so "auto" is resolved against the remote cluster
+            RestClient restClient = buildRestClient(request.getRemoteInfo(), reindexSslConfig, task.getId(),
+                synchronizedList(new ArrayList<>()));
+            ActionListener<Integer> slicesListener = ActionListener.wrap(slices -> {
+                request.setSlices(slices);
+                BulkByScrollParallelizationHelper.initTaskState(task, request, client, listener);
+            }, listener::onFailure);
+            RemoteAutoSlices.resolve(restClient, request.getSearchRequest(), BulkByScrollParallelizationHelper.AUTO_SLICE_CEILING,
+                threadPool, ActionListener.runBefore(slicesListener, restClient::close));
+            return;
+        }
         BulkByScrollParallelizationHelper.initTaskState(task, request, client, listener);
     }
 
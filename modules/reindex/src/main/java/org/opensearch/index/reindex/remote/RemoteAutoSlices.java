@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.reindex.remote;
+
+import org.apache.http.HttpEntity;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.client.ResponseListener;
+import org.opensearch.client.RestClient;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Resolves {@code "auto"} slices of a reindex from a remote source like it is done for local sources: the number of slices is the
+ * number of shards of the source index with the fewest shards, as reported by the search shards API of the remote cluster.
+ */
+public final class RemoteAutoSlices {
+
+    private RemoteAutoSlices() {}
+
+    /**
+     * Resolves the number of slices for the indices of the given search request. The listener is called on the generic thread pool
+     * so it may close the client.
+     *
+     * @param ceiling the maximum number of slices
+     */
+    public static void resolve(RestClient client, SearchRequest searchRequest, int ceiling, ThreadPool threadPool,
+                               ActionListener<Integer> listener) {
+        Supplier<ThreadContext.StoredContext> contextSupplier = threadPool.getThreadContext().newRestorableContext(true);
+        ActionListener<Integer> forkingListener = new ActionListener<Integer>() {
+            @Override
+            public void onResponse(Integer slices) {
+                threadPool.generic().execute(() -> {
+                    try (ThreadContext.StoredContext ctx = contextSupplier.get()) {
+                        assert ctx != null; // eliminates compiler warning
+                        listener.onResponse(slices);
+                    }
+                });
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                threadPool.generic().execute(() -> {
+                    try (ThreadContext.StoredContext ctx = contextSupplier.get()) {
+                        assert ctx != null; // eliminates compiler warning
+                        listener.onFailure(e);
+                    }
+                });
+            }
+        };
+        try {
+            client.performRequestAsync(RemoteRequestBuilders.searchShards(searchRequest), new ResponseListener() {
+                @Override
+                public void onSuccess(org.opensearch.client.Response response) {
+                    final Map<String, Integer> shardsPerIndex;
+                    HttpEntity entity = response.getEntity();
+                    // EMPTY is safe here because we don't call namedObject
+                    try (InputStream content = entity.getContent();
+                         XContentParser parser = JsonXContent.jsonXContent.createParser(NamedXContentRegistry.EMPTY,
+                             LoggingDeprecationHandler.INSTANCE, content)) {
+                        shardsPerIndex = RemoteResponseParsers.parseShardsPerIndex(parser);
+                    } catch (Exception e) {
+                        forkingListener.onFailure(new OpenSearchException(
+                            "Error parsing the search shards response, remote is likely not an OpenSearch instance", e));
+                        return;
+                    }
+                    int leastShards = shardsPerIndex.isEmpty() ? 1 : Collections.min(shardsPerIndex.values());
+                    forkingListener.onResponse(Math.min(leastShards, ceiling));
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    forkingListener.onFailure(e);
+                }
+            });
+        } catch (Exception e) {
+            forkingListener.onFailure(e);
+        }
+    }
+}
@@ -48,6 +48,8 @@ import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.SortBuilder;
 
@@ -146,6 +148,13 @@ final class RemoteRequestBuilders {
             request.addParameter(storedFieldsParamName, fields.toString());
         }
 
+        SliceBuilder slice = searchRequest.source().slice();
+        // V_5_0_0
+        if (slice != null && remoteVersion.before(Version.fromId(5000099))) {
+            throw new IllegalArgumentException("reindex from remote sources before 5.0.0 doesn't support slices but the remote version is ["
+                + remoteVersion + "]");
+        }
+
         if (remoteVersion.onOrAfter(Version.fromId(6030099))) {
             // allow_partial_results introduced in 6.3, running remote reindex against earlier versions still silently discards RED shards.
             request.addParameter("allow_partial_search_results", "false");
@@ -178,6 +187,17 @@ final class RemoteRequestBuilders {
                 }
             }
 
+            if (slice != null) {
+                entity.startObject("slice");
+                if (IdFieldMapper.NAME.equals(slice.getField()) == false) {
+                    // leave the default to the remote, it slices on _uid before 7.0
+                    entity.field("field", slice.getField());
+                }
+                entity.field("id", slice.getId());
+                entity.field("max", slice.getMax());
+                entity.endObject();
+            }
+
             entity.endObject();
             request.setJsonEntity(Strings.toString(entity));
         } catch (IOException e) {
@@ -263,6 +283,13 @@ final class RemoteRequestBuilders {
         return request;
     }
 
+    static Request searchShards(SearchRequest searchRequest) {
+        StringBuilder path = new StringBuilder("/");
+        addIndices(path, searchRequest.indices());
+        path.append("_search_shards");
+        return new Request("GET", path.toString());
+    }
+
     static Request clearScroll(String scroll, Version remoteVersion) {
         Request request = new Request("DELETE", "/_search/scroll");
 
@@ -54,7 +54,9 @@ import org.opensearch.index.reindex.ScrollableHitSource.SearchFailure;
 import org.opensearch.search.SearchHits;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiFunction;
 
 import static java.util.Collections.emptyList;
@@ -307,4 +309,37 @@ final class RemoteResponseParsers {
         versionParser.declareString(constructorArg(), new ParseField("number"));
         MAIN_ACTION_PARSER.declareObject(constructorArg(), versionParser, new ParseField("version"));
     }
+
+    /**
+     * Parses the response of the search shards API to the number of shards of each index. Each element of the {@code shards} array
+     * holds the copies of one shard.
+     */
+    static Map<String, Integer> parseShardsPerIndex(XContentParser parser) throws IOException {
+        Map<String, Integer> shardsPerIndex = new HashMap<>();
+        XContentParser.Token token = parser.nextToken();
+        if (token != XContentParser.Token.START_OBJECT) {
+            throw new ParsingException(parser.getTokenLocation(), "expected an object but got [" + token + "]");
+        }
+        while ((token = parser.nextToken()) == XContentParser.Token.FIELD_NAME) {
+            String field = parser.currentName();
+            token = parser.nextToken();
+            if ("shards".equals(field) && token == XContentParser.Token.START_ARRAY) {
+                while (parser.nextToken() == XContentParser.Token.START_ARRAY) {
+                    String index = null;
+                    while (parser.nextToken() == XContentParser.Token.START_OBJECT) {
+                        Map<String, Object> copy = parser.map();
+                        if (index == null && copy.get("index") instanceof String) {
+                            index = (String) copy.get("index");
+                        }
+                    }
+                    if (index != null) {
+                        shardsPerIndex.merge(index, 1, Integer::sum);
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return shardsPerIndex;
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.reindex;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class AdaptiveBulkSizeTests extends OpenSearchTestCase {
+
+    public void testStartsAtMax() {
+        int max = between(1, 10000);
+        assertThat(new AdaptiveBulkSize(max).size(), equalTo(max));
+        expectThrows(IllegalArgumentException.class, () -> new AdaptiveBulkSize(0));
+    }
+
+    public void testRejectionHalvesTheSize() {
+        AdaptiveBulkSize size = new AdaptiveBulkSize(1000);
+        size.onBulk(1000, 1000, true);
+        assertThat(size.size(), equalTo(500));
+        size.onBulk(500, 1000, true);
+        assertThat(size.size(), equalTo(250));
+        for (int i = 0; i < 10; i++) {
+            size.onBulk(size.size(), 1000, true);
+        }
+        assertThat(size.size(), equalTo(10));
+    }
+
+    public void testSlowBulkHalvesTheSize() {
+        AdaptiveBulkSize size = new AdaptiveBulkSize(1000);
+        size.onBulk(1000, 1000, false);
+        assertThat(size.size(), equalTo(1000));
+        // three times slower per document than the average
+        size.onBulk(1000, 3000, false);
+        assertThat(size.size(), equalTo(500));
+        // as fast as the average again
+        size.onBulk(500, 700, false);
+        assertThat(size.size(), equalTo(600));
+    }
+
+    public void testGrowsBackToMax() {
+        AdaptiveBulkSize size = new AdaptiveBulkSize(100);
+        size.onBulk(100, 100, true);
+        assertThat(size.size(), equalTo(50));
+        for (int i = 0; i < 10; i++) {
+            size.onBulk(size.size(), size.size(), false);
+        }
+        assertThat(size.size(), equalTo(100));
+    }
+
+    public void testSmallMax() {
+        AdaptiveBulkSize size = new AdaptiveBulkSize(3);
+        size.onBulk(3, 3, true);
+        assertThat(size.size(), equalTo(3));
+        size.onBulk(0, 100, true);
+        assertThat(size.size(), equalTo(3));
+    }
+}
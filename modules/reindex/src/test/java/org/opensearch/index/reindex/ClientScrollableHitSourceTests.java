@@ -171,10 +171,85 @@ public class ClientScrollableHitSourceTests extends OpenSearchTestCase {
 
 
 
+    public void testPrefetch() throws InterruptedException {
+        BlockingQueue<ScrollableHitSource.AsyncResponse> responses = new ArrayBlockingQueue<>(100);
+        MockClient client = new MockClient(threadPool);
+        TaskId parentTask = new TaskId("thenode", randomInt());
+        ClientScrollableHitSource hitSource = new ClientScrollableHitSource(logger, BackoffPolicy.constantBackoff(TimeValue.ZERO, 0),
+            threadPool, () -> fail(), responses::add, e -> fail(), new ParentTaskAssigningClient(client, parentTask),
+            new SearchRequest().scroll(timeValueSeconds(10)));
+        hitSource.setPrefetch(2);
+
+        hitSource.start();
+        client.respond(SearchAction.INSTANCE, createSearchResponse(1));
+        ScrollableHitSource.AsyncResponse first = responses.poll(10, TimeUnit.SECONDS);
+        assertNotNull(first);
+        assertEquals(1, first.response().getHits().size());
+
+        // the next batches are fetched while the first one is processed, until the buffer is full
+        client.awaitOperation();
+        client.respond(SearchScrollAction.INSTANCE, createSearchResponse(2));
+        client.awaitOperation();
+        client.validateRequest(SearchScrollAction.INSTANCE,
+            (SearchScrollRequest r) -> assertEquals(r.scroll().keepAlive().seconds(), 10));
+        client.respond(SearchScrollAction.INSTANCE, createSearchResponse(3));
+        assertNull(client.executeRequest);
+        assertEquals(0, responses.size());
+
+        // batches are delivered in order and freeing up the buffer fetches the next one with the consumer's keep alive
+        first.done(timeValueSeconds(100));
+        ScrollableHitSource.AsyncResponse second = responses.poll(10, TimeUnit.SECONDS);
+        assertNotNull(second);
+        assertEquals(2, second.response().getHits().size());
+        client.awaitOperation();
+        client.validateRequest(SearchScrollAction.INSTANCE,
+            (SearchScrollRequest r) -> assertEquals(r.scroll().keepAlive().seconds(), 110));
+        client.respond(SearchScrollAction.INSTANCE, createSearchResponse(0));
+
+        // nothing is fetched after the last batch
+        second.done(TimeValue.ZERO);
+        ScrollableHitSource.AsyncResponse third = responses.poll(10, TimeUnit.SECONDS);
+        assertNotNull(third);
+        assertEquals(3, third.response().getHits().size());
+        third.done(TimeValue.ZERO);
+        ScrollableHitSource.AsyncResponse last = responses.poll(10, TimeUnit.SECONDS);
+        assertNotNull(last);
+        assertEquals(0, last.response().getHits().size());
+        assertNull(client.executeRequest);
+    }
+
+    public void testPrefetchFailureAfterBufferedBatches() throws InterruptedException {
+        BlockingQueue<ScrollableHitSource.AsyncResponse> responses = new ArrayBlockingQueue<>(100);
+        AtomicInteger failures = new AtomicInteger();
+        MockClient client = new MockClient(threadPool);
+        TaskId parentTask = new TaskId("thenode", randomInt());
+        ClientScrollableHitSource hitSource = new ClientScrollableHitSource(logger, BackoffPolicy.constantBackoff(TimeValue.ZERO, 0),
+            threadPool, () -> fail(), responses::add, e -> failures.incrementAndGet(), new ParentTaskAssigningClient(client, parentTask),
+            new SearchRequest().scroll(timeValueSeconds(10)));
+        hitSource.setPrefetch(1);
+
+        hitSource.start();
+        client.respond(SearchAction.INSTANCE, createSearchResponse(1));
+        ScrollableHitSource.AsyncResponse first = responses.poll(10, TimeUnit.SECONDS);
+        assertNotNull(first);
+        client.awaitOperation();
+        client.fail(SearchScrollAction.INSTANCE, new IllegalStateException("boom"));
+        // the consumer only sees the failure once it asks for the next batch
+        assertEquals(0, failures.get());
+        first.done(TimeValue.ZERO);
+        assertEquals(1, failures.get());
+        assertEquals(0, responses.size());
+        assertNull(client.executeRequest);
+    }
+
     private SearchResponse createSearchResponse() {
+        return createSearchResponse(randomIntBetween(0, 20));
+    }
+
+    private SearchResponse createSearchResponse(int hitCount) {
         // create a simulated response.
         SearchHit hit = new SearchHit(0, "id", new Text("type"), emptyMap(), emptyMap()).sourceRef(new BytesArray("{}"));
-        SearchHits hits = new SearchHits(IntStream.range(0, randomIntBetween(0, 20)).mapToObj(i -> hit).toArray(SearchHit[]::new),
+        SearchHits hits = new SearchHits(IntStream.range(0, hitCount).mapToObj(i -> hit).toArray(SearchHit[]::new),
             new TotalHits(0, TotalHits.Relation.EQUAL_TO),0);
         InternalSearchResponse internalResponse = new InternalSearchResponse(hits, null, null, null, false, false, 1);
         return new SearchResponse(internalResponse, randomSimpleString(random(), 1, 10), 5, 4, 0, randomLong(), null,
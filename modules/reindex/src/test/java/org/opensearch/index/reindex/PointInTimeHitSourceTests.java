@@ -0,0 +1,263 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.reindex;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionResponse;
+import org.opensearch.action.ActionType;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.action.admin.indices.stats.IndicesStatsAction;
+import org.opensearch.action.admin.indices.stats.IndicesStatsResponse;
+import org.opensearch.action.admin.indices.stats.ShardStats;
+import org.opensearch.action.bulk.BackoffPolicy;
+import org.opensearch.action.search.ClosePointInTimeAction;
+import org.opensearch.action.search.ClosePointInTimeResponse;
+import org.opensearch.action.search.OpenPointInTimeAction;
+import org.opensearch.action.search.OpenPointInTimeResponse;
+import org.opensearch.action.search.SearchAction;
+import org.opensearch.action.search.SearchPhaseExecutionException;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.client.ParentTaskAssigningClient;
+import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.TestShardRouting;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.text.Text;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.mapper.SeqNoFieldMapper;
+import org.opensearch.index.seqno.SeqNoStats;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchContextMissingException;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.client.NoOpClient;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Before;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.emptyMap;
+import static org.opensearch.common.unit.TimeValue.timeValueSeconds;
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.rangeQuery;
+import static org.opensearch.search.sort.SortBuilders.fieldSort;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PointInTimeHitSourceTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private NoOpClient client;
+
+    @Before
+    public void setUpClient() {
+        threadPool = new TestThreadPool(getTestName());
+        client = new NoOpClient(threadPool);
+    }
+
+    @After
+    public void tearDownClient() {
+        client.close();
+        terminate(threadPool);
+    }
+
+    public void testFullPageHoldsBackTheLastDoc() {
+        PointInTimeHitSource hitSource = hitSource(4);
+        // doc 2 of shard 1 might be followed by doc 2 of another shard on the next page
+        ScrollableHitSource.Response batch = hitSource.nextBatch(response(hit(0, 0), hit(0, 1), hit(1, 0), hit(2, 1)));
+        assertThat(ids(batch), contains("0-0", "0-1", "1-0"));
+        assertThat(batch.getTotalHits(), equalTo(10L));
+        assertThat(batch.getScrollId(), equalTo("pit"));
+
+        SearchRequest next = hitSource.buildSearchRequest(TimeValue.ZERO);
+        assertArrayEquals(new Object[] { 1 }, next.source().searchAfter());
+        assertThat(next.source().size(), equalTo(4));
+        assertEquals(Boolean.FALSE, next.allowPartialSearchResults());
+        assertTrue(next.source().seqNoAndPrimaryTerm());
+        assertThat(next.source().pointInTimeBuilder().getId(), equalTo("pit"));
+
+        batch = hitSource.nextBatch(response(hit(2, 0), hit(2, 1), hit(5, 0)));
+        assertThat(ids(batch), contains("2-0", "2-1", "5-0"));
+        assertArrayEquals(new Object[] { 5 }, hitSource.buildSearchRequest(TimeValue.ZERO).source().searchAfter());
+    }
+
+    public void testPageOfASingleDocIdIsRetriedWithABiggerPage() {
+        PointInTimeHitSource hitSource = hitSource(2);
+        assertNull(hitSource.nextBatch(response(hit(3, 0), hit(3, 1))));
+        SearchRequest next = hitSource.buildSearchRequest(TimeValue.ZERO);
+        assertNull(next.source().searchAfter());
+        assertThat(next.source().size(), equalTo(4));
+
+        ScrollableHitSource.Response batch = hitSource.nextBatch(response(hit(3, 0), hit(3, 1), hit(3, 2), hit(4, 0)));
+        assertThat(ids(batch), contains("3-0", "3-1", "3-2"));
+        next = hitSource.buildSearchRequest(TimeValue.ZERO);
+        assertArrayEquals(new Object[] { 3 }, next.source().searchAfter());
+        assertThat(next.source().size(), equalTo(2));
+    }
+
+    public void testBiggerPagesAreCappedAtTheMaxResultWindow() {
+        PointInTimeHitSource hitSource = hitSource(PointInTimeHitSource.MAX_PAGE_SIZE * 3 / 4);
+        assertNull(hitSource.nextBatch(response(sameDoc(PointInTimeHitSource.MAX_PAGE_SIZE * 3 / 4))));
+        assertThat(hitSource.buildSearchRequest(TimeValue.ZERO).source().size(), equalTo(PointInTimeHitSource.MAX_PAGE_SIZE));
+
+        IllegalStateException e = expectThrows(IllegalStateException.class,
+            () -> hitSource.nextBatch(response(sameDoc(PointInTimeHitSource.MAX_PAGE_SIZE))));
+        assertThat(e.getMessage(), containsString("index.max_result_window"));
+    }
+
+    public void testKeepAlive() {
+        PointInTimeHitSource hitSource = hitSource(10);
+        hitSource.nextBatch(response());
+        SearchRequest next = hitSource.buildSearchRequest(timeValueSeconds(100));
+        assertThat(next.source().pointInTimeBuilder().getKeepAlive(), equalTo(timeValueSeconds(110)));
+        assertThat(next.source().sorts(), contains(fieldSort("_doc")));
+    }
+
+    public void testOnlyDocOrderIsSupported() {
+        SearchRequest searchRequest = new SearchRequest().source(new SearchSourceBuilder().size(10).sort("foo"));
+        PointInTimeHitSource hitSource = new PointInTimeHitSource(logger, BackoffPolicy.noBackoff(), threadPool, () -> fail(),
+            r -> fail(), e -> fail(), new ParentTaskAssigningClient(client, new TaskId("node", 1)), searchRequest,
+            timeValueSeconds(10), 0);
+        hitSource.nextBatch(response());
+        expectThrows(IllegalArgumentException.class, () -> hitSource.buildSearchRequest(TimeValue.ZERO));
+    }
+
+    public void testResumeProcessesWritesBetweenOpeningThePointInTimeAndRecordingSeqNos() throws Exception {
+        ShardId shardId = new ShardId("index", "_na_", 0);
+        // the first point in time holds the documents up to seq_no 1, seq_nos 2 and 3 are written before the stats are taken
+        ShardStats shardStats = mock(ShardStats.class);
+        when(shardStats.getShardRouting()).thenReturn(TestShardRouting.newShardRouting(shardId, "node", true, ShardRoutingState.STARTED));
+        when(shardStats.getSeqNoStats()).thenReturn(new SeqNoStats(3, 3, 3));
+        IndicesStatsResponse statsResponse = mock(IndicesStatsResponse.class);
+        when(statsResponse.getShards()).thenReturn(new ShardStats[] { shardStats });
+        List<String> openedPointInTimes = new ArrayList<>();
+        NoOpClient pointInTimeClient = new NoOpClient(threadPool) {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected <Request extends ActionRequest, Response extends ActionResponse> void doExecute(ActionType<Response> action,
+                                                                                                      Request request,
+                                                                                                      ActionListener<Response> listener) {
+                if (action == OpenPointInTimeAction.INSTANCE) {
+                    String id = "pit" + openedPointInTimes.size();
+                    openedPointInTimes.add(id);
+                    listener.onResponse((Response) new OpenPointInTimeResponse(id));
+                } else if (action == IndicesStatsAction.INSTANCE) {
+                    listener.onResponse((Response) statsResponse);
+                } else if (action == ClosePointInTimeAction.INSTANCE) {
+                    listener.onResponse((Response) new ClosePointInTimeResponse(true, 1));
+                } else if (action == SearchAction.INSTANCE) {
+                    SearchSourceBuilder source = ((SearchRequest) request).source();
+                    String id = source.pointInTimeBuilder().getId();
+                    if (id.equals("pit0") && source.searchAfter() == null) {
+                        listener.onResponse((Response) response(id, hit(0, 0, 0), hit(1, 0, 1)));
+                    } else if (id.equals("pit0")) {
+                        listener.onFailure(new SearchContextMissingException(new ShardSearchContextId("session", 1)));
+                    } else {
+                        assertThat(source.query(), equalTo(boolQuery().filter(rangeQuery(SeqNoFieldMapper.NAME).lte(3L))));
+                        // seq_no 4 was written by the request itself after the stats were taken
+                        listener.onResponse((Response) response(id, hit(0, 0, 0), hit(1, 0, 1), hit(2, 0, 2), hit(3, 0, 3),
+                            hit(4, 0, 4)));
+                    }
+                } else {
+                    fail("unexpected action [" + action + "]");
+                }
+            }
+        };
+        try {
+            List<ScrollableHitSource.AsyncResponse> responses = new ArrayList<>();
+            SearchRequest searchRequest = new SearchRequest("index").source(new SearchSourceBuilder().size(10));
+            PointInTimeHitSource hitSource = new PointInTimeHitSource(logger, BackoffPolicy.noBackoff(), threadPool, () -> fail(),
+                responses::add, e -> { throw new AssertionError(e); },
+                new ParentTaskAssigningClient(pointInTimeClient, new TaskId("node", 1)), searchRequest, timeValueSeconds(10), 1);
+            hitSource.start();
+            assertThat(responses, hasSize(1));
+            assertThat(ids(responses.get(0).response()), contains("0-0", "1-0"));
+
+            hitSource.startNextScroll(TimeValue.ZERO);
+            assertThat(openedPointInTimes, contains("pit0", "pit1"));
+            assertThat(responses, hasSize(2));
+            // the documents written before the stats were taken are processed although they aren't in the first point in time
+            assertThat(ids(responses.get(1).response()), contains("0-0", "1-0", "2-0", "3-0"));
+        } finally {
+            pointInTimeClient.close();
+        }
+    }
+
+    public void testIsPointInTimeLost() {
+        SearchContextMissingException missing = new SearchContextMissingException(new ShardSearchContextId("session", 1));
+        assertTrue(PointInTimeHitSource.isPointInTimeLost(missing));
+        assertTrue(PointInTimeHitSource.isPointInTimeLost(new SearchPhaseExecutionException("query", "all shards failed",
+            new ShardSearchFailure[] { new ShardSearchFailure(missing) })));
+        assertFalse(PointInTimeHitSource.isPointInTimeLost(new SearchPhaseExecutionException("query", "all shards failed",
+            new ShardSearchFailure[] { new ShardSearchFailure(missing), new ShardSearchFailure(new IllegalArgumentException()) })));
+        assertFalse(PointInTimeHitSource.isPointInTimeLost(new SearchPhaseExecutionException("query", "all shards failed",
+            ShardSearchFailure.EMPTY_ARRAY)));
+        assertFalse(PointInTimeHitSource.isPointInTimeLost(new IllegalArgumentException()));
+    }
+
+    private PointInTimeHitSource hitSource(int size) {
+        SearchRequest searchRequest = new SearchRequest().source(new SearchSourceBuilder().size(size));
+        return new PointInTimeHitSource(logger, BackoffPolicy.noBackoff(), threadPool, () -> fail(), r -> fail(), e -> fail(),
+            new ParentTaskAssigningClient(client, new TaskId("node", 1)), searchRequest, timeValueSeconds(10), 0);
+    }
+
+    private static SearchHit hit(int doc, int shard, long seqNo) {
+        SearchHit hit = hit(doc, shard);
+        hit.setSeqNo(seqNo);
+        return hit;
+    }
+
+    private static SearchHit[] sameDoc(int shards) {
+        SearchHit[] hits = new SearchHit[shards];
+        for (int shard = 0; shard < shards; shard++) {
+            hits[shard] = hit(0, shard);
+        }
+        return hits;
+    }
+
+    private static SearchHit hit(int doc, int shard) {
+        SearchHit hit = new SearchHit(doc, doc + "-" + shard, new Text("_doc"), emptyMap(), emptyMap()).sourceRef(new BytesArray("{}"));
+        hit.sortValues(new Object[] { doc }, new DocValueFormat[] { DocValueFormat.RAW });
+        hit.shard(new SearchShardTarget("node", new ShardId("index", "_na_", shard), null, OriginalIndices.NONE));
+        return hit;
+    }
+
+    private static SearchResponse response(SearchHit... hits) {
+        return response("pit", hits);
+    }
+
+    private static SearchResponse response(String pointInTimeId, SearchHit... hits) {
+        SearchHits searchHits = new SearchHits(hits, new TotalHits(10, TotalHits.Relation.EQUAL_TO), 0);
+        InternalSearchResponse internalResponse = new InternalSearchResponse(searchHits, null, null, null, false, false, 1);
+        return new SearchResponse(internalResponse, null, 3, 3, 0, 1, ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY,
+            pointInTimeId);
+    }
+
+    private static List<String> ids(ScrollableHitSource.Response batch) {
+        return batch.getHits().stream().map(ScrollableHitSource.Hit::getId).collect(Collectors.toList());
+    }
+}
@@ -150,6 +150,11 @@ public class RoundTripTests extends OpenSearchTestCase {
 
         int slices = ReindexTestCase.randomSlices(1, Integer.MAX_VALUE);
         request.setSlices(slices);
+        if (randomBoolean()) {
+            request.setSliceField(randomAlphaOfLength(5));
+        }
+        request.setPrefetch(between(0, 10));
+        request.setUsePointInTime(randomBoolean());
     }
 
     private void randomRequest(AbstractBulkIndexByScrollRequest<?> request) {
@@ -192,6 +197,9 @@ public class RoundTripTests extends OpenSearchTestCase {
         assertEquals(request.getRetryBackoffInitialTime(), tripped.getRetryBackoffInitialTime());
         assertEquals(request.getMaxRetries(), tripped.getMaxRetries());
         assertEquals(request.getRequestsPerSecond(), tripped.getRequestsPerSecond(), 0d);
+        assertEquals(request.getSliceField(), tripped.getSliceField());
+        assertEquals(request.getPrefetch(), tripped.getPrefetch());
+        assertEquals(request.isUsePointInTime(), tripped.isUsePointInTime());
     }
 
     public void testRethrottleRequest() throws IOException {
@@ -41,7 +41,9 @@ import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
@@ -281,6 +283,36 @@ public class RemoteRequestBuildersTests extends OpenSearchTestCase {
         assertThat(e.getCause().getMessage(), containsString("Unexpected end-of-input"));
     }
 
+    public void testInitialSearchSlice() throws IOException {
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.source(new SearchSourceBuilder());
+        String query = "{\"match_all\":{}}";
+
+        // the remote picks its default field when slicing by id
+        searchRequest.source().slice(new SliceBuilder(IdFieldMapper.NAME, 1, 3));
+        HttpEntity entity = initialSearch(searchRequest, new BytesArray(query), Version.CURRENT).getEntity();
+        assertEquals("{\"query\":" + query + ",\"_source\":true,\"slice\":{\"id\":1,\"max\":3}}",
+            Streams.copyToString(new InputStreamReader(entity.getContent(), StandardCharsets.UTF_8)));
+
+        searchRequest.source().slice(new SliceBuilder("date", 0, 2));
+        entity = initialSearch(searchRequest, new BytesArray(query), Version.fromString("6.8.0")).getEntity();
+        assertEquals("{\"query\":" + query + ",\"_source\":true,\"slice\":{\"field\":\"date\",\"id\":0,\"max\":2}}",
+            Streams.copyToString(new InputStreamReader(entity.getContent(), StandardCharsets.UTF_8)));
+
+        Version oldVersion = Version.fromId(between(0, 5000098));
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> initialSearch(searchRequest, new BytesArray(query), oldVersion));
+        assertThat(e.getMessage(), containsString("doesn't support slices"));
+    }
+
+    public void testSearchShards() {
+        SearchRequest searchRequest = new SearchRequest().indices("a", "b");
+        Request request = RemoteRequestBuilders.searchShards(searchRequest);
+        assertEquals("GET", request.getMethod());
+        assertEquals("/a,b/_search_shards", request.getEndpoint());
+        assertEquals("/_search_shards", RemoteRequestBuilders.searchShards(new SearchRequest()).getEndpoint());
+    }
+
     public void testScrollParams() {
         String scroll = randomAlphaOfLength(30);
         Version remoteVersion = Version.fromId(between(0, Version.CURRENT.id));
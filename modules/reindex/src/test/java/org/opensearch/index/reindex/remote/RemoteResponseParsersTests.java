@@ -37,11 +37,13 @@ import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionExceptio
 import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.index.reindex.ScrollableHitSource;
 import org.opensearch.test.OpenSearchTestCase;
 import org.hamcrest.Matchers;
 
 import java.io.IOException;
+import java.util.Map;
 
 import static org.opensearch.common.xcontent.XContentFactory.jsonBuilder;
 
@@ -61,4 +63,15 @@ public class RemoteResponseParsersTests extends OpenSearchTestCase {
             assertThat(parsed.getReason(), Matchers.instanceOf(OpenSearchRejectedExecutionException.class));
         }
     }
+
+    public void testShardsPerIndex() throws IOException {
+        String json = "{\"nodes\":{\"n1\":{\"name\":\"node\"}},\"indices\":{\"a\":{},\"b\":{}},\"shards\":["
+            + "[{\"index\":\"a\",\"shard\":0,\"primary\":true},{\"index\":\"a\",\"shard\":0,\"primary\":false}],"
+            + "[{\"index\":\"a\",\"shard\":1,\"primary\":true,\"allocation_id\":{\"id\":\"x\"}}],"
+            + "[{\"index\":\"b\",\"shard\":0,\"primary\":true}]]}";
+        try (XContentParser parser = createParser(JsonXContent.jsonXContent, json)) {
+            Map<String, Integer> shardsPerIndex = RemoteResponseParsers.parseShardsPerIndex(parser);
+            assertThat(shardsPerIndex, Matchers.equalTo(Map.of("a", 2, "b", 1)));
+        }
+    }
 }
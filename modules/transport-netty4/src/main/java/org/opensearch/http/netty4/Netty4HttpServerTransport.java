@@ -36,10 +36,12 @@ import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerAdapter;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
 import io.netty.channel.FixedRecvByteBufAllocator;
 import io.netty.channel.RecvByteBufAllocator;
 import io.netty.channel.socket.nio.NioChannelOption;
@@ -49,8 +51,22 @@ import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpRequestDecoder;
 import io.netty.handler.codec.http.HttpResponseEncoder;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http2.CleartextHttp2ServerUpgradeHandler;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.ReadTimeoutException;
 import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.util.AsciiString;
 import io.netty.util.AttributeKey;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -143,6 +159,16 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
     public static final Setting<ByteSizeValue> SETTING_HTTP_NETTY_RECEIVE_PREDICTOR_SIZE =
         Setting.byteSizeSetting("http.netty.receive_predictor_size", new ByteSizeValue(64, ByteSizeUnit.KB), Property.NodeScope);
 
+    /**
+     * Whether clients may speak HTTP/2, either by upgrading a cleartext HTTP/1.1 connection (h2c), with prior knowledge, or
+     * via ALPN on secured connections. HTTP/1.1 clients are served as before.
+     */
+    public static final Setting<Boolean> SETTING_HTTP_NETTY_HTTP2_ENABLED =
+        Setting.boolSetting("http.netty.http2.enabled", false, Property.NodeScope);
+
+    public static final Setting<Integer> SETTING_HTTP_NETTY_HTTP2_MAX_CONCURRENT_STREAMS =
+        Setting.intSetting("http.netty.http2.max_concurrent_streams", 128, 1, Property.NodeScope);
+
     private final ByteSizeValue maxInitialLineLength;
     private final ByteSizeValue maxHeaderSize;
     private final ByteSizeValue maxChunkSize;
@@ -155,6 +181,9 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
 
     private final int maxCompositeBufferComponents;
 
+    private final boolean http2Enabled;
+    private final int http2MaxConcurrentStreams;
+
     private volatile ServerBootstrap serverBootstrap;
     private volatile SharedGroupFactory.SharedGroup sharedGroup;
 
@@ -173,15 +202,18 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
 
         this.maxCompositeBufferComponents = SETTING_HTTP_NETTY_MAX_COMPOSITE_BUFFER_COMPONENTS.get(settings);
 
+        this.http2Enabled = SETTING_HTTP_NETTY_HTTP2_ENABLED.get(settings);
+        this.http2MaxConcurrentStreams = SETTING_HTTP_NETTY_HTTP2_MAX_CONCURRENT_STREAMS.get(settings);
+
         this.readTimeoutMillis = Math.toIntExact(SETTING_HTTP_READ_TIMEOUT.get(settings).getMillis());
 
         ByteSizeValue receivePredictor = SETTING_HTTP_NETTY_RECEIVE_PREDICTOR_SIZE.get(settings);
         recvByteBufAllocator = new FixedRecvByteBufAllocator(receivePredictor.bytesAsInt());
 
         logger.debug("using max_chunk_size[{}], max_header_size[{}], max_initial_line_length[{}], max_content_length[{}], " +
-                "receive_predictor[{}], max_composite_buffer_components[{}], pipelining_max_events[{}]",
+                "receive_predictor[{}], max_composite_buffer_components[{}], pipelining_max_events[{}], http2[{}]",
             maxChunkSize, maxHeaderSize, maxInitialLineLength, maxContentLength, receivePredictor, maxCompositeBufferComponents,
-            pipeliningMaxEvents);
+            pipeliningMaxEvents, http2Enabled);
     }
 
     public Settings settings() {
@@ -294,8 +326,19 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
     static final AttributeKey<Netty4HttpChannel> HTTP_CHANNEL_KEY = AttributeKey.newInstance("es-http-channel");
     static final AttributeKey<Netty4HttpServerChannel> HTTP_SERVER_CHANNEL_KEY = AttributeKey.newInstance("es-http-server-channel");
 
+    /**
+     * Sets up the pipeline of accepted HTTP channels. If HTTP/2 is enabled, a cleartext connection is served as HTTP/1.1 until
+     * the client upgrades it (h2c) or starts with the HTTP/2 preface. Subclasses that secure the channel with an
+     * {@link SslHandler} that is configured for ALPN with {@code h2} and {@code http/1.1} add it before calling
+     * {@link #initChannel(Channel)}, the protocol is then the negotiated one. On HTTP/2 connections every stream is a child
+     * channel with its own pipeline that handles a single request, so requests of many streams are processed concurrently
+     * and flow control applies per stream. HTTP/1.1 requests keep their pipelining order.
+     */
     protected static class HttpChannelHandler extends ChannelInitializer<Channel> {
 
+        private static final String[] HTTP1_REQUEST_HANDLERS = new String[] {
+            "decoder_compress", "aggregator", "encoder_compress", "request_creator", "response_creator", "pipelining", "handler" };
+
         private final Netty4HttpServerTransport transport;
         private final NettyByteBufSizer byteBufSizer;
         private final Netty4HttpRequestCreator requestCreator;
@@ -318,25 +361,122 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
             ch.attr(HTTP_CHANNEL_KEY).set(nettyHttpChannel);
             ch.pipeline().addLast("byte_buf_sizer", byteBufSizer);
             ch.pipeline().addLast("read_timeout", new ReadTimeoutHandler(transport.readTimeoutMillis, TimeUnit.MILLISECONDS));
+            if (transport.http2Enabled == false) {
+                configureHttp1(ch.pipeline());
+            } else if (ch.pipeline().get(SslHandler.class) != null) {
+                ch.pipeline().addLast("alpn", new ApplicationProtocolNegotiationHandler(ApplicationProtocolNames.HTTP_1_1) {
+                    @Override
+                    protected void configurePipeline(ChannelHandlerContext ctx, String protocol) {
+                        if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                            configureHttp2(ctx.pipeline());
+                        } else {
+                            configureHttp1(ctx.pipeline());
+                        }
+                    }
+                });
+            } else {
+                configureCleartextHttp2(ch.pipeline());
+            }
+            transport.serverAcceptedChannel(nettyHttpChannel);
+        }
+
+        private void configureHttp1(ChannelPipeline pipeline) {
             final HttpRequestDecoder decoder = new HttpRequestDecoder(
                 handlingSettings.getMaxInitialLineLength(),
                 handlingSettings.getMaxHeaderSize(),
                 handlingSettings.getMaxChunkSize());
             decoder.setCumulator(ByteToMessageDecoder.COMPOSITE_CUMULATOR);
-            ch.pipeline().addLast("decoder", decoder);
-            ch.pipeline().addLast("decoder_compress", new HttpContentDecompressor());
-            ch.pipeline().addLast("encoder", new HttpResponseEncoder());
+            pipeline.addLast("decoder", decoder);
+            pipeline.addLast("decoder_compress", new HttpContentDecompressor());
+            pipeline.addLast("encoder", new HttpResponseEncoder());
+            addRequestHandlers(pipeline);
+        }
+
+        private void configureHttp2(ChannelPipeline pipeline) {
+            pipeline.addLast("http2_codec", newHttp2FrameCodec());
+            pipeline.addLast("http2_multiplex", newHttp2MultiplexHandler());
+        }
+
+        private void configureCleartextHttp2(ChannelPipeline pipeline) {
+            final HttpServerCodec codec = new HttpServerCodec(
+                handlingSettings.getMaxInitialLineLength(),
+                handlingSettings.getMaxHeaderSize(),
+                handlingSettings.getMaxChunkSize());
+            final HttpServerUpgradeHandler upgradeHandler = new HttpServerUpgradeHandler(codec, protocol -> {
+                if (AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol)) {
+                    // the handlers are added in place of the upgrade handler, in front of the HTTP/1.1 request handlers
+                    return new Http2ServerUpgradeCodec(newHttp2FrameCodec(), newHttp2MultiplexHandler(), new ChannelHandlerAdapter() {
+                        @Override
+                        public void handlerAdded(ChannelHandlerContext ctx) {
+                            removeHttp1RequestHandlers(ctx.pipeline());
+                            ctx.pipeline().remove(this);
+                        }
+                    });
+                }
+                return null;
+            }, handlingSettings.getMaxContentLength());
+            final ChannelHandler priorKnowledge = new ChannelHandlerAdapter() {
+                @Override
+                public void handlerAdded(ChannelHandlerContext ctx) {
+                    // added right after the h2c handler once it saw the preface, the preface must reach the frame codec next
+                    ctx.pipeline().addAfter(ctx.name(), "http2_multiplex", newHttp2MultiplexHandler());
+                    ctx.pipeline().replace(this, "http2_codec", newHttp2FrameCodec());
+                    removeHttp1RequestHandlers(ctx.pipeline());
+                }
+            };
+            // serves the connection as HTTP/1.1 unless it is upgraded or starts with the HTTP/2 preface
+            pipeline.addLast("h2c", new CleartextHttp2ServerUpgradeHandler(codec, upgradeHandler, priorKnowledge));
+            pipeline.addLast("decoder_compress", new HttpContentDecompressor());
+            addRequestHandlers(pipeline);
+        }
+
+        /**
+         * Removes the handlers of HTTP/1.1 requests from the pipeline of a cleartext connection that switched to HTTP/2. The
+         * requests of its streams are handled by the pipelines of the stream channels, the connection only carries frames.
+         */
+        private static void removeHttp1RequestHandlers(ChannelPipeline pipeline) {
+            for (String name : HTTP1_REQUEST_HANDLERS) {
+                if (pipeline.get(name) != null) {
+                    pipeline.remove(name);
+                }
+            }
+        }
+
+        private Http2FrameCodec newHttp2FrameCodec() {
+            return Http2FrameCodecBuilder.forServer()
+                .initialSettings(Http2Settings.defaultSettings()
+                    .maxConcurrentStreams(transport.http2MaxConcurrentStreams)
+                    .maxHeaderListSize(handlingSettings.getMaxHeaderSize()))
+                .build();
+        }
+
+        private Http2MultiplexHandler newHttp2MultiplexHandler() {
+            return new Http2MultiplexHandler(new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(Channel stream) {
+                    // responses of a stream are sent on the stream, closing it does not close the connection
+                    stream.attr(HTTP_CHANNEL_KEY).set(new Netty4HttpChannel(stream));
+                    stream.pipeline().addLast("http2_to_http", new Http2StreamFrameToHttpObjectCodec(true));
+                    stream.pipeline().addLast("decoder_compress", new HttpContentDecompressor());
+                    addRequestHandlers(stream.pipeline());
+                }
+            });
+        }
+
+        /**
+         * Adds the handlers that aggregate decoded HTTP objects into requests, dispatch them and encode the responses.
+         */
+        private void addRequestHandlers(ChannelPipeline pipeline) {
             final HttpObjectAggregator aggregator = new HttpObjectAggregator(handlingSettings.getMaxContentLength());
             aggregator.setMaxCumulationBufferComponents(transport.maxCompositeBufferComponents);
-            ch.pipeline().addLast("aggregator", aggregator);
+            pipeline.addLast("aggregator", aggregator);
             if (handlingSettings.isCompression()) {
-                ch.pipeline().addLast("encoder_compress", new HttpContentCompressor(handlingSettings.getCompressionLevel()));
+                pipeline.addLast("encoder_compress", new HttpContentCompressor(handlingSettings.getCompressionLevel()));
             }
-            ch.pipeline().addLast("request_creator", requestCreator);
-            ch.pipeline().addLast("response_creator", responseCreator);
-            ch.pipeline().addLast("pipelining", new Netty4HttpPipeliningHandler(logger, transport.pipeliningMaxEvents));
-            ch.pipeline().addLast("handler", requestHandler);
-            transport.serverAcceptedChannel(nettyHttpChannel);
+            pipeline.addLast("request_creator", requestCreator);
+            pipeline.addLast("response_creator", responseCreator);
+            pipeline.addLast("pipelining", new Netty4HttpPipeliningHandler(logger, transport.pipeliningMaxEvents));
+            pipeline.addLast("handler", requestHandler);
         }
 
         @Override
@@ -39,10 +39,14 @@ import io.netty.buffer.PoolArenaMetric;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.PooledByteBufAllocatorMetric;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
@@ -50,12 +54,22 @@ import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpClientUpgradeHandler;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2ClientUpgradeCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.codec.http2.HttpConversionUtil;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.opensearch.OpenSearchException;
 import org.opensearch.common.bytes.BytesArray;
@@ -69,6 +83,7 @@ import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.MockBigArrays;
 import org.opensearch.common.util.MockPageCacheRecycler;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.http.BindHttpException;
 import org.opensearch.http.CorsHandler;
@@ -92,6 +107,7 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -475,6 +491,168 @@ public class Netty4HttpServerTransportTests extends OpenSearchTestCase {
         }
     }
 
+    public void testHttp2StreamsShareConnection() throws Exception {
+        final Settings settings = createBuilderWithPort()
+            .put(Netty4HttpServerTransport.SETTING_HTTP_NETTY_HTTP2_ENABLED.getKey(), true)
+            .build();
+        final NioEventLoopGroup group = new NioEventLoopGroup();
+        try (Netty4HttpServerTransport transport = new Netty4HttpServerTransport(settings, networkService, bigArrays, threadPool,
+            xContentRegistry(), new EchoUriDispatcher(), clusterSettings, new SharedGroupFactory(settings))) {
+            transport.start();
+            final TransportAddress remoteAddress = randomFrom(transport.boundAddress().boundAddresses());
+
+            // the client starts with the HTTP/2 preface right away (prior knowledge)
+            final Channel connection = new Bootstrap()
+                .option(ChannelOption.ALLOCATOR, NettyAllocator.getAllocator())
+                .channel(NioSocketChannel.class)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline().addLast(Http2FrameCodecBuilder.forClient().build());
+                        ch.pipeline().addLast(new Http2MultiplexHandler(new ChannelInboundHandlerAdapter()));
+                    }
+                })
+                .group(group)
+                .connect(remoteAddress.address())
+                .syncUninterruptibly()
+                .channel();
+
+            final int streams = randomIntBetween(2, 16);
+            final CountDownLatch latch = new CountDownLatch(streams);
+            final Map<String, String> responses = ConcurrentCollections.newConcurrentMap();
+            sendOnNewStreams(connection, streams, responses, latch);
+
+            assertTrue(latch.await(30, TimeUnit.SECONDS));
+            for (int i = 0; i < streams; i++) {
+                assertThat(responses.get("/stream/" + i), equalTo(HttpResponseStatus.OK.toString()));
+            }
+            assertThat(transport.stats().getTotalOpen(), equalTo(1L));
+            connection.close().syncUninterruptibly();
+        } finally {
+            group.shutdownGracefully().await();
+        }
+    }
+
+    public void testHttp2CleartextUpgrade() throws Exception {
+        final Settings settings = createBuilderWithPort()
+            .put(Netty4HttpServerTransport.SETTING_HTTP_NETTY_HTTP2_ENABLED.getKey(), true)
+            .build();
+        final NioEventLoopGroup group = new NioEventLoopGroup();
+        try (Netty4HttpServerTransport transport = new Netty4HttpServerTransport(settings, networkService, bigArrays, threadPool,
+            xContentRegistry(), new EchoUriDispatcher(), clusterSettings, new SharedGroupFactory(settings))) {
+            transport.start();
+            final TransportAddress remoteAddress = randomFrom(transport.boundAddress().boundAddresses());
+
+            final int streams = randomIntBetween(1, 16);
+            // the response to the upgrade request arrives on the first stream
+            final CountDownLatch latch = new CountDownLatch(streams + 1);
+            final Map<String, String> responses = ConcurrentCollections.newConcurrentMap();
+            final CountDownLatch upgraded = new CountDownLatch(1);
+            final Channel connection = new Bootstrap()
+                .option(ChannelOption.ALLOCATOR, NettyAllocator.getAllocator())
+                .channel(NioSocketChannel.class)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        final HttpClientCodec codec = new HttpClientCodec();
+                        final Http2ClientUpgradeCodec upgradeCodec = new Http2ClientUpgradeCodec(Http2FrameCodecBuilder.forClient().build(),
+                            new Http2MultiplexHandler(new ChannelInboundHandlerAdapter(), new ResponseCollector(responses, latch)));
+                        ch.pipeline().addLast(codec);
+                        ch.pipeline().addLast(new HttpClientUpgradeHandler(codec, upgradeCodec, 1024 * 1024));
+                        ch.pipeline().addLast(new ChannelInboundHandlerAdapter() {
+                            @Override
+                            public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+                                if (evt == HttpClientUpgradeHandler.UpgradeEvent.UPGRADE_SUCCESSFUL) {
+                                    upgraded.countDown();
+                                }
+                                ctx.fireUserEventTriggered(evt);
+                            }
+                        });
+                    }
+                })
+                .group(group)
+                .connect(remoteAddress.address())
+                .syncUninterruptibly()
+                .channel();
+
+            final FullHttpRequest upgradeRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/upgrade");
+            upgradeRequest.headers().add(HttpHeaderNames.HOST, remoteAddress.toString());
+            upgradeRequest.headers().add(HttpConversionUtil.ExtensionHeaderNames.SCHEME.text(), "http");
+            connection.writeAndFlush(upgradeRequest);
+            assertTrue(upgraded.await(30, TimeUnit.SECONDS));
+
+            // the connection now only carries HTTP/2 frames, further requests are sent on streams of their own
+            sendOnNewStreams(connection, streams, responses, latch);
+
+            assertTrue(latch.await(30, TimeUnit.SECONDS));
+            assertThat(responses.get("/upgrade"), equalTo(HttpResponseStatus.OK.toString()));
+            for (int i = 0; i < streams; i++) {
+                assertThat(responses.get("/stream/" + i), equalTo(HttpResponseStatus.OK.toString()));
+            }
+            assertThat(transport.stats().getTotalOpen(), equalTo(1L));
+            connection.close().syncUninterruptibly();
+        } finally {
+            group.shutdownGracefully().await();
+        }
+    }
+
+    private static void sendOnNewStreams(Channel connection, int streams, Map<String, String> responses, CountDownLatch latch) {
+        for (int i = 0; i < streams; i++) {
+            final Http2StreamChannel stream = new Http2StreamChannelBootstrap(connection)
+                .handler(new ResponseCollector(responses, latch))
+                .open()
+                .syncUninterruptibly()
+                .getNow();
+            final FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/stream/" + i);
+            request.headers().add(HttpConversionUtil.ExtensionHeaderNames.SCHEME.text(), "http");
+            stream.writeAndFlush(request);
+        }
+    }
+
+    /**
+     * Collects the status of the response of an HTTP/2 stream by the content of the response, which is the uri of the request.
+     */
+    private static class ResponseCollector extends ChannelInitializer<Channel> {
+        private final Map<String, String> responses;
+        private final CountDownLatch latch;
+
+        ResponseCollector(Map<String, String> responses, CountDownLatch latch) {
+            this.responses = responses;
+            this.latch = latch;
+        }
+
+        @Override
+        protected void initChannel(Channel ch) {
+            ch.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(false));
+            ch.pipeline().addLast(new HttpObjectAggregator(1024 * 1024));
+            ch.pipeline().addLast(new SimpleChannelInboundHandler<FullHttpResponse>() {
+                @Override
+                protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) {
+                    responses.put(response.content().toString(StandardCharsets.UTF_8), response.status().toString());
+                    latch.countDown();
+                }
+            });
+        }
+    }
+
+    /**
+     * Responds to every request with its uri.
+     */
+    private class EchoUriDispatcher implements HttpServerTransport.Dispatcher {
+
+        @Override
+        public void dispatchRequest(final RestRequest request, final RestChannel channel, final ThreadContext threadContext) {
+            channel.sendResponse(new BytesRestResponse(OK, BytesRestResponse.TEXT_CONTENT_TYPE, new BytesArray(request.uri())));
+        }
+
+        @Override
+        public void dispatchBadRequest(final RestChannel channel, final ThreadContext threadContext, final Throwable cause) {
+            logger.error(new ParameterizedMessage("--> Unexpected bad request [{}]",
+                FakeRestRequest.requestToString(channel.request())), cause);
+            throw new AssertionError();
+        }
+    }
+
     private Settings createSettings() {
         return createBuilderWithPort().build();
     }
@@ -54,6 +54,18 @@ public class OneMergeHelper {
         return Double.POSITIVE_INFINITY;
     }
 
+    /**
+     * Lowers the MB per second rate limit of the merge running on the given thread to the given value if it is currently higher.
+     **/
+    public static void capMbPerSec(Thread thread, double mbPerSec) {
+        if (thread instanceof ConcurrentMergeScheduler.MergeThread) {
+            final MergeRateLimiter rateLimiter = ((ConcurrentMergeScheduler.MergeThread) thread).rateLimiter;
+            if (mbPerSec < rateLimiter.getMBPerSec()) {
+                rateLimiter.setMBPerSec(mbPerSec);
+            }
+        }
+    }
+
     /**
      * Returns total bytes written by this merge.
      **/
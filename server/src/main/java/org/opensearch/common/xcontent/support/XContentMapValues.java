@@ -42,6 +42,7 @@ import org.opensearch.common.Numbers;
 import org.opensearch.common.Strings;
 import org.opensearch.common.regex.Regex;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.support.filtering.JsonSourceFilter;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -244,6 +245,37 @@ public class XContentMapValues {
             matchAllAutomaton);
     }
 
+    /**
+     * Returns a filter for the bytes of JSON source that gives the same result as {@link #filter(String[], String[])} on the
+     * map of the source, apart from the order of the fields, without parsing the source into a map.
+     */
+    public static JsonSourceFilter jsonSourceFilter(String[] includes, String[] excludes) {
+        JsonSourceFilter.PathAutomaton include = null;
+        if (includes != null && includes.length > 0) {
+            include = pathAutomaton(makeMatchDotsInFieldNames(Regex.simpleMatchToAutomaton(includes)));
+        }
+        JsonSourceFilter.PathAutomaton exclude = null;
+        if (excludes != null && excludes.length > 0) {
+            exclude = pathAutomaton(makeMatchDotsInFieldNames(Regex.simpleMatchToAutomaton(excludes)));
+        }
+        return new JsonSourceFilter(include, exclude);
+    }
+
+    private static JsonSourceFilter.PathAutomaton pathAutomaton(Automaton automaton) {
+        final CharacterRunAutomaton runAutomaton = new CharacterRunAutomaton(automaton);
+        return new JsonSourceFilter.PathAutomaton() {
+            @Override
+            public int step(int state, int c) {
+                return runAutomaton.step(state, c);
+            }
+
+            @Override
+            public boolean isAccept(int state) {
+                return runAutomaton.isAccept(state);
+            }
+        };
+    }
+
     /** Make matches on objects also match dots in field names.
      *  For instance, if the original simple regex is `foo`, this will translate
      *  it into `foo` OR `foo.*`. */
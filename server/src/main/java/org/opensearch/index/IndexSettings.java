@@ -205,6 +205,19 @@ public final class IndexSettings {
     public static final Setting<TimeValue> INDEX_REFRESH_INTERVAL_SETTING =
         Setting.timeSetting("index.refresh_interval", DEFAULT_REFRESH_INTERVAL, new TimeValue(-1, TimeUnit.MILLISECONDS),
             Property.Dynamic, Property.IndexScope);
+    /**
+     * Index setting to enable adaptive refresh scheduling. When enabled each shard picks its own refresh interval between
+     * {@link #INDEX_REFRESH_ADAPTIVE_MIN_INTERVAL_SETTING} and {@link #INDEX_REFRESH_ADAPTIVE_MAX_INTERVAL_SETTING} based on
+     * its indexing and search rates. Pending refresh listeners always force a refresh on the next schedule.
+     */
+    public static final Setting<Boolean> INDEX_REFRESH_ADAPTIVE_ENABLED_SETTING =
+        Setting.boolSetting("index.refresh.adaptive.enabled", false, Property.Dynamic, Property.IndexScope);
+    public static final Setting<TimeValue> INDEX_REFRESH_ADAPTIVE_MIN_INTERVAL_SETTING =
+        Setting.timeSetting("index.refresh.adaptive.min_interval", DEFAULT_REFRESH_INTERVAL, TimeValue.timeValueMillis(100),
+            Property.Dynamic, Property.IndexScope);
+    public static final Setting<TimeValue> INDEX_REFRESH_ADAPTIVE_MAX_INTERVAL_SETTING =
+        Setting.timeSetting("index.refresh.adaptive.max_interval", TimeValue.timeValueSeconds(30), TimeValue.timeValueMillis(100),
+            Property.Dynamic, Property.IndexScope);
     public static final Setting<ByteSizeValue> INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING =
         Setting.byteSizeSetting("index.translog.flush_threshold_size", new ByteSizeValue(512, ByteSizeUnit.MB),
             /*
@@ -260,6 +273,15 @@ public final class IndexSettings {
         settings -> Boolean.toString(IndexMetadata.SETTING_INDEX_VERSION_CREATED.get(settings).onOrAfter(LegacyESVersion.V_7_0_0)),
         Property.IndexScope, Property.Final);
 
+    /**
+     * If enabled, the {@code _source} of documents is not stored but rebuilt at fetch time from the doc values and stored fields of
+     * the mapped fields. Fields that have neither, fields of nested objects and unmapped content of the original document are not
+     * part of the rebuilt source, and arrays come back in the order of the doc values. The get API and everything built on the
+     * stored source, like updates and reindex, see the source as disabled.
+     */
+    public static final Setting<Boolean> INDEX_SYNTHETIC_SOURCE_SETTING = Setting.boolSetting("index.mapping.synthetic_source", false,
+        Property.IndexScope, Property.Final);
+
     /**
      * Controls how many soft-deleted documents will be kept around before being merged away. Keeping more deleted
      * documents increases the chance of operation-based recoveries and allows querying a longer history of documents.
@@ -299,6 +321,14 @@ public final class IndexSettings {
     public static final Setting<Integer> INDEX_TRANSLOG_RETENTION_TOTAL_FILES_SETTING =
         Setting.intSetting("index.translog.retention.total_files", 100, 0, Setting.Property.IndexScope);
 
+    /**
+     * Controls how many threads replay the translog of a shard that recovers from its local store. Operations on the same
+     * document are always replayed in order by the same thread. The threads are taken from the node wide budget of
+     * {@link org.opensearch.indices.recovery.RecoverySettings#INDICES_RECOVERY_MAX_CONCURRENT_TRANSLOG_REPLAY_THREADS_SETTING}.
+     */
+    public static final Setting<Integer> INDEX_TRANSLOG_REPLAY_CONCURRENCY_SETTING =
+        Setting.intSetting("index.translog.replay.concurrency", 1, 1, Property.Dynamic, Property.IndexScope);
+
     /**
      * Controls the maximum length of time since a retention lease is created or renewed before it is considered expired.
      */
@@ -378,10 +408,14 @@ public final class IndexSettings {
     private volatile Translog.Durability durability;
     private volatile TimeValue syncInterval;
     private volatile TimeValue refreshInterval;
+    private volatile boolean adaptiveRefreshEnabled;
+    private volatile TimeValue adaptiveRefreshMinInterval;
+    private volatile TimeValue adaptiveRefreshMaxInterval;
     private volatile ByteSizeValue flushThresholdSize;
     private volatile TimeValue translogRetentionAge;
     private volatile ByteSizeValue translogRetentionSize;
     private volatile ByteSizeValue generationThresholdSize;
+    private volatile int translogReplayConcurrency;
     private volatile ByteSizeValue flushAfterMergeThresholdSize;
     private final MergeSchedulerConfig mergeSchedulerConfig;
     private final MergePolicyConfig mergePolicyConfig;
@@ -389,6 +423,7 @@ public final class IndexSettings {
     private final IndexScopedSettings scopedSettings;
     private long gcDeletesInMillis = DEFAULT_GC_DELETES.millis();
     private final boolean softDeleteEnabled;
+    private final boolean syntheticSource;
     private volatile long softDeleteRetentionOperations;
 
     private volatile long retentionLeaseMillis;
@@ -519,13 +554,18 @@ public final class IndexSettings {
         defaultFields = scopedSettings.get(DEFAULT_FIELD_SETTING);
         syncInterval = INDEX_TRANSLOG_SYNC_INTERVAL_SETTING.get(settings);
         refreshInterval = scopedSettings.get(INDEX_REFRESH_INTERVAL_SETTING);
+        adaptiveRefreshEnabled = scopedSettings.get(INDEX_REFRESH_ADAPTIVE_ENABLED_SETTING);
+        adaptiveRefreshMinInterval = scopedSettings.get(INDEX_REFRESH_ADAPTIVE_MIN_INTERVAL_SETTING);
+        adaptiveRefreshMaxInterval = scopedSettings.get(INDEX_REFRESH_ADAPTIVE_MAX_INTERVAL_SETTING);
         flushThresholdSize = scopedSettings.get(INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING);
         generationThresholdSize = scopedSettings.get(INDEX_TRANSLOG_GENERATION_THRESHOLD_SIZE_SETTING);
+        translogReplayConcurrency = scopedSettings.get(INDEX_TRANSLOG_REPLAY_CONCURRENCY_SETTING);
         flushAfterMergeThresholdSize = scopedSettings.get(INDEX_FLUSH_AFTER_MERGE_THRESHOLD_SIZE_SETTING);
         mergeSchedulerConfig = new MergeSchedulerConfig(this);
         gcDeletesInMillis = scopedSettings.get(INDEX_GC_DELETES_SETTING).getMillis();
         softDeleteEnabled = version.onOrAfter(LegacyESVersion.V_6_5_0) && scopedSettings.get(INDEX_SOFT_DELETES_SETTING);
         softDeleteRetentionOperations = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING);
+        syntheticSource = scopedSettings.get(INDEX_SYNTHETIC_SOURCE_SETTING);
         retentionLeaseMillis = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING).millis();
         warmerEnabled = scopedSettings.get(INDEX_WARMER_ENABLED_SETTING);
         maxResultWindow = scopedSettings.get(MAX_RESULT_WINDOW_SETTING);
@@ -543,6 +583,8 @@ public final class IndexSettings {
         maxTermsCount = scopedSettings.get(MAX_TERMS_COUNT_SETTING);
         maxRegexLength = scopedSettings.get(MAX_REGEX_LENGTH_SETTING);
         this.mergePolicyConfig = new MergePolicyConfig(logger, this);
+        mergePolicyConfig.setReadOnly(scopedSettings.get(IndexMetadata.INDEX_READ_ONLY_SETTING)
+            || scopedSettings.get(IndexMetadata.INDEX_BLOCKS_WRITE_SETTING));
         this.indexSortConfig = new IndexSortConfig(this);
         searchIdleAfter = scopedSettings.get(INDEX_SEARCH_IDLE_AFTER);
         defaultPipeline = scopedSettings.get(DEFAULT_PIPELINE);
@@ -569,6 +611,8 @@ public final class IndexSettings {
             mergePolicyConfig::setMaxMergedSegment);
         scopedSettings.addSettingsUpdateConsumer(MergePolicyConfig.INDEX_MERGE_POLICY_SEGMENTS_PER_TIER_SETTING,
             mergePolicyConfig::setSegmentsPerTier);
+        scopedSettings.addSettingsUpdateConsumer(IndexMetadata.INDEX_READ_ONLY_SETTING, IndexMetadata.INDEX_BLOCKS_WRITE_SETTING,
+            (readOnly, writeBlocked) -> mergePolicyConfig.setReadOnly(readOnly || writeBlocked));
 
         scopedSettings.addSettingsUpdateConsumer(MergeSchedulerConfig.MAX_THREAD_COUNT_SETTING,
             MergeSchedulerConfig.MAX_MERGE_COUNT_SETTING, mergeSchedulerConfig::setMaxThreadAndMergeCount);
@@ -593,7 +637,11 @@ public final class IndexSettings {
                 this::setGenerationThresholdSize);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_RETENTION_AGE_SETTING, this::setTranslogRetentionAge);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_RETENTION_SIZE_SETTING, this::setTranslogRetentionSize);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_REPLAY_CONCURRENCY_SETTING, this::setTranslogReplayConcurrency);
         scopedSettings.addSettingsUpdateConsumer(INDEX_REFRESH_INTERVAL_SETTING, this::setRefreshInterval);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_REFRESH_ADAPTIVE_ENABLED_SETTING, this::setAdaptiveRefreshEnabled);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_REFRESH_ADAPTIVE_MIN_INTERVAL_SETTING, this::setAdaptiveRefreshMinInterval);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_REFRESH_ADAPTIVE_MAX_INTERVAL_SETTING, this::setAdaptiveRefreshMaxInterval);
         scopedSettings.addSettingsUpdateConsumer(MAX_REFRESH_LISTENERS_PER_SHARD, this::setMaxRefreshListeners);
         scopedSettings.addSettingsUpdateConsumer(MAX_ANALYZED_OFFSET_SETTING, this::setHighlightMaxAnalyzedOffset);
         scopedSettings.addSettingsUpdateConsumer(MAX_TERMS_COUNT_SETTING, this::setMaxTermsCount);
@@ -653,6 +701,18 @@ public final class IndexSettings {
         this.refreshInterval = timeValue;
     }
 
+    private void setAdaptiveRefreshEnabled(boolean adaptiveRefreshEnabled) {
+        this.adaptiveRefreshEnabled = adaptiveRefreshEnabled;
+    }
+
+    private void setAdaptiveRefreshMinInterval(TimeValue timeValue) {
+        this.adaptiveRefreshMinInterval = timeValue;
+    }
+
+    private void setAdaptiveRefreshMaxInterval(TimeValue timeValue) {
+        this.adaptiveRefreshMaxInterval = timeValue;
+    }
+
     /**
      * Returns the settings for this index. These settings contain the node and index level settings where
      * settings that are specified on both index and node level are overwritten by the index settings.
@@ -812,11 +872,54 @@ public final class IndexSettings {
         return refreshInterval;
     }
 
+    /**
+     * Returns <code>true</code> iff scheduled refreshes are enabled and each shard adapts its refresh interval to its load.
+     */
+    public boolean isAdaptiveRefreshEnabled() {
+        return adaptiveRefreshEnabled && refreshInterval.millis() > 0;
+    }
+
+    /**
+     * Returns the shortest interval the adaptive refresh scheduler will refresh a shard at.
+     */
+    public TimeValue getAdaptiveRefreshMinInterval() {
+        return adaptiveRefreshMinInterval;
+    }
+
+    /**
+     * Returns the longest interval the adaptive refresh scheduler will refresh a shard at. Never shorter than
+     * {@link #getAdaptiveRefreshMinInterval()}.
+     */
+    public TimeValue getAdaptiveRefreshMaxInterval() {
+        final TimeValue min = adaptiveRefreshMinInterval;
+        final TimeValue max = adaptiveRefreshMaxInterval;
+        return max.compareTo(min) < 0 ? min : max;
+    }
+
+    /**
+     * Returns the interval at which the refresh task for this index runs. This is the refresh interval unless adaptive refresh is
+     * enabled, in which case the task runs at the adaptive minimum interval and every shard decides whether it is due.
+     */
+    public TimeValue getScheduledRefreshInterval() {
+        return isAdaptiveRefreshEnabled() ? adaptiveRefreshMinInterval : refreshInterval;
+    }
+
     /**
      * Returns the transaction log threshold size when to forcefully flush the index and clear the transaction log.
      */
     public ByteSizeValue getFlushThresholdSize() { return flushThresholdSize; }
 
+    private void setTranslogReplayConcurrency(int translogReplayConcurrency) {
+        this.translogReplayConcurrency = translogReplayConcurrency;
+    }
+
+    /**
+     * Returns the number of threads that should replay the translog when the shard recovers from its local store.
+     */
+    public int getTranslogReplayConcurrency() {
+        return translogReplayConcurrency;
+    }
+
     /**
      * Returns the merge threshold size when to forcefully flush the index and free resources.
      */
@@ -997,6 +1100,14 @@ public final class IndexSettings {
         return mergePolicyConfig.getMergePolicy();
     }
 
+    /**
+     * Returns <code>true</code> iff this index uses the time ordered merge policy and became read-only, in which case its
+     * shards should collapse into a single segment.
+     */
+    public boolean shouldCollapseSegments() {
+        return mergePolicyConfig.shouldCollapseSegments();
+    }
+
     public <T> T getValue(Setting<T> setting) {
         return scopedSettings.get(setting);
     }
@@ -1078,6 +1189,13 @@ public final class IndexSettings {
         return softDeleteEnabled;
     }
 
+    /**
+     * Returns <code>true</code> if the <code>_source</code> is rebuilt from doc values and stored fields instead of being stored.
+     */
+    public boolean isSyntheticSource() {
+        return syntheticSource;
+    }
+
     private void setSoftDeleteRetentionOperations(long ops) {
         this.softDeleteRetentionOperations = ops;
     }
@@ -101,6 +101,14 @@ import org.opensearch.common.unit.ByteSizeValue;
  *     the index. Lower values make the index more space efficient at the
  *     expense of increased CPU and I/O activity. Values must be between <code>20</code> and
  *     <code>50</code>. Default value is <code>33</code>.
+ *
+ * <li><code>index.merge.policy.time_ordered</code>:
+ *
+ *     Whether the index holds append-only, time ordered data such as logs. Such indices only merge
+ *     adjacent segments, which keeps the timestamp ranges of segments disjoint, and collapse into a
+ *     single segment once the index is made read-only. Of the settings above only <code>floor_segment</code>,
+ *     <code>max_merge_at_once</code> and <code>max_merged_segment</code> apply. This setting can only be
+ *     changed on closed indices. Default is <code>false</code>.
  * </ul>
  *
  * <p>
@@ -130,8 +138,10 @@ import org.opensearch.common.unit.ByteSizeValue;
 
 public final class MergePolicyConfig {
     private final OpenSearchTieredMergePolicy mergePolicy = new OpenSearchTieredMergePolicy();
+    private final OpenSearchTimeSeriesMergePolicy timeSeriesMergePolicy = new OpenSearchTimeSeriesMergePolicy();
     private final Logger logger;
     private final boolean mergesEnabled;
+    private final boolean timeOrdered;
 
     public static final double          DEFAULT_EXPUNGE_DELETES_ALLOWED     = 10d;
     public static final ByteSizeValue   DEFAULT_FLOOR_SEGMENT               = new ByteSizeValue(2, ByteSizeUnit.MB);
@@ -169,6 +179,8 @@ public final class MergePolicyConfig {
     public static final Setting<Double> INDEX_MERGE_POLICY_DELETES_PCT_ALLOWED_SETTING =
         Setting.doubleSetting("index.merge.policy.deletes_pct_allowed", DEFAULT_DELETES_PCT_ALLOWED, 20.0d, 50.0d,
             Property.Dynamic, Property.IndexScope);
+    public static final Setting<Boolean> INDEX_MERGE_POLICY_TIME_ORDERED_SETTING =
+        Setting.boolSetting("index.merge.policy.time_ordered", false, Property.IndexScope);
     // don't convert to Setting<> and register... we only set this in tests and register via a plugin
     public static final String INDEX_MERGE_ENABLED = "index.merge.enabled";
 
@@ -189,7 +201,12 @@ public final class MergePolicyConfig {
             logger.warn("[{}] is set to false, this should only be used in tests and can cause serious problems in production" +
                 " environments", INDEX_MERGE_ENABLED);
         }
+        this.timeOrdered = indexSettings.getValue(INDEX_MERGE_POLICY_TIME_ORDERED_SETTING);
         maxMergeAtOnce = adjustMaxMergeAtOnceIfNeeded(maxMergeAtOnce, segmentsPerTier);
+        timeSeriesMergePolicy.setNoCFSRatio(indexSettings.getValue(INDEX_COMPOUND_FORMAT_SETTING));
+        timeSeriesMergePolicy.setFloorSegmentMB(floorSegment.getMbFrac());
+        timeSeriesMergePolicy.setMaxMergeAtOnce(maxMergeAtOnce);
+        timeSeriesMergePolicy.setMaxMergedSegmentMB(maxMergedSegment.getMbFrac());
         mergePolicy.setNoCFSRatio(indexSettings.getValue(INDEX_COMPOUND_FORMAT_SETTING));
         mergePolicy.setForceMergeDeletesPctAllowed(forceMergeDeletesPctAllowed);
         mergePolicy.setFloorSegmentMB(floorSegment.getMbFrac());
@@ -213,6 +230,7 @@ public final class MergePolicyConfig {
 
     void setMaxMergedSegment(ByteSizeValue maxMergedSegment) {
         mergePolicy.setMaxMergedSegmentMB(maxMergedSegment.getMbFrac());
+        timeSeriesMergePolicy.setMaxMergedSegmentMB(maxMergedSegment.getMbFrac());
     }
 
     void setMaxMergesAtOnceExplicit(Integer maxMergeAtOnceExplicit) {
@@ -221,10 +239,12 @@ public final class MergePolicyConfig {
 
     void setMaxMergesAtOnce(Integer maxMergeAtOnce) {
         mergePolicy.setMaxMergeAtOnce(maxMergeAtOnce);
+        timeSeriesMergePolicy.setMaxMergeAtOnce(maxMergeAtOnce);
     }
 
     void setFloorSegmentSetting(ByteSizeValue floorSegementSetting) {
         mergePolicy.setFloorSegmentMB(floorSegementSetting.getMbFrac());
+        timeSeriesMergePolicy.setFloorSegmentMB(floorSegementSetting.getMbFrac());
     }
 
     void setExpungeDeletesAllowed(Double value) {
@@ -233,6 +253,19 @@ public final class MergePolicyConfig {
 
     void setNoCFSRatio(Double noCFSRatio) {
         mergePolicy.setNoCFSRatio(noCFSRatio);
+        timeSeriesMergePolicy.setNoCFSRatio(noCFSRatio);
+    }
+
+    void setReadOnly(boolean readOnly) {
+        timeSeriesMergePolicy.setReadOnly(readOnly);
+    }
+
+    /**
+     * Returns <code>true</code> iff this index uses the time ordered merge policy and is read-only, which means all of
+     * its segments should be collapsed into one.
+     */
+    boolean shouldCollapseSegments() {
+        return mergesEnabled && timeOrdered && timeSeriesMergePolicy.isReadOnly();
     }
 
     void setDeletesPctAllowed(Double deletesPctAllowed) {
@@ -256,7 +289,10 @@ public final class MergePolicyConfig {
     }
 
     MergePolicy getMergePolicy() {
-        return mergesEnabled ? mergePolicy : NoMergePolicy.INSTANCE;
+        if (mergesEnabled == false) {
+            return NoMergePolicy.INSTANCE;
+        }
+        return timeOrdered ? timeSeriesMergePolicy : mergePolicy;
     }
 
     private static double parseNoCFSRatio(String noCFSRatio) {
@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import org.apache.lucene.index.FilterMergePolicy;
+import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.index.MergeTrigger;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfos;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Merge policy for append-only, time ordered indices. Segments of such indices are flushed in timestamp order, so merging
+ * only adjacent segments keeps the timestamp ranges of segments disjoint. This is what makes the per-segment minimum and
+ * maximum values of the timestamp points useful for skipping segments on range queries and sorted searches. Among adjacent
+ * segments merges are selected by size through {@link LogByteSizeMergePolicy}.
+ * <p>
+ * Once the index becomes read-only the next merge request collapses all segments into a single one, since no more data
+ * is going to arrive that could be merged in later.
+ */
+final class OpenSearchTimeSeriesMergePolicy extends FilterMergePolicy {
+
+    final LogByteSizeMergePolicy regularMergePolicy;
+    private volatile boolean readOnly;
+
+    OpenSearchTimeSeriesMergePolicy() {
+        super(new LogByteSizeMergePolicy());
+        regularMergePolicy = (LogByteSizeMergePolicy) in;
+        regularMergePolicy.setMaxMergeMBForForcedMerge(Double.POSITIVE_INFINITY);
+    }
+
+    @Override
+    public MergeSpecification findMerges(MergeTrigger mergeTrigger, SegmentInfos segmentInfos,
+                                         MergeContext mergeContext) throws IOException {
+        if (readOnly) {
+            return collapse(segmentInfos, mergeContext);
+        }
+        return super.findMerges(mergeTrigger, segmentInfos, mergeContext);
+    }
+
+    private MergeSpecification collapse(SegmentInfos segmentInfos, MergeContext mergeContext) {
+        if (segmentInfos.size() <= 1 || mergeContext.getMergingSegments().isEmpty() == false) {
+            // nothing to collapse or a previous merge is still running, we get asked again once it finishes
+            return null;
+        }
+        final List<SegmentCommitInfo> segments = new ArrayList<>(segmentInfos.size());
+        for (SegmentCommitInfo info : segmentInfos) {
+            segments.add(info);
+        }
+        final MergeSpecification spec = new MergeSpecification();
+        spec.add(new OneMerge(segments));
+        return spec;
+    }
+
+    /**
+     * Marks the index as read-only, which makes the policy collapse all segments into one on the next merge request.
+     */
+    void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    boolean isReadOnly() {
+        return readOnly;
+    }
+
+    public void setFloorSegmentMB(double mbFrac) {
+        regularMergePolicy.setMinMergeMB(mbFrac);
+    }
+
+    public double getFloorSegmentMB() {
+        return regularMergePolicy.getMinMergeMB();
+    }
+
+    public void setMaxMergeAtOnce(int maxMergeAtOnce) {
+        regularMergePolicy.setMergeFactor(maxMergeAtOnce);
+    }
+
+    public int getMaxMergeAtOnce() {
+        return regularMergePolicy.getMergeFactor();
+    }
+
+    public void setMaxMergedSegmentMB(double mbFrac) {
+        regularMergePolicy.setMaxMergeMB(mbFrac);
+    }
+
+    public double getMaxMergedSegmentMB() {
+        return regularMergePolicy.getMaxMergeMB();
+    }
+}
@@ -40,6 +40,7 @@ import org.apache.lucene.codecs.lucene80.Lucene80DocValuesFormat;
 import org.apache.lucene.codecs.lucene87.Lucene87Codec;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.index.mapper.CompletionFieldMapper;
+import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
 
@@ -50,11 +51,15 @@ import org.opensearch.index.mapper.MapperService;
  * allows users to change the low level postings format for individual fields
  * per index in real time via the mapping API. If no specific postings format is
  * configured for a specific field the default postings format is used.
+ * <p>
+ * Doc values are written with the best compression, unless the mapping of a
+ * keyword field asks for its terms to be written for speed instead.
  */
 public class PerFieldMappingPostingFormatCodec extends Lucene87Codec {
     private final Logger logger;
     private final MapperService mapperService;
     private final DocValuesFormat dvFormat = new Lucene80DocValuesFormat(Lucene80DocValuesFormat.Mode.BEST_COMPRESSION);
+    private final DocValuesFormat bestSpeedDvFormat = new Lucene80DocValuesFormat(Lucene80DocValuesFormat.Mode.BEST_SPEED);
 
     static {
         assert Codec.forName(Lucene.LATEST_CODEC).getClass().isAssignableFrom(PerFieldMappingPostingFormatCodec.class) :
@@ -80,6 +85,12 @@ public class PerFieldMappingPostingFormatCodec extends Lucene87Codec {
 
     @Override
     public DocValuesFormat getDocValuesFormatForField(String field) {
+        final MappedFieldType fieldType = mapperService.fieldType(field);
+        if (fieldType instanceof KeywordFieldMapper.KeywordFieldType
+            && KeywordFieldMapper.DOC_VALUES_BEST_SPEED.equals(((KeywordFieldMapper.KeywordFieldType) fieldType).docValuesCompression())) {
+            // the mode is recorded per field, so both formats can be mixed within a segment
+            return bestSpeedDvFormat;
+        }
         return dvFormat;
     }
 }
@@ -37,6 +37,8 @@ import org.apache.lucene.index.ConcurrentMergeScheduler;
 import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.index.MergeScheduler;
 import org.apache.lucene.index.OneMergeHelper;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
@@ -48,11 +50,15 @@ import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.MergeSchedulerConfig;
 import org.opensearch.index.merge.MergeStats;
+import org.opensearch.index.merge.NodeMergeScheduler;
 import org.opensearch.index.merge.OnGoingMerge;
 import org.opensearch.index.shard.ShardId;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
@@ -78,9 +84,17 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
     private final Set<OnGoingMerge> onGoingMerges = ConcurrentCollections.newConcurrentSet();
     private final Set<OnGoingMerge> readOnlyOnGoingMerges = Collections.unmodifiableSet(onGoingMerges);
     private final MergeSchedulerConfig config;
+    @Nullable
+    private final NodeMergeScheduler nodeMergeScheduler;
+    private final Set<Thread> waitingForNodeSlot = ConcurrentCollections.newConcurrentSet();
 
     OpenSearchConcurrentMergeScheduler(ShardId shardId, IndexSettings indexSettings) {
+        this(shardId, indexSettings, null);
+    }
+
+    OpenSearchConcurrentMergeScheduler(ShardId shardId, IndexSettings indexSettings, @Nullable NodeMergeScheduler nodeMergeScheduler) {
         this.config = indexSettings.getMergeSchedulerConfig();
+        this.nodeMergeScheduler = nodeMergeScheduler;
         this.shardId = shardId;
         this.indexSettings = indexSettings.getSettings();
         this.logger = Loggers.getLogger(getClass(), shardId);
@@ -93,6 +107,29 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
 
     @Override
     protected void doMerge(MergeSource mergeSource, MergePolicy.OneMerge merge) throws IOException {
+        if (nodeMergeScheduler == null) {
+            runMerge(mergeSource, merge);
+            return;
+        }
+        // the node wide slot is acquired before the merge is tracked, a merge that waits for a slot is neither current nor in flight
+        final Thread thread = Thread.currentThread();
+        final Releasable slot;
+        waitingForNodeSlot.add(thread);
+        try {
+            // CMS must not pause a merge that holds a slot in favour of this one, which can't run before that merge is done
+            updateMergeThreads();
+            slot = nodeMergeScheduler.acquire(merge, () -> getTotalBytesWritten(thread, merge));
+        } finally {
+            waitingForNodeSlot.remove(thread);
+        }
+        try (Releasable ignored = slot) {
+            // the merge runs now, it takes part in pausing and rate limiting the merges of this shard again
+            updateMergeThreads();
+            runMerge(mergeSource, merge);
+        }
+    }
+
+    private void runMerge(MergeSource mergeSource, MergePolicy.OneMerge merge) throws IOException {
         int totalNumDocs = merge.totalNumDocs();
         long totalSizeInBytes = merge.totalBytesSize();
         long timeNS = System.nanoTime();
@@ -187,6 +224,65 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
         return thread;
     }
 
+    @Override
+    public synchronized int mergeThreadCount() {
+        final List<MergeThread> waiting = removeMergeThreadsWaitingForNodeSlot();
+        try {
+            return super.mergeThreadCount();
+        } finally {
+            mergeThreads.addAll(waiting);
+        }
+    }
+
+    @Override
+    protected synchronized void updateMergeThreads() {
+        final List<MergeThread> waiting = removeMergeThreadsWaitingForNodeSlot();
+        try {
+            super.updateMergeThreads();
+        } finally {
+            mergeThreads.addAll(waiting);
+        }
+        if (nodeMergeScheduler != null) {
+            // the auto IO throttle resets the rate of every merge thread, re-apply the node wide cap on top of it
+            final double perMergeMBPerSec = nodeMergeScheduler.getPerMergeMBPerSec();
+            if (perMergeMBPerSec != Double.POSITIVE_INFINITY) {
+                for (MergeThread mergeThread : mergeThreads) {
+                    if (mergeThread.isAlive()) {
+                        OneMergeHelper.capMbPerSec(mergeThread, perMergeMBPerSec);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the threads of the merges that wait for a node wide merge slot from the merge threads. These merges neither run nor
+     * write, so they must neither be counted as running merges nor make CMS pause the merges that hold a slot.
+     */
+    private List<MergeThread> removeMergeThreadsWaitingForNodeSlot() {
+        assert Thread.holdsLock(this);
+        if (waitingForNodeSlot.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<MergeThread> waiting = new ArrayList<>();
+        for (Iterator<MergeThread> it = mergeThreads.iterator(); it.hasNext(); ) {
+            final MergeThread mergeThread = it.next();
+            if (waitingForNodeSlot.contains(mergeThread)) {
+                waiting.add(mergeThread);
+                it.remove();
+            }
+        }
+        return waiting;
+    }
+
+    private static long getTotalBytesWritten(Thread thread, MergePolicy.OneMerge merge) {
+        try {
+            return OneMergeHelper.getTotalBytesWritten(thread, merge);
+        } catch (IOException e) {
+            return merge.totalBytesSize();
+        }
+    }
+
     MergeStats stats() {
         final MergeStats mergeStats = new MergeStats();
         mergeStats.add(totalMerges.count(), totalMerges.sum(), totalMergesNumDocs.count(), totalMergesSizeInBytes.count(),
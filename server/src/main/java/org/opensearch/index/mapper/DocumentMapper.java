@@ -136,6 +136,8 @@ public class DocumentMapper implements ToXContentFragment {
 
     private final DocumentParser documentParser;
 
+    private final FieldPathLookup fieldPaths;
+
     private final MappingLookup fieldMappers;
 
     private final MetadataFieldMapper[] deleteTombstoneMetadataFieldMappers;
@@ -147,6 +149,7 @@ public class DocumentMapper implements ToXContentFragment {
         this.typeText = new Text(this.type);
         final IndexSettings indexSettings = mapperService.getIndexSettings();
         this.mapping = mapping;
+        this.fieldPaths = FieldPathLookup.fromMapping(mapping);
         this.documentParser = new DocumentParser(indexSettings, mapperService.documentMapperParser(), this);
 
         final IndexAnalyzers indexAnalyzers = mapperService.getIndexAnalyzers();
@@ -172,6 +175,10 @@ public class DocumentMapper implements ToXContentFragment {
         return mapping;
     }
 
+    FieldPathLookup fieldPaths() {
+        return fieldPaths;
+    }
+
     public String type() {
         return this.type;
     }
@@ -306,11 +313,31 @@ public class DocumentMapper implements ToXContentFragment {
         if (settings.getIndexSortConfig().hasIndexSort() && hasNestedObjects()) {
             throw new IllegalArgumentException("cannot have nested fields when index sort is activated");
         }
+        if (settings.isSyntheticSource()) {
+            checkTextFieldsAreStored(root());
+        }
         if (checkLimits) {
             this.fieldMappers.checkLimits(settings);
         }
     }
 
+    /**
+     * Text fields have no doc values, so a synthetic source can only rebuild them from their stored values. Multi-fields are
+     * indexed from the values of their parent and the fields of nested objects aren't rebuilt, so neither are checked.
+     */
+    private static void checkTextFieldsAreStored(ObjectMapper object) {
+        for (Mapper mapper : object) {
+            if (mapper instanceof ObjectMapper) {
+                if (((ObjectMapper) mapper).nested().isNested() == false) {
+                    checkTextFieldsAreStored((ObjectMapper) mapper);
+                }
+            } else if (mapper instanceof TextFieldMapper && ((TextFieldMapper) mapper).fieldType().isStored() == false) {
+                throw new IllegalArgumentException("field [" + mapper.name() + "] of type [" + TextFieldMapper.CONTENT_TYPE
+                    + "] must set [store] to [true] when [" + IndexSettings.INDEX_SYNTHETIC_SOURCE_SETTING.getKey() + "] is enabled");
+            }
+        }
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         return mapping.toXContent(builder, params);
@@ -419,8 +419,16 @@ final class DocumentParser {
         while (token != XContentParser.Token.END_OBJECT) {
             if (token == XContentParser.Token.FIELD_NAME) {
                 currentFieldName = parser.currentName();
-                paths = splitAndValidatePath(currentFieldName);
-                if (containsDisabledObjectMapper(mapper, paths)) {
+                final FieldPathLookup.ResolvedField resolved = context.docMapper().fieldPaths().get(mapper, currentFieldName);
+                final boolean containsDisabledObject;
+                if (resolved != null) {
+                    paths = resolved.path();
+                    containsDisabledObject = resolved.containsDisabledObject();
+                } else {
+                    paths = splitAndValidatePath(currentFieldName);
+                    containsDisabledObject = containsDisabledObjectMapper(mapper, paths);
+                }
+                if (containsDisabledObject) {
                     parser.nextToken();
                     parser.skipChildren();
                 }
@@ -599,7 +607,8 @@ final class DocumentParser {
                                              final String lastFieldName, String arrayFieldName) throws IOException {
         XContentParser parser = context.parser();
         XContentParser.Token token;
-        final String[] paths = splitAndValidatePath(lastFieldName);
+        final FieldPathLookup.ResolvedField resolved = context.docMapper().fieldPaths().get(mapper, lastFieldName);
+        final String[] paths = resolved != null ? resolved.path() : splitAndValidatePath(lastFieldName);
         while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
             if (token == XContentParser.Token.START_OBJECT) {
                 parseObject(context, mapper, lastFieldName, paths);
@@ -909,11 +918,20 @@ final class DocumentParser {
 
     // looks up a child mapper, but takes into account field names that expand to objects
     private static Mapper getMapper(final ParseContext context, ObjectMapper objectMapper, String fieldName, String[] subfields) {
-        String fieldPath = context.path().pathAsText(fieldName);
+        final FieldPathLookup fieldPaths = context.docMapper().fieldPaths();
+        Mapper mapper;
         // Check if mapper is a metadata mapper first
-        Mapper mapper = context.docMapper().mapping().getMetadataMapper(fieldPath);
-        if (mapper != null) {
-            return mapper;
+        if (fieldPaths.mayBeMetadataField(fieldName)) {
+            String fieldPath = context.path().pathAsText(fieldName);
+            mapper = context.docMapper().mapping().getMetadataMapper(fieldPath);
+            if (mapper != null) {
+                return mapper;
+            }
+        }
+        // mapped fields are resolved in a single lookup, new fields and fields below nested objects walk the object mappers
+        final FieldPathLookup.ResolvedField resolved = fieldPaths.get(objectMapper, fieldName);
+        if (resolved != null) {
+            return resolved.mapper();
         }
 
         for (int i = 0; i < subfields.length - 1; ++i) {
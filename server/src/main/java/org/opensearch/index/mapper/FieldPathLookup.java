@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.common.Strings;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves the field names of a document against the mappers of a {@link Mapping} with a single hash lookup per field
+ * instead of splitting the name and walking the object mappers one path element at a time. It is built once per mapping:
+ * for every object mapper it holds all mapped descendants by their name relative to that object, including dotted names
+ * like {@code "a.b"} that reach through child objects. Names that are not mapped, like new dynamic fields, and names that
+ * reach through nested objects are unknown to the lookup and resolved the regular way.
+ */
+final class FieldPathLookup {
+
+    /**
+     * A mapped field name relative to an object mapper.
+     */
+    static final class ResolvedField {
+        private final String[] path;
+        private final Mapper mapper;
+        private final boolean containsDisabledObject;
+
+        private ResolvedField(String[] path, Mapper mapper, boolean containsDisabledObject) {
+            this.path = path;
+            this.mapper = mapper;
+            this.containsDisabledObject = containsDisabledObject;
+        }
+
+        /**
+         * The name split into its path elements.
+         */
+        String[] path() {
+            return path;
+        }
+
+        Mapper mapper() {
+            return mapper;
+        }
+
+        /**
+         * Whether one of the intermediate objects of a dotted name is disabled.
+         */
+        boolean containsDisabledObject() {
+            return containsDisabledObject;
+        }
+    }
+
+    // object mappers are compared by identity, the lookup only knows the instances of the mapping it was built from
+    private final IdentityHashMap<ObjectMapper, Map<String, ResolvedField>> fieldsByObject;
+    private final String[] metadataFieldNames;
+
+    private FieldPathLookup(IdentityHashMap<ObjectMapper, Map<String, ResolvedField>> fieldsByObject, String[] metadataFieldNames) {
+        this.fieldsByObject = fieldsByObject;
+        this.metadataFieldNames = metadataFieldNames;
+    }
+
+    static FieldPathLookup fromMapping(Mapping mapping) {
+        final IdentityHashMap<ObjectMapper, Map<String, ResolvedField>> fieldsByObject = new IdentityHashMap<>();
+        collect(mapping.root(), fieldsByObject);
+        return new FieldPathLookup(fieldsByObject, mapping.metadataMappersByName.keySet().toArray(new String[0]));
+    }
+
+    /**
+     * Whether a field with the given name, relative to any object, may resolve to a metadata field. This is the case if the
+     * name is a suffix of the name of a metadata field, which saves building the full path of all other fields.
+     */
+    boolean mayBeMetadataField(String fieldName) {
+        for (String metadataFieldName : metadataFieldNames) {
+            if (metadataFieldName.endsWith(fieldName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the mapped field with the given name relative to the given object mapper, or {@code null} if it is not known.
+     */
+    ResolvedField get(ObjectMapper parent, String fieldName) {
+        final Map<String, ResolvedField> fields = fieldsByObject.get(parent);
+        return fields == null ? null : fields.get(fieldName);
+    }
+
+    private static void collect(ObjectMapper object, IdentityHashMap<ObjectMapper, Map<String, ResolvedField>> fieldsByObject) {
+        final Map<String, ResolvedField> fields = new HashMap<>();
+        addDescendants(object, new ArrayList<>(), false, fields);
+        fieldsByObject.put(object, fields);
+        for (Mapper child : object) {
+            if (child instanceof ObjectMapper) {
+                collect((ObjectMapper) child, fieldsByObject);
+            }
+        }
+    }
+
+    private static void addDescendants(ObjectMapper parent, List<String> prefix, boolean containsDisabledObject,
+                                       Map<String, ResolvedField> fields) {
+        for (Mapper child : parent) {
+            final String simpleName = child.simpleName();
+            if (Strings.hasText(simpleName) == false || simpleName.indexOf('.') >= 0) {
+                // such names do not round-trip through splitting, leave them to the regular resolution
+                continue;
+            }
+            prefix.add(simpleName);
+            final String[] path = prefix.toArray(new String[0]);
+            fields.put(String.join(".", path), new ResolvedField(path, child, containsDisabledObject));
+            if (child instanceof ObjectMapper && ((ObjectMapper) child).nested().isNested() == false) {
+                final ObjectMapper object = (ObjectMapper) child;
+                addDescendants(object, prefix, containsDisabledObject || object.isEnabled() == false, fields);
+            }
+            prefix.remove(prefix.size() - 1);
+        }
+    }
+}
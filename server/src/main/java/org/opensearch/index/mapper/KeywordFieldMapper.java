@@ -65,6 +65,11 @@ public final class KeywordFieldMapper extends ParametrizedFieldMapper {
 
     public static final String CONTENT_TYPE = "keyword";
 
+    /** Compresses the blocks of the terms dictionary of the doc values, which is the default. */
+    public static final String DOC_VALUES_BEST_COMPRESSION = "best_compression";
+    /** Leaves the terms dictionary of the doc values uncompressed, which makes looking up terms by ordinal faster. */
+    public static final String DOC_VALUES_BEST_SPEED = "best_speed";
+
     public static class Defaults {
         public static final FieldType FIELD_TYPE = new FieldType();
 
@@ -93,6 +98,8 @@ public final class KeywordFieldMapper extends ParametrizedFieldMapper {
         private final Parameter<Boolean> indexed = Parameter.indexParam(m -> toType(m).indexed, true);
         private final Parameter<Boolean> hasDocValues = Parameter.docValuesParam(m -> toType(m).hasDocValues, true);
         private final Parameter<Boolean> stored = Parameter.storeParam(m -> toType(m).fieldType.stored(), false);
+        private final Parameter<String> docValuesCompression = Parameter.restrictedStringParam("doc_values_compression", true,
+            m -> toType(m).docValuesCompression, DOC_VALUES_BEST_COMPRESSION, DOC_VALUES_BEST_SPEED);
 
         private final Parameter<String> nullValue
             = Parameter.stringParam("null_value", false, m -> toType(m).nullValue, null).acceptsNull();
@@ -149,7 +156,7 @@ public final class KeywordFieldMapper extends ParametrizedFieldMapper {
 
         @Override
         protected List<Parameter<?>> getParameters() {
-            return Arrays.asList(indexed, hasDocValues, stored, nullValue, eagerGlobalOrdinals, ignoreAbove,
+            return Arrays.asList(indexed, hasDocValues, stored, docValuesCompression, nullValue, eagerGlobalOrdinals, ignoreAbove,
                 indexOptions, hasNorms, similarity, normalizer, splitQueriesOnWhitespace, boost, meta);
         }
 
@@ -193,6 +200,7 @@ public final class KeywordFieldMapper extends ParametrizedFieldMapper {
 
         private final int ignoreAbove;
         private final String nullValue;
+        private final String docValuesCompression;
 
         public KeywordFieldType(String name, FieldType fieldType,
                                 NamedAnalyzer normalizer, NamedAnalyzer searchAnalyzer, Builder builder) {
@@ -207,6 +215,7 @@ public final class KeywordFieldMapper extends ParametrizedFieldMapper {
             setBoost(builder.boost.getValue());
             this.ignoreAbove = builder.ignoreAbove.getValue();
             this.nullValue = builder.nullValue.getValue();
+            this.docValuesCompression = builder.docValuesCompression.getValue();
         }
 
         public KeywordFieldType(String name, boolean isSearchable, boolean hasDocValues, Map<String, String> meta) {
@@ -214,6 +223,7 @@ public final class KeywordFieldMapper extends ParametrizedFieldMapper {
             setIndexAnalyzer(Lucene.KEYWORD_ANALYZER);
             this.ignoreAbove = Integer.MAX_VALUE;
             this.nullValue = null;
+            this.docValuesCompression = DOC_VALUES_BEST_COMPRESSION;
         }
 
         public KeywordFieldType(String name) {
@@ -227,12 +237,14 @@ public final class KeywordFieldMapper extends ParametrizedFieldMapper {
                 Collections.emptyMap());
             this.ignoreAbove = Integer.MAX_VALUE;
             this.nullValue = null;
+            this.docValuesCompression = DOC_VALUES_BEST_COMPRESSION;
         }
 
         public KeywordFieldType(String name, NamedAnalyzer analyzer) {
             super(name, true, false, true, new TextSearchInfo(Defaults.FIELD_TYPE, null, analyzer, analyzer), Collections.emptyMap());
             this.ignoreAbove = Integer.MAX_VALUE;
             this.nullValue = null;
+            this.docValuesCompression = DOC_VALUES_BEST_COMPRESSION;
         }
 
         @Override
@@ -244,6 +256,14 @@ public final class KeywordFieldMapper extends ParametrizedFieldMapper {
             return indexAnalyzer();
         }
 
+        /**
+         * How the terms of the doc values of this field are encoded, either {@link #DOC_VALUES_BEST_COMPRESSION} or
+         * {@link #DOC_VALUES_BEST_SPEED}.
+         */
+        public String docValuesCompression() {
+            return docValuesCompression;
+        }
+
         @Override
         public IndexFieldData.Builder fielddataBuilder(String fullyQualifiedIndexName, Supplier<SearchLookup> searchLookup) {
             failIfNoDocValues();
@@ -311,6 +331,7 @@ public final class KeywordFieldMapper extends ParametrizedFieldMapper {
 
     private final boolean indexed;
     private final boolean hasDocValues;
+    private final String docValuesCompression;
     private final String nullValue;
     private final boolean eagerGlobalOrdinals;
     private final int ignoreAbove;
@@ -328,6 +349,7 @@ public final class KeywordFieldMapper extends ParametrizedFieldMapper {
         assert fieldType.indexOptions().compareTo(IndexOptions.DOCS_AND_FREQS) <= 0;
         this.indexed = builder.indexed.getValue();
         this.hasDocValues = builder.hasDocValues.getValue();
+        this.docValuesCompression = builder.docValuesCompression.getValue();
         this.nullValue = builder.nullValue.getValue();
         this.eagerGlobalOrdinals = builder.eagerGlobalOrdinals.getValue();
         this.ignoreAbove = builder.ignoreAbove.getValue();
@@ -173,7 +173,8 @@ public class SourceFieldMapper extends MetadataFieldMapper {
     public void preParse(ParseContext context) throws IOException {
         BytesReference originalSource = context.sourceToParse().source();
         XContentType contentType = context.sourceToParse().getXContentType();
-        final BytesReference adaptedSource = applyFilters(originalSource, contentType);
+        // a synthetic source is rebuilt from the other fields at fetch time
+        final BytesReference adaptedSource = context.indexSettings().isSyntheticSource() ? null : applyFilters(originalSource, contentType);
 
         if (adaptedSource != null) {
             final BytesRef ref = adaptedSource.toBytesRef();
@@ -0,0 +1,234 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.merge;
+
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.util.ThreadInterruptedException;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Coordinates merges across all shards of a node. Every shard still owns its own merge scheduler, but before a merge
+ * thread starts writing it has to obtain one of a limited number of node wide merge slots:
+ * <ul>
+ *     <li>waiting merges are ordered by their size, discounted by the ratio of deleted documents they reclaim and by the
+ *     time they already waited, so small merges and merges of shards under heavy delete pressure go first without
+ *     starving large merges,</li>
+ *     <li>the number of slots adapts between {@link #MIN_CONCURRENT_MERGES_SETTING} and {@link #MAX_CONCURRENT_MERGES_SETTING}
+ *     by hill climbing on the measured merge write throughput of the node,</li>
+ *     <li>{@link #MAX_BYTES_PER_SEC_SETTING} is split across the running merges and caps each merge's IO rate.</li>
+ * </ul>
+ * Node wide coordination is disabled unless {@link #MAX_CONCURRENT_MERGES_SETTING} is positive.
+ */
+public class NodeMergeScheduler {
+
+    public static final Setting<Integer> MAX_CONCURRENT_MERGES_SETTING =
+        Setting.intSetting("indices.merge.scheduler.max_concurrent_merges", 0, 0, Property.Dynamic, Property.NodeScope);
+    public static final Setting<Integer> MIN_CONCURRENT_MERGES_SETTING =
+        Setting.intSetting("indices.merge.scheduler.min_concurrent_merges", 1, 1, Property.Dynamic, Property.NodeScope);
+    public static final Setting<ByteSizeValue> MAX_BYTES_PER_SEC_SETTING =
+        Setting.byteSizeSetting("indices.merge.scheduler.max_bytes_per_sec", new ByteSizeValue(0), Property.Dynamic, Property.NodeScope);
+
+    /**
+     * How often the concurrency limit is re-evaluated against the measured throughput.
+     */
+    static final long ADJUST_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * A waiting merge loses half of its size penalty for every {@code AGING_NANOS} it has been waiting.
+     */
+    static final long AGING_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * Waiting merge threads wake up at least this often to check whether their merge was aborted.
+     */
+    private static final long WAIT_SLICE_MILLIS = 100;
+
+    private static final double ALPHA = 0.3;
+
+    private final LongSupplier relativeNanos;
+    private final List<PendingMerge> queue = new ArrayList<>();
+
+    private volatile int maxConcurrentMerges;
+    private volatile int minConcurrentMerges;
+    private volatile long maxBytesPerSec;
+
+    private int running;
+    private int concurrencyLimit;
+    private long totalQueued;
+    private long totalQueueTimeNanos;
+
+    private long windowStartNanos;
+    private long windowBytes;
+    private boolean windowContended;
+    private double lastWindowThroughput;
+    private int lastStep = 1;
+    private double throughput;
+
+    public NodeMergeScheduler(Settings settings, ClusterSettings clusterSettings) {
+        this(settings, clusterSettings, System::nanoTime);
+    }
+
+    NodeMergeScheduler(Settings settings, ClusterSettings clusterSettings, LongSupplier relativeNanos) {
+        this.relativeNanos = relativeNanos;
+        this.maxConcurrentMerges = MAX_CONCURRENT_MERGES_SETTING.get(settings);
+        this.minConcurrentMerges = MIN_CONCURRENT_MERGES_SETTING.get(settings);
+        this.maxBytesPerSec = MAX_BYTES_PER_SEC_SETTING.get(settings).getBytes();
+        this.concurrencyLimit = maxConcurrentMerges;
+        this.windowStartNanos = relativeNanos.getAsLong();
+        clusterSettings.addSettingsUpdateConsumer(MAX_CONCURRENT_MERGES_SETTING, this::setMaxConcurrentMerges);
+        clusterSettings.addSettingsUpdateConsumer(MIN_CONCURRENT_MERGES_SETTING, this::setMinConcurrentMerges);
+        clusterSettings.addSettingsUpdateConsumer(MAX_BYTES_PER_SEC_SETTING, value -> this.maxBytesPerSec = value.getBytes());
+    }
+
+    private synchronized void setMaxConcurrentMerges(int maxConcurrentMerges) {
+        this.maxConcurrentMerges = maxConcurrentMerges;
+        this.concurrencyLimit = maxConcurrentMerges;
+        notifyAll();
+    }
+
+    private synchronized void setMinConcurrentMerges(int minConcurrentMerges) {
+        this.minConcurrentMerges = minConcurrentMerges;
+        notifyAll();
+    }
+
+    /**
+     * Blocks the calling merge thread until the given merge may run. Merges that are aborted while waiting are released
+     * immediately so that the index writer can tear them down. The returned handle must be released once the merge is done.
+     */
+    public Releasable acquire(MergePolicy.OneMerge merge, LongSupplier bytesWritten) {
+        final PendingMerge pending = new PendingMerge(merge, bytesWritten, relativeNanos.getAsLong());
+        synchronized (this) {
+            if (isEnabled() && mayRun(pending) == false) {
+                queue.add(pending);
+                totalQueued++;
+                windowContended = true;
+                try {
+                    while (isEnabled() && mayRun(pending) == false && merge.isAborted() == false) {
+                        wait(WAIT_SLICE_MILLIS);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ThreadInterruptedException(e);
+                } finally {
+                    queue.remove(pending);
+                    totalQueueTimeNanos += relativeNanos.getAsLong() - pending.enqueuedNanos;
+                    notifyAll();
+                }
+            }
+            running++;
+        }
+        return () -> release(pending);
+    }
+
+    private synchronized void release(PendingMerge pending) {
+        running--;
+        windowBytes += pending.bytesWritten.getAsLong();
+        maybeAdjustConcurrency(relativeNanos.getAsLong());
+        notifyAll();
+    }
+
+    private boolean mayRun(PendingMerge pending) {
+        if (running >= concurrencyLimit) {
+            return false;
+        }
+        final long now = relativeNanos.getAsLong();
+        for (PendingMerge other : queue) {
+            if (other != pending && other.priority(now) < pending.priority(now)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void maybeAdjustConcurrency(long now) {
+        final long elapsed = now - windowStartNanos;
+        if (elapsed < ADJUST_INTERVAL_NANOS) {
+            return;
+        }
+        final double windowThroughput = windowBytes / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+        throughput = throughput == 0 ? windowThroughput : ALPHA * windowThroughput + (1 - ALPHA) * throughput;
+        if (isEnabled() && windowContended) {
+            if (windowThroughput < lastWindowThroughput * 0.95) {
+                // the last step made things worse, the disks are saturated or were before the last decrease
+                lastStep = -lastStep;
+            }
+            concurrencyLimit = Math.max(Math.min(minConcurrentMerges, maxConcurrentMerges),
+                Math.min(maxConcurrentMerges, concurrencyLimit + lastStep));
+        }
+        lastWindowThroughput = windowThroughput;
+        windowStartNanos = now;
+        windowBytes = 0;
+        windowContended = false;
+    }
+
+    /**
+     * Returns <code>true</code> iff merges are coordinated across the shards of this node.
+     */
+    public boolean isEnabled() {
+        return maxConcurrentMerges > 0;
+    }
+
+    /**
+     * The IO rate in MB per second that each running merge may use, {@link Double#POSITIVE_INFINITY} if unbounded.
+     */
+    public double getPerMergeMBPerSec() {
+        final long bytesPerSec = maxBytesPerSec;
+        if (bytesPerSec <= 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        final int runningMerges;
+        synchronized (this) {
+            runningMerges = Math.max(1, running);
+        }
+        return bytesPerSec / (double) runningMerges / 1024 / 1024;
+    }
+
+    public synchronized NodeMergeStats stats() {
+        return new NodeMergeStats(queue.size(), running, isEnabled() ? concurrencyLimit : -1, totalQueued,
+            TimeUnit.NANOSECONDS.toMillis(totalQueueTimeNanos), Math.round(throughput));
+    }
+
+    synchronized int getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    private static final class PendingMerge {
+        private final LongSupplier bytesWritten;
+        private final long enqueuedNanos;
+        private final double weight;
+
+        PendingMerge(MergePolicy.OneMerge merge, LongSupplier bytesWritten, long enqueuedNanos) {
+            this.bytesWritten = bytesWritten;
+            this.enqueuedNanos = enqueuedNanos;
+            long docs = 0;
+            long deletedDocs = 0;
+            for (SegmentCommitInfo info : merge.segments) {
+                docs += info.info.maxDoc();
+                deletedDocs += info.getDelCount() + info.getSoftDelCount();
+            }
+            final double deletesRatio = docs == 0 ? 0 : Math.min(1d, deletedDocs / (double) docs);
+            this.weight = merge.totalBytesSize() * (1 - deletesRatio);
+        }
+
+        double priority(long now) {
+            return weight / (1 + (now - enqueuedNanos) / (double) AGING_NANOS);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.merge;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Statistics of the node level {@link NodeMergeScheduler} that coordinates merges across all shards of a node.
+ */
+public class NodeMergeStats implements Writeable, ToXContentFragment {
+
+    private final int queued;
+    private final int running;
+    private final int concurrencyLimit;
+    private final long totalQueued;
+    private final long totalQueueTimeInMillis;
+    private final long throughputInBytesPerSec;
+
+    public NodeMergeStats(int queued, int running, int concurrencyLimit, long totalQueued, long totalQueueTimeInMillis,
+                          long throughputInBytesPerSec) {
+        this.queued = queued;
+        this.running = running;
+        this.concurrencyLimit = concurrencyLimit;
+        this.totalQueued = totalQueued;
+        this.totalQueueTimeInMillis = totalQueueTimeInMillis;
+        this.throughputInBytesPerSec = throughputInBytesPerSec;
+    }
+
+    public NodeMergeStats(StreamInput in) throws IOException {
+        queued = in.readVInt();
+        running = in.readVInt();
+        concurrencyLimit = in.readInt();
+        totalQueued = in.readVLong();
+        totalQueueTimeInMillis = in.readVLong();
+        throughputInBytesPerSec = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(queued);
+        out.writeVInt(running);
+        out.writeInt(concurrencyLimit);
+        out.writeVLong(totalQueued);
+        out.writeVLong(totalQueueTimeInMillis);
+        out.writeVLong(throughputInBytesPerSec);
+    }
+
+    /**
+     * The number of merges that are currently waiting for a node wide merge slot.
+     */
+    public int getQueued() {
+        return queued;
+    }
+
+    /**
+     * The number of merges that are currently running on the node.
+     */
+    public int getRunning() {
+        return running;
+    }
+
+    /**
+     * The current adaptive limit of concurrently running merges, {@code -1} if merges are not coordinated across shards.
+     */
+    public int getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    /**
+     * The total number of merges that had to wait for a node wide merge slot.
+     */
+    public long getTotalQueued() {
+        return totalQueued;
+    }
+
+    /**
+     * The total time merges spent waiting for a node wide merge slot.
+     */
+    public TimeValue getTotalQueueTime() {
+        return new TimeValue(totalQueueTimeInMillis);
+    }
+
+    public long getTotalQueueTimeInMillis() {
+        return totalQueueTimeInMillis;
+    }
+
+    /**
+     * The smoothed number of bytes written per second by all merges of this node.
+     */
+    public ByteSizeValue getThroughput() {
+        return new ByteSizeValue(throughputInBytesPerSec);
+    }
+
+    public long getThroughputInBytesPerSec() {
+        return throughputInBytesPerSec;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.MERGE_SCHEDULER);
+        builder.field(Fields.QUEUED, queued);
+        builder.field(Fields.RUNNING, running);
+        builder.field(Fields.CONCURRENCY_LIMIT, concurrencyLimit);
+        builder.field(Fields.TOTAL_QUEUED, totalQueued);
+        builder.humanReadableField(Fields.TOTAL_QUEUE_TIME_IN_MILLIS, Fields.TOTAL_QUEUE_TIME, getTotalQueueTime());
+        builder.humanReadableField(Fields.THROUGHPUT_IN_BYTES_PER_SEC, Fields.THROUGHPUT, getThroughput());
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        NodeMergeStats that = (NodeMergeStats) o;
+        return queued == that.queued
+            && running == that.running
+            && concurrencyLimit == that.concurrencyLimit
+            && totalQueued == that.totalQueued
+            && totalQueueTimeInMillis == that.totalQueueTimeInMillis
+            && throughputInBytesPerSec == that.throughputInBytesPerSec;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(queued, running, concurrencyLimit, totalQueued, totalQueueTimeInMillis, throughputInBytesPerSec);
+    }
+
+    static final class Fields {
+        static final String MERGE_SCHEDULER = "merge_scheduler";
+        static final String QUEUED = "queued";
+        static final String RUNNING = "running";
+        static final String CONCURRENCY_LIMIT = "concurrency_limit";
+        static final String TOTAL_QUEUED = "total_queued";
+        static final String TOTAL_QUEUE_TIME = "total_queue_time";
+        static final String TOTAL_QUEUE_TIME_IN_MILLIS = "total_queue_time_in_millis";
+        static final String THROUGHPUT = "throughput";
+        static final String THROUGHPUT_IN_BYTES_PER_SEC = "throughput_in_bytes_per_sec";
+    }
+}
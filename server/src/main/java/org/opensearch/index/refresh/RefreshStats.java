@@ -33,6 +33,7 @@
 package org.opensearch.index.refresh;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -58,6 +59,21 @@ public class RefreshStats implements Writeable, ToXContentFragment {
      */
     private int listeners;
 
+    /**
+     * Number of scheduled refreshes that the adaptive refresh scheduler deferred.
+     */
+    private long deferred;
+
+    /**
+     * The interval scheduled refreshes are currently executed at, the maximum across shards when aggregated.
+     */
+    private long effectiveIntervalInMillis;
+
+    /**
+     * The smoothed cost of a scheduled refresh, the maximum across shards when aggregated.
+     */
+    private long costInMillis;
+
     public RefreshStats() {
     }
 
@@ -69,6 +85,11 @@ public class RefreshStats implements Writeable, ToXContentFragment {
             externalTotalTimeInMillis = in.readVLong();
         }
         listeners = in.readVInt();
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            deferred = in.readVLong();
+            effectiveIntervalInMillis = in.readLong();
+            costInMillis = in.readVLong();
+        }
     }
 
     @Override
@@ -80,14 +101,27 @@ public class RefreshStats implements Writeable, ToXContentFragment {
             out.writeVLong(externalTotalTimeInMillis);
         }
         out.writeVInt(listeners);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeVLong(deferred);
+            out.writeLong(effectiveIntervalInMillis);
+            out.writeVLong(costInMillis);
+        }
     }
 
     public RefreshStats(long total, long totalTimeInMillis, long externalTotal, long externalTotalTimeInMillis, int listeners) {
+        this(total, totalTimeInMillis, externalTotal, externalTotalTimeInMillis, listeners, 0, 0, 0);
+    }
+
+    public RefreshStats(long total, long totalTimeInMillis, long externalTotal, long externalTotalTimeInMillis, int listeners,
+                        long deferred, long effectiveIntervalInMillis, long costInMillis) {
         this.total = total;
         this.totalTimeInMillis = totalTimeInMillis;
         this.externalTotal = externalTotal;
         this.externalTotalTimeInMillis = externalTotalTimeInMillis;
         this.listeners = listeners;
+        this.deferred = deferred;
+        this.effectiveIntervalInMillis = effectiveIntervalInMillis;
+        this.costInMillis = costInMillis;
     }
 
     public void add(RefreshStats refreshStats) {
@@ -103,6 +137,9 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         this.externalTotal += refreshStats.externalTotal;
         this.externalTotalTimeInMillis += refreshStats.externalTotalTimeInMillis;
         this.listeners += refreshStats.listeners;
+        this.deferred += refreshStats.deferred;
+        this.effectiveIntervalInMillis = Math.max(this.effectiveIntervalInMillis, refreshStats.effectiveIntervalInMillis);
+        this.costInMillis = Math.max(this.costInMillis, refreshStats.costInMillis);
     }
 
     /**
@@ -151,6 +188,42 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         return listeners;
     }
 
+    /**
+     * The number of scheduled refreshes that were deferred by the adaptive refresh scheduler.
+     */
+    public long getDeferred() {
+        return deferred;
+    }
+
+    /**
+     * The interval scheduled refreshes are currently executed at (in milliseconds). {@code -1} means scheduled
+     * refreshes are disabled.
+     */
+    public long getEffectiveIntervalInMillis() {
+        return effectiveIntervalInMillis;
+    }
+
+    /**
+     * The interval scheduled refreshes are currently executed at.
+     */
+    public TimeValue getEffectiveInterval() {
+        return new TimeValue(effectiveIntervalInMillis);
+    }
+
+    /**
+     * The smoothed time a scheduled refresh takes (in milliseconds).
+     */
+    public long getCostInMillis() {
+        return costInMillis;
+    }
+
+    /**
+     * The smoothed time a scheduled refresh takes.
+     */
+    public TimeValue getCost() {
+        return new TimeValue(costInMillis);
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject("refresh");
@@ -159,6 +232,9 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         builder.field("external_total", externalTotal);
         builder.humanReadableField("external_total_time_in_millis", "external_total_time", getExternalTotalTime());
         builder.field("listeners", listeners);
+        builder.field("deferred", deferred);
+        builder.humanReadableField("effective_interval_in_millis", "effective_interval", getEffectiveInterval());
+        builder.humanReadableField("cost_in_millis", "cost", getCost());
         builder.endObject();
         return builder;
     }
@@ -173,11 +249,15 @@ public class RefreshStats implements Writeable, ToXContentFragment {
                 && totalTimeInMillis == rhs.totalTimeInMillis
                 && externalTotal == rhs.externalTotal
                 && externalTotalTimeInMillis == rhs.externalTotalTimeInMillis
-                && listeners == rhs.listeners;
+                && listeners == rhs.listeners
+                && deferred == rhs.deferred
+                && effectiveIntervalInMillis == rhs.effectiveIntervalInMillis
+                && costInMillis == rhs.costInMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(total, totalTimeInMillis, externalTotal, externalTotalTimeInMillis, listeners);
+        return Objects.hash(total, totalTimeInMillis, externalTotal, externalTotalTimeInMillis, listeners, deferred,
+            effectiveIntervalInMillis, costInMillis);
     }
 }
@@ -33,6 +33,7 @@
 package org.opensearch.index.reindex;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.action.search.SearchRequest;
@@ -41,18 +42,24 @@ import org.opensearch.action.support.replication.ReplicationRequest;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.search.Scroll;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortBuilder;
 import org.opensearch.tasks.Task;
 import org.opensearch.tasks.TaskId;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static org.opensearch.action.ValidateActions.addValidationError;
 import static org.opensearch.common.unit.TimeValue.timeValueMillis;
 import static org.opensearch.common.unit.TimeValue.timeValueMinutes;
+import static org.opensearch.search.sort.SortBuilders.fieldSort;
 
 public abstract class AbstractBulkByScrollRequest<Self extends AbstractBulkByScrollRequest<Self>> extends ActionRequest {
 
@@ -128,6 +135,24 @@ public abstract class AbstractBulkByScrollRequest<Self extends AbstractBulkByScr
      */
     private int slices = DEFAULT_SLICES;
 
+    /**
+     * The field the slices are computed from. Defaults to {@code _id}, a numeric field with doc values is cheaper to slice on.
+     */
+    private String sliceField = IdFieldMapper.NAME;
+
+    /**
+     * The number of scroll batches to fetch ahead while the bulk requests of the current batch are executed. Defaults to 0 meaning the
+     * next batch is only fetched once the current one is indexed. Prefetching also sizes the bulk requests from their latency and
+     * rejections.
+     */
+    private int prefetch = 0;
+
+    /**
+     * Should the documents be read from a point in time rather than from a scroll? A point in time doesn't keep a search context open
+     * per shard between batches and can be resumed if it is lost.
+     */
+    private boolean usePointInTime = false;
+
     public AbstractBulkByScrollRequest(StreamInput in) throws IOException {
         super(in);
         searchRequest = new SearchRequest(in);
@@ -140,6 +165,11 @@ public abstract class AbstractBulkByScrollRequest<Self extends AbstractBulkByScr
         maxRetries = in.readVInt();
         requestsPerSecond = in.readFloat();
         slices = in.readVInt();
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            sliceField = in.readString();
+            prefetch = in.readVInt();
+            usePointInTime = in.readBoolean();
+        }
     }
 
     /**
@@ -187,6 +217,16 @@ public abstract class AbstractBulkByScrollRequest<Self extends AbstractBulkByScr
         if (searchRequest.source().slice() != null && slices != DEFAULT_SLICES) {
             e = addValidationError("can't specify both manual and automatic slicing at the same time", e);
         }
+        if (prefetch < 0) {
+            e = addValidationError("prefetch cannot be negative", e);
+        }
+        if (usePointInTime) {
+            List<SortBuilder<?>> sorts = searchRequest.source().sorts();
+            if (sorts != null && sorts.isEmpty() == false
+                    && (sorts.size() > 1 || sorts.get(0).equals(fieldSort(FieldSortBuilder.DOC_FIELD_NAME)) == false)) {
+                e = addValidationError("point in time only supports sorting by [_doc]", e);
+            }
+        }
         return e;
     }
 
@@ -435,6 +475,58 @@ public abstract class AbstractBulkByScrollRequest<Self extends AbstractBulkByScr
         return slices;
     }
 
+    /**
+     * The field the slices are computed from. Defaults to {@code _id}.
+     */
+    public String getSliceField() {
+        return sliceField;
+    }
+
+    /**
+     * Set the field the slices are computed from, either {@code _id} or a numeric field with doc values.
+     */
+    public Self setSliceField(String sliceField) {
+        this.sliceField = Objects.requireNonNull(sliceField, "[slice_field] must not be null");
+        return self();
+    }
+
+    /**
+     * The number of scroll batches to fetch ahead while the bulk requests of the current batch are executed. 0 means the next batch is
+     * only fetched once the current one is indexed.
+     */
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Set the number of scroll batches to fetch ahead while the bulk requests of the current batch are executed. A value greater than 0
+     * also sizes the bulk requests from their latency and rejections instead of sending each scroll batch as a single bulk request.
+     */
+    public Self setPrefetch(int prefetch) {
+        if (prefetch < 0) {
+            throw new IllegalArgumentException("[prefetch] must be at least 0 but was [" + prefetch + "]");
+        }
+        this.prefetch = prefetch;
+        return self();
+    }
+
+    /**
+     * Should the documents be read from a point in time rather than from a scroll?
+     */
+    public boolean isUsePointInTime() {
+        return usePointInTime;
+    }
+
+    /**
+     * Read the documents from a point in time with {@code search_after} rather than from a scroll. Losing the point in time, for
+     * instance to a node leaving the cluster, doesn't fail the request then, it is resumed from a new point in time up to
+     * {@link #getMaxRetries()} times.
+     */
+    public Self setUsePointInTime(boolean usePointInTime) {
+        this.usePointInTime = usePointInTime;
+        return self();
+    }
+
     /**
      * Build a new request for a slice of the parent request.
      */
@@ -455,7 +547,10 @@ public abstract class AbstractBulkByScrollRequest<Self extends AbstractBulkByScr
                 // Split requests per second between all slices
                 .setRequestsPerSecond(requestsPerSecond / totalSlices)
                 // Sub requests don't have workers
-                .setSlices(1);
+                .setSlices(1)
+                .setSliceField(sliceField)
+                .setPrefetch(prefetch)
+                .setUsePointInTime(usePointInTime);
         if (maxDocs != MAX_DOCS_ALL_MATCHES) {
             // maxDocs is split between workers. This means the maxDocs might round
             // down!
@@ -491,6 +586,11 @@ public abstract class AbstractBulkByScrollRequest<Self extends AbstractBulkByScr
         } else {
             out.writeVInt(slices);
         }
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeString(sliceField);
+            out.writeVInt(prefetch);
+            out.writeBoolean(usePointInTime);
+        }
     }
 
     /**
@@ -145,16 +145,7 @@ public class ClientScrollableHitSource extends ScrollableHitSource {
     }
 
     private Response wrapSearchResponse(SearchResponse response) {
-        List<SearchFailure> failures;
-        if (response.getShardFailures() == null) {
-            failures = emptyList();
-        } else {
-            failures = new ArrayList<>(response.getShardFailures().length);
-            for (ShardSearchFailure failure: response.getShardFailures()) {
-                String nodeId = failure.shard() == null ? null : failure.shard().getNodeId();
-                failures.add(new SearchFailure(failure.getCause(), failure.index(), failure.shardId(), nodeId));
-            }
-        }
+        List<SearchFailure> failures = wrapShardFailures(response);
         List<Hit> hits;
         if (response.getHits().getHits() == null || response.getHits().getHits().length == 0) {
             hits = emptyList();
@@ -170,7 +161,19 @@ public class ClientScrollableHitSource extends ScrollableHitSource {
                 hits, response.getScrollId());
     }
 
-    private static class ClientHit implements Hit {
+    static List<SearchFailure> wrapShardFailures(SearchResponse response) {
+        if (response.getShardFailures() == null) {
+            return emptyList();
+        }
+        List<SearchFailure> failures = new ArrayList<>(response.getShardFailures().length);
+        for (ShardSearchFailure failure: response.getShardFailures()) {
+            String nodeId = failure.shard() == null ? null : failure.shard().getNodeId();
+            failures.add(new SearchFailure(failure.getCause(), failure.index(), failure.shardId(), nodeId));
+        }
+        return failures;
+    }
+
+    static class ClientHit implements Hit {
         private final SearchHit delegate;
         private final BytesReference source;
 
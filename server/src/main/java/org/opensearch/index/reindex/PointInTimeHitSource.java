@@ -0,0 +1,351 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.reindex;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.NoShardAvailableActionException;
+import org.opensearch.action.admin.indices.stats.IndicesStatsRequest;
+import org.opensearch.action.admin.indices.stats.ShardStats;
+import org.opensearch.action.bulk.BackoffPolicy;
+import org.opensearch.action.search.ClosePointInTimeAction;
+import org.opensearch.action.search.ClosePointInTimeRequest;
+import org.opensearch.action.search.OpenPointInTimeAction;
+import org.opensearch.action.search.OpenPointInTimeRequest;
+import org.opensearch.action.search.SearchPhaseExecutionException;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.client.ParentTaskAssigningClient;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.mapper.SeqNoFieldMapper;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.seqno.SeqNoStats;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.shard.ShardNotFoundException;
+import org.opensearch.node.NodeClosedException;
+import org.opensearch.search.SearchContextMissingException;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.ConnectTransportException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.common.unit.TimeValue.timeValueNanos;
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.rangeQuery;
+import static org.opensearch.search.sort.SortBuilders.fieldSort;
+
+/**
+ * A source of hits that reads a point in time with {@code search_after} instead of holding scroll contexts open.
+ * <p>
+ * Hits are read in {@code _doc} order. Doc ids are only unique per shard so the hits of a page are ordered by doc id and then by shard
+ * and the hits sharing the doc id of the last hit of a full page are read again with the next page, which searches after the doc id
+ * before it. This gives a total order over the hits of all shards that a page can't split.
+ * <p>
+ * If the point in time is lost, for instance because a node holding some of its reader contexts left the cluster, a new point in time
+ * is opened and read from the start. Hits written since the first point in time was opened, which includes the ones that were already
+ * updated, are recognized by a sequence number above the maximum sequence number of their shard, recorded right after opening it, and
+ * skipped. The shards filter out the hits above the highest of these sequence numbers and the rest is skipped here. Deleted documents
+ * don't match anymore.
+ * <p>
+ * Doc ids aren't stable across points in time, so a resumed request can't search after the last hit it processed. It reads all hits
+ * of the new point in time again and processes the ones that weren't written since again: resuming costs a full scan of the matching
+ * documents and, for instance, a reindex copies the documents it already copied once more.
+ */
+public class PointInTimeHitSource extends ScrollableHitSource {
+
+    /**
+     * The largest page that is read when growing pages to read past a doc id shared by many shards. Bigger pages would be rejected by
+     * indices with the default {@code index.max_result_window}.
+     */
+    static final int MAX_PAGE_SIZE = IndexSettings.MAX_RESULT_WINDOW_SETTING.getDefault(Settings.EMPTY);
+
+    private final ParentTaskAssigningClient client;
+    private final SearchRequest firstSearchRequest;
+    private final TimeValue keepAlive;
+    private final int size;
+    private final int maxResumes;
+
+    // the searches are sequential so the following isn't accessed concurrently
+    private String pointInTimeId;
+    private Map<ShardId, Long> maxSeqNos;
+    private Integer searchAfter;
+    private int pageSize;
+    private long totalHits = -1;
+    private boolean resumed;
+    private int resumes;
+
+    public PointInTimeHitSource(Logger logger, BackoffPolicy backoffPolicy, ThreadPool threadPool, Runnable countSearchRetry,
+                                Consumer<AsyncResponse> onResponse, Consumer<Exception> fail, ParentTaskAssigningClient client,
+                                SearchRequest firstSearchRequest, TimeValue keepAlive, int maxResumes) {
+        super(logger, backoffPolicy, threadPool, countSearchRetry, onResponse, fail);
+        this.client = client;
+        this.firstSearchRequest = firstSearchRequest;
+        this.keepAlive = keepAlive;
+        this.size = Math.max(1, firstSearchRequest.source().size());
+        this.pageSize = size;
+        this.maxResumes = maxResumes;
+    }
+
+    @Override
+    protected void doStart(RejectAwareActionListener<Response> searchListener) {
+        if (pointInTimeId == null) {
+            openPointInTime(searchListener, TimeValue.ZERO, () -> doStart(searchListener));
+        } else if (maxSeqNos == null) {
+            // recorded before anything is written so it tells the documents that were written by this request apart when resuming.
+            // Documents written by others between opening the point in time and these stats aren't in the point in time but are
+            // below these sequence numbers, so a resumed request processes them too. The filter is conservative: it never skips a
+            // document of the first point in time that wasn't updated since, it may only process a few more.
+            IndicesStatsRequest statsRequest = new IndicesStatsRequest().indices(firstSearchRequest.indices()).clear();
+            statsRequest.indicesOptions(firstSearchRequest.indicesOptions());
+            client.admin().indices().stats(statsRequest, ActionListener.wrap(response -> {
+                Map<ShardId, Long> seqNos = new HashMap<>();
+                for (ShardStats shard : response.getShards()) {
+                    SeqNoStats seqNoStats = shard.getSeqNoStats();
+                    if (seqNoStats != null) {
+                        seqNos.merge(shard.getShardRouting().shardId(), seqNoStats.getMaxSeqNo(), Math::max);
+                    }
+                }
+                maxSeqNos = seqNos;
+                doStart(searchListener);
+            }, e -> onSearchFailure(e, TimeValue.ZERO, searchListener)));
+        } else {
+            search(TimeValue.ZERO, searchListener);
+        }
+    }
+
+    @Override
+    protected void doStartNextScroll(String scrollId, TimeValue extraKeepAlive, RejectAwareActionListener<Response> searchListener) {
+        search(extraKeepAlive, searchListener);
+    }
+
+    private void openPointInTime(RejectAwareActionListener<Response> searchListener, TimeValue extraKeepAlive, Runnable onOpen) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("opening a point in time against {}", (Object) firstSearchRequest.indices());
+        }
+        OpenPointInTimeRequest request = new OpenPointInTimeRequest(firstSearchRequest.indices())
+            .indicesOptions(firstSearchRequest.indicesOptions())
+            .keepAlive(timeValueNanos(keepAlive.nanos() + extraKeepAlive.nanos()))
+            .routing(firstSearchRequest.routing())
+            .preference(firstSearchRequest.preference());
+        client.execute(OpenPointInTimeAction.INSTANCE, request, ActionListener.wrap(response -> {
+            pointInTimeId = response.getId();
+            setScroll(pointInTimeId);
+            onOpen.run();
+        }, e -> onSearchFailure(e, extraKeepAlive, searchListener)));
+    }
+
+    private void search(TimeValue extraKeepAlive, RejectAwareActionListener<Response> searchListener) {
+        if (pointInTimeId == null) {
+            openPointInTime(searchListener, extraKeepAlive, () -> search(extraKeepAlive, searchListener));
+            return;
+        }
+        client.search(buildSearchRequest(extraKeepAlive), new ActionListener<SearchResponse>() {
+            @Override
+            public void onResponse(SearchResponse response) {
+                final Response batch;
+                try {
+                    batch = nextBatch(response);
+                } catch (Exception e) {
+                    searchListener.onFailure(e);
+                    return;
+                }
+                if (batch == null) {
+                    search(extraKeepAlive, searchListener);
+                } else {
+                    searchListener.onResponse(batch);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                onSearchFailure(e, extraKeepAlive, searchListener);
+            }
+        });
+    }
+
+    SearchRequest buildSearchRequest(TimeValue extraKeepAlive) {
+        SearchSourceBuilder source = firstSearchRequest.source().shallowCopy();
+        List<SortBuilder<?>> sorts = source.sorts();
+        if (sorts == null || sorts.isEmpty()) {
+            source.sort(fieldSort(FieldSortBuilder.DOC_FIELD_NAME));
+        } else if (sorts.size() != 1 || sorts.get(0).equals(fieldSort(FieldSortBuilder.DOC_FIELD_NAME)) == false) {
+            throw new IllegalArgumentException("reading a point in time only supports sorting by [_doc] but got " + sorts);
+        }
+        source.pointInTimeBuilder(new PointInTimeBuilder(pointInTimeId).setKeepAlive(
+            timeValueNanos(keepAlive.nanos() + extraKeepAlive.nanos())));
+        source.size(pageSize);
+        source.seqNoAndPrimaryTerm(true);
+        source.trackTotalHits(totalHits < 0);
+        if (searchAfter != null) {
+            source.searchAfter(new Object[] { searchAfter });
+        }
+        if (resumed && maxSeqNos.isEmpty() == false) {
+            long maxSeqNo = maxSeqNos.values().stream().mapToLong(Long::longValue).max().getAsLong();
+            BoolQueryBuilder query = boolQuery().filter(rangeQuery(SeqNoFieldMapper.NAME).lte(maxSeqNo));
+            if (source.query() != null) {
+                query.must(source.query());
+            }
+            source.query(query);
+        }
+        SearchRequest request = new SearchRequest().source(source);
+        request.allowPartialSearchResults(false);
+        return request;
+    }
+
+    /**
+     * Builds the next batch from a page of hits, or returns {@code null} if the page has no hits to process and the next page must be
+     * read.
+     */
+    Response nextBatch(SearchResponse response) {
+        if (response.pointInTimeId() != null) {
+            pointInTimeId = response.pointInTimeId();
+        }
+        if (totalHits < 0) {
+            totalHits = response.getHits().getTotalHits() == null ? 0 : response.getHits().getTotalHits().value;
+        }
+        SearchHit[] hits = response.getHits().getHits();
+        List<Hit> batch = new ArrayList<>(hits.length);
+        boolean lastPage = hits.length < pageSize;
+        if (lastPage) {
+            for (SearchHit hit : hits) {
+                if (writtenAfterStart(hit) == false) {
+                    batch.add(new ClientScrollableHitSource.ClientHit(hit));
+                }
+            }
+            if (hits.length > 0) {
+                searchAfter = doc(hits[hits.length - 1]);
+            }
+        } else {
+            int lastDoc = doc(hits[hits.length - 1]);
+            int complete = 0;
+            for (SearchHit hit : hits) {
+                if (doc(hit) < lastDoc) {
+                    complete++;
+                    if (writtenAfterStart(hit) == false) {
+                        batch.add(new ClientScrollableHitSource.ClientHit(hit));
+                    }
+                }
+            }
+            if (complete == 0) {
+                // more shards than hits on the page share the doc id, read a bigger page
+                if (pageSize >= MAX_PAGE_SIZE) {
+                    throw new IllegalStateException("more than [" + MAX_PAGE_SIZE + "] shards have a hit with doc id [" + lastDoc
+                        + "], which is more than a page can hold without exceeding the default ["
+                        + IndexSettings.MAX_RESULT_WINDOW_SETTING.getKey() + "]");
+                }
+                pageSize = Math.min(pageSize * 2, MAX_PAGE_SIZE);
+                return null;
+            }
+            searchAfter = lastDoc - 1;
+            pageSize = size;
+            if (batch.isEmpty()) {
+                return null;
+            }
+        }
+        return new Response(response.isTimedOut(), ClientScrollableHitSource.wrapShardFailures(response), totalHits,
+            unmodifiableList(batch), pointInTimeId);
+    }
+
+    private boolean writtenAfterStart(SearchHit hit) {
+        if (resumed == false || hit.getSeqNo() == SequenceNumbers.UNASSIGNED_SEQ_NO || hit.getShard() == null) {
+            return false;
+        }
+        Long maxSeqNo = maxSeqNos.get(hit.getShard().getShardId());
+        return maxSeqNo != null && hit.getSeqNo() > maxSeqNo;
+    }
+
+    private static int doc(SearchHit hit) {
+        return ((Number) hit.getSortValues()[0]).intValue();
+    }
+
+    private void onSearchFailure(Exception e, TimeValue extraKeepAlive, RejectAwareActionListener<Response> searchListener) {
+        if (ExceptionsHelper.unwrap(e, OpenSearchRejectedExecutionException.class) != null) {
+            searchListener.onRejection(e);
+            return;
+        }
+        if (pointInTimeId != null && maxSeqNos != null && resumes < maxResumes && isPointInTimeLost(e)) {
+            resumes++;
+            logger.warn(() -> new ParameterizedMessage("lost point in time, resuming from a new one [{}/{}]", resumes, maxResumes), e);
+            closePointInTime(pointInTimeId, () -> {});
+            pointInTimeId = null;
+            searchAfter = null;
+            pageSize = size;
+            resumed = true;
+            search(extraKeepAlive, searchListener);
+            return;
+        }
+        searchListener.onFailure(e);
+    }
+
+    /**
+     * Whether the failure is caused by reader contexts of the point in time that are gone, rather than by the search itself.
+     */
+    static boolean isPointInTimeLost(Exception e) {
+        final Class<?>[] lost = new Class<?>[] { SearchContextMissingException.class, ConnectTransportException.class,
+            NodeClosedException.class, NoShardAvailableActionException.class, ShardNotFoundException.class };
+        if (ExceptionsHelper.unwrap(e, lost) != null) {
+            return true;
+        }
+        Throwable phaseFailure = ExceptionsHelper.unwrap(e, SearchPhaseExecutionException.class);
+        if (phaseFailure == null) {
+            return false;
+        }
+        ShardSearchFailure[] shardFailures = ((SearchPhaseExecutionException) phaseFailure).shardFailures();
+        if (shardFailures.length == 0) {
+            return false;
+        }
+        for (ShardSearchFailure shardFailure : shardFailures) {
+            if (shardFailure.getCause() == null || ExceptionsHelper.unwrap(shardFailure.getCause(), lost) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void clearScroll(String pointInTimeId, Runnable onCompletion) {
+        closePointInTime(pointInTimeId, onCompletion);
+    }
+
+    private void closePointInTime(String id, Runnable onCompletion) {
+        /*
+         * Unwrap the client so we don't set our task as the parent. If we *did* set our ID then closing the point in time would be
+         * cancelled as if this task is cancelled. But we want to close it regardless of whether or not the main request was cancelled.
+         */
+        client.unwrap().execute(ClosePointInTimeAction.INSTANCE, new ClosePointInTimeRequest(id), ActionListener.wrap(response -> {
+            logger.debug("Freed [{}] contexts", response.getNumFreed());
+            onCompletion.run();
+        }, e -> {
+            logger.warn(() -> new ParameterizedMessage("Failed to close point in time [{}]", id), e);
+            onCompletion.run();
+        }));
+    }
+
+    @Override
+    protected void cleanup(Runnable onCompletion) {
+        onCompletion.run();
+    }
+}
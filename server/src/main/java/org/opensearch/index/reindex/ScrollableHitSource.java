@@ -55,6 +55,8 @@ import org.opensearch.search.SearchHit;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -65,7 +67,8 @@ import static java.util.Objects.requireNonNull;
 /**
  * A scrollable source of results. Pumps data out into the passed onResponse consumer. Same data may come out several times in case
  * of failures during searching (though not yet). Once the onResponse consumer is done, it should call AsyncResponse.isDone(time) to receive
- * more data (only receives one response at a time).
+ * more data (only receives one response at a time). When {@link #setPrefetch(int) prefetching} the next batches are fetched while the
+ * consumer is still busy with the current one, the consumer still receives them one at a time and in order.
  */
 public abstract class ScrollableHitSource {
     private final AtomicReference<String> scrollId = new AtomicReference<>();
@@ -77,6 +80,16 @@ public abstract class ScrollableHitSource {
     private final Consumer<AsyncResponse> onResponse;
     protected final Consumer<Exception> fail;
 
+    private int prefetch = 0;
+    // the following are only used when prefetching and are guarded by this
+    private final Deque<Response> prefetched = new ArrayDeque<>();
+    private boolean fetching;
+    private boolean waiting;
+    private boolean exhausted;
+    private boolean closed;
+    private Exception prefetchFailure;
+    private TimeValue prefetchKeepAlive = TimeValue.ZERO;
+
     public ScrollableHitSource(Logger logger, BackoffPolicy backoffPolicy, ThreadPool threadPool, Runnable countSearchRetry,
                                Consumer<AsyncResponse> onResponse, Consumer<Exception> fail) {
         this.logger = logger;
@@ -87,7 +100,23 @@ public abstract class ScrollableHitSource {
         this.fail = fail;
     }
 
+    /**
+     * Sets the number of batches to fetch ahead of the consumer. Must be called before {@link #start()}.
+     */
+    public final void setPrefetch(int prefetch) {
+        if (prefetch < 0) {
+            throw new IllegalArgumentException("[prefetch] must be at least 0 but was [" + prefetch + "]");
+        }
+        this.prefetch = prefetch;
+    }
+
     public final void start() {
+        if (prefetch > 0) {
+            synchronized (this) {
+                fetching = true;
+                waiting = true;
+            }
+        }
         doStart(createRetryListener(this::doStart));
     }
 
@@ -97,7 +126,7 @@ public abstract class ScrollableHitSource {
             retryHandler.accept(listener);
         };
         return new RetryListener(logger, threadPool, backoffPolicy, countingRetryHandler,
-            ActionListener.wrap(this::onResponse, fail));
+            ActionListener.wrap(this::onResponse, this::onFailure));
     }
 
     // package private for tests.
@@ -110,7 +139,86 @@ public abstract class ScrollableHitSource {
 
     private void onResponse(Response response) {
         logger.debug("scroll returned [{}] documents with a scroll id of [{}]", response.getHits().size(), response.getScrollId());
-        setScroll(response.getScrollId());
+        if (prefetch == 0) {
+            setScroll(response.getScrollId());
+            deliver(response, this::startNextScroll);
+            return;
+        }
+        final boolean deliver;
+        synchronized (this) {
+            fetching = false;
+            if (closed) {
+                return;
+            }
+            setScroll(response.getScrollId());
+            if (response.getHits().isEmpty() || response.isTimedOut() || response.getFailures().isEmpty() == false) {
+                // the consumer stops at this response, there is nothing left to fetch
+                exhausted = true;
+            }
+            deliver = waiting;
+            if (waiting) {
+                waiting = false;
+            } else {
+                prefetched.add(response);
+            }
+        }
+        maybePrefetch();
+        if (deliver) {
+            deliver(response, this::onDone);
+        }
+    }
+
+    private void onFailure(Exception e) {
+        if (prefetch > 0) {
+            synchronized (this) {
+                fetching = false;
+                if (closed) {
+                    return;
+                }
+                exhausted = true;
+                if (waiting == false) {
+                    // surfaced once the consumer is done with the batches fetched before the failure
+                    prefetchFailure = e;
+                    return;
+                }
+                waiting = false;
+            }
+        }
+        fail.accept(e);
+    }
+
+    private void onDone(TimeValue extraKeepAlive) {
+        final Response next;
+        final Exception failure;
+        synchronized (this) {
+            // batches are fetched at the pace the consumer frees up the buffer so the consumer's keep alive covers them as well
+            prefetchKeepAlive = extraKeepAlive;
+            next = prefetched.poll();
+            failure = next == null ? prefetchFailure : null;
+            prefetchFailure = null;
+            waiting = next == null && failure == null;
+        }
+        maybePrefetch();
+        if (next != null) {
+            deliver(next, this::onDone);
+        } else if (failure != null) {
+            fail.accept(failure);
+        }
+    }
+
+    private void maybePrefetch() {
+        final TimeValue extraKeepAlive;
+        synchronized (this) {
+            if (closed || fetching || exhausted || prefetched.size() >= prefetch) {
+                return;
+            }
+            fetching = true;
+            extraKeepAlive = prefetchKeepAlive;
+        }
+        startNextScroll(extraKeepAlive);
+    }
+
+    private void deliver(Response response, Consumer<TimeValue> next) {
         onResponse.accept(new AsyncResponse() {
             private AtomicBoolean alreadyDone = new AtomicBoolean();
             @Override
@@ -121,12 +229,16 @@ public abstract class ScrollableHitSource {
             @Override
             public void done(TimeValue extraKeepAlive) {
                 assert alreadyDone.compareAndSet(false, true);
-                startNextScroll(extraKeepAlive);
+                next.accept(extraKeepAlive);
             }
         });
     }
 
     public final void close(Runnable onCompletion) {
+        synchronized (this) {
+            closed = true;
+            prefetched.clear();
+        }
         String scrollId = this.scrollId.get();
         if (Strings.hasLength(scrollId)) {
             clearScroll(scrollId, () -> cleanup(onCompletion));
@@ -32,6 +32,7 @@
 
 package org.opensearch.index.search.stats;
 
+import org.opensearch.Version;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Strings;
 import org.opensearch.common.io.stream.StreamInput;
@@ -67,6 +68,9 @@ public class SearchStats implements Writeable, ToXContentFragment {
         private long suggestTimeInMillis;
         private long suggestCurrent;
 
+        private long syntheticSourceCount;
+        private long syntheticSourceTimeInMillis;
+
         private Stats() {
             // for internal use, initializes all counts to 0
         }
@@ -76,6 +80,17 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 long fetchCount, long fetchTimeInMillis, long fetchCurrent,
                 long scrollCount, long scrollTimeInMillis, long scrollCurrent,
                 long suggestCount, long suggestTimeInMillis, long suggestCurrent
+        ) {
+            this(queryCount, queryTimeInMillis, queryCurrent, fetchCount, fetchTimeInMillis, fetchCurrent,
+                scrollCount, scrollTimeInMillis, scrollCurrent, suggestCount, suggestTimeInMillis, suggestCurrent, 0, 0);
+        }
+
+        public Stats(
+                long queryCount, long queryTimeInMillis, long queryCurrent,
+                long fetchCount, long fetchTimeInMillis, long fetchCurrent,
+                long scrollCount, long scrollTimeInMillis, long scrollCurrent,
+                long suggestCount, long suggestTimeInMillis, long suggestCurrent,
+                long syntheticSourceCount, long syntheticSourceTimeInMillis
         ) {
             this.queryCount = queryCount;
             this.queryTimeInMillis = queryTimeInMillis;
@@ -92,6 +107,9 @@ public class SearchStats implements Writeable, ToXContentFragment {
             this.suggestCount = suggestCount;
             this.suggestTimeInMillis = suggestTimeInMillis;
             this.suggestCurrent = suggestCurrent;
+
+            this.syntheticSourceCount = syntheticSourceCount;
+            this.syntheticSourceTimeInMillis = syntheticSourceTimeInMillis;
         }
 
         private Stats(StreamInput in) throws IOException {
@@ -110,6 +128,11 @@ public class SearchStats implements Writeable, ToXContentFragment {
             suggestCount = in.readVLong();
             suggestTimeInMillis = in.readVLong();
             suggestCurrent = in.readVLong();
+
+            if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+                syntheticSourceCount = in.readVLong();
+                syntheticSourceTimeInMillis = in.readVLong();
+            }
         }
 
         public void add(Stats stats) {
@@ -128,6 +151,9 @@ public class SearchStats implements Writeable, ToXContentFragment {
             suggestCount += stats.suggestCount;
             suggestTimeInMillis += stats.suggestTimeInMillis;
             suggestCurrent += stats.suggestCurrent;
+
+            syntheticSourceCount += stats.syntheticSourceCount;
+            syntheticSourceTimeInMillis += stats.syntheticSourceTimeInMillis;
         }
 
         public void addForClosingShard(Stats stats) {
@@ -144,6 +170,9 @@ public class SearchStats implements Writeable, ToXContentFragment {
 
             suggestCount += stats.suggestCount;
             suggestTimeInMillis += stats.suggestTimeInMillis;
+
+            syntheticSourceCount += stats.syntheticSourceCount;
+            syntheticSourceTimeInMillis += stats.syntheticSourceTimeInMillis;
         }
 
         public long getQueryCount() {
@@ -210,6 +239,21 @@ public class SearchStats implements Writeable, ToXContentFragment {
             return suggestCurrent;
         }
 
+        /**
+         * The number of hits whose synthetic source was rebuilt.
+         */
+        public long getSyntheticSourceCount() {
+            return syntheticSourceCount;
+        }
+
+        public TimeValue getSyntheticSourceTime() {
+            return new TimeValue(syntheticSourceTimeInMillis);
+        }
+
+        public long getSyntheticSourceTimeInMillis() {
+            return syntheticSourceTimeInMillis;
+        }
+
         public static Stats readStats(StreamInput in) throws IOException {
             return new Stats(in);
         }
@@ -231,6 +275,11 @@ public class SearchStats implements Writeable, ToXContentFragment {
             out.writeVLong(suggestCount);
             out.writeVLong(suggestTimeInMillis);
             out.writeVLong(suggestCurrent);
+
+            if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+                out.writeVLong(syntheticSourceCount);
+                out.writeVLong(syntheticSourceTimeInMillis);
+            }
         }
 
         @Override
@@ -251,6 +300,12 @@ public class SearchStats implements Writeable, ToXContentFragment {
             builder.humanReadableField(Fields.SUGGEST_TIME_IN_MILLIS, Fields.SUGGEST_TIME, getSuggestTime());
             builder.field(Fields.SUGGEST_CURRENT, suggestCurrent);
 
+            if (syntheticSourceCount > 0) {
+                // only indices with synthetic source rebuild sources, keep the stats of all others as they were
+                builder.field(Fields.SYNTHETIC_SOURCE_TOTAL, syntheticSourceCount);
+                builder.humanReadableField(Fields.SYNTHETIC_SOURCE_TIME_IN_MILLIS, Fields.SYNTHETIC_SOURCE_TIME, getSyntheticSourceTime());
+            }
+
             return builder;
         }
     }
@@ -366,6 +421,9 @@ public class SearchStats implements Writeable, ToXContentFragment {
         static final String SUGGEST_TIME = "suggest_time";
         static final String SUGGEST_TIME_IN_MILLIS = "suggest_time_in_millis";
         static final String SUGGEST_CURRENT = "suggest_current";
+        static final String SYNTHETIC_SOURCE_TOTAL = "synthetic_source_total";
+        static final String SYNTHETIC_SOURCE_TIME = "synthetic_source_time";
+        static final String SYNTHETIC_SOURCE_TIME_IN_MILLIS = "synthetic_source_time_in_millis";
     }
 
     @Override
@@ -137,6 +137,14 @@ public final class ShardSearchStats implements SearchOperationListener {
         });
     }
 
+    @Override
+    public void onSyntheticSource(SearchContext searchContext, long count, long tookInNanos) {
+        computeStats(searchContext, statsHolder -> {
+            statsHolder.syntheticSourceCount.inc(count);
+            statsHolder.syntheticSourceNanos.inc(tookInNanos);
+        });
+    }
+
     private void computeStats(SearchContext searchContext, Consumer<StatsHolder> consumer) {
         consumer.accept(totalStats);
         if (searchContext.groupStats() != null) {
@@ -198,13 +206,16 @@ public final class ShardSearchStats implements SearchOperationListener {
         final CounterMetric fetchCurrent = new CounterMetric();
         final CounterMetric scrollCurrent = new CounterMetric();
         final CounterMetric suggestCurrent = new CounterMetric();
+        final CounterMetric syntheticSourceCount = new CounterMetric();
+        final CounterMetric syntheticSourceNanos = new CounterMetric();
 
         SearchStats.Stats stats() {
             return new SearchStats.Stats(
                     queryMetric.count(), TimeUnit.NANOSECONDS.toMillis(queryMetric.sum()), queryCurrent.count(),
                     fetchMetric.count(), TimeUnit.NANOSECONDS.toMillis(fetchMetric.sum()), fetchCurrent.count(),
                     scrollMetric.count(), TimeUnit.MICROSECONDS.toMillis(scrollMetric.sum()), scrollCurrent.count(),
-                    suggestMetric.count(), TimeUnit.NANOSECONDS.toMillis(suggestMetric.sum()), suggestCurrent.count()
+                    suggestMetric.count(), TimeUnit.NANOSECONDS.toMillis(suggestMetric.sum()), suggestCurrent.count(),
+                    syntheticSourceCount.count(), TimeUnit.NANOSECONDS.toMillis(syntheticSourceNanos.count())
             );
         }
     }
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.opensearch.common.unit.TimeValue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides whether a scheduled refresh of a shard is due when adaptive refresh is enabled. The refresh task ticks at the
+ * adaptive minimum interval; on every tick the scheduler samples the shard's indexing and search operation counters,
+ * smooths them into per-second rates and derives an effective interval between the configured bounds:
+ * <ul>
+ *     <li>shards that are mostly searched refresh close to the minimum interval so new documents become visible quickly,</li>
+ *     <li>shards that are mostly written to refresh close to the maximum interval which produces fewer, larger segments,</li>
+ *     <li>the interval never drops below {@link #COST_FACTOR} times the smoothed cost of a refresh so that refreshing
+ *     cannot take up more than a fraction of the shard's time.</li>
+ * </ul>
+ * Pending refresh listeners are handled by the caller and bypass the scheduler entirely.
+ */
+final class AdaptiveRefreshScheduler {
+
+    /**
+     * Weight of the latest sample in the exponentially weighted moving averages.
+     */
+    static final double ALPHA = 0.3;
+
+    /**
+     * A refresh is never scheduled more often than every {@code COST_FACTOR} times its smoothed cost.
+     */
+    static final int COST_FACTOR = 10;
+
+    private final LongSupplier indexingOperations;
+    private final LongSupplier searchOperations;
+
+    private long lastSampleMillis = -1;
+    private long lastIndexingOperations;
+    private long lastSearchOperations;
+    private double indexingRate;
+    private double searchRate;
+
+    private long lastRefreshMillis = -1;
+    private double costMillis;
+
+    private volatile long effectiveIntervalMillis = -1;
+    private volatile long deferred;
+
+    AdaptiveRefreshScheduler(LongSupplier indexingOperations, LongSupplier searchOperations) {
+        this.indexingOperations = indexingOperations;
+        this.searchOperations = searchOperations;
+    }
+
+    /**
+     * Samples the shard's load and returns <code>true</code> iff a refresh is due at the given relative time.
+     */
+    synchronized boolean shouldRefresh(long nowMillis, TimeValue minInterval, TimeValue maxInterval) {
+        sample(nowMillis);
+        final long interval = computeInterval(minInterval.millis(), Math.max(minInterval.millis(), maxInterval.millis()));
+        effectiveIntervalMillis = interval;
+        if (lastRefreshMillis < 0 || nowMillis - lastRefreshMillis >= interval) {
+            return true;
+        }
+        deferred++;
+        return false;
+    }
+
+    /**
+     * Records that a scheduled refresh finished at the given relative time after taking the given number of nanoseconds.
+     */
+    synchronized void onRefresh(long nowMillis, long tookNanos) {
+        final double tookMillis = TimeUnit.NANOSECONDS.toMillis(tookNanos);
+        costMillis = lastRefreshMillis < 0 ? tookMillis : ALPHA * tookMillis + (1 - ALPHA) * costMillis;
+        lastRefreshMillis = nowMillis;
+    }
+
+    private void sample(long nowMillis) {
+        final long indexing = indexingOperations.getAsLong();
+        final long search = searchOperations.getAsLong();
+        if (lastSampleMillis >= 0 && nowMillis > lastSampleMillis) {
+            final double seconds = (nowMillis - lastSampleMillis) / 1000d;
+            indexingRate = ALPHA * (Math.max(0, indexing - lastIndexingOperations) / seconds) + (1 - ALPHA) * indexingRate;
+            searchRate = ALPHA * (Math.max(0, search - lastSearchOperations) / seconds) + (1 - ALPHA) * searchRate;
+        }
+        lastSampleMillis = nowMillis;
+        lastIndexingOperations = indexing;
+        lastSearchOperations = search;
+    }
+
+    private long computeInterval(long minMillis, long maxMillis) {
+        final double total = indexingRate + searchRate;
+        final double writeShare = total > 0 ? indexingRate / total : 0;
+        final long byLoad = minMillis + Math.round((maxMillis - minMillis) * writeShare);
+        final long byCost = Math.round(costMillis * COST_FACTOR);
+        return Math.min(maxMillis, Math.max(byLoad, byCost));
+    }
+
+    /**
+     * The interval computed on the last tick, or {@code -1} if the scheduler has not run yet.
+     */
+    long getEffectiveIntervalMillis() {
+        return effectiveIntervalMillis;
+    }
+
+    /**
+     * The smoothed cost of a scheduled refresh in milliseconds.
+     */
+    synchronized long getCostMillis() {
+        return Math.round(costMillis);
+    }
+
+    /**
+     * The number of ticks on which a refresh was needed but deferred because the effective interval had not elapsed.
+     */
+    long getDeferred() {
+        return deferred;
+    }
+}
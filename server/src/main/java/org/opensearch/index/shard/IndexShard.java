@@ -128,6 +128,7 @@ import org.opensearch.index.mapper.RootObjectMapper;
 import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.mapper.Uid;
 import org.opensearch.index.merge.MergeStats;
+import org.opensearch.index.merge.NodeMergeScheduler;
 import org.opensearch.index.recovery.RecoveryStats;
 import org.opensearch.index.refresh.RefreshStats;
 import org.opensearch.index.search.stats.SearchStats;
@@ -157,6 +158,7 @@ import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.recovery.PeerRecoveryTargetService;
 import org.opensearch.indices.recovery.RecoveryFailedException;
+import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.indices.recovery.RecoveryState;
 import org.opensearch.indices.recovery.RecoveryTarget;
 import org.opensearch.repositories.RepositoriesService;
@@ -223,6 +225,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final Supplier<Sort> indexSortSupplier;
     // Package visible for testing
     final CircuitBreakerService circuitBreakerService;
+    @Nullable
+    private final NodeMergeScheduler nodeMergeScheduler;
 
     private final SearchOperationListener searchOperationListener;
 
@@ -250,6 +254,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
     @Nullable
     private volatile RecoveryState recoveryState;
+    // the node's recovery settings, known once a recovery was started through #startRecovery
+    @Nullable
+    private volatile RecoverySettings recoverySettings;
 
     private final RecoveryStats recoveryStats = new RecoveryStats();
     private final MeanMetric refreshMetric = new MeanMetric();
@@ -288,6 +295,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final AtomicLong lastSearcherAccess = new AtomicLong();
     private final AtomicReference<Translog.Location> pendingRefreshLocation = new AtomicReference<>();
     private final RefreshPendingLocationListener refreshPendingLocationListener;
+    private final AdaptiveRefreshScheduler adaptiveRefreshScheduler;
+    private final AtomicBoolean collapsingSegments = new AtomicBoolean();
     private volatile boolean useRetentionLeasesInPeerRecovery;
 
     public IndexShard(
@@ -309,7 +318,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             final List<IndexingOperationListener> listeners,
             final Runnable globalCheckpointSyncer,
             final RetentionLeaseSyncer retentionLeaseSyncer,
-            final CircuitBreakerService circuitBreakerService) throws IOException {
+            final CircuitBreakerService circuitBreakerService,
+            final @Nullable NodeMergeScheduler nodeMergeScheduler) throws IOException {
         super(shardRouting.shardId(), indexSettings);
         assert shardRouting.initializing();
         this.shardRouting = shardRouting;
@@ -335,6 +345,12 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         final List<SearchOperationListener> searchListenersList = new ArrayList<>(searchOperationListener);
         searchListenersList.add(searchStats);
         this.searchOperationListener = new SearchOperationListener.CompositeListener(searchListenersList, logger);
+        this.adaptiveRefreshScheduler = new AdaptiveRefreshScheduler(
+            () -> {
+                final IndexingStats.Stats total = internalIndexingStats.stats(false, 0).getTotal();
+                return total.getIndexCount() + total.getDeleteCount();
+            },
+            () -> searchStats.stats().getTotal().getQueryCount());
         this.getService = new ShardGetService(indexSettings, this, mapperService);
         this.shardWarmerService = new ShardIndexWarmerService(shardId, indexSettings);
         this.requestCacheStats = new ShardRequestCache();
@@ -343,6 +359,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         state = IndexShardState.CREATED;
         this.path = path;
         this.circuitBreakerService = circuitBreakerService;
+        this.nodeMergeScheduler = nodeMergeScheduler;
         /* create engine config */
         logger.debug("state: [CREATED]");
 
@@ -503,6 +520,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                     "a primary relocation is completed by the master, but primary mode is not active " + currentRouting;
 
                 changeState(IndexShardState.STARTED, "global state is [" + newRouting.state() + "]");
+                if (indexSettings.shouldCollapseSegments()) {
+                    // the index may have become read-only while the shard was recovering, when settings changes are not applied
+                    collapseSegments();
+                }
             } else if (currentRouting.primary() && currentRouting.relocating() && replicationTracker.isRelocated() &&
                 (newRouting.relocating() == false || newRouting.equalsIgnoringMetadata(currentRouting) == false)) {
                 // if the shard is not in primary mode anymore (after primary relocation) we have to fail when any changes in shard
@@ -998,7 +1019,12 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             TimeUnit.NANOSECONDS.toMillis(refreshMetric.sum()),
             externalRefreshMetric.count(),
             TimeUnit.NANOSECONDS.toMillis(externalRefreshMetric.sum()),
-            listeners);
+            listeners,
+            adaptiveRefreshScheduler.getDeferred(),
+            indexSettings.isAdaptiveRefreshEnabled()
+                ? adaptiveRefreshScheduler.getEffectiveIntervalMillis()
+                : indexSettings.getRefreshInterval().millis(),
+            adaptiveRefreshScheduler.getCostMillis());
     }
 
     public FlushStats flushStats() {
@@ -1570,39 +1596,71 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     /**
      * Replays translog operations from the provided translog {@code snapshot} to the current engine using the given {@code origin}.
      * The callback {@code onOperationRecovered} is notified after each translog operation is replayed successfully.
+     * <p>
+     * When recovering from the local translog, operations on different documents are replayed in parallel if the index asks for
+     * more than one {@link IndexSettings#getTranslogReplayConcurrency() replay thread} and the node wide budget of
+     * {@link RecoverySettings#INDICES_RECOVERY_MAX_CONCURRENT_TRANSLOG_REPLAY_THREADS_SETTING} allows it.
      */
     int runTranslogRecovery(Engine engine, Translog.Snapshot snapshot, Engine.Operation.Origin origin,
                             Runnable onOperationRecovered) throws IOException {
-        int opsRecovered = 0;
-        Translog.Operation operation;
-        while ((operation = snapshot.next()) != null) {
-            try {
-                logger.trace("[translog] recover op {}", operation);
-                Engine.Result result = applyTranslogOperation(engine, operation, origin);
-                switch (result.getResultType()) {
-                    case FAILURE:
-                        throw result.getFailure();
-                    case MAPPING_UPDATE_REQUIRED:
-                        throw new IllegalArgumentException("unexpected mapping update: " + result.getRequiredMappingUpdate());
-                    case SUCCESS:
-                        break;
-                    default:
-                        throw new AssertionError("Unknown result type [" + result.getResultType() + "]");
+        final RecoverySettings recoverySettings = this.recoverySettings;
+        final int replayThreads;
+        if (origin == Engine.Operation.Origin.LOCAL_TRANSLOG_RECOVERY && recoverySettings != null
+            && indexSettings.getTranslogReplayConcurrency() > 1) {
+            replayThreads = recoverySettings.acquireTranslogReplayThreads(indexSettings.getTranslogReplayConcurrency());
+        } else {
+            replayThreads = 0;
+        }
+        try {
+            if (replayThreads > 1) {
+                logger.debug("replaying translog with [{}] threads", replayThreads);
+                return new ParallelTranslogReplayer(replayThreads, threadPool.generic(),
+                    operation -> replayTranslogOperation(engine, operation, origin), onOperationRecovered).replay(snapshot);
+            }
+            int opsRecovered = 0;
+            Translog.Operation operation;
+            while ((operation = snapshot.next()) != null) {
+                if (replayTranslogOperation(engine, operation, origin)) {
+                    opsRecovered++;
+                    onOperationRecovered.run();
                 }
+            }
+            return opsRecovered;
+        } finally {
+            if (replayThreads > 0) {
+                recoverySettings.releaseTranslogReplayThreads(replayThreads);
+            }
+        }
+    }
 
-                opsRecovered++;
-                onOperationRecovered.run();
-            } catch (Exception e) {
-                // TODO: Don't enable this leniency unless users explicitly opt-in
-                if (origin == Engine.Operation.Origin.LOCAL_TRANSLOG_RECOVERY && ExceptionsHelper.status(e) == RestStatus.BAD_REQUEST) {
-                    // mainly for MapperParsingException and Failure to detect xcontent
-                    logger.info("ignoring recovery of a corrupt translog entry", e);
-                } else {
-                    throw ExceptionsHelper.convertToRuntime(e);
-                }
+    /**
+     * Applies a single translog operation during a translog replay and returns <code>false</code> if a corrupt operation was skipped.
+     */
+    private boolean replayTranslogOperation(Engine engine, Translog.Operation operation, Engine.Operation.Origin origin) {
+        try {
+            logger.trace("[translog] recover op {}", operation);
+            Engine.Result result = applyTranslogOperation(engine, operation, origin);
+            switch (result.getResultType()) {
+                case FAILURE:
+                    throw result.getFailure();
+                case MAPPING_UPDATE_REQUIRED:
+                    throw new IllegalArgumentException("unexpected mapping update: " + result.getRequiredMappingUpdate());
+                case SUCCESS:
+                    break;
+                default:
+                    throw new AssertionError("Unknown result type [" + result.getResultType() + "]");
+            }
+            return true;
+        } catch (Exception e) {
+            // TODO: Don't enable this leniency unless users explicitly opt-in
+            if (origin == Engine.Operation.Origin.LOCAL_TRANSLOG_RECOVERY && ExceptionsHelper.status(e) == RestStatus.BAD_REQUEST) {
+                // mainly for MapperParsingException and Failure to detect xcontent
+                logger.info("ignoring recovery of a corrupt translog entry", e);
+                return false;
+            } else {
+                throw ExceptionsHelper.convertToRuntime(e);
             }
         }
-        return opsRecovered;
     }
 
     private void loadGlobalCheckpointToReplicationTracker() throws IOException {
@@ -1964,9 +2022,40 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 disableTranslogRetention ? new ByteSizeValue(-1) : indexSettings.getTranslogRetentionSize(),
                 indexSettings.getSoftDeleteRetentionOperations()
             );
+            if (indexSettings.shouldCollapseSegments() && state == IndexShardState.STARTED) {
+                collapseSegments();
+            }
         }
     }
 
+    /**
+     * Asks the merge policy of a read-only, time ordered index to merge all segments of this shard into one.
+     */
+    private void collapseSegments() {
+        if (collapsingSegments.compareAndSet(false, true) == false) {
+            return;
+        }
+        threadPool.executor(ThreadPool.Names.FORCE_MERGE).execute(new AbstractRunnable() {
+            @Override
+            public void onFailure(Exception e) {
+                if (state != IndexShardState.CLOSED) {
+                    logger.warn("failed to collapse segments of read-only shard", e);
+                }
+            }
+
+            @Override
+            protected void doRun() throws IOException {
+                // a non-positive segment count only triggers the merge policy, which collapses segments once read-only
+                getEngine().forceMerge(true, 0, false, false, false, null);
+            }
+
+            @Override
+            public void onAfter() {
+                collapsingSegments.set(false);
+            }
+        });
+    }
+
     private void turnOffTranslogRetention() {
         logger.debug("turn off the translog retention for the replication group {} " +
             "as it starts using retention leases exclusively in peer recoveries", shardId);
@@ -2615,6 +2704,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         //     }}
         // }
         assert recoveryState.getRecoverySource().equals(shardRouting.recoverySource());
+        if (recoveryTargetService != null) {
+            this.recoverySettings = recoveryTargetService.getRecoverySettings();
+        }
         switch (recoveryState.getRecoverySource().getType()) {
             case EMPTY_STORE:
             case EXISTING_STORE:
@@ -2802,7 +2894,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 Arrays.asList(refreshListeners, refreshPendingLocationListener),
                 Collections.singletonList(new RefreshMetricUpdater(refreshMetric)),
                 indexSort, circuitBreakerService, globalCheckpointSupplier, replicationTracker::getRetentionLeases,
-                () -> getOperationPrimaryTerm(), tombstoneDocSupplier());
+                () -> getOperationPrimaryTerm(), tombstoneDocSupplier(), nodeMergeScheduler);
     }
 
     /**
@@ -3290,11 +3382,22 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 engine.maybePruneDeletes(); // try to prune the deletes in the engine if we accumulated some
                 setRefreshPending(engine);
                 return false;
+            } else if (listenerNeedsRefresh == false
+                && indexSettings.isAdaptiveRefreshEnabled()
+                && adaptiveRefreshScheduler.shouldRefresh(threadPool.relativeTimeInMillis(),
+                    indexSettings.getAdaptiveRefreshMinInterval(), indexSettings.getAdaptiveRefreshMaxInterval()) == false) {
+                // the adaptive scheduler decided that the effective interval of this shard has not elapsed yet. Nobody is waiting
+                // for this refresh so we can wait for a later schedule to produce a bigger segment.
+                getEngine().maybePruneDeletes();
+                return false;
             } else {
                 if (logger.isTraceEnabled()) {
                     logger.trace("refresh with source [schedule]");
                 }
-                return getEngine().maybeRefresh("schedule");
+                final long startTime = System.nanoTime();
+                final boolean refreshed = getEngine().maybeRefresh("schedule");
+                adaptiveRefreshScheduler.onRefresh(threadPool.relativeTimeInMillis(), System.nanoTime() - startTime);
+                return refreshed;
             }
         }
         final Engine engine = getEngine();
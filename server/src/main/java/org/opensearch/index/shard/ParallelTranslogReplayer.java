@@ -0,0 +1,193 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.CheckedFunction;
+import org.opensearch.index.translog.Translog;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Replays the operations of a translog snapshot with several threads. The calling thread reads and decodes the operations
+ * from the snapshot and hands them over to a fixed number of workers. Operations are routed to the workers by their
+ * {@code _id}, so all operations on the same document are applied by the same worker in snapshot order, which keeps their
+ * sequence number order, while operations on different documents are applied in parallel. No-ops do not touch a document
+ * and are spread over all workers.
+ */
+final class ParallelTranslogReplayer {
+
+    /**
+     * The maximum number of decoded operations that may wait for each worker, which bounds the memory used by the replay.
+     */
+    static final int QUEUE_CAPACITY = 1024;
+
+    private static final Translog.Operation END = new Translog.NoOp(0, 0, "end of translog replay");
+
+    private final int workers;
+    private final Executor executor;
+    private final CheckedFunction<Translog.Operation, Boolean, IOException> applier;
+    private final Runnable onOperationRecovered;
+
+    private final AtomicInteger opsRecovered = new AtomicInteger();
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+    /**
+     * @param workers               the number of threads that apply operations
+     * @param executor              the executor that runs the workers
+     * @param applier               applies a single operation, returns <code>false</code> if the operation was skipped
+     * @param onOperationRecovered  notified after each operation was applied, may be called concurrently
+     */
+    ParallelTranslogReplayer(int workers, Executor executor, CheckedFunction<Translog.Operation, Boolean, IOException> applier,
+                             Runnable onOperationRecovered) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("translog replay requires at least one worker but got [" + workers + "]");
+        }
+        this.workers = workers;
+        this.executor = executor;
+        this.applier = applier;
+        this.onOperationRecovered = onOperationRecovered;
+    }
+
+    /**
+     * Replays all operations of the given snapshot and returns the number of applied operations. The first failure stops
+     * the replay and is rethrown once all workers are done.
+     */
+    int replay(Translog.Snapshot snapshot) throws IOException {
+        final List<BlockingQueue<Translog.Operation>> queues = new ArrayList<>(workers);
+        final CountDownLatch done = new CountDownLatch(workers);
+        try {
+            for (int i = 0; i < workers; i++) {
+                final BlockingQueue<Translog.Operation> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+                executor.execute(() -> work(queue, done));
+                queues.add(queue);
+            }
+            int nextNoOpWorker = 0;
+            Translog.Operation operation;
+            while (failure.get() == null && (operation = snapshot.next()) != null) {
+                final int worker;
+                switch (operation.opType()) {
+                    case INDEX:
+                        worker = Math.floorMod(((Translog.Index) operation).id().hashCode(), workers);
+                        break;
+                    case DELETE:
+                        worker = Math.floorMod(((Translog.Delete) operation).id().hashCode(), workers);
+                        break;
+                    default:
+                        worker = nextNoOpWorker;
+                        nextNoOpWorker = (nextNoOpWorker + 1) % workers;
+                        break;
+                }
+                putUninterruptibly(queues.get(worker), operation);
+            }
+        } catch (Exception e) {
+            onFailure(e);
+        } finally {
+            for (BlockingQueue<Translog.Operation> queue : queues) {
+                putUninterruptibly(queue, END);
+            }
+            // workers that could not be started never count down
+            for (int i = queues.size(); i < workers; i++) {
+                done.countDown();
+            }
+            awaitUninterruptibly(done);
+        }
+        final Exception e = failure.get();
+        if (e != null) {
+            throw ExceptionsHelper.convertToRuntime(e);
+        }
+        return opsRecovered.get();
+    }
+
+    private void work(BlockingQueue<Translog.Operation> queue, CountDownLatch done) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                final Translog.Operation operation;
+                try {
+                    operation = queue.take();
+                } catch (InterruptedException e) {
+                    // keep consuming until the end marker so that the reading thread never blocks on a full queue
+                    interrupted = true;
+                    onFailure(e);
+                    continue;
+                }
+                if (operation == END) {
+                    break;
+                }
+                if (failure.get() != null) {
+                    continue;
+                }
+                try {
+                    if (applier.apply(operation)) {
+                        opsRecovered.incrementAndGet();
+                        onOperationRecovered.run();
+                    }
+                } catch (Exception e) {
+                    onFailure(e);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        }
+    }
+
+    private void onFailure(Exception e) {
+        if (failure.compareAndSet(null, e) == false && failure.get() != e) {
+            failure.get().addSuppressed(e);
+        }
+    }
+
+    private static void putUninterruptibly(BlockingQueue<Translog.Operation> queue, Translog.Operation operation) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    queue.put(operation);
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    latch.await();
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
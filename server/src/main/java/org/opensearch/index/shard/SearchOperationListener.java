@@ -90,6 +90,14 @@ public interface SearchOperationListener {
      */
     default void onFetchPhase(SearchContext searchContext, long tookInNanos) {}
 
+    /**
+     * Executed after the fetch phase rebuilt the synthetic source of hits.
+     * @param searchContext the current search context
+     * @param count the number of hits whose source was rebuilt
+     * @param tookInNanos the number of nanoseconds rebuilding the sources took
+     */
+    default void onSyntheticSource(SearchContext searchContext, long count, long tookInNanos) {}
+
     /**
      * Executed when a new reader context was created
      * @param readerContext the created context
@@ -207,6 +215,17 @@ public interface SearchOperationListener {
             }
         }
 
+        @Override
+        public void onSyntheticSource(SearchContext searchContext, long count, long tookInNanos) {
+            for (SearchOperationListener listener : listeners) {
+                try {
+                    listener.onSyntheticSource(searchContext, count, tookInNanos);
+                } catch (Exception e) {
+                    logger.warn(() -> new ParameterizedMessage("onSyntheticSource listener [{}] failed", listener), e);
+                }
+            }
+        }
+
         @Override
         public void onNewReaderContext(ReaderContext readerContext) {
             for (SearchOperationListener listener : listeners) {
@@ -32,6 +32,7 @@
 
 package org.opensearch.indices;
 
+import org.opensearch.Version;
 import org.opensearch.action.admin.indices.stats.CommonStats;
 import org.opensearch.action.admin.indices.stats.IndexShardStats;
 import org.opensearch.action.admin.indices.stats.ShardStats;
@@ -49,6 +50,7 @@ import org.opensearch.index.fielddata.FieldDataStats;
 import org.opensearch.index.flush.FlushStats;
 import org.opensearch.index.get.GetStats;
 import org.opensearch.index.merge.MergeStats;
+import org.opensearch.index.merge.NodeMergeStats;
 import org.opensearch.index.recovery.RecoveryStats;
 import org.opensearch.index.refresh.RefreshStats;
 import org.opensearch.index.search.stats.SearchStats;
@@ -72,6 +74,8 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
 
     private CommonStats stats;
     private Map<Index, List<IndexShardStats>> statsByShard;
+    @Nullable
+    private NodeMergeStats nodeMergeStats;
 
     public NodeIndicesStats(StreamInput in) throws IOException {
         stats = new CommonStats(in);
@@ -88,11 +92,20 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
                 statsByShard.put(index, indexShardStats);
             }
         }
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            nodeMergeStats = in.readOptionalWriteable(NodeMergeStats::new);
+        }
     }
 
     public NodeIndicesStats(CommonStats oldStats, Map<Index, List<IndexShardStats>> statsByShard) {
+        this(oldStats, statsByShard, null);
+    }
+
+    public NodeIndicesStats(CommonStats oldStats, Map<Index, List<IndexShardStats>> statsByShard,
+                            @Nullable NodeMergeStats nodeMergeStats) {
         //this.stats = stats;
         this.statsByShard = statsByShard;
+        this.nodeMergeStats = nodeMergeStats;
 
         // make a total common stats from old ones and current ones
         this.stats = oldStats;
@@ -135,6 +148,14 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
         return stats.getMerge();
     }
 
+    /**
+     * Returns the statistics of the node level merge scheduler, <code>null</code> if merge stats were not requested.
+     */
+    @Nullable
+    public NodeMergeStats getNodeMergeStats() {
+        return nodeMergeStats;
+    }
+
     @Nullable
     public RefreshStats getRefresh() {
         return stats.getRefresh();
@@ -199,6 +220,9 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
                 }
             }
         }
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeOptionalWriteable(nodeMergeStats);
+        }
     }
 
     @Override
@@ -213,6 +237,9 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
         // "node" level
         builder.startObject(Fields.INDICES);
         stats.toXContent(builder, params);
+        if (nodeMergeStats != null) {
+            nodeMergeStats.toXContent(builder, params);
+        }
 
         if ("indices".equals(level)) {
             Map<Index, CommonStats> indexStats = createStatsByIndex();
@@ -144,6 +144,10 @@ public class PeerRecoveryTargetService implements IndexEventListener {
                 new HandoffPrimaryContextRequestHandler());
     }
 
+    public RecoverySettings getRecoverySettings() {
+        return recoverySettings;
+    }
+
     @Override
     public void beforeIndexShardClosed(ShardId shardId, @Nullable IndexShard indexShard, Settings indexSettings) {
         if (indexShard != null) {
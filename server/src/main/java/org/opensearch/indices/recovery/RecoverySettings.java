@@ -64,6 +64,14 @@ public class RecoverySettings {
     public static final Setting<Integer> INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING =
         Setting.intSetting("indices.recovery.max_concurrent_operations", 1, 1, 4, Property.Dynamic, Property.NodeScope);
 
+    /**
+     * Controls the maximum number of threads that replay translog operations across all shards of a node that recover from their
+     * local store. Shards ask for threads according to their index.translog.replay.concurrency setting and fall back to replaying
+     * on the recovery thread when the budget is exhausted.
+     */
+    public static final Setting<Integer> INDICES_RECOVERY_MAX_CONCURRENT_TRANSLOG_REPLAY_THREADS_SETTING =
+        Setting.intSetting("indices.recovery.max_concurrent_translog_replay_threads", 4, 1, Property.Dynamic, Property.NodeScope);
+
     /**
      * how long to wait before retrying after issues cause by cluster state syncing between nodes
      * i.e., local node is not yet known on remote node, remote shard not yet started etc.
@@ -111,6 +119,8 @@ public class RecoverySettings {
     private volatile ByteSizeValue maxBytesPerSec;
     private volatile int maxConcurrentFileChunks;
     private volatile int maxConcurrentOperations;
+    private volatile int maxConcurrentTranslogReplayThreads;
+    private int translogReplayThreadsInUse;
     private volatile SimpleRateLimiter rateLimiter;
     private volatile TimeValue retryDelayStateSync;
     private volatile TimeValue retryDelayNetwork;
@@ -125,6 +135,7 @@ public class RecoverySettings {
         this.retryDelayStateSync = INDICES_RECOVERY_RETRY_DELAY_STATE_SYNC_SETTING.get(settings);
         this.maxConcurrentFileChunks = INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING.get(settings);
         this.maxConcurrentOperations = INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING.get(settings);
+        this.maxConcurrentTranslogReplayThreads = INDICES_RECOVERY_MAX_CONCURRENT_TRANSLOG_REPLAY_THREADS_SETTING.get(settings);
         // doesn't have to be fast as nodes are reconnected every 10s by default (see InternalClusterService.ReconnectToNodes)
         // and we want to give the master time to remove a faulty node
         this.retryDelayNetwork = INDICES_RECOVERY_RETRY_DELAY_NETWORK_SETTING.get(settings);
@@ -148,6 +159,8 @@ public class RecoverySettings {
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING, this::setMaxConcurrentFileChunks);
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING,
             this::setMaxConcurrentOperations);
+        clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_MAX_CONCURRENT_TRANSLOG_REPLAY_THREADS_SETTING,
+            this::setMaxConcurrentTranslogReplayThreads);
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_RETRY_DELAY_STATE_SYNC_SETTING, this::setRetryDelayStateSync);
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_RETRY_DELAY_NETWORK_SETTING, this::setRetryDelayNetwork);
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_INTERNAL_ACTION_TIMEOUT_SETTING, this::setInternalActionTimeout);
@@ -240,4 +253,27 @@ public class RecoverySettings {
     private void setMaxConcurrentOperations(int maxConcurrentOperations) {
         this.maxConcurrentOperations = maxConcurrentOperations;
     }
+
+    public int getMaxConcurrentTranslogReplayThreads() {
+        return maxConcurrentTranslogReplayThreads;
+    }
+
+    private void setMaxConcurrentTranslogReplayThreads(int maxConcurrentTranslogReplayThreads) {
+        this.maxConcurrentTranslogReplayThreads = maxConcurrentTranslogReplayThreads;
+    }
+
+    /**
+     * Reserves up to {@code wanted} translog replay threads from the node wide budget and returns the number of reserved threads,
+     * which may be zero. The reserved threads must be given back with {@link #releaseTranslogReplayThreads(int)}.
+     */
+    public synchronized int acquireTranslogReplayThreads(int wanted) {
+        final int acquired = Math.max(0, Math.min(wanted, maxConcurrentTranslogReplayThreads - translogReplayThreadsInUse));
+        translogReplayThreadsInUse += acquired;
+        return acquired;
+    }
+
+    public synchronized void releaseTranslogReplayThreads(int threads) {
+        translogReplayThreadsInUse -= threads;
+        assert translogReplayThreadsInUse >= 0 : "released more translog replay threads than acquired: " + translogReplayThreadsInUse;
+    }
 }
@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest;
+
+import java.util.List;
+
+/**
+ * A {@link Processor} that can process the documents of a bulk request that go through the same pipeline at once, so that
+ * work that does not depend on a single document, like compiling scripts or building parsers, is shared by all of them.
+ * Processors that don't implement it are executed document by document within a batch.
+ */
+public interface BatchProcessor extends Processor {
+
+    /**
+     * Introspect and potentially modify a batch of incoming documents.
+     *
+     * The handler must be called exactly once for each document, with the position of the document in the batch and
+     * either the result {@link #execute(IngestDocument)} would return for it or the exception it would throw.
+     */
+    void executeBatch(List<IngestDocument> ingestDocuments, BatchHandler handler);
+
+    /**
+     * Receives the result of a document of a batch.
+     */
+    @FunctionalInterface
+    interface BatchHandler {
+
+        /**
+         * @param slot   the position of the document in the batch
+         * @param result the document to keep processing, or {@code null} if it is dropped or failed
+         * @param e      the failure of the document, or {@code null}
+         */
+        void accept(int slot, IngestDocument result, Exception e);
+    }
+}
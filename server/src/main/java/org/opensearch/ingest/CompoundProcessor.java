@@ -41,6 +41,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
@@ -48,8 +49,11 @@ import java.util.stream.Collectors;
 /**
  * A Processor that executes a list of other "processors". It executes a separate list of
  * "onFailureProcessors" when any of the processors throw an {@link Exception}.
+ * <p>
+ * A batch of documents is executed processor by processor, with each {@link BatchProcessor} getting all the documents
+ * that are still processed at once.
  */
-public class CompoundProcessor implements Processor {
+public class CompoundProcessor implements BatchProcessor {
     public static final String ON_FAILURE_MESSAGE_FIELD = "on_failure_message";
     public static final String ON_FAILURE_PROCESSOR_TYPE_FIELD = "on_failure_processor_type";
     public static final String ON_FAILURE_PROCESSOR_TAG_FIELD = "on_failure_processor_tag";
@@ -60,6 +64,7 @@ public class CompoundProcessor implements Processor {
     private final List<Processor> onFailureProcessors;
     private final List<Tuple<Processor, IngestMetric>> processorsWithMetrics;
     private final LongSupplier relativeTimeProvider;
+    private final boolean hasBatchProcessors;
 
     CompoundProcessor(LongSupplier relativeTimeProvider, Processor... processor) {
         this(false, Arrays.asList(processor), Collections.emptyList(), relativeTimeProvider);
@@ -81,6 +86,22 @@ public class CompoundProcessor implements Processor {
         this.relativeTimeProvider = relativeTimeProvider;
         this.processorsWithMetrics = new ArrayList<>(processors.size());
         processors.forEach(p -> processorsWithMetrics.add(new Tuple<>(p, new IngestMetric())));
+        this.hasBatchProcessors = processors.stream().anyMatch(CompoundProcessor::isBatchProcessor);
+    }
+
+    /**
+     * Whether the processor gets all documents of a batch at once. Nested compound processors, e.g. the ones that wrap
+     * processors with their own on_failure processors, only do if any of their processors is a batch processor.
+     */
+    private static boolean isBatchProcessor(Processor processor) {
+        if (processor instanceof CompoundProcessor) {
+            return ((CompoundProcessor) processor).hasBatchProcessors();
+        }
+        return processor instanceof BatchProcessor;
+    }
+
+    boolean hasBatchProcessors() {
+        return hasBatchProcessors;
     }
 
     List<Tuple<Processor, IngestMetric>> getProcessorsWithMetrics() {
@@ -180,6 +201,103 @@ public class CompoundProcessor implements Processor {
         });
     }
 
+    @Override
+    public void executeBatch(List<IngestDocument> ingestDocuments, BatchHandler handler) {
+        final IngestDocument[] documents = ingestDocuments.toArray(new IngestDocument[0]);
+        final int[] slots = new int[documents.length];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = i;
+        }
+        innerExecuteBatch(0, documents, slots, handler);
+    }
+
+    /**
+     * Executes the current processor on the documents at the given slots of the batch, and the next processor on the
+     * documents it kept once it completed for all of them.
+     */
+    void innerExecuteBatch(int currentProcessor, IngestDocument[] documents, int[] slots, BatchHandler handler) {
+        if (slots.length == 0) {
+            return;
+        }
+        if (currentProcessor == processorsWithMetrics.size()) {
+            for (int slot : slots) {
+                handler.accept(slot, documents[slot], null);
+            }
+            return;
+        }
+
+        Tuple<Processor, IngestMetric> processorWithMetric = processorsWithMetrics.get(currentProcessor);
+        final Processor processor = processorWithMetric.v1();
+        final IngestMetric metric = processorWithMetric.v2();
+        final boolean batched = isBatchProcessor(processor);
+        final long startTimeInNanos = relativeTimeProvider.getAsLong();
+        final boolean[] proceed = new boolean[slots.length];
+        final AtomicInteger pending = new AtomicInteger(slots.length);
+        final BatchHandler resultHandler = (i, result, e) -> {
+            final int slot = slots[i];
+            if (e != null) {
+                metric.ingestFailed();
+                if (ignoreFailure) {
+                    proceed[i] = true;
+                } else {
+                    IngestProcessorException compoundProcessorException =
+                        newCompoundProcessorException(e, processor, documents[slot]);
+                    if (onFailureProcessors.isEmpty()) {
+                        handler.accept(slot, null, compoundProcessorException);
+                    } else {
+                        executeOnFailureAsync(0, documents[slot], compoundProcessorException,
+                            (onFailureResult, onFailureException) -> handler.accept(slot, onFailureResult, onFailureException));
+                    }
+                }
+            } else if (result != null) {
+                documents[slot] = result;
+                proceed[i] = true;
+            } else {
+                handler.accept(slot, null, null);
+            }
+
+            if (pending.decrementAndGet() == 0) {
+                if (batched) {
+                    metric.postIngestBatch(slots.length,
+                        TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - startTimeInNanos));
+                }
+                int count = 0;
+                for (boolean p : proceed) {
+                    if (p) {
+                        count++;
+                    }
+                }
+                final int[] nextSlots = new int[count];
+                for (int j = 0, k = 0; j < slots.length; j++) {
+                    if (proceed[j]) {
+                        nextSlots[k++] = slots[j];
+                    }
+                }
+                innerExecuteBatch(currentProcessor + 1, documents, nextSlots, handler);
+            }
+        };
+
+        if (batched) {
+            final List<IngestDocument> batch = new ArrayList<>(slots.length);
+            for (int slot : slots) {
+                batch.add(documents[slot]);
+            }
+            metric.preIngestBatch(slots.length);
+            ((BatchProcessor) processor).executeBatch(batch, resultHandler);
+        } else {
+            for (int i = 0; i < slots.length; i++) {
+                final int index = i;
+                final long documentStartTimeInNanos = relativeTimeProvider.getAsLong();
+                metric.preIngest();
+                processor.execute(documents[slots[i]], (result, e) -> {
+                    long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - documentStartTimeInNanos);
+                    metric.postIngest(ingestTimeInMillis);
+                    resultHandler.accept(index, result, e);
+                });
+            }
+        }
+    }
+
     void executeOnFailureAsync(int currentOnFailureProcessor, IngestDocument ingestDocument, OpenSearchException exception,
                                BiConsumer<IngestDocument, Exception> handler) {
         if (currentOnFailureProcessor == 0) {
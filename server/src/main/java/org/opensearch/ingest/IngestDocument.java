@@ -766,6 +766,44 @@ public final class IngestDocument {
         }
     }
 
+    /**
+     * Executes the given pipeline on a batch of documents, like {@link #executePipeline(Pipeline, BiConsumer)} does for
+     * each of them.
+     *
+     * @param pipeline the pipeline to execute
+     * @param ingestDocuments the documents to execute it on
+     * @param handler handles the result or failure of each document
+     */
+    static void executePipeline(Pipeline pipeline, List<IngestDocument> ingestDocuments, BatchProcessor.BatchHandler handler) {
+        final List<IngestDocument> executed = new ArrayList<>(ingestDocuments.size());
+        final List<Integer> slots = new ArrayList<>(ingestDocuments.size());
+        final List<Object> previousPipelines = new ArrayList<>(ingestDocuments.size());
+        for (int slot = 0; slot < ingestDocuments.size(); slot++) {
+            final IngestDocument ingestDocument = ingestDocuments.get(slot);
+            if (ingestDocument.executedPipelines.add(pipeline.getId())) {
+                executed.add(ingestDocument);
+                slots.add(slot);
+                previousPipelines.add(ingestDocument.ingestMetadata.put("pipeline", pipeline.getId()));
+            } else {
+                handler.accept(slot, null, new IllegalStateException(PIPELINE_CYCLE_ERROR_MESSAGE + pipeline.getId()));
+            }
+        }
+        if (executed.isEmpty()) {
+            return;
+        }
+        pipeline.executeBatch(executed, (i, result, e) -> {
+            final IngestDocument ingestDocument = executed.get(i);
+            ingestDocument.executedPipelines.remove(pipeline.getId());
+            final Object previousPipeline = previousPipelines.get(i);
+            if (previousPipeline != null) {
+                ingestDocument.ingestMetadata.put("pipeline", previousPipeline);
+            } else {
+                ingestDocument.ingestMetadata.remove("pipeline");
+            }
+            handler.accept(slots.get(i), result, e);
+        });
+    }
+
     /**
      * @return a pipeline stack; all pipelines that are in execution by this document in reverse order
      */
@@ -63,6 +63,14 @@ class IngestMetric {
      * The only increasing count of failures
      */
     private final CounterMetric ingestFailed = new CounterMetric();
+    /**
+     * The ever increasing count of batches of things being measured
+     */
+    private final CounterMetric batchCount = new CounterMetric();
+    /**
+     * The time it takes to complete batches of things, which is also part of the ingest time
+     */
+    private final CounterMetric batchTimeInMillis = new CounterMetric();
 
     /**
      * Call this prior to the ingest action.
@@ -81,6 +89,26 @@ class IngestMetric {
         ingestCount.inc();
     }
 
+    /**
+     * Call this prior to the ingest action of a batch of items.
+     */
+    void preIngestBatch(int size) {
+        ingestCurrent.addAndGet(size);
+    }
+
+    /**
+     * Call this after performing the ingest action of a batch of items, even if it failed for some of them.
+     * @param size The number of items in the batch.
+     * @param batchTimeInMillis The time it took to perform the action for all items.
+     */
+    void postIngestBatch(int size, long batchTimeInMillis) {
+        ingestCurrent.addAndGet(-size);
+        ingestTime.inc(batchTimeInMillis);
+        ingestCount.inc(size);
+        batchCount.inc();
+        this.batchTimeInMillis.inc(batchTimeInMillis);
+    }
+
     /**
      * Call this if the ingest action failed.
      */
@@ -99,12 +127,15 @@ class IngestMetric {
         ingestCount.inc(metrics.ingestCount.count());
         ingestTime.inc(metrics.ingestTime.sum());
         ingestFailed.inc(metrics.ingestFailed.count());
+        batchCount.inc(metrics.batchCount.count());
+        batchTimeInMillis.inc(metrics.batchTimeInMillis.count());
     }
 
     /**
      * Creates a serializable representation for these metrics.
      */
     IngestStats.Stats createStats() {
-        return new IngestStats.Stats(ingestCount.count(), ingestTime.sum(), ingestCurrent.get(), ingestFailed.count());
+        return new IngestStats.Stats(ingestCount.count(), ingestTime.sum(), ingestCurrent.get(), ingestFailed.count(),
+            batchCount.count(), batchTimeInMillis.count());
     }
 }
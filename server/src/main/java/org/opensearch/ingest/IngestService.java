@@ -59,6 +59,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.regex.Regex;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
@@ -79,16 +80,19 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
+import java.util.function.Supplier;
 
 /**
  * Holder class for several ingest related services.
@@ -99,6 +103,13 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
 
     public static final String INGEST_ORIGIN = "ingest";
 
+    /**
+     * The number of index requests of a bulk request with the same pipeline that are executed together. Larger bulk requests
+     * are split into chunks of this size that are executed concurrently, by default they are executed on a single thread.
+     */
+    public static final Setting<Integer> BULK_CHUNK_SIZE_SETTING = Setting.intSetting("ingest.bulk.chunk_size", 0, 0,
+        Setting.Property.Dynamic, Setting.Property.NodeScope);
+
     private static final Logger logger = LogManager.getLogger(IngestService.class);
 
     private final ClusterService clusterService;
@@ -112,7 +123,9 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
     private final ThreadPool threadPool;
     private final IngestMetric totalMetrics = new IngestMetric();
     private final List<Consumer<ClusterState>> ingestClusterStateListeners = new CopyOnWriteArrayList<>();
+    private final Map<String, Supplier<IngestStats.CacheStats>> cacheStats = new ConcurrentHashMap<>();
     private volatile ClusterState state;
+    private volatile int bulkChunkSize;
 
     public IngestService(ClusterService clusterService, ThreadPool threadPool,
                          Environment env, ScriptService scriptService, AnalysisRegistry analysisRegistry,
@@ -131,6 +144,12 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         );
 
         this.threadPool = threadPool;
+        this.bulkChunkSize = BULK_CHUNK_SIZE_SETTING.get(clusterService.getSettings());
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(BULK_CHUNK_SIZE_SETTING, this::setBulkChunkSize);
+    }
+
+    private void setBulkChunkSize(int bulkChunkSize) {
+        this.bulkChunkSize = bulkChunkSize;
     }
 
     private static Map<String, Processor.Factory> processorFactories(List<IngestPlugin> ingestPlugins,
@@ -479,6 +498,8 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
             protected void doRun() {
                 final Thread originalThread = Thread.currentThread();
                 final AtomicInteger counter = new AtomicInteger(numberOfActionRequests);
+                // the requests are executed in batches per first pipeline, the following pipelines run per request
+                final Map<String, List<BatchItem>> batches = new LinkedHashMap<>();
                 int i = 0;
                 for (DocWriteRequest<?> actionRequest : actionRequests) {
                     IndexRequest indexRequest = TransportBulkAction.getIndexWriteRequest(actionRequest);
@@ -514,11 +535,122 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                         continue;
                     }
 
-                    executePipelines(i, pipelines.iterator(), hasFinalPipeline, indexRequest, onDropped, onFailure, counter,
-                                     onCompletion, originalThread);
+                    batches.computeIfAbsent(pipelines.get(0), k -> new ArrayList<>())
+                        .add(new BatchItem(i, indexRequest, pipelines, hasFinalPipeline));
 
                     i++;
                 }
+
+                final IntConsumer onCompleted = slot -> {
+                    if (counter.decrementAndGet() == 0) {
+                        onCompletion.accept(originalThread, null);
+                    }
+                    assert counter.get() >= 0;
+                };
+                final int chunkSize = bulkChunkSize;
+                if (chunkSize == 0) {
+                    for (Map.Entry<String, List<BatchItem>> batch : batches.entrySet()) {
+                        executeBatch(batch.getKey(), batch.getValue(), onDropped, onFailure, onCompleted);
+                    }
+                    return;
+                }
+
+                final List<Chunk> chunks = new ArrayList<>();
+                for (Map.Entry<String, List<BatchItem>> batch : batches.entrySet()) {
+                    final List<BatchItem> items = batch.getValue();
+                    for (int from = 0; from < items.size(); from += chunkSize) {
+                        final List<BatchItem> chunk = items.subList(from, Math.min(from + chunkSize, items.size()));
+                        chunks.add(new Chunk(batch.getKey(), chunk, onDropped, onFailure, onCompleted));
+                    }
+                }
+                // all chunks but the last one are forked, the last one is executed on this thread in the meantime
+                for (int c = 0; c < chunks.size() - 1; c++) {
+                    forkChunk(executorName, chunks.get(c));
+                }
+                if (chunks.isEmpty() == false) {
+                    final Chunk last = chunks.get(chunks.size() - 1);
+                    try {
+                        last.execute();
+                    } catch (Exception e) {
+                        last.fail(e);
+                    }
+                }
+            }
+        });
+    }
+
+    private void forkChunk(String executorName, Chunk chunk) {
+        threadPool.executor(executorName).execute(new AbstractRunnable() {
+
+            @Override
+            public void onFailure(Exception e) {
+                chunk.fail(e);
+            }
+
+            @Override
+            public void onRejection(Exception e) {
+                // the requests of the chunk still have to complete, execute them on the forking thread instead
+                run();
+            }
+
+            @Override
+            protected void doRun() {
+                chunk.execute();
+            }
+        });
+    }
+
+    private void executeBatch(
+        final String pipelineId,
+        final List<BatchItem> items,
+        final IntConsumer onDropped,
+        final BiConsumer<Integer, Exception> onFailure,
+        final IntConsumer onCompleted
+    ) {
+        final PipelineHolder holder = pipelines.get(pipelineId);
+        if (holder == null || holder.pipeline.getProcessors().isEmpty()) {
+            // nothing to share, each request goes on with its next pipeline or fails on its own
+            for (BatchItem item : items) {
+                executePipelines(item.slot, item.pipelines.iterator(), item.hasFinalPipeline, item.indexRequest, onDropped, onFailure,
+                    onCompleted);
+            }
+            return;
+        }
+        final Pipeline pipeline = holder.pipeline;
+        final List<BatchItem> executed = new ArrayList<>(items.size());
+        final List<String> originalIndices = new ArrayList<>(items.size());
+        final List<IngestDocument> ingestDocuments = new ArrayList<>(items.size());
+        for (BatchItem item : items) {
+            final IngestDocument ingestDocument;
+            try {
+                ingestDocument = toIngestDocument(item.indexRequest);
+            } catch (Exception e) {
+                onPipelineFailure(item.slot, pipelineId, item.indexRequest, e, onFailure, onCompleted);
+                continue;
+            }
+            executed.add(item);
+            originalIndices.add(item.indexRequest.indices()[0]);
+            ingestDocuments.add(ingestDocument);
+        }
+        if (executed.isEmpty()) {
+            return;
+        }
+        innerExecuteBatch(pipeline, ingestDocuments, (i, result, e) -> {
+            final BatchItem item = executed.get(i);
+            try {
+                if (e == null) {
+                    if (result == null) {
+                        onDropped.accept(item.slot);
+                    } else {
+                        updateIndexRequest(item.indexRequest, ingestDocuments.get(i));
+                    }
+                }
+                final Iterator<String> it = item.pipelines.iterator();
+                it.next();
+                onPipelineExecuted(item.slot, pipelineId, it, item.hasFinalPipeline, item.indexRequest, originalIndices.get(i), e,
+                    onDropped, onFailure, onCompleted);
+            } catch (Exception inner) {
+                onPipelineFailure(item.slot, pipelineId, item.indexRequest, inner, onFailure, onCompleted);
             }
         });
     }
@@ -530,9 +662,7 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         final IndexRequest indexRequest,
         final IntConsumer onDropped,
         final BiConsumer<Integer, Exception> onFailure,
-        final AtomicInteger counter,
-        final BiConsumer<Thread, Exception> onCompletion,
-        final Thread originalThread
+        final IntConsumer onCompleted
     ) {
         while (it.hasNext()) {
             final String pipelineId = it.next();
@@ -543,59 +673,80 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                 }
                 Pipeline pipeline = holder.pipeline;
                 String originalIndex = indexRequest.indices()[0];
-                innerExecute(slot, indexRequest, pipeline, onDropped, e -> {
-                    if (e != null) {
-                        logger.debug(() -> new ParameterizedMessage("failed to execute pipeline [{}] for document [{}/{}]",
-                            pipelineId, indexRequest.index(), indexRequest.id()), e);
-                        onFailure.accept(slot, e);
-                    }
+                innerExecute(slot, indexRequest, pipeline, onDropped, e -> onPipelineExecuted(slot, pipelineId, it, hasFinalPipeline,
+                    indexRequest, originalIndex, e, onDropped, onFailure, onCompleted));
+            } catch (Exception e) {
+                onPipelineFailure(slot, pipelineId, indexRequest, e, onFailure, onCompleted);
+                break;
+            }
+        }
+    }
 
-                    Iterator<String> newIt = it;
-                    boolean newHasFinalPipeline = hasFinalPipeline;
-                    String newIndex = indexRequest.indices()[0];
-
-                    if (Objects.equals(originalIndex, newIndex) == false) {
-                        if (hasFinalPipeline && it.hasNext() == false) {
-                            totalMetrics.ingestFailed();
-                            onFailure.accept(slot, new IllegalStateException("final pipeline [" + pipelineId +
-                                "] can't change the target index"));
-                        } else {
-
-                            //Drain old it so it's not looped over
-                            it.forEachRemaining($ -> {
-                            });
-                            indexRequest.isPipelineResolved(false);
-                            resolvePipelines(null, indexRequest, state.metadata());
-                            if (IngestService.NOOP_PIPELINE_NAME.equals(indexRequest.getFinalPipeline()) == false) {
-                                newIt = Collections.singleton(indexRequest.getFinalPipeline()).iterator();
-                                newHasFinalPipeline = true;
-                            } else {
-                                newIt = Collections.emptyIterator();
-                            }
-                        }
-                    }
+    /**
+     * Moves on with the next pipeline of a request once a pipeline was executed on it, or completes the request.
+     */
+    private void onPipelineExecuted(
+        final int slot,
+        final String pipelineId,
+        final Iterator<String> it,
+        final boolean hasFinalPipeline,
+        final IndexRequest indexRequest,
+        final String originalIndex,
+        final Exception e,
+        final IntConsumer onDropped,
+        final BiConsumer<Integer, Exception> onFailure,
+        final IntConsumer onCompleted
+    ) {
+        if (e != null) {
+            logger.debug(() -> new ParameterizedMessage("failed to execute pipeline [{}] for document [{}/{}]",
+                pipelineId, indexRequest.index(), indexRequest.id()), e);
+            onFailure.accept(slot, e);
+        }
 
-                    if (newIt.hasNext()) {
-                        executePipelines(slot, newIt, newHasFinalPipeline, indexRequest, onDropped, onFailure, counter, onCompletion,
-                            originalThread);
-                    } else {
-                        if (counter.decrementAndGet() == 0) {
-                            onCompletion.accept(originalThread, null);
-                        }
-                        assert counter.get() >= 0;
-                    }
+        Iterator<String> newIt = it;
+        boolean newHasFinalPipeline = hasFinalPipeline;
+        String newIndex = indexRequest.indices()[0];
+
+        if (Objects.equals(originalIndex, newIndex) == false) {
+            if (hasFinalPipeline && it.hasNext() == false) {
+                totalMetrics.ingestFailed();
+                onFailure.accept(slot, new IllegalStateException("final pipeline [" + pipelineId +
+                    "] can't change the target index"));
+            } else {
+
+                //Drain old it so it's not looped over
+                it.forEachRemaining($ -> {
                 });
-            } catch (Exception e) {
-                logger.debug(() -> new ParameterizedMessage("failed to execute pipeline [{}] for document [{}/{}]",
-                    pipelineId, indexRequest.index(), indexRequest.id()), e);
-                onFailure.accept(slot, e);
-                if (counter.decrementAndGet() == 0) {
-                    onCompletion.accept(originalThread, null);
+                indexRequest.isPipelineResolved(false);
+                resolvePipelines(null, indexRequest, state.metadata());
+                if (IngestService.NOOP_PIPELINE_NAME.equals(indexRequest.getFinalPipeline()) == false) {
+                    newIt = Collections.singleton(indexRequest.getFinalPipeline()).iterator();
+                    newHasFinalPipeline = true;
+                } else {
+                    newIt = Collections.emptyIterator();
                 }
-                assert counter.get() >= 0;
-                break;
             }
         }
+
+        if (newIt.hasNext()) {
+            executePipelines(slot, newIt, newHasFinalPipeline, indexRequest, onDropped, onFailure, onCompleted);
+        } else {
+            onCompleted.accept(slot);
+        }
+    }
+
+    private void onPipelineFailure(
+        final int slot,
+        final String pipelineId,
+        final IndexRequest indexRequest,
+        final Exception e,
+        final BiConsumer<Integer, Exception> onFailure,
+        final IntConsumer onCompleted
+    ) {
+        logger.debug(() -> new ParameterizedMessage("failed to execute pipeline [{}] for document [{}/{}]",
+            pipelineId, indexRequest.index(), indexRequest.id()), e);
+        onFailure.accept(slot, e);
+        onCompleted.accept(slot);
     }
 
     public IngestStats stats() {
@@ -613,9 +764,19 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                 statsBuilder.addProcessorMetrics(id, getProcessorName(processor), processor.getType(), processorMetric);
             });
         });
+        cacheStats.forEach((name, stats) -> statsBuilder.addCacheStats(name, stats.get()));
         return statsBuilder.build();
     }
 
+    /**
+     * Registers a cache that is used by ingest processors, so that its stats are reported with the ingest stats of this node.
+     */
+    public void registerCacheStats(String name, Supplier<IngestStats.CacheStats> stats) {
+        if (cacheStats.putIfAbsent(name, stats) != null) {
+            throw new IllegalArgumentException("Ingest cache [" + name + "] is already registered");
+        }
+    }
+
     /**
      * Adds a listener that gets invoked with the current cluster state before processor factories
      * get invoked.
@@ -660,14 +821,7 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         // the pipeline specific stat holder may not exist and that is fine:
         // (e.g. the pipeline may have been removed while we're ingesting a document
         totalMetrics.preIngest();
-        String index = indexRequest.index();
-        String type = indexRequest.type();
-        String id = indexRequest.id();
-        String routing = indexRequest.routing();
-        Long version = indexRequest.version();
-        VersionType versionType = indexRequest.versionType();
-        Map<String, Object> sourceAsMap = indexRequest.sourceAsMap();
-        IngestDocument ingestDocument = new IngestDocument(index, type, id, routing, version, versionType, sourceAsMap);
+        IngestDocument ingestDocument = toIngestDocument(indexRequest);
         ingestDocument.executePipeline(pipeline, (result, e) -> {
             long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeInNanos);
             totalMetrics.postIngest(ingestTimeInMillis);
@@ -678,29 +832,63 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                 itemDroppedHandler.accept(slot);
                 handler.accept(null);
             } else {
-                Map<IngestDocument.Metadata, Object> metadataMap = ingestDocument.extractMetadata();
-                //it's fine to set all metadata fields all the time, as ingest document holds their starting values
-                //before ingestion, which might also get modified during ingestion.
-                indexRequest.index((String) metadataMap.get(IngestDocument.Metadata.INDEX));
-                indexRequest.type((String) metadataMap.get(IngestDocument.Metadata.TYPE));
-                indexRequest.id((String) metadataMap.get(IngestDocument.Metadata.ID));
-                indexRequest.routing((String) metadataMap.get(IngestDocument.Metadata.ROUTING));
-                indexRequest.version(((Number) metadataMap.get(IngestDocument.Metadata.VERSION)).longValue());
-                if (metadataMap.get(IngestDocument.Metadata.VERSION_TYPE) != null) {
-                    indexRequest.versionType(VersionType.fromString((String) metadataMap.get(IngestDocument.Metadata.VERSION_TYPE)));
-                }
-                if (metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO) != null) {
-                    indexRequest.setIfSeqNo(((Number) metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO)).longValue());
-                }
-                if (metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM) != null) {
-                    indexRequest.setIfPrimaryTerm(((Number) metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM)).longValue());
-                }
-                indexRequest.source(ingestDocument.getSourceAndMetadata(), indexRequest.getContentType());
+                updateIndexRequest(indexRequest, ingestDocument);
                 handler.accept(null);
             }
         });
     }
 
+    /**
+     * Executes a pipeline on a batch of documents. The handler gets the results like from {@link Pipeline#executeBatch}, the
+     * documents that are kept still need to be written back to their requests.
+     */
+    private void innerExecuteBatch(Pipeline pipeline, List<IngestDocument> ingestDocuments, BatchProcessor.BatchHandler handler) {
+        final long startTimeInNanos = System.nanoTime();
+        final AtomicInteger pending = new AtomicInteger(ingestDocuments.size());
+        totalMetrics.preIngestBatch(ingestDocuments.size());
+        IngestDocument.executePipeline(pipeline, ingestDocuments, (i, result, e) -> {
+            if (e != null) {
+                totalMetrics.ingestFailed();
+            }
+            if (pending.decrementAndGet() == 0) {
+                totalMetrics.postIngestBatch(ingestDocuments.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeInNanos));
+            }
+            handler.accept(i, result, e);
+        });
+    }
+
+    private static IngestDocument toIngestDocument(IndexRequest indexRequest) {
+        String index = indexRequest.index();
+        String type = indexRequest.type();
+        String id = indexRequest.id();
+        String routing = indexRequest.routing();
+        Long version = indexRequest.version();
+        VersionType versionType = indexRequest.versionType();
+        Map<String, Object> sourceAsMap = indexRequest.sourceAsMap();
+        return new IngestDocument(index, type, id, routing, version, versionType, sourceAsMap);
+    }
+
+    private static void updateIndexRequest(IndexRequest indexRequest, IngestDocument ingestDocument) {
+        Map<IngestDocument.Metadata, Object> metadataMap = ingestDocument.extractMetadata();
+        //it's fine to set all metadata fields all the time, as ingest document holds their starting values
+        //before ingestion, which might also get modified during ingestion.
+        indexRequest.index((String) metadataMap.get(IngestDocument.Metadata.INDEX));
+        indexRequest.type((String) metadataMap.get(IngestDocument.Metadata.TYPE));
+        indexRequest.id((String) metadataMap.get(IngestDocument.Metadata.ID));
+        indexRequest.routing((String) metadataMap.get(IngestDocument.Metadata.ROUTING));
+        indexRequest.version(((Number) metadataMap.get(IngestDocument.Metadata.VERSION)).longValue());
+        if (metadataMap.get(IngestDocument.Metadata.VERSION_TYPE) != null) {
+            indexRequest.versionType(VersionType.fromString((String) metadataMap.get(IngestDocument.Metadata.VERSION_TYPE)));
+        }
+        if (metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO) != null) {
+            indexRequest.setIfSeqNo(((Number) metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO)).longValue());
+        }
+        if (metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM) != null) {
+            indexRequest.setIfPrimaryTerm(((Number) metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM)).longValue());
+        }
+        indexRequest.source(ingestDocument.getSourceAndMetadata(), indexRequest.getContentType());
+    }
+
     @Override
     public void applyClusterState(final ClusterChangedEvent event) {
         state = event.state();
@@ -873,6 +1061,88 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         return new Pipeline(id, description, null, new CompoundProcessor(failureProcessor));
     }
 
+    /**
+     * A chunk of a batch that is executed on its own thread. Every request of the chunk is completed exactly once, by the
+     * pipelines or, if the execution of the chunk fails unexpectedly, by the chunk on behalf of the requests that did not
+     * complete yet. Requests that complete later are then ignored.
+     */
+    private final class Chunk {
+        private final String pipelineId;
+        private final List<BatchItem> items;
+        private final IntConsumer onDropped;
+        private final BiConsumer<Integer, Exception> onFailure;
+        private final IntConsumer onCompleted;
+        private final Set<Integer> failedSlots = new HashSet<>();
+        private final Set<Integer> completedSlots = new HashSet<>();
+
+        private Chunk(String pipelineId, List<BatchItem> items, IntConsumer onDropped, BiConsumer<Integer, Exception> onFailure,
+                      IntConsumer onCompleted) {
+            this.pipelineId = pipelineId;
+            this.items = items;
+            this.onDropped = onDropped;
+            this.onFailure = onFailure;
+            this.onCompleted = onCompleted;
+        }
+
+        void execute() {
+            executeBatch(pipelineId, items, onDropped, (slot, e) -> {
+                if (markFailed(slot)) {
+                    onFailure.accept(slot, e);
+                }
+            }, slot -> {
+                if (markCompleted(slot)) {
+                    onCompleted.accept(slot);
+                }
+            });
+        }
+
+        void fail(Exception e) {
+            logger.debug(() -> new ParameterizedMessage("failed to execute a chunk of [{}] requests with pipeline [{}]",
+                items.size(), pipelineId), e);
+            for (BatchItem item : items) {
+                final boolean fail;
+                synchronized (this) {
+                    if (completedSlots.add(item.slot) == false) {
+                        continue;
+                    }
+                    fail = failedSlots.add(item.slot);
+                }
+                if (fail) {
+                    onFailure.accept(item.slot, e);
+                }
+                onCompleted.accept(item.slot);
+            }
+        }
+
+        private synchronized boolean markFailed(int slot) {
+            if (completedSlots.contains(slot)) {
+                return false;
+            }
+            return failedSlots.add(slot);
+        }
+
+        private synchronized boolean markCompleted(int slot) {
+            return completedSlots.add(slot);
+        }
+    }
+
+    /**
+     * A request of a bulk that is executed in the batch of its first pipeline.
+     */
+    private static final class BatchItem {
+        private final int slot;
+        private final IndexRequest indexRequest;
+        private final List<String> pipelines;
+        private final boolean hasFinalPipeline;
+
+        private BatchItem(int slot, IndexRequest indexRequest, List<String> pipelines, boolean hasFinalPipeline) {
+            this.slot = slot;
+            this.indexRequest = indexRequest;
+            this.pipelines = pipelines;
+            this.hasFinalPipeline = hasFinalPipeline;
+        }
+    }
+
     static class PipelineHolder {
 
         final PipelineConfiguration configuration;
@@ -33,9 +33,11 @@
 package org.opensearch.ingest;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
@@ -53,6 +55,7 @@ public class IngestStats implements Writeable, ToXContentFragment {
     private final Stats totalStats;
     private final List<PipelineStat> pipelineStats;
     private final Map<String, List<ProcessorStat>> processorStats;
+    private final Map<String, CacheStats> cacheStats;
 
     /**
      * @param totalStats - The total stats for Ingest. This is the logically the sum of all pipeline stats,
@@ -61,9 +64,18 @@ public class IngestStats implements Writeable, ToXContentFragment {
      * @param processorStats - The per-processor stats for a given pipeline. A map keyed by the pipeline identifier.
      */
     public IngestStats(Stats totalStats, List<PipelineStat> pipelineStats, Map<String, List<ProcessorStat>> processorStats) {
+        this(totalStats, pipelineStats, processorStats, Collections.emptyMap());
+    }
+
+    /**
+     * @param cacheStats - The stats of the caches used by processors, like the geoip lookup cache. A map keyed by the cache name.
+     */
+    public IngestStats(Stats totalStats, List<PipelineStat> pipelineStats, Map<String, List<ProcessorStat>> processorStats,
+                       Map<String, CacheStats> cacheStats) {
         this.totalStats = totalStats;
         this.pipelineStats = pipelineStats;
         this.processorStats = processorStats;
+        this.cacheStats = cacheStats;
     }
 
     /**
@@ -93,6 +105,11 @@ public class IngestStats implements Writeable, ToXContentFragment {
                 this.processorStats.put(pipelineId, processorStatsPerPipeline);
             }
         }
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            this.cacheStats = in.readMap(StreamInput::readString, CacheStats::new);
+        } else {
+            this.cacheStats = Collections.emptyMap();
+        }
     }
 
     @Override
@@ -118,6 +135,9 @@ public class IngestStats implements Writeable, ToXContentFragment {
                 }
             }
         }
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeMap(cacheStats, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+        }
     }
 
     @Override
@@ -148,6 +168,15 @@ public class IngestStats implements Writeable, ToXContentFragment {
             builder.endObject();
         }
         builder.endObject();
+        if (cacheStats.isEmpty() == false) {
+            builder.startObject("caches");
+            for (Map.Entry<String, CacheStats> entry : cacheStats.entrySet()) {
+                builder.startObject(entry.getKey());
+                entry.getValue().toXContent(builder, params);
+                builder.endObject();
+            }
+            builder.endObject();
+        }
         builder.endObject();
         return builder;
     }
@@ -164,6 +193,10 @@ public class IngestStats implements Writeable, ToXContentFragment {
         return processorStats;
     }
 
+    public Map<String, CacheStats> getCacheStats() {
+        return cacheStats;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -171,12 +204,13 @@ public class IngestStats implements Writeable, ToXContentFragment {
         IngestStats that = (IngestStats) o;
         return Objects.equals(totalStats, that.totalStats)
             && Objects.equals(pipelineStats, that.pipelineStats)
-            && Objects.equals(processorStats, that.processorStats);
+            && Objects.equals(processorStats, that.processorStats)
+            && Objects.equals(cacheStats, that.cacheStats);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(totalStats, pipelineStats, processorStats);
+        return Objects.hash(totalStats, pipelineStats, processorStats, cacheStats);
     }
 
     public static class Stats implements Writeable, ToXContentFragment {
@@ -185,12 +219,21 @@ public class IngestStats implements Writeable, ToXContentFragment {
         private final long ingestTimeInMillis;
         private final long ingestCurrent;
         private final long ingestFailedCount;
+        private final long batchCount;
+        private final long batchTimeInMillis;
 
         public Stats(long ingestCount, long ingestTimeInMillis, long ingestCurrent, long ingestFailedCount) {
+            this(ingestCount, ingestTimeInMillis, ingestCurrent, ingestFailedCount, 0, 0);
+        }
+
+        public Stats(long ingestCount, long ingestTimeInMillis, long ingestCurrent, long ingestFailedCount,
+                     long batchCount, long batchTimeInMillis) {
             this.ingestCount = ingestCount;
             this.ingestTimeInMillis = ingestTimeInMillis;
             this.ingestCurrent = ingestCurrent;
             this.ingestFailedCount = ingestFailedCount;
+            this.batchCount = batchCount;
+            this.batchTimeInMillis = batchTimeInMillis;
         }
 
         /**
@@ -201,6 +244,13 @@ public class IngestStats implements Writeable, ToXContentFragment {
             ingestTimeInMillis = in.readVLong();
             ingestCurrent = in.readVLong();
             ingestFailedCount = in.readVLong();
+            if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+                batchCount = in.readVLong();
+                batchTimeInMillis = in.readVLong();
+            } else {
+                batchCount = 0;
+                batchTimeInMillis = 0;
+            }
         }
 
         @Override
@@ -209,6 +259,10 @@ public class IngestStats implements Writeable, ToXContentFragment {
             out.writeVLong(ingestTimeInMillis);
             out.writeVLong(ingestCurrent);
             out.writeVLong(ingestFailedCount);
+            if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+                out.writeVLong(batchCount);
+                out.writeVLong(batchTimeInMillis);
+            }
         }
 
         /**
@@ -239,12 +293,30 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return ingestFailedCount;
         }
 
+        /**
+         * @return The total number of batches of documents that were processed at once.
+         */
+        public long getBatchCount() {
+            return batchCount;
+        }
+
+        /**
+         * @return The total time spent processing batches of documents in millis, which is part of the ingest time.
+         */
+        public long getBatchTimeInMillis() {
+            return batchTimeInMillis;
+        }
+
         @Override
         public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
             builder.field("count", ingestCount);
             builder.humanReadableField("time_in_millis", "time", new TimeValue(ingestTimeInMillis, TimeUnit.MILLISECONDS));
             builder.field("current", ingestCurrent);
             builder.field("failed", ingestFailedCount);
+            if (batchCount > 0) {
+                builder.field("batches", batchCount);
+                builder.humanReadableField("batch_time_in_millis", "batch_time", new TimeValue(batchTimeInMillis, TimeUnit.MILLISECONDS));
+            }
             return builder;
         }
 
@@ -256,12 +328,14 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return Objects.equals(ingestCount, that.ingestCount)
                 && Objects.equals(ingestTimeInMillis, that.ingestTimeInMillis)
                 && Objects.equals(ingestFailedCount, that.ingestFailedCount)
-                && Objects.equals(ingestCurrent, that.ingestCurrent);
+                && Objects.equals(ingestCurrent, that.ingestCurrent)
+                && Objects.equals(batchCount, that.batchCount)
+                && Objects.equals(batchTimeInMillis, that.batchTimeInMillis);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(ingestCount, ingestTimeInMillis, ingestFailedCount, ingestCurrent);
+            return Objects.hash(ingestCount, ingestTimeInMillis, ingestFailedCount, ingestCurrent, batchCount, batchTimeInMillis);
         }
     }
 
@@ -272,7 +346,7 @@ public class IngestStats implements Writeable, ToXContentFragment {
         private Stats totalStats;
         private List<PipelineStat> pipelineStats = new ArrayList<>();
         private Map<String, List<ProcessorStat>> processorStats = new HashMap<>();
-
+        private Map<String, CacheStats> cacheStats = new HashMap<>();
 
         Builder addTotalMetrics(IngestMetric totalMetric) {
             this.totalStats = totalMetric.createStats();
@@ -290,9 +364,14 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        Builder addCacheStats(String name, CacheStats stats) {
+            this.cacheStats.put(name, stats);
+            return this;
+        }
+
         IngestStats build() {
             return new IngestStats(totalStats, Collections.unmodifiableList(pipelineStats),
-                Collections.unmodifiableMap(processorStats));
+                Collections.unmodifiableMap(processorStats), Collections.unmodifiableMap(cacheStats));
         }
     }
 
@@ -373,4 +452,105 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return Objects.hash(name, type, stats);
         }
     }
+
+    /**
+     * Container for the stats of a cache used by processors.
+     */
+    public static class CacheStats implements Writeable, ToXContentFragment {
+        private final long count;
+        private final long sizeInBytes;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+
+        public CacheStats(long count, long sizeInBytes, long hits, long misses, long evictions) {
+            this.count = count;
+            this.sizeInBytes = sizeInBytes;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+        }
+
+        /**
+         * Read from a stream.
+         */
+        public CacheStats(StreamInput in) throws IOException {
+            count = in.readVLong();
+            sizeInBytes = in.readVLong();
+            hits = in.readVLong();
+            misses = in.readVLong();
+            evictions = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(count);
+            out.writeVLong(sizeInBytes);
+            out.writeVLong(hits);
+            out.writeVLong(misses);
+            out.writeVLong(evictions);
+        }
+
+        /**
+         * @return The number of entries in the cache.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return The estimated memory used by the entries of the cache in bytes.
+         */
+        public long getSizeInBytes() {
+            return sizeInBytes;
+        }
+
+        /**
+         * @return The total number of lookups that were served by the cache.
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * @return The total number of lookups that were not in the cache.
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * @return The total number of entries that were evicted from the cache to stay within its size.
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.field("count", count);
+            builder.humanReadableField("size_in_bytes", "size", new ByteSizeValue(sizeInBytes));
+            builder.field("hits", hits);
+            builder.field("misses", misses);
+            builder.field("evictions", evictions);
+            return builder;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            IngestStats.CacheStats that = (IngestStats.CacheStats) o;
+            return count == that.count
+                && sizeInBytes == that.sizeInBytes
+                && hits == that.hits
+                && misses == that.misses
+                && evictions == that.evictions;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(count, sizeInBytes, hits, misses, evictions);
+        }
+    }
 }
@@ -40,6 +40,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.LongSupplier;
 
@@ -120,6 +121,26 @@ public final class Pipeline {
         });
     }
 
+    /**
+     * Modifies the data of a batch of documents to be indexed based on the processors this pipeline holds, with the
+     * handler getting the result of each document like from {@link #execute(IngestDocument, BiConsumer)}.
+     */
+    public void executeBatch(List<IngestDocument> ingestDocuments, BatchProcessor.BatchHandler handler) {
+        final long startTimeInNanos = relativeTimeProvider.getAsLong();
+        final AtomicInteger pending = new AtomicInteger(ingestDocuments.size());
+        metrics.preIngestBatch(ingestDocuments.size());
+        compoundProcessor.executeBatch(ingestDocuments, (slot, result, e) -> {
+            if (e != null) {
+                metrics.ingestFailed();
+            }
+            if (pending.decrementAndGet() == 0) {
+                long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - startTimeInNanos);
+                metrics.postIngestBatch(ingestDocuments.size(), ingestTimeInMillis);
+            }
+            handler.accept(slot, result, e);
+        });
+    }
+
     /**
      * The unique id of this pipeline
      */
@@ -35,6 +35,7 @@ package org.opensearch.search;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.TopDocs;
 import org.opensearch.LegacyESVersion;
@@ -71,12 +72,15 @@ import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.engine.Engine;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.ConstantScoreQueryBuilder;
 import org.opensearch.index.query.InnerHitContextBuilder;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.index.query.MatchNoneQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.index.query.Rewriteable;
 import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexShard;
@@ -121,6 +125,7 @@ import org.opensearch.search.query.QueryPhase;
 import org.opensearch.search.query.QuerySearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.query.ScrollQuerySearchResult;
+import org.opensearch.search.query.SegmentPruner;
 import org.opensearch.search.rescore.RescorerBuilder;
 import org.opensearch.search.searchafter.SearchAfterBuilder;
 import org.opensearch.search.sort.FieldSortBuilder;
@@ -135,6 +140,7 @@ import org.opensearch.threadpool.ThreadPool.Names;
 import org.opensearch.transport.TransportRequest;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -1032,8 +1038,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         }
 
         if (source.slice() != null) {
-            if (context.scrollContext() == null) {
-                throw new SearchException(shardTarget, "`slice` cannot be used outside of a scroll context");
+            if (context.scrollContext() == null && context.request().readerId() == null) {
+                throw new SearchException(shardTarget, "`slice` cannot be used outside of a scroll context or a point in time");
             }
             context.sliceBuilder(source.slice());
         }
@@ -1192,7 +1198,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 final boolean canMatch;
                 if (canRewriteToMatchNone(request.source())) {
                     QueryBuilder queryBuilder = request.source().query();
-                    canMatch = aliasFilterCanMatch && queryBuilder instanceof MatchNoneQueryBuilder == false;
+                    canMatch = aliasFilterCanMatch && queryBuilder instanceof MatchNoneQueryBuilder == false
+                        && segmentsCanMatch(context, queryBuilder, canMatchSearcher.getIndexReader());
                 } else {
                     // null query means match_all
                     canMatch = aliasFilterCanMatch;
@@ -1202,6 +1209,37 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         }
     }
 
+    /**
+     * Returns false iff one of the required range clauses of the given query does not intersect the values of any segment
+     * of the shard. Unlike the rewrite of the range query, which only looks at the minimum and maximum values of the whole
+     * shard, this also catches ranges that fall into a gap between the values of the segments.
+     */
+    static boolean segmentsCanMatch(QueryShardContext context, QueryBuilder query, IndexReader reader) throws IOException {
+        final List<RangeQueryBuilder> ranges = new ArrayList<>();
+        collectRequiredRanges(query, ranges);
+        SegmentPruner pruner = null;
+        for (RangeQueryBuilder range : ranges) {
+            pruner = SegmentPruner.and(pruner, SegmentPruner.fromQuery(range.toQuery(context)));
+        }
+        return pruner == null || pruner.canMatch(reader);
+    }
+
+    private static void collectRequiredRanges(QueryBuilder query, List<RangeQueryBuilder> ranges) {
+        if (query instanceof RangeQueryBuilder) {
+            ranges.add((RangeQueryBuilder) query);
+        } else if (query instanceof ConstantScoreQueryBuilder) {
+            collectRequiredRanges(((ConstantScoreQueryBuilder) query).innerQuery(), ranges);
+        } else if (query instanceof BoolQueryBuilder) {
+            BoolQueryBuilder bool = (BoolQueryBuilder) query;
+            for (QueryBuilder clause : bool.must()) {
+                collectRequiredRanges(clause, ranges);
+            }
+            for (QueryBuilder clause : bool.filter()) {
+                collectRequiredRanges(clause, ranges);
+            }
+        }
+    }
+
     /**
      * Returns true iff the given search source builder can be early terminated by rewriting to a match none query. Or in other words
      * if the execution of the search request can be early terminated without executing it. This is for instance not possible if
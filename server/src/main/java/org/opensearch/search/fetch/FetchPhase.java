@@ -134,6 +134,13 @@ public class FetchPhase {
 
         List<FetchSubPhaseProcessor> processors = getProcessors(context.shardTarget(), fetchContext);
 
+        SyntheticSourceLoader syntheticSourceLoader = null;
+        if (fieldsVisitor != null && sourceRequired(context) && context.mapperService().getIndexSettings().isSyntheticSource()) {
+            syntheticSourceLoader = SyntheticSourceLoader.create(context.mapperService(), context.getQueryShardContext()::getForField);
+        }
+        long syntheticSourceCount = 0;
+        long syntheticSourceNanos = 0;
+
         int currentReaderIndex = -1;
         LeafReaderContext currentReaderContext = null;
         CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
@@ -162,6 +169,9 @@ public class FetchPhase {
                     for (FetchSubPhaseProcessor processor : processors) {
                         processor.setNextReader(currentReaderContext);
                     }
+                    if (syntheticSourceLoader != null) {
+                        syntheticSourceLoader.setNextReader(currentReaderContext);
+                    }
                 }
                 assert currentReaderContext != null;
                 HitContext hit = prepareHitContext(
@@ -172,6 +182,12 @@ public class FetchPhase {
                     storedToRequestedFields,
                     currentReaderContext,
                     fieldReader);
+                if (syntheticSourceLoader != null && hit.hit().getNestedIdentity() == null) {
+                    final long start = System.nanoTime();
+                    hit.sourceLookup().setSource(syntheticSourceLoader.load(hit.sourceLookup()));
+                    syntheticSourceNanos += System.nanoTime() - start;
+                    syntheticSourceCount++;
+                }
                 for (FetchSubPhaseProcessor processor : processors) {
                     processor.process(hit);
                 }
@@ -184,6 +200,10 @@ public class FetchPhase {
             throw new TaskCancelledException("cancelled");
         }
 
+        if (syntheticSourceCount > 0) {
+            context.indexShard().getSearchOperationListener().onSyntheticSource(context, syntheticSourceCount, syntheticSourceNanos);
+        }
+
         TotalHits totalHits = context.queryResult().getTotalHits();
         context.fetchResult().hits(new SearchHits(hits, totalHits, context.queryResult().getMaxScore()));
 
@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.index.fielddata.IndexFieldData;
+import org.opensearch.index.fieldvisitor.CustomFieldsVisitor;
+import org.opensearch.index.mapper.DocValueFetcher;
+import org.opensearch.index.mapper.FieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.Mapper;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.ObjectMapper;
+import org.opensearch.search.lookup.SourceLookup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Rebuilds the {@code _source} of documents of an index with synthetic source from the doc values and stored fields of the
+ * mapped fields. The doc values of all fields are read through {@link DocValueFetcher}s that are positioned once per segment,
+ * so the hits of a segment, which are fetched in doc id order, read each column forward only.
+ */
+final class SyntheticSourceLoader {
+
+    private final MapperService mapperService;
+    private final List<Column> docValueColumns;
+    private final Map<String, String[]> storedPaths;
+    private final CustomFieldsVisitor storedFieldsVisitor;
+    private LeafReaderContext context;
+
+    private SyntheticSourceLoader(MapperService mapperService, List<Column> docValueColumns, Map<String, String[]> storedPaths) {
+        this.mapperService = mapperService;
+        this.docValueColumns = docValueColumns;
+        this.storedPaths = storedPaths;
+        this.storedFieldsVisitor = storedPaths.isEmpty() ? null : new CustomFieldsVisitor(storedPaths.keySet(), false);
+    }
+
+    /**
+     * Creates a loader for the mapping of the given mapper service.
+     */
+    static SyntheticSourceLoader create(MapperService mapperService, Function<MappedFieldType, IndexFieldData<?>> fieldDataLookup) {
+        final List<Column> docValueColumns = new ArrayList<>();
+        final Map<String, String[]> storedPaths = new HashMap<>();
+        collect(mapperService.documentMapper().root(), fieldDataLookup, docValueColumns, storedPaths);
+        return new SyntheticSourceLoader(mapperService, docValueColumns, storedPaths);
+    }
+
+    private static void collect(ObjectMapper object, Function<MappedFieldType, IndexFieldData<?>> fieldDataLookup,
+                                List<Column> docValueColumns, Map<String, String[]> storedPaths) {
+        for (Mapper mapper : object) {
+            if (mapper instanceof ObjectMapper) {
+                // the fields of nested objects are in other documents
+                if (((ObjectMapper) mapper).nested().isNested() == false) {
+                    collect((ObjectMapper) mapper, fieldDataLookup, docValueColumns, storedPaths);
+                }
+            } else if (mapper instanceof FieldMapper) {
+                // multi-fields are indexed from the same values, they are not iterated here
+                final MappedFieldType fieldType = ((FieldMapper) mapper).fieldType();
+                final String[] path = fieldType.name().split("\\.");
+                if (fieldType.hasDocValues()) {
+                    final IndexFieldData<?> fieldData = fieldDataLookup.apply(fieldType);
+                    docValueColumns.add(new Column(path, new DocValueFetcher(fieldType.docValueFormat(null, null), fieldData)));
+                } else if (fieldType.isStored()) {
+                    storedPaths.put(fieldType.name(), path);
+                }
+            }
+        }
+    }
+
+    /**
+     * Positions the doc values on the given segment, the following documents are loaded from it in doc id order.
+     */
+    void setNextReader(LeafReaderContext context) {
+        this.context = context;
+        for (Column column : docValueColumns) {
+            column.fetcher.setNextReader(context);
+        }
+    }
+
+    /**
+     * Rebuilds the source of the current document of the given lookup as JSON.
+     */
+    BytesReference load(SourceLookup lookup) throws IOException {
+        final Map<String, Object> source = new LinkedHashMap<>();
+        for (Column column : docValueColumns) {
+            put(source, column.path, column.fetcher.fetchValues(lookup));
+        }
+        if (storedFieldsVisitor != null) {
+            storedFieldsVisitor.reset();
+            context.reader().document(lookup.docId(), storedFieldsVisitor);
+            storedFieldsVisitor.postProcess(mapperService);
+            for (Map.Entry<String, List<Object>> entry : storedFieldsVisitor.fields().entrySet()) {
+                final String[] path = storedPaths.get(entry.getKey());
+                if (path != null) {
+                    put(source, path, entry.getValue());
+                }
+            }
+        }
+        try (XContentBuilder builder = JsonXContent.contentBuilder()) {
+            return BytesReference.bytes(builder.map(source));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void put(Map<String, Object> source, String[] path, List<Object> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        Map<String, Object> object = source;
+        for (int i = 0; i < path.length - 1; i++) {
+            object = (Map<String, Object>) object.computeIfAbsent(path[i], k -> new LinkedHashMap<>());
+        }
+        object.put(path[path.length - 1], values.size() == 1 ? values.get(0) : values);
+    }
+
+    private static final class Column {
+        private final String[] path;
+        private final DocValueFetcher fetcher;
+
+        private Column(String[] path, DocValueFetcher fetcher) {
+            this.path = path;
+            this.fetcher = fetcher;
+        }
+    }
+}
@@ -43,6 +43,7 @@ import org.opensearch.common.xcontent.ToXContentObject;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.common.xcontent.support.filtering.JsonSourceFilter;
 import org.opensearch.rest.RestRequest;
 
 import java.io.IOException;
@@ -66,6 +67,7 @@ public class FetchSourceContext implements Writeable, ToXContentObject {
     private final String[] includes;
     private final String[] excludes;
     private Function<Map<String, ?>, Map<String, Object>> filter;
+    private JsonSourceFilter jsonFilter;
 
     public FetchSourceContext(boolean fetchSource, String[] includes, String[] excludes) {
         this.fetchSource = fetchSource;
@@ -247,4 +249,14 @@ public class FetchSourceContext implements Writeable, ToXContentObject {
         }
         return filter;
     }
+
+    /**
+     * Returns a filter that filters the bytes of JSON source like {@link #getFilter()} filters the source map.
+     */
+    public JsonSourceFilter getJsonFilter() {
+        if (jsonFilter == null) {
+            jsonFilter = XContentMapValues.jsonSourceFilter(includes, excludes);
+        }
+        return jsonFilter;
+    }
 }
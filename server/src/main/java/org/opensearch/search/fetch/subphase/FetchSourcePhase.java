@@ -90,7 +90,14 @@ public final class FetchSourcePhase implements FetchSubPhase {
             return;
         }
 
-        // Otherwise, filter the source and add it to the hit.
+        // Otherwise, filter the source and add it to the hit. The source of a parent document can be filtered without parsing it.
+        if (nestedHit == false) {
+            final BytesReference filtered = source.filterBytes(fetchSourceContext);
+            if (filtered != null) {
+                hitContext.hit().sourceRef(filtered);
+                return;
+            }
+        }
         Object value = source.filter(fetchSourceContext);
         if (nestedHit) {
             value = getNestedSource((Map<String, Object>) value, hitContext);
@@ -62,6 +62,7 @@ import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.CombinedBitSet;
 import org.apache.lucene.util.SparseFixedBitSet;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.search.DocValueFormat;
@@ -72,6 +73,7 @@ import org.opensearch.search.profile.query.QueryProfileBreakdown;
 import org.opensearch.search.profile.query.QueryProfiler;
 import org.opensearch.search.profile.query.QueryTimingType;
 import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.search.query.SegmentPruner;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -186,6 +188,43 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         }
     }
 
+    @Override
+    public void search(Query query, Collector collector) throws IOException {
+        search(query, collector, null);
+    }
+
+    /**
+     * Same as {@link #search(Query, Collector)} but also skips the segments that the given pruner rules out. Segments that
+     * cannot match the required point ranges of the query are always skipped, before the {@link Weight} is created.
+     */
+    public void search(Query query, Collector collector, @Nullable SegmentPruner pruner) throws IOException {
+        query = rewrite(query);
+        final List<LeafReaderContext> leaves = pruneLeaves(getIndexReader().leaves(),
+            SegmentPruner.and(SegmentPruner.fromQuery(query), pruner));
+        search(leaves, createWeight(query, collector.scoreMode(), 1), collector);
+    }
+
+    /**
+     * Returns the leaves that the given pruner does not rule out and records the number of skipped leaves in the profile.
+     */
+    public List<LeafReaderContext> pruneLeaves(List<LeafReaderContext> leaves, @Nullable SegmentPruner pruner) throws IOException {
+        final List<LeafReaderContext> result;
+        if (pruner == null) {
+            result = leaves;
+        } else {
+            result = new ArrayList<>(leaves.size());
+            for (LeafReaderContext ctx : leaves) {
+                if (pruner.canMatch(ctx)) {
+                    result.add(ctx);
+                }
+            }
+        }
+        if (profiler != null) {
+            profiler.addSegments(leaves.size(), leaves.size() - result.size());
+        }
+        return result;
+    }
+
     public void search(List<LeafReaderContext> leaves, Weight weight, CollectorManager manager,
             QuerySearchResult result, DocValueFormat[] formats, TotalHits totalHits) throws IOException {
         final List<Collector> collectors = new ArrayList<>(leaves.size());
@@ -33,12 +33,16 @@ package org.opensearch.search.lookup;
 
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.common.CheckedBiConsumer;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.compress.CompressorFactory;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lucene.index.SequentialStoredFieldsLeafReader;
+import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.support.XContentMapValues;
@@ -195,6 +199,30 @@ public class SourceLookup implements Map {
         return context.getFilter().apply(loadSourceIfNeeded());
     }
 
+    /**
+     * Filters the bytes of the source without parsing it into a map, which skips over the removed parts of the source and copies
+     * the kept parts as they are. Returns {@code null} if the source isn't available as plain JSON, in which case it has to be
+     * filtered with {@link #filter(FetchSourceContext)}.
+     */
+    @Nullable
+    public BytesReference filterBytes(FetchSourceContext context) {
+        if (sourceAsBytes == null || CompressorFactory.compressor(sourceAsBytes) != null) {
+            return null;
+        }
+        final BytesRef bytes = sourceAsBytes.toBytesRef();
+        if (XContentFactory.xContentType(bytes.bytes, bytes.offset, bytes.length) != XContentType.JSON) {
+            return null;
+        }
+        try {
+            final BytesStreamOutput out = new BytesStreamOutput(Math.min(1024, bytes.length));
+            context.getJsonFilter().filter(bytes.bytes, bytes.offset, bytes.length, out);
+            return out.bytes();
+        } catch (IOException e) {
+            // e.g. the source contains comments, the source map has the same content or reports the parse failure
+            return null;
+        }
+    }
+
     @Override
     public Object get(Object key) {
         return loadSourceIfNeeded().get(key);
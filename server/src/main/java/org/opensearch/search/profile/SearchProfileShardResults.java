@@ -186,7 +186,7 @@ public final class SearchProfileShardResults implements Writeable, ToXContentFra
         List<QueryProfileShardResult> queryResults = new ArrayList<>(queryProfilers.size());
         for (QueryProfiler queryProfiler : queryProfilers) {
             QueryProfileShardResult result = new QueryProfileShardResult(queryProfiler.getTree(), queryProfiler.getRewriteTime(),
-                    queryProfiler.getCollector());
+                    queryProfiler.getCollector(), queryProfiler.getSegmentCount(), queryProfiler.getPrunedSegmentCount());
             queryResults.add(result);
         }
         AggregationProfileShardResult aggResults = new AggregationProfileShardResult(aggProfiler.getTree());
@@ -32,6 +32,7 @@
 
 package org.opensearch.search.profile.query;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -56,6 +57,8 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
     public static final String COLLECTOR = "collector";
     public static final String REWRITE_TIME = "rewrite_time";
     public static final String QUERY_ARRAY = "query";
+    public static final String SEGMENT_COUNT = "segment_count";
+    public static final String PRUNED_SEGMENT_COUNT = "pruned_segment_count";
 
     private final List<ProfileResult> queryProfileResults;
 
@@ -63,12 +66,23 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
 
     private final long rewriteTime;
 
+    private final int segmentCount;
+
+    private final int prunedSegmentCount;
+
     public QueryProfileShardResult(List<ProfileResult> queryProfileResults, long rewriteTime,
                               CollectorResult profileCollector) {
+        this(queryProfileResults, rewriteTime, profileCollector, 0, 0);
+    }
+
+    public QueryProfileShardResult(List<ProfileResult> queryProfileResults, long rewriteTime,
+                                   CollectorResult profileCollector, int segmentCount, int prunedSegmentCount) {
         assert(profileCollector != null);
         this.queryProfileResults = queryProfileResults;
         this.profileCollector = profileCollector;
         this.rewriteTime = rewriteTime;
+        this.segmentCount = segmentCount;
+        this.prunedSegmentCount = prunedSegmentCount;
     }
 
     /**
@@ -83,6 +97,13 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
 
         profileCollector = new CollectorResult(in);
         rewriteTime = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            segmentCount = in.readVInt();
+            prunedSegmentCount = in.readVInt();
+        } else {
+            segmentCount = 0;
+            prunedSegmentCount = 0;
+        }
     }
 
     @Override
@@ -93,6 +114,10 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         }
         profileCollector.writeTo(out);
         out.writeLong(rewriteTime);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeVInt(segmentCount);
+            out.writeVInt(prunedSegmentCount);
+        }
     }
 
 
@@ -108,6 +133,20 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         return profileCollector;
     }
 
+    /**
+     * The number of segments that the searches of this profile considered.
+     */
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    /**
+     * The number of segments that were skipped based on their minimum and maximum values.
+     */
+    public int getPrunedSegmentCount() {
+        return prunedSegmentCount;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject();
@@ -117,6 +156,8 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         }
         builder.endArray();
         builder.field(REWRITE_TIME, rewriteTime);
+        builder.field(SEGMENT_COUNT, segmentCount);
+        builder.field(PRUNED_SEGMENT_COUNT, prunedSegmentCount);
         builder.startArray(COLLECTOR);
         profileCollector.toXContent(builder, params);
         builder.endArray();
@@ -130,6 +171,8 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         String currentFieldName = null;
         List<ProfileResult> queryProfileResults = new ArrayList<>();
         long rewriteTime = 0;
+        int segmentCount = 0;
+        int prunedSegmentCount = 0;
         CollectorResult collector = null;
         while((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
             if (token == XContentParser.Token.FIELD_NAME) {
@@ -137,6 +180,10 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
             } else if (token.isValue()) {
                 if (REWRITE_TIME.equals(currentFieldName)) {
                     rewriteTime = parser.longValue();
+                } else if (SEGMENT_COUNT.equals(currentFieldName)) {
+                    segmentCount = parser.intValue();
+                } else if (PRUNED_SEGMENT_COUNT.equals(currentFieldName)) {
+                    prunedSegmentCount = parser.intValue();
                 } else {
                     parser.skipChildren();
                 }
@@ -156,6 +203,6 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
                 parser.skipChildren();
             }
         }
-        return new QueryProfileShardResult(queryProfileResults, rewriteTime, collector);
+        return new QueryProfileShardResult(queryProfileResults, rewriteTime, collector, segmentCount, prunedSegmentCount);
     }
 }
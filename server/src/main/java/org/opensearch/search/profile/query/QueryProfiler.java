@@ -55,6 +55,9 @@ public final class QueryProfiler extends AbstractProfiler<QueryProfileBreakdown,
      */
     private InternalProfileCollector collector;
 
+    private int segmentCount;
+    private int prunedSegmentCount;
+
     public QueryProfiler() {
         super(new InternalQueryProfileTree());
     }
@@ -92,6 +95,29 @@ public final class QueryProfiler extends AbstractProfiler<QueryProfileBreakdown,
         return ((InternalQueryProfileTree) profileTree).getRewriteTime();
     }
 
+    /**
+     * Record that a search visited {@code segments} segments of which {@code pruned} were skipped based on their
+     * minimum and maximum values.
+     */
+    public void addSegments(int segments, int pruned) {
+        segmentCount += segments;
+        prunedSegmentCount += pruned;
+    }
+
+    /**
+     * @return the total number of segments that the searches of this profile considered
+     */
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    /**
+     * @return the number of segments that were skipped without creating a scorer
+     */
+    public int getPrunedSegmentCount() {
+        return prunedSegmentCount;
+    }
+
     /**
      * Return the current root Collector for this search
      */
@@ -351,7 +351,7 @@ public class QueryPhase {
         }
         QuerySearchResult queryResult = searchContext.queryResult();
         try {
-            searcher.search(query, queryCollector);
+            searcher.search(query, queryCollector, createSearchAfterPruner(searchContext));
         } catch (EarlyTerminatingCollector.EarlyTerminationException e) {
             queryResult.terminatedEarly(true);
         } catch (TimeExceededException e) {
@@ -403,10 +403,12 @@ public class QueryPhase {
         CollectorManager<TopFieldCollector, TopFieldDocs> sharedManager = TopFieldCollector.createSharedManager(
             sortAndFormats.sort, numHits, null, totalHitsThreshold);
 
-        List<LeafReaderContext> leaves = new ArrayList<>(searcher.getIndexReader().leaves());
+        query = searcher.rewrite(query);
+        List<LeafReaderContext> leaves = new ArrayList<>(searcher.pruneLeaves(searcher.getIndexReader().leaves(),
+            SegmentPruner.fromQuery(query)));
         leafSorter.accept(leaves);
         try {
-            Weight weight = searcher.createWeight(searcher.rewrite(query), ScoreMode.TOP_SCORES, 1f);
+            Weight weight = searcher.createWeight(query, ScoreMode.TOP_SCORES, 1f);
             searcher.search(leaves, weight, sharedManager, searchContext.queryResult(), sortAndFormats.formats, totalHits);
         } catch (TimeExceededException e) {
             assert timeoutSet : "TimeExceededException thrown even though timeout wasn't set";
@@ -419,6 +421,29 @@ public class QueryPhase {
         return false; // no rescoring when sorting by field
     }
 
+    /**
+     * Returns a pruner that skips the segments whose documents all sort before the {@code search_after} values of the
+     * request, or <code>null</code> if skipping segments could change the response. Skipped segments are not counted
+     * in the total hits and are not seen by aggregations, so this only applies when neither is requested.
+     */
+    static SegmentPruner createSearchAfterPruner(SearchContext searchContext) {
+        if (searchContext.searchAfter() == null || searchContext.sort() == null) return null;
+        if (searchContext.trackTotalHitsUpTo() != SearchContext.TRACK_TOTAL_HITS_DISABLED) return null;
+        if (searchContext.queryCollectors().isEmpty() == false) return null;
+        if (searchContext.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER) return null;
+        if (searchContext.collapse() != null) return null;
+        SortField sortField = searchContext.sort().sort.getSort()[0];
+        if (SortField.Type.LONG.equals(IndexSortConfig.getSortFieldType(sortField)) == false) return null;
+        String fieldName = sortField.getField();
+        if (fieldName == null) return null;
+        if (searchContext.mapperService() == null) return null; // mapperService can be null in tests
+        final MappedFieldType fieldType = searchContext.mapperService().fieldType(fieldName);
+        if (fieldType == null) return null;
+        if ((fieldType.typeName().equals("long") == false) && (fieldType instanceof DateFieldType == false)) return null;
+        if (fieldType.isSearchable() == false) return null;
+        return SegmentPruner.fromSearchAfter(sortField, searchContext.searchAfter());
+    }
+
     private static Query tryRewriteLongSort(SearchContext searchContext, IndexReader reader,
                                             Query query, boolean hasFilterCollector) throws IOException {
         if ((searchContext.from() + searchContext.size()) <= 0) return null;
@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query;
+
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
+import org.opensearch.common.Nullable;
+import org.opensearch.index.query.DateRangeIncludingNowQuery;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Skips whole segments that cannot contain a match, based on the per-segment minimum and maximum packed values of the
+ * points of numeric and date fields. A segment can be skipped when a required range clause of the query does not
+ * intersect the values of the segment, or when all documents of the segment sort before the {@code search_after}
+ * values of a request that is sorted by a long or date field.
+ */
+public final class SegmentPruner {
+
+    private final List<Bound> bounds;
+
+    private SegmentPruner(List<Bound> bounds) {
+        this.bounds = bounds;
+    }
+
+    /**
+     * Returns a pruner for the required point range clauses of the given rewritten query, or <code>null</code> if the
+     * query has no such clause.
+     */
+    @Nullable
+    public static SegmentPruner fromQuery(Query query) {
+        final List<Bound> bounds = new ArrayList<>();
+        collectRequiredRanges(query, bounds);
+        return bounds.isEmpty() ? null : new SegmentPruner(Collections.unmodifiableList(bounds));
+    }
+
+    /**
+     * Returns a pruner that skips the segments whose documents all sort before the given {@code search_after} document,
+     * or <code>null</code> if the primary sort does not allow it. The caller must have checked that the primary sort is
+     * on a single valued long or date field that is indexed with points.
+     */
+    @Nullable
+    public static SegmentPruner fromSearchAfter(SortField primarySort, FieldDoc searchAfter) {
+        if (primarySort.getField() == null || searchAfter.fields == null || searchAfter.fields.length == 0
+                || searchAfter.fields[0] instanceof Long == false) {
+            return null;
+        }
+        final byte[] after = LongPoint.pack((Long) searchAfter.fields[0]).bytes;
+        final byte[] bound = LongPoint.pack(primarySort.getReverse() ? Long.MIN_VALUE : Long.MAX_VALUE).bytes;
+        final byte[] lower = primarySort.getReverse() ? bound : after;
+        final byte[] upper = primarySort.getReverse() ? after : bound;
+        // documents without a value sort as the missing value, so only segments where every document has a single value
+        // can be skipped
+        return new SegmentPruner(Collections.singletonList(
+            new Bound(primarySort.getField(), 1, Long.BYTES, lower, upper, true)));
+    }
+
+    /**
+     * Combines two pruners, either of which may be <code>null</code>.
+     */
+    @Nullable
+    public static SegmentPruner and(@Nullable SegmentPruner first, @Nullable SegmentPruner second) {
+        if (first == null) {
+            return second;
+        } else if (second == null) {
+            return first;
+        }
+        final List<Bound> bounds = new ArrayList<>(first.bounds);
+        bounds.addAll(second.bounds);
+        return new SegmentPruner(Collections.unmodifiableList(bounds));
+    }
+
+    /**
+     * Returns <code>false</code> iff no document of the given segment can match.
+     */
+    public boolean canMatch(LeafReaderContext ctx) throws IOException {
+        for (Bound bound : bounds) {
+            if (bound.canMatch(ctx) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns <code>false</code> iff no segment of the given reader can match.
+     */
+    public boolean canMatch(IndexReader reader) throws IOException {
+        for (LeafReaderContext ctx : reader.leaves()) {
+            if (canMatch(ctx)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void collectRequiredRanges(Query query, List<Bound> bounds) {
+        if (query instanceof PointRangeQuery) {
+            PointRangeQuery range = (PointRangeQuery) query;
+            bounds.add(new Bound(range.getField(), range.getNumDims(), range.getBytesPerDim(), range.getLowerPoint(),
+                range.getUpperPoint(), false));
+        } else if (query instanceof IndexOrDocValuesQuery) {
+            collectRequiredRanges(((IndexOrDocValuesQuery) query).getIndexQuery(), bounds);
+        } else if (query instanceof DateRangeIncludingNowQuery) {
+            collectRequiredRanges(((DateRangeIncludingNowQuery) query).getQuery(), bounds);
+        } else if (query instanceof ConstantScoreQuery) {
+            collectRequiredRanges(((ConstantScoreQuery) query).getQuery(), bounds);
+        } else if (query instanceof BoostQuery) {
+            collectRequiredRanges(((BoostQuery) query).getQuery(), bounds);
+        } else if (query instanceof BooleanQuery) {
+            for (BooleanClause clause : ((BooleanQuery) query).clauses()) {
+                if (clause.isRequired()) {
+                    collectRequiredRanges(clause.getQuery(), bounds);
+                }
+            }
+        }
+    }
+
+    private static final class Bound {
+        private final String field;
+        private final int numDims;
+        private final int bytesPerDim;
+        private final byte[] lower;
+        private final byte[] upper;
+        private final boolean requiresDenseValues;
+
+        Bound(String field, int numDims, int bytesPerDim, byte[] lower, byte[] upper, boolean requiresDenseValues) {
+            this.field = field;
+            this.numDims = numDims;
+            this.bytesPerDim = bytesPerDim;
+            this.lower = lower;
+            this.upper = upper;
+            this.requiresDenseValues = requiresDenseValues;
+        }
+
+        boolean canMatch(LeafReaderContext ctx) throws IOException {
+            final PointValues values = ctx.reader().getPointValues(field);
+            if (values == null) {
+                // a range query cannot match a segment without values, but documents without a value still sort
+                return requiresDenseValues;
+            }
+            if (values.getNumIndexDimensions() != numDims || values.getBytesPerDimension() != bytesPerDim) {
+                // let the query report the mismatch
+                return true;
+            }
+            if (requiresDenseValues && (values.getDocCount() != ctx.reader().maxDoc() || values.size() != values.getDocCount())) {
+                return true;
+            }
+            final byte[] min = values.getMinPackedValue();
+            final byte[] max = values.getMaxPackedValue();
+            for (int dim = 0; dim < numDims; dim++) {
+                final int offset = dim * bytesPerDim;
+                final int end = offset + bytesPerDim;
+                if (Arrays.compareUnsigned(max, offset, end, lower, offset, end) < 0
+                        || Arrays.compareUnsigned(min, offset, end, upper, offset, end) > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.node.Node;
+
+import java.util.Map;
+
+/**
+ * Decides per request whether a request sent over a connection with compression enabled is actually compressed. The
+ * decision is learned per connection and action from the requests sent so far:
+ * <ul>
+ *     <li>nothing is compressed if both nodes share the same value of the link attribute, e.g. they are in the same zone</li>
+ *     <li>requests that are on average smaller than the minimum size are not compressed</li>
+ *     <li>requests that compressed poorly so far, e.g. because their payload is compressed already, are only compressed once
+ *     in a while to measure the ratio again</li>
+ * </ul>
+ * Unless both nodes are on the same link, requests ask the receiving node to decide about the response in the same way. The
+ * receiving node learns per action from the responses it sent so far, see {@link #forResponses(Settings)}.
+ */
+final class AdaptiveCompression {
+
+    /**
+     * Every n-th request of an action that compresses poorly is compressed anyway to measure the ratio again.
+     */
+    static final int PROBE_INTERVAL = 32;
+
+    private static final double ALPHA = 0.25;
+
+    private final boolean sameLink;
+    private final long minSize;
+    private final double maxRatio;
+    private final Map<String, ActionStats> statsByAction = ConcurrentCollections.newConcurrentMap();
+
+    AdaptiveCompression(boolean sameLink, long minSize, double maxRatio) {
+        this.sameLink = sameLink;
+        this.minSize = minSize;
+        this.maxRatio = maxRatio;
+    }
+
+    /**
+     * Creates the adaptive compression for a connection from the local node to the given node.
+     */
+    static AdaptiveCompression forConnection(Settings settings, DiscoveryNode node) {
+        final String attribute = TransportSettings.ADAPTIVE_COMPRESSION_LINK_ATTRIBUTE.get(settings);
+        final String localValue = Node.NODE_ATTRIBUTES.getConcreteSettingForNamespace(attribute).get(settings);
+        final String remoteValue = node.getAttributes().get(attribute);
+        // nodes without the attribute, like nodes of remote clusters, are treated as being on a different link
+        final boolean sameLink = localValue.isEmpty() == false && localValue.equals(remoteValue);
+        return new AdaptiveCompression(sameLink, TransportSettings.ADAPTIVE_COMPRESSION_MIN_SIZE.get(settings).getBytes(),
+            TransportSettings.ADAPTIVE_COMPRESSION_MAX_RATIO.get(settings));
+    }
+
+    /**
+     * Creates the adaptive compression of the responses that a node sends to the requests that ask for it. Those requests come
+     * from nodes on other links, so only the size and the ratio of the responses of each action are learned.
+     */
+    static AdaptiveCompression forResponses(Settings settings) {
+        return new AdaptiveCompression(false, TransportSettings.ADAPTIVE_COMPRESSION_MIN_SIZE.get(settings).getBytes(),
+            TransportSettings.ADAPTIVE_COMPRESSION_MAX_RATIO.get(settings));
+    }
+
+    boolean isSameLink() {
+        return sameLink;
+    }
+
+    boolean shouldCompress(String action) {
+        if (sameLink) {
+            return false;
+        }
+        final ActionStats stats = statsByAction.get(action);
+        // compress the first request of an action to learn its size and ratio
+        return stats == null || stats.shouldCompress(minSize, maxRatio);
+    }
+
+    /**
+     * Whether the requests ask the receiving node to decide adaptively whether to compress their responses.
+     */
+    boolean shouldCompressResponse() {
+        return sameLink == false;
+    }
+
+    /**
+     * Learns from a serialized message.
+     *
+     * @param compressed        whether the message was compressed
+     * @param uncompressedSize  the size of the content of the message before compression
+     * @param size              the size of the content of the message as sent
+     */
+    void onSerialized(String action, boolean compressed, long uncompressedSize, long size) {
+        if (sameLink) {
+            return;
+        }
+        statsByAction.computeIfAbsent(action, k -> new ActionStats()).update(compressed, uncompressedSize, size);
+    }
+
+    private static final class ActionStats {
+        private double averageSize = -1;
+        // compressed size divided by uncompressed size, -1 until a compressed request was measured
+        private double ratio = -1;
+        private int skipped;
+
+        synchronized boolean shouldCompress(long minSize, double maxRatio) {
+            if (averageSize >= 0 && averageSize < minSize) {
+                return false;
+            }
+            if (ratio < 0 || ratio <= maxRatio) {
+                return true;
+            }
+            if (++skipped >= PROBE_INTERVAL) {
+                skipped = 0;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized void update(boolean compressed, long uncompressedSize, long size) {
+            averageSize = average(averageSize, uncompressedSize);
+            if (compressed && uncompressedSize > 0) {
+                ratio = average(ratio, (double) size / uncompressedSize);
+            }
+        }
+
+        private static double average(double average, double value) {
+            return average < 0 ? value : ALPHA * value + (1 - ALPHA) * average;
+        }
+    }
+}
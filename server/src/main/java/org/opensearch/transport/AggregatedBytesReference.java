@@ -0,0 +1,249 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.common.bytes.AbstractBytesReference;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.util.PageCacheRecycler;
+
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * The content of an inbound message that arrived in several fragments, copied one after the other into pages of
+ * {@link PageCacheRecycler#BYTE_PAGE_SIZE} bytes. The position of a byte in the pages is computed from its offset, so reads
+ * don't have to walk the fragments of a {@link org.opensearch.common.bytes.CompositeBytesReference}.
+ */
+final class AggregatedBytesReference extends AbstractBytesReference {
+
+    static final int PAGE_SIZE = PageCacheRecycler.BYTE_PAGE_SIZE;
+    private static final int PAGE_SHIFT = Integer.numberOfTrailingZeros(PAGE_SIZE);
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final byte[][] pages;
+    private final int offset;
+    private final int length;
+
+    AggregatedBytesReference(byte[][] pages, int offset, int length) {
+        assert Integer.bitCount(PAGE_SIZE) == 1 : "page size must be a power of two but was [" + PAGE_SIZE + "]";
+        assert offset >= 0 && length >= 0 && offset + (long) length <= (long) pages.length * PAGE_SIZE;
+        this.pages = pages;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public byte get(int index) {
+        final int position = offset + index;
+        return pages[position >>> PAGE_SHIFT][position & PAGE_MASK];
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BytesReference slice(int from, int length) {
+        if (from < 0 || (from + length) > length()) {
+            throw new IllegalArgumentException("can't slice a buffer with length [" + length() +
+                "], with slice parameters from [" + from + "], length [" + length + "]");
+        }
+        return new AggregatedBytesReference(pages, offset + from, length);
+    }
+
+    @Override
+    public BytesRef toBytesRef() {
+        if (length == 0) {
+            return new BytesRef();
+        }
+        final int pageOffset = offset & PAGE_MASK;
+        if (pageOffset + length <= PAGE_SIZE) {
+            return new BytesRef(pages[offset >>> PAGE_SHIFT], pageOffset, length);
+        }
+        final byte[] bytes = new byte[length];
+        copy(0, bytes, 0, length);
+        return new BytesRef(bytes);
+    }
+
+    @Override
+    public BytesRefIterator iterator() {
+        return new BytesRefIterator() {
+            int position = 0;
+
+            @Override
+            public BytesRef next() {
+                if (position == length) {
+                    return null;
+                }
+                final int from = offset + position;
+                final int pageOffset = from & PAGE_MASK;
+                final int sliceLength = Math.min(length - position, PAGE_SIZE - pageOffset);
+                position += sliceLength;
+                return new BytesRef(pages[from >>> PAGE_SHIFT], pageOffset, sliceLength);
+            }
+        };
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return (long) pages.length * PAGE_SIZE;
+    }
+
+    @Override
+    public StreamInput streamInput() {
+        return new PagesStreamInput();
+    }
+
+    /**
+     * Copies {@code len} bytes starting at {@code index} into {@code dest}, one page at a time.
+     */
+    private void copy(int index, byte[] dest, int destOffset, int len) {
+        int position = offset + index;
+        while (len > 0) {
+            final int pageOffset = position & PAGE_MASK;
+            final int toCopy = Math.min(len, PAGE_SIZE - pageOffset);
+            System.arraycopy(pages[position >>> PAGE_SHIFT], pageOffset, dest, destOffset, toCopy);
+            position += toCopy;
+            destOffset += toCopy;
+            len -= toCopy;
+        }
+    }
+
+    /**
+     * Reads the pages by offset. Fixed size numbers that don't cross a page boundary are read from the page directly.
+     */
+    private final class PagesStreamInput extends StreamInput {
+
+        private int position = 0;
+        private int mark = 0;
+
+        @Override
+        public byte readByte() throws IOException {
+            if (position >= length) {
+                throw new EOFException();
+            }
+            return get(position++);
+        }
+
+        @Override
+        public void readBytes(byte[] b, int bOffset, int len) throws IOException {
+            if (len > length - position) {
+                throw new IndexOutOfBoundsException(
+                    "Cannot read " + len + " bytes from stream with length " + length + " at offset " + position);
+            }
+            copy(position, b, bOffset, len);
+            position += len;
+        }
+
+        @Override
+        public short readShort() throws IOException {
+            final int pageOffset = (offset + position) & PAGE_MASK;
+            if (length - position < Short.BYTES || pageOffset > PAGE_SIZE - Short.BYTES) {
+                return super.readShort();
+            }
+            final byte[] page = pages[(offset + position) >>> PAGE_SHIFT];
+            position += Short.BYTES;
+            return (short) (((page[pageOffset] & 0xFF) << 8) | (page[pageOffset + 1] & 0xFF));
+        }
+
+        @Override
+        public int readInt() throws IOException {
+            final int pageOffset = (offset + position) & PAGE_MASK;
+            if (length - position < Integer.BYTES || pageOffset > PAGE_SIZE - Integer.BYTES) {
+                return super.readInt();
+            }
+            final byte[] page = pages[(offset + position) >>> PAGE_SHIFT];
+            position += Integer.BYTES;
+            return ((page[pageOffset] & 0xFF) << 24) | ((page[pageOffset + 1] & 0xFF) << 16)
+                | ((page[pageOffset + 2] & 0xFF) << 8) | (page[pageOffset + 3] & 0xFF);
+        }
+
+        @Override
+        public long readLong() throws IOException {
+            final int pageOffset = (offset + position) & PAGE_MASK;
+            if (length - position < Long.BYTES || pageOffset > PAGE_SIZE - Long.BYTES) {
+                return super.readLong();
+            }
+            final byte[] page = pages[(offset + position) >>> PAGE_SHIFT];
+            position += Long.BYTES;
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value = (value << 8) | (page[pageOffset + i] & 0xFF);
+            }
+            return value;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (position >= length) {
+                return -1;
+            }
+            return Byte.toUnsignedInt(get(position++));
+        }
+
+        @Override
+        public int read(byte[] b, int bOffset, int len) throws IOException {
+            if (position >= length) {
+                return -1;
+            }
+            final int toRead = Math.min(len, length - position);
+            copy(position, b, bOffset, toRead);
+            position += toRead;
+            return toRead;
+        }
+
+        @Override
+        public long skip(long n) {
+            if (n <= 0L) {
+                return 0L;
+            }
+            final int skipped = (int) Math.min(n, length - position);
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return length - position;
+        }
+
+        @Override
+        protected void ensureCanReadBytes(int bytesToRead) throws EOFException {
+            final int bytesAvailable = length - position;
+            if (bytesAvailable < bytesToRead) {
+                throw new EOFException("tried to read: " + bytesToRead + " bytes but only " + bytesAvailable + " remaining");
+            }
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public void mark(int readLimit) {
+            // the content is all in memory, so the mark can be reset to no matter how far the stream advanced
+            mark = position;
+        }
+
+        @Override
+        public void reset() {
+            position = mark;
+        }
+
+        @Override
+        public void close() {
+            // the pages are released with the message
+        }
+    }
+}
@@ -58,17 +58,29 @@ import java.util.zip.DeflaterOutputStream;
  */
 final class CompressibleBytesOutputStream extends StreamOutput {
 
+    /**
+     * The size of the chunks that are handed to the compressing stream. Writes are buffered into chunks so that the compression can
+     * be timed without reading the clock on every write.
+     */
+    private static final int CHUNK_SIZE = 4096;
+
     private final OutputStream stream;
     private final BytesStream bytesStreamOutput;
     private final boolean shouldCompress;
+    private final byte[] chunk;
+    private int chunkPosition;
+    private long uncompressedBytes;
+    private long compressionNanos;
 
     CompressibleBytesOutputStream(BytesStream bytesStreamOutput, boolean shouldCompress) throws IOException {
         this.bytesStreamOutput = bytesStreamOutput;
         this.shouldCompress = shouldCompress;
         if (shouldCompress) {
             this.stream = CompressorFactory.COMPRESSOR.threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
+            this.chunk = new byte[CHUNK_SIZE];
         } else {
             this.stream = bytesStreamOutput;
+            this.chunk = null;
         }
     }
 
@@ -83,27 +95,82 @@ final class CompressibleBytesOutputStream extends StreamOutput {
         // The actual ReleasableBytesStreamOutput will not be closed yet as it is wrapped in flushOnCloseStream when
         // passed to the deflater stream.
         if (shouldCompress) {
+            compressChunk();
+            final long startNanos = System.nanoTime();
             stream.close();
+            compressionNanos += System.nanoTime() - startNanos;
         }
 
         return bytesStreamOutput.bytes();
     }
 
+    /**
+     * The number of bytes written to this stream, before compression.
+     */
+    long uncompressedBytes() {
+        return uncompressedBytes;
+    }
+
+    /**
+     * The time spent in the compressing stream, <code>0</code> if the stream does not compress. The serialization of the message
+     * into this stream is not included.
+     */
+    long compressionNanos() {
+        return compressionNanos;
+    }
+
     @Override
     public void writeByte(byte b) throws IOException {
-        stream.write(b);
+        uncompressedBytes++;
+        if (shouldCompress) {
+            if (chunkPosition == CHUNK_SIZE) {
+                compressChunk();
+            }
+            chunk[chunkPosition++] = b;
+        } else {
+            stream.write(b);
+        }
     }
 
     @Override
     public void writeBytes(byte[] b, int offset, int length) throws IOException {
-        stream.write(b, offset, length);
+        uncompressedBytes += length;
+        if (shouldCompress) {
+            if (length > CHUNK_SIZE - chunkPosition) {
+                compressChunk();
+            }
+            if (length >= CHUNK_SIZE) {
+                compress(b, offset, length);
+            } else {
+                System.arraycopy(b, offset, chunk, chunkPosition, length);
+                chunkPosition += length;
+            }
+        } else {
+            stream.write(b, offset, length);
+        }
     }
 
     @Override
     public void flush() throws IOException {
+        if (shouldCompress) {
+            compressChunk();
+        }
         stream.flush();
     }
 
+    private void compressChunk() throws IOException {
+        if (chunkPosition > 0) {
+            compress(chunk, 0, chunkPosition);
+            chunkPosition = 0;
+        }
+    }
+
+    private void compress(byte[] b, int offset, int length) throws IOException {
+        final long startNanos = System.nanoTime();
+        stream.write(b, offset, length);
+        compressionNanos += System.nanoTime() - startNanos;
+    }
+
     @Override
     public void close() throws IOException {
         if (stream != bytesStreamOutput) {
@@ -101,6 +101,10 @@ public class Header {
         return TransportStatus.isCompress(status);
     }
 
+    boolean isCompressResponseAdaptively() {
+        return TransportStatus.isCompressResponseAdaptively(status);
+    }
+
     public String getActionName() {
         return actionName;
     }
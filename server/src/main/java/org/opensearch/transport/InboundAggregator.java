@@ -32,14 +32,17 @@
 
 package org.opensearch.transport;
 
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.breaker.CircuitBreakingException;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
-import org.opensearch.common.bytes.CompositeBytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.recycler.Recycler;
+import org.opensearch.common.util.PageCacheRecycler;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -52,9 +55,11 @@ public class InboundAggregator implements Releasable {
 
     private final Supplier<CircuitBreaker> circuitBreaker;
     private final Predicate<String> requestCanTripBreaker;
+    private final PageCacheRecycler recycler;
 
     private ReleasableBytesReference firstContent;
-    private ArrayList<ReleasableBytesReference> contentAggregation;
+    private ArrayList<Recycler.V<byte[]>> contentPages;
+    private int contentLength;
     private Header currentHeader;
     private Exception aggregationException;
     private boolean canTripBreaker = true;
@@ -62,7 +67,12 @@ public class InboundAggregator implements Releasable {
 
     public InboundAggregator(Supplier<CircuitBreaker> circuitBreaker,
                              Function<String, RequestHandlerRegistry<TransportRequest>> registryFunction) {
-        this(circuitBreaker, (Predicate<String>) actionName -> {
+        this(circuitBreaker, PageCacheRecycler.NON_RECYCLING_INSTANCE, registryFunction);
+    }
+
+    public InboundAggregator(Supplier<CircuitBreaker> circuitBreaker, PageCacheRecycler recycler,
+                             Function<String, RequestHandlerRegistry<TransportRequest>> registryFunction) {
+        this(circuitBreaker, recycler, (Predicate<String>) actionName -> {
             final RequestHandlerRegistry<TransportRequest> reg = registryFunction.apply(actionName);
             if (reg == null) {
                 throw new ActionNotFoundTransportException(actionName);
@@ -74,34 +84,68 @@ public class InboundAggregator implements Releasable {
 
     // Visible for testing
     InboundAggregator(Supplier<CircuitBreaker> circuitBreaker, Predicate<String> requestCanTripBreaker) {
+        this(circuitBreaker, PageCacheRecycler.NON_RECYCLING_INSTANCE, requestCanTripBreaker);
+    }
+
+    // Visible for testing
+    InboundAggregator(Supplier<CircuitBreaker> circuitBreaker, PageCacheRecycler recycler, Predicate<String> requestCanTripBreaker) {
         this.circuitBreaker = circuitBreaker;
+        this.recycler = recycler;
         this.requestCanTripBreaker = requestCanTripBreaker;
     }
 
     public void headerReceived(Header header) {
         ensureOpen();
         assert isAggregating() == false;
-        assert firstContent == null && contentAggregation == null;
+        assert firstContent == null && contentPages == null;
         currentHeader = header;
         if (currentHeader.isRequest() && currentHeader.needsToReadVariableHeader() == false) {
             initializeRequestState();
         }
     }
 
-    public void aggregate(ReleasableBytesReference content) {
+    /**
+     * Adds a fragment of the content of the current message. The first fragment is retained as it is, so that a message that
+     * arrives in one fragment is read without a copy. Once a second fragment arrives, the fragments are copied into recycled
+     * pages and the network buffers they come from are released right away.
+     */
+    public void aggregate(ReleasableBytesReference content) throws IOException {
         ensureOpen();
         assert isAggregating();
         if (isShortCircuited() == false) {
             if (isFirstContent()) {
                 firstContent = content.retain();
             } else {
-                if (contentAggregation == null) {
-                    contentAggregation = new ArrayList<>(4);
+                if (contentPages == null) {
+                    contentPages = new ArrayList<>();
                     assert firstContent != null;
-                    contentAggregation.add(firstContent);
-                    firstContent = null;
+                    try (ReleasableBytesReference first = firstContent) {
+                        firstContent = null;
+                        copyToPages(first);
+                    }
                 }
-                contentAggregation.add(content.retain());
+                copyToPages(content);
+            }
+        }
+    }
+
+    private void copyToPages(BytesReference content) throws IOException {
+        final BytesRefIterator iterator = content.iterator();
+        BytesRef slice;
+        while ((slice = iterator.next()) != null) {
+            int offset = slice.offset;
+            int remaining = slice.length;
+            while (remaining > 0) {
+                final int pageOffset = contentLength % AggregatedBytesReference.PAGE_SIZE;
+                if (pageOffset == 0) {
+                    contentPages.add(recycler.bytePage(false));
+                }
+                final byte[] page = contentPages.get(contentPages.size() - 1).v();
+                final int toCopy = Math.min(remaining, AggregatedBytesReference.PAGE_SIZE - pageOffset);
+                System.arraycopy(slice.bytes, offset, page, pageOffset, toCopy);
+                offset += toCopy;
+                remaining -= toCopy;
+                contentLength += toCopy;
             }
         }
     }
@@ -111,12 +155,16 @@ public class InboundAggregator implements Releasable {
         final ReleasableBytesReference releasableContent;
         if (isFirstContent()) {
             releasableContent = ReleasableBytesReference.wrap(BytesArray.EMPTY);
-        } else if (contentAggregation == null) {
+        } else if (contentPages == null) {
             releasableContent = firstContent;
         } else {
-            final ReleasableBytesReference[] references = contentAggregation.toArray(new ReleasableBytesReference[0]);
-            final BytesReference content = CompositeBytesReference.of(references);
-            releasableContent = new ReleasableBytesReference(content, () -> Releasables.close(references));
+            final ArrayList<Recycler.V<byte[]>> pages = contentPages;
+            final byte[][] pageBytes = new byte[pages.size()][];
+            for (int i = 0; i < pageBytes.length; i++) {
+                pageBytes[i] = pages.get(i).v();
+            }
+            final BytesReference content = new AggregatedBytesReference(pageBytes, 0, contentLength);
+            releasableContent = new ReleasableBytesReference(content, () -> Releasables.close(pages));
         }
 
         final BreakerControl breakerControl = new BreakerControl(circuitBreaker);
@@ -161,7 +209,7 @@ public class InboundAggregator implements Releasable {
     }
 
     private boolean isFirstContent() {
-        return firstContent == null && contentAggregation == null;
+        return firstContent == null && contentPages == null;
     }
 
     @Override
@@ -176,16 +224,17 @@ public class InboundAggregator implements Releasable {
     }
 
     private void releaseContent() {
-        if (contentAggregation == null) {
+        if (contentPages == null) {
             Releasables.close(firstContent);
         } else {
-            Releasables.close(contentAggregation);
+            Releasables.close(contentPages);
         }
     }
 
     private void resetCurrentAggregation() {
         firstContent = null;
-        contentAggregation = null;
+        contentPages = null;
+        contentLength = 0;
         currentHeader = null;
         aggregationException = null;
         canTripBreaker = true;
@@ -201,7 +201,7 @@ public class InboundDecoder implements Releasable {
         }
     }
 
-    private boolean isOnHeader() {
+    boolean isOnHeader() {
         return totalNetworkSize == -1;
     }
 
@@ -34,15 +34,20 @@ package org.opensearch.transport;
 
 import org.opensearch.Version;
 import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.NoopCircuitBreaker;
 import org.opensearch.common.bytes.CompositeBytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.util.PageCacheRecycler;
 
 import java.io.IOException;
+import java.io.StreamCorruptedException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -58,8 +63,12 @@ public class InboundPipeline implements Releasable {
     private final InboundDecoder decoder;
     private final InboundAggregator aggregator;
     private final BiConsumer<TcpChannel, InboundMessage> messageHandler;
+    private final Supplier<CircuitBreaker> circuitBreaker;
+    private final long maxBufferedFrameBytes;
     private Exception uncaughtException;
     private final ArrayDeque<ReleasableBytesReference> pending = new ArrayDeque<>(2);
+    private final Map<Long, ArrayList<ReleasableBytesReference>> partialFrames = new HashMap<>();
+    private long bufferedFrameBytes;
     private boolean isClosed = false;
 
     public InboundPipeline(Version version, StatsTracker statsTracker, PageCacheRecycler recycler, LongSupplier relativeTimeInMillis,
@@ -67,16 +76,31 @@ public class InboundPipeline implements Releasable {
                            Function<String, RequestHandlerRegistry<TransportRequest>> registryFunction,
                            BiConsumer<TcpChannel, InboundMessage> messageHandler) {
         this(statsTracker, relativeTimeInMillis, new InboundDecoder(version, recycler),
-            new InboundAggregator(circuitBreaker, registryFunction), messageHandler);
+            new InboundAggregator(circuitBreaker, recycler, registryFunction), messageHandler, circuitBreaker,
+            TcpTransport.THIRTY_PER_HEAP_SIZE);
     }
 
     public InboundPipeline(StatsTracker statsTracker, LongSupplier relativeTimeInMillis, InboundDecoder decoder,
                            InboundAggregator aggregator, BiConsumer<TcpChannel, InboundMessage> messageHandler) {
+        this(statsTracker, relativeTimeInMillis, decoder, aggregator, messageHandler,
+            () -> new NoopCircuitBreaker(CircuitBreaker.IN_FLIGHT_REQUESTS), TcpTransport.THIRTY_PER_HEAP_SIZE);
+    }
+
+    /**
+     * @param circuitBreaker        the breaker the payloads of the frames of incomplete messages are accounted against
+     * @param maxBufferedFrameBytes the maximum size of the payloads of the frames of incomplete messages, beyond which the
+     *                              channel is failed
+     */
+    public InboundPipeline(StatsTracker statsTracker, LongSupplier relativeTimeInMillis, InboundDecoder decoder,
+                           InboundAggregator aggregator, BiConsumer<TcpChannel, InboundMessage> messageHandler,
+                           Supplier<CircuitBreaker> circuitBreaker, long maxBufferedFrameBytes) {
         this.relativeTimeInMillis = relativeTimeInMillis;
         this.statsTracker = statsTracker;
         this.decoder = decoder;
         this.aggregator = aggregator;
         this.messageHandler = messageHandler;
+        this.circuitBreaker = circuitBreaker;
+        this.maxBufferedFrameBytes = maxBufferedFrameBytes;
     }
 
     @Override
@@ -85,6 +109,11 @@ public class InboundPipeline implements Releasable {
         Releasables.closeWhileHandlingException(decoder, aggregator);
         Releasables.closeWhileHandlingException(pending);
         pending.clear();
+        for (ArrayList<ReleasableBytesReference> frames : partialFrames.values()) {
+            Releasables.closeWhileHandlingException(frames);
+        }
+        partialFrames.clear();
+        releaseFrameBytes(bufferedFrameBytes);
     }
 
     public void handleBytes(TcpChannel channel, ReleasableBytesReference reference) throws IOException {
@@ -111,7 +140,7 @@ public class InboundPipeline implements Releasable {
             boolean continueDecoding = true;
             while (continueDecoding && pending.isEmpty() == false) {
                 try (ReleasableBytesReference toDecode = getPendingBytes()) {
-                    final int bytesDecoded = decoder.decode(toDecode, fragments::add);
+                    final int bytesDecoded = decode(toDecode, fragments);
                     if (bytesDecoded != 0) {
                         releasePendingBytes(bytesDecoded);
                         if (fragments.isEmpty() == false && endOfMessage(fragments.get(fragments.size() - 1))) {
@@ -140,6 +169,72 @@ public class InboundPipeline implements Releasable {
         }
     }
 
+    private int decode(ReleasableBytesReference toDecode, ArrayList<Object> fragments) throws IOException {
+        if (decoder.isOnHeader() && TcpFrame.isFrame(toDecode)) {
+            return decodeFrame(toDecode, fragments);
+        }
+        return decoder.decode(toDecode, fragments::add);
+    }
+
+    /**
+     * Buffers the payload of a frame of a multiplexed message. Once the last frame of a message arrived the reassembled
+     * message is decoded as a whole, so the frames of other messages can never end up in the middle of a message. The
+     * buffered payloads are accounted against the in-flight requests breaker until their message is complete, and a peer
+     * that buffers more than the limit, for instance by never sending the last frame of its messages, fails the channel.
+     */
+    private int decodeFrame(ReleasableBytesReference toDecode, ArrayList<Object> fragments) throws IOException {
+        final int frameSize = TcpFrame.frameSize(toDecode);
+        if (frameSize == -1 || toDecode.length() < frameSize) {
+            return 0;
+        }
+        final long streamId = TcpFrame.streamId(toDecode);
+        final int payloadSize = frameSize - TcpFrame.HEADER_SIZE;
+        if (bufferedFrameBytes + payloadSize > maxBufferedFrameBytes) {
+            throw new StreamCorruptedException("frames of incomplete messages would buffer ["
+                + new ByteSizeValue(bufferedFrameBytes + payloadSize) + "] which is more than the limit of ["
+                + new ByteSizeValue(maxBufferedFrameBytes) + "]");
+        }
+        circuitBreaker.get().addEstimateBytesAndMaybeBreak(payloadSize, "<transport_frames>");
+        bufferedFrameBytes += payloadSize;
+        final ArrayList<ReleasableBytesReference> frames = partialFrames.computeIfAbsent(streamId, k -> new ArrayList<>());
+        frames.add(toDecode.retainedSlice(TcpFrame.HEADER_SIZE, payloadSize));
+        if (TcpFrame.isLast(toDecode)) {
+            partialFrames.remove(streamId);
+            // the reassembled message is accounted by the aggregator like any other message
+            long messageSize = 0;
+            for (ReleasableBytesReference frame : frames) {
+                messageSize += frame.length();
+            }
+            releaseFrameBytes(messageSize);
+            final ReleasableBytesReference[] payloads = frames.toArray(new ReleasableBytesReference[0]);
+            final Releasable releasable = () -> Releasables.closeWhileHandlingException(payloads);
+            try (ReleasableBytesReference message =
+                     new ReleasableBytesReference(CompositeBytesReference.of(payloads), releasable)) {
+                int offset = 0;
+                while (offset < message.length()) {
+                    try (ReleasableBytesReference remaining = message.retainedSlice(offset, message.length() - offset)) {
+                        final int bytesDecoded = decoder.decode(remaining, fragments::add);
+                        if (bytesDecoded == 0) {
+                            throw new StreamCorruptedException("frames of stream [" + streamId + "] do not form a complete message");
+                        }
+                        offset += bytesDecoded;
+                    }
+                }
+            }
+            if (decoder.isOnHeader() == false) {
+                throw new StreamCorruptedException("frames of stream [" + streamId + "] do not form a complete message");
+            }
+        }
+        return frameSize;
+    }
+
+    private void releaseFrameBytes(long bytes) {
+        if (bytes > 0) {
+            bufferedFrameBytes -= bytes;
+            circuitBreaker.get().addWithoutBreaking(-bytes);
+        }
+    }
+
     private void forwardFragments(TcpChannel channel, ArrayList<Object> fragments) throws IOException {
         for (Object fragment : fragments) {
             if (fragment instanceof Header) {
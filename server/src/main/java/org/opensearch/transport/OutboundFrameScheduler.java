@@ -0,0 +1,264 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.network.CloseableChannel;
+import org.opensearch.common.util.concurrent.ThreadContext;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Schedules the outbound messages of a single channel when framing is enabled. Messages are queued in one of a few priority
+ * lanes and written to the channel in units of whole small messages or single {@link TcpFrame frames} of large messages.
+ * Only a small number of units is handed to the channel at a time, so a latency sensitive message that is queued behind a
+ * large message of a lower lane only waits for the frames already in flight rather than for the whole large message.
+ * Within a lane the frames of large messages are sent round-robin.
+ */
+final class OutboundFrameScheduler {
+
+    /**
+     * The priority lanes, in order of precedence.
+     */
+    enum Lane {
+        /** Fault detection, cluster coordination and handshakes. */
+        HIGH,
+        /** Everything else, including search. */
+        NORMAL,
+        /** Bulk indexing and peer recovery. */
+        LOW;
+
+        static Lane forAction(String action) {
+            if (action == null) {
+                return NORMAL;
+            }
+            if (action.startsWith("internal:coordination/fault_detection/") || action.startsWith("internal:cluster/coordination/")
+                    || action.equals(TransportService.HANDSHAKE_ACTION_NAME)) {
+                return HIGH;
+            }
+            if (action.startsWith("indices:data/write/") || action.startsWith("internal:index/shard/recovery/")) {
+                return LOW;
+            }
+            return NORMAL;
+        }
+    }
+
+    private final TcpChannel channel;
+    private final int frameSize;
+    private final int maxUnitsInFlight;
+    private final ThreadContext threadContext;
+    private final ArrayDeque<PendingMessage>[] lanes;
+
+    private long nextStreamId;
+    private int unitsInFlight;
+    private boolean pumping;
+    private boolean closed;
+
+    /**
+     * @param maxUnitsInFlight the maximum number of units that are handed to the channel but not yet written
+     */
+    @SuppressWarnings("unchecked")
+    OutboundFrameScheduler(TcpChannel channel, int frameSize, int maxUnitsInFlight, ThreadContext threadContext) {
+        assert frameSize > 0 && frameSize <= TcpFrame.MAX_FRAME_PAYLOAD_SIZE : frameSize;
+        assert maxUnitsInFlight > 0 : maxUnitsInFlight;
+        this.channel = channel;
+        this.frameSize = frameSize;
+        this.maxUnitsInFlight = maxUnitsInFlight;
+        this.threadContext = threadContext;
+        this.lanes = new ArrayDeque[Lane.values().length];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Queues the given serialized message. The listener is notified once the whole message was written, or once writing it
+     * failed.
+     */
+    void send(Lane lane, BytesReference message, ActionListener<Void> listener) {
+        synchronized (this) {
+            if (closed == false) {
+                // messages that fit into a single frame are sent as they are
+                final long streamId = message.length() > frameSize ? nextStreamId++ : -1;
+                lanes[lane.ordinal()].addLast(new PendingMessage(message, listener, streamId));
+                listener = null;
+            }
+        }
+        if (listener != null) {
+            listener.onFailure(new ClosedChannelException());
+            return;
+        }
+        pump();
+    }
+
+    /**
+     * Fails all messages that were not handed to the channel yet, called once the channel is closed.
+     */
+    void close() {
+        final List<PendingMessage> toFail = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            for (ArrayDeque<PendingMessage> lane : lanes) {
+                for (PendingMessage message : lane) {
+                    if (message.failure == null) {
+                        message.failure = new ClosedChannelException();
+                    }
+                    if (message.unitsInFlight == 0) {
+                        message.completed = true;
+                        toFail.add(message);
+                    }
+                }
+                lane.clear();
+            }
+        }
+        for (PendingMessage message : toFail) {
+            message.listener.onFailure(message.failure);
+        }
+    }
+
+    synchronized int queuedMessages() {
+        int queued = 0;
+        for (ArrayDeque<PendingMessage> lane : lanes) {
+            queued += lane.size();
+        }
+        return queued;
+    }
+
+    /**
+     * Hands units to the channel until the window is full or no message is left. Only one thread pumps at a time, which
+     * keeps the frames of a message in order on the wire.
+     */
+    private void pump() {
+        synchronized (this) {
+            if (pumping) {
+                return;
+            }
+            pumping = true;
+        }
+        while (true) {
+            final PendingMessage message;
+            final BytesReference unit;
+            synchronized (this) {
+                message = closed || unitsInFlight >= maxUnitsInFlight ? null : nextMessage();
+                if (message == null) {
+                    pumping = false;
+                    return;
+                }
+                unit = message.nextUnit(frameSize);
+                unitsInFlight++;
+                message.unitsInFlight++;
+            }
+            write(message, unit);
+        }
+    }
+
+    private PendingMessage nextMessage() {
+        for (ArrayDeque<PendingMessage> lane : lanes) {
+            final PendingMessage message = lane.pollFirst();
+            if (message != null) {
+                if (message.remainingAfterNextUnit(frameSize) > 0) {
+                    // round-robin between the large messages of a lane
+                    lane.addLast(message);
+                }
+                return message;
+            }
+        }
+        return null;
+    }
+
+    private void write(PendingMessage message, BytesReference unit) {
+        final ActionListener<Void> listener = new ActionListener<Void>() {
+            @Override
+            public void onResponse(Void v) {
+                onUnitWritten(message, null);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                onUnitWritten(message, e);
+            }
+        };
+        // stash thread context so that channel event loop is not polluted by thread context
+        try (ThreadContext.StoredContext existing = threadContext.stashContext()) {
+            channel.sendMessage(unit, listener);
+        } catch (RuntimeException ex) {
+            listener.onFailure(ex);
+        }
+    }
+
+    private void onUnitWritten(PendingMessage message, Exception e) {
+        final boolean complete;
+        synchronized (this) {
+            unitsInFlight--;
+            message.unitsInFlight--;
+            if (e != null && message.failure == null) {
+                message.failure = e;
+                for (ArrayDeque<PendingMessage> lane : lanes) {
+                    lane.remove(message);
+                }
+            }
+            complete = message.completed == false && message.unitsInFlight == 0
+                && (message.failure != null || message.isFullyScheduled());
+            if (complete) {
+                message.completed = true;
+            }
+        }
+        if (e != null) {
+            // a partially written message leaves the stream of the receiver in an undefined state
+            CloseableChannel.closeChannel(channel);
+        }
+        if (complete) {
+            if (message.failure != null) {
+                message.listener.onFailure(message.failure);
+            } else {
+                message.listener.onResponse(null);
+            }
+        }
+        pump();
+    }
+
+    private static final class PendingMessage {
+        private final BytesReference bytes;
+        private final ActionListener<Void> listener;
+        private final long streamId;
+        private int offset;
+        private int unitsInFlight;
+        private Exception failure;
+        private boolean completed;
+
+        PendingMessage(BytesReference bytes, ActionListener<Void> listener, long streamId) {
+            this.bytes = bytes;
+            this.listener = listener;
+            this.streamId = streamId;
+        }
+
+        int remainingAfterNextUnit(int frameSize) {
+            return streamId == -1 ? 0 : Math.max(0, bytes.length() - offset - frameSize);
+        }
+
+        BytesReference nextUnit(int frameSize) {
+            if (streamId == -1) {
+                offset = bytes.length();
+                return bytes;
+            }
+            final int length = Math.min(frameSize, bytes.length() - offset);
+            final BytesReference payload = bytes.slice(offset, length);
+            offset += length;
+            return TcpFrame.frame(streamId, isFullyScheduled(), payload);
+        }
+
+        boolean isFullyScheduled() {
+            return offset == bytes.length();
+        }
+    }
+}
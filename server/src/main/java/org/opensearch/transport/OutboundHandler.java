@@ -40,20 +40,25 @@ import org.opensearch.action.ActionListener;
 import org.opensearch.action.NotifyOnceListener;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.network.CloseableChannel;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.transport.NetworkExceptionHelper;
 import org.opensearch.common.transport.TransportAddress;
 import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 final class OutboundHandler {
 
@@ -65,16 +70,40 @@ final class OutboundHandler {
     private final StatsTracker statsTracker;
     private final ThreadPool threadPool;
     private final BigArrays bigArrays;
+    private final int frameSize;
+    private final int maxFramesInFlight;
+    private final boolean trackCompression;
+    private final AdaptiveCompression responseCompression;
+    private final Map<TcpChannel, OutboundFrameScheduler> frameSchedulers = ConcurrentCollections.newConcurrentMap();
     private volatile TransportMessageListener messageListener = TransportMessageListener.NOOP_LISTENER;
 
     OutboundHandler(String nodeName, Version version, String[] features, StatsTracker statsTracker, ThreadPool threadPool,
                     BigArrays bigArrays) {
+        this(nodeName, version, features, statsTracker, threadPool, bigArrays, 0, 1, false,
+            AdaptiveCompression.forResponses(Settings.EMPTY));
+    }
+
+    /**
+     * @param frameSize the maximum size of a frame of a multiplexed message, or <code>0</code> to send every message as a whole
+     * @param maxFramesInFlight the maximum number of frames or small messages of a channel that are handed to the channel but not
+     *                          written yet, when messages are multiplexed
+     * @param trackCompression whether the bytes saved and the time spent by compressing messages are tracked, which is only the
+     *                         case with adaptive compression
+     * @param responseCompression decides whether the responses to requests that ask for adaptive compression are compressed
+     */
+    OutboundHandler(String nodeName, Version version, String[] features, StatsTracker statsTracker, ThreadPool threadPool,
+                    BigArrays bigArrays, int frameSize, int maxFramesInFlight, boolean trackCompression,
+                    AdaptiveCompression responseCompression) {
         this.nodeName = nodeName;
         this.version = version;
         this.features = features;
         this.statsTracker = statsTracker;
         this.threadPool = threadPool;
         this.bigArrays = bigArrays;
+        this.frameSize = frameSize;
+        this.maxFramesInFlight = maxFramesInFlight;
+        this.trackCompression = trackCompression;
+        this.responseCompression = responseCompression;
     }
 
     void sendBytes(TcpChannel channel, BytesReference bytes, ActionListener<Void> listener) {
@@ -94,12 +123,34 @@ final class OutboundHandler {
     void sendRequest(final DiscoveryNode node, final TcpChannel channel, final long requestId, final String action,
                      final TransportRequest request, final TransportRequestOptions options, final Version channelVersion,
                      final boolean compressRequest, final boolean isHandshake) throws IOException, TransportException {
+        sendRequest(node, channel, requestId, action, request, options, channelVersion, compressRequest, isHandshake, null);
+    }
+
+    /**
+     * Sends the request to the given channel. If adaptive compression is given, it decides whether a request that may be
+     * compressed is actually compressed, and learns from the serialized request.
+     */
+    void sendRequest(final DiscoveryNode node, final TcpChannel channel, final long requestId, final String action,
+                     final TransportRequest request, final TransportRequestOptions options, final Version channelVersion,
+                     final boolean compressRequest, final boolean isHandshake,
+                     @Nullable final AdaptiveCompression adaptiveCompression) throws IOException, TransportException {
         Version version = Version.min(this.version, channelVersion);
+        final boolean compress;
+        final boolean compressResponseAdaptively;
+        if (adaptiveCompression != null && compressRequest && isHandshake == false) {
+            compress = adaptiveCompression.shouldCompress(action);
+            compressResponseAdaptively = adaptiveCompression.shouldCompressResponse();
+        } else {
+            compress = compressRequest;
+            compressResponseAdaptively = false;
+        }
         OutboundMessage.Request message = new OutboundMessage.Request(threadPool.getThreadContext(), features, request, version, action,
-            requestId, isHandshake, compressRequest);
+            requestId, isHandshake, compress, compressResponseAdaptively);
         ActionListener<Void> listener = ActionListener.wrap(() ->
             messageListener.onRequestSent(node, requestId, action, request, options));
-        sendMessage(channel, message, listener);
+        final Consumer<OutboundMessage> onSerialized = adaptiveCompression == null || compressRequest == false ? null
+            : m -> adaptiveCompression.onSerialized(action, m.isCompress(), m.getUncompressedContentSize(), m.getContentSize());
+        sendMessage(channel, message, action, onSerialized, listener);
     }
 
     /**
@@ -111,11 +162,25 @@ final class OutboundHandler {
     void sendResponse(final Version nodeVersion, final Set<String> features, final TcpChannel channel,
                       final long requestId, final String action, final TransportResponse response,
                       final boolean compress, final boolean isHandshake) throws IOException {
+        sendResponse(nodeVersion, features, channel, requestId, action, response, compress, false, isHandshake);
+    }
+
+    /**
+     * Sends the response to the given channel. If the request asked for adaptive compression, the adaptive compression of the
+     * responses decides whether the response is compressed instead of <code>compress</code>, and learns from the serialized
+     * response.
+     */
+    void sendResponse(final Version nodeVersion, final Set<String> features, final TcpChannel channel,
+                      final long requestId, final String action, final TransportResponse response,
+                      final boolean compress, final boolean compressAdaptively, final boolean isHandshake) throws IOException {
         Version version = Version.min(this.version, nodeVersion);
+        final boolean compressResponse = compressAdaptively ? responseCompression.shouldCompress(action) : compress;
         OutboundMessage.Response message = new OutboundMessage.Response(threadPool.getThreadContext(), features, response, version,
-            requestId, isHandshake, compress);
+            requestId, isHandshake, compressResponse);
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onResponseSent(requestId, action, response));
-        sendMessage(channel, message, listener);
+        final Consumer<OutboundMessage> onSerialized = compressAdaptively == false ? null
+            : m -> responseCompression.onSerialized(action, m.isCompress(), m.getUncompressedContentSize(), m.getContentSize());
+        sendMessage(channel, message, action, onSerialized, listener);
     }
 
     /**
@@ -129,13 +194,48 @@ final class OutboundHandler {
         OutboundMessage.Response message = new OutboundMessage.Response(threadPool.getThreadContext(), features, tx, version, requestId,
             false, false);
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onResponseSent(requestId, action, error));
-        sendMessage(channel, message, listener);
+        sendMessage(channel, message, action, null, listener);
     }
 
-    private void sendMessage(TcpChannel channel, OutboundMessage networkMessage, ActionListener<Void> listener) throws IOException {
-        MessageSerializer serializer = new MessageSerializer(networkMessage, bigArrays);
+    private void sendMessage(TcpChannel channel, OutboundMessage networkMessage, String action,
+                             @Nullable Consumer<OutboundMessage> onSerialized, ActionListener<Void> listener) throws IOException {
+        MessageSerializer serializer = new MessageSerializer(networkMessage, bigArrays, trackCompression ? statsTracker : null,
+            onSerialized);
         SendContext sendContext = new SendContext(channel, serializer, listener, serializer);
-        internalSend(channel, sendContext);
+        // handshakes determine the version of the channel and are never framed, peers before 1.0.0 do not understand frames
+        if (frameSize > 0 && networkMessage.isHandshake() == false && networkMessage.getVersion().onOrAfter(Version.V_1_0_0)) {
+            scheduledSend(channel, OutboundFrameScheduler.Lane.forAction(action), sendContext);
+        } else {
+            internalSend(channel, sendContext);
+        }
+    }
+
+    private void scheduledSend(TcpChannel channel, OutboundFrameScheduler.Lane lane, SendContext sendContext) throws IOException {
+        channel.getChannelStats().markAccessed(threadPool.relativeTimeInMillis());
+        BytesReference reference = sendContext.get();
+        frameScheduler(channel).send(lane, reference, sendContext);
+    }
+
+    private OutboundFrameScheduler frameScheduler(TcpChannel channel) {
+        OutboundFrameScheduler scheduler = frameSchedulers.get(channel);
+        if (scheduler == null) {
+            final OutboundFrameScheduler newScheduler = new OutboundFrameScheduler(channel, frameSize, maxFramesInFlight,
+                threadPool.getThreadContext());
+            scheduler = frameSchedulers.putIfAbsent(channel, newScheduler);
+            if (scheduler == null) {
+                scheduler = newScheduler;
+                channel.addCloseListener(ActionListener.wrap(() -> {
+                    frameSchedulers.remove(channel, newScheduler);
+                    newScheduler.close();
+                }));
+            }
+        }
+        return scheduler;
+    }
+
+    // for testing
+    int frameSchedulerCount() {
+        return frameSchedulers.size();
     }
 
     private void internalSend(TcpChannel channel, SendContext sendContext) throws IOException {
@@ -163,17 +263,30 @@ final class OutboundHandler {
 
         private final OutboundMessage message;
         private final BigArrays bigArrays;
+        private final StatsTracker statsTracker;
+        private final Consumer<OutboundMessage> onSerialized;
         private volatile ReleasableBytesStreamOutput bytesStreamOutput;
 
-        private MessageSerializer(OutboundMessage message, BigArrays bigArrays) {
+        private MessageSerializer(OutboundMessage message, BigArrays bigArrays, @Nullable StatsTracker statsTracker,
+                                  @Nullable Consumer<OutboundMessage> onSerialized) {
             this.message = message;
             this.bigArrays = bigArrays;
+            this.statsTracker = statsTracker;
+            this.onSerialized = onSerialized;
         }
 
         @Override
         public BytesReference get() throws IOException {
             bytesStreamOutput = new ReleasableBytesStreamOutput(bigArrays);
-            return message.serialize(bytesStreamOutput);
+            final BytesReference reference = message.serialize(bytesStreamOutput);
+            if (statsTracker != null && message.isCompress()) {
+                statsTracker.markCompressed(message.getUncompressedContentSize() - message.getContentSize(),
+                    message.getCompressionNanos());
+            }
+            if (onSerialized != null) {
+                onSerialized.accept(message);
+            }
+            return reference;
         }
 
         @Override
@@ -47,6 +47,9 @@ import java.util.Set;
 abstract class OutboundMessage extends NetworkMessage {
 
     private final Writeable message;
+    private long contentSize = -1;
+    private long uncompressedContentSize = -1;
+    private long compressionNanos;
 
     OutboundMessage(ThreadContext threadContext, Version version, byte status, long requestId, Writeable message) {
         super(threadContext, version, status, requestId);
@@ -67,6 +70,7 @@ abstract class OutboundMessage extends NetworkMessage {
             variableHeaderLength = Math.toIntExact(bytesStream.position() - preHeaderPosition);
         }
 
+        final long contentStart = bytesStream.position();
         try (CompressibleBytesOutputStream stream =
                  new CompressibleBytesOutputStream(bytesStream, TransportStatus.isCompress(status))) {
             stream.setVersion(version);
@@ -76,6 +80,10 @@ abstract class OutboundMessage extends NetworkMessage {
                 writeVariableHeader(stream);
             }
             reference = writeMessage(stream);
+            contentSize = reference.length() - contentStart;
+            // a zero copy buffer is appended to the serialized bytes as it is
+            uncompressedContentSize = stream.uncompressedBytes() + (reference.length() - bytesStream.position());
+            compressionNanos = stream.compressionNanos();
         }
 
         bytesStream.seek(0);
@@ -88,6 +96,27 @@ abstract class OutboundMessage extends NetworkMessage {
         threadContext.writeTo(stream);
     }
 
+    /**
+     * The size of the serialized message after the fixed and, if it is not compressed, the variable header. Only available
+     * once the message is serialized.
+     */
+    long getContentSize() {
+        assert contentSize >= 0 : "message is not serialized";
+        return contentSize;
+    }
+
+    /**
+     * The size the content of the message would have without compression. Only available once the message is serialized.
+     */
+    long getUncompressedContentSize() {
+        assert uncompressedContentSize >= 0 : "message is not serialized";
+        return uncompressedContentSize;
+    }
+
+    long getCompressionNanos() {
+        return compressionNanos;
+    }
+
     protected BytesReference writeMessage(CompressibleBytesOutputStream stream) throws IOException {
         final BytesReference zeroCopyBuffer;
         if (message instanceof BytesTransportRequest) {
@@ -121,7 +150,13 @@ abstract class OutboundMessage extends NetworkMessage {
 
         Request(ThreadContext threadContext, String[] features, Writeable message, Version version, String action, long requestId,
                 boolean isHandshake, boolean compress) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(threadContext, features, message, version, action, requestId, isHandshake, compress, false);
+        }
+
+        Request(ThreadContext threadContext, String[] features, Writeable message, Version version, String action, long requestId,
+                boolean isHandshake, boolean compress, boolean compressResponseAdaptively) {
+            super(threadContext, version, setStatus(compress, compressResponseAdaptively, isHandshake, message, version), requestId,
+                message);
             this.features = features;
             this.action = action;
         }
@@ -135,12 +170,16 @@ abstract class OutboundMessage extends NetworkMessage {
             stream.writeString(action);
         }
 
-        private static byte setStatus(boolean compress, boolean isHandshake, Writeable message) {
+        private static byte setStatus(boolean compress, boolean compressResponseAdaptively, boolean isHandshake, Writeable message,
+                                      Version version) {
             byte status = 0;
             status = TransportStatus.setRequest(status);
             if (compress && OutboundMessage.canCompress(message)) {
                 status = TransportStatus.setCompress(status);
             }
+            if (compressResponseAdaptively && version.onOrAfter(Version.V_1_0_0)) {
+                status = TransportStatus.setCompressResponseAdaptively(status);
+            }
             if (isHandshake) {
                 status = TransportStatus.setHandshake(status);
             }
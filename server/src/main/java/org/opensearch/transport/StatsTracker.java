@@ -41,6 +41,8 @@ public class StatsTracker {
     private final LongAdder bytesRead = new LongAdder();
     private final LongAdder messagesReceived = new LongAdder();
     private final MeanMetric writeBytesMetric = new MeanMetric();
+    private final LongAdder compressionSavedBytes = new LongAdder();
+    private final LongAdder compressionNanos = new LongAdder();
 
     public void markBytesRead(long bytesReceived) {
         bytesRead.add(bytesReceived);
@@ -54,6 +56,17 @@ public class StatsTracker {
         writeBytesMetric.inc(bytesWritten);
     }
 
+    /**
+     * Records a compressed outbound message.
+     *
+     * @param savedBytes  the uncompressed minus the compressed size, negative if the message grew by compression
+     * @param nanos       the time spent compressing the message
+     */
+    public void markCompressed(long savedBytes, long nanos) {
+        compressionSavedBytes.add(savedBytes);
+        compressionNanos.add(nanos);
+    }
+
     public long getBytesRead() {
         return bytesRead.sum();
     }
@@ -74,4 +87,12 @@ public class StatsTracker {
     public long getMessagesSent() {
         return writeBytesMetric.count();
     }
+
+    public long getCompressionSavedBytes() {
+        return compressionSavedBytes.sum();
+    }
+
+    public long getCompressionNanos() {
+        return compressionNanos.sum();
+    }
 }
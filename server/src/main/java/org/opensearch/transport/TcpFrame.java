@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
+
+import java.io.StreamCorruptedException;
+
+/**
+ * The envelope of a frame of a multiplexed transport message. A message that is larger than the configured frame size is
+ * serialized as usual and then split into frames, each of which carries a slice of the serialized message:
+ * <pre>
+ * 'E' 'F' | int frame length | long stream id | byte flags | payload
+ * </pre>
+ * The frame length counts the bytes after the length field. All frames of a message share the stream id, which is unique
+ * per channel, and the last frame of a message carries the {@link #FLAG_LAST} flag. The frames of different messages may
+ * be interleaved on the wire, the frames of a single message are always sent in order.
+ */
+final class TcpFrame {
+
+    static final byte MARKER_FIRST_BYTE = 'E';
+    static final byte MARKER_SECOND_BYTE = 'F';
+
+    static final int MARKER_BYTES = 2;
+    static final int LENGTH_BYTES = Integer.BYTES;
+    static final int STREAM_ID_BYTES = Long.BYTES;
+    static final int FLAGS_BYTES = 1;
+    static final int HEADER_SIZE = MARKER_BYTES + LENGTH_BYTES + STREAM_ID_BYTES + FLAGS_BYTES;
+
+    static final byte FLAG_LAST = 1;
+
+    static final int MAX_FRAME_PAYLOAD_SIZE = 16 * 1024 * 1024;
+
+    private TcpFrame() {
+    }
+
+    /**
+     * Returns <code>true</code> if the given bytes start with the marker of a frame.
+     */
+    static boolean isFrame(BytesReference reference) {
+        return reference.length() >= MARKER_BYTES && reference.get(0) == MARKER_FIRST_BYTE && reference.get(1) == MARKER_SECOND_BYTE;
+    }
+
+    /**
+     * Returns the total number of bytes of the frame at the start of the given bytes, or <code>-1</code> if the frame header
+     * is not complete yet.
+     */
+    static int frameSize(BytesReference reference) throws StreamCorruptedException {
+        if (reference.length() < HEADER_SIZE) {
+            return -1;
+        }
+        final int frameLength = reference.getInt(MARKER_BYTES);
+        final int payloadLength = frameLength - STREAM_ID_BYTES - FLAGS_BYTES;
+        if (payloadLength <= 0 || payloadLength > MAX_FRAME_PAYLOAD_SIZE) {
+            throw new StreamCorruptedException("invalid frame payload length [" + payloadLength + "]");
+        }
+        return MARKER_BYTES + LENGTH_BYTES + frameLength;
+    }
+
+    static long streamId(BytesReference frame) {
+        long streamId = 0;
+        for (int i = 0; i < STREAM_ID_BYTES; i++) {
+            streamId = (streamId << 8) | (frame.get(MARKER_BYTES + LENGTH_BYTES + i) & 0xFF);
+        }
+        return streamId;
+    }
+
+    static boolean isLast(BytesReference frame) {
+        return (frame.get(MARKER_BYTES + LENGTH_BYTES + STREAM_ID_BYTES) & FLAG_LAST) != 0;
+    }
+
+    /**
+     * Wraps the given slice of a serialized message into a frame.
+     */
+    static BytesReference frame(long streamId, boolean last, BytesReference payload) {
+        final byte[] header = new byte[HEADER_SIZE];
+        header[0] = MARKER_FIRST_BYTE;
+        header[1] = MARKER_SECOND_BYTE;
+        final int frameLength = STREAM_ID_BYTES + FLAGS_BYTES + payload.length();
+        for (int i = 0; i < LENGTH_BYTES; i++) {
+            header[MARKER_BYTES + i] = (byte) (frameLength >>> (8 * (LENGTH_BYTES - 1 - i)));
+        }
+        for (int i = 0; i < STREAM_ID_BYTES; i++) {
+            header[MARKER_BYTES + LENGTH_BYTES + i] = (byte) (streamId >>> (8 * (STREAM_ID_BYTES - 1 - i)));
+        }
+        header[HEADER_SIZE - 1] = last ? FLAG_LAST : 0;
+        return CompositeBytesReference.of(new BytesArray(header), payload);
+    }
+}
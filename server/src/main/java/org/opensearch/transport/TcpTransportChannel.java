@@ -49,11 +49,13 @@ public final class TcpTransportChannel implements TransportChannel {
     private final Version version;
     private final Set<String> features;
     private final boolean compressResponse;
+    private final boolean compressResponseAdaptively;
     private final boolean isHandshake;
     private final Releasable breakerRelease;
 
     TcpTransportChannel(OutboundHandler outboundHandler, TcpChannel channel, String action, long requestId, Version version,
-                        Set<String> features, boolean compressResponse, boolean isHandshake, Releasable breakerRelease) {
+                        Set<String> features, boolean compressResponse, boolean compressResponseAdaptively, boolean isHandshake,
+                        Releasable breakerRelease) {
         this.version = version;
         this.features = features;
         this.channel = channel;
@@ -61,6 +63,7 @@ public final class TcpTransportChannel implements TransportChannel {
         this.action = action;
         this.requestId = requestId;
         this.compressResponse = compressResponse;
+        this.compressResponseAdaptively = compressResponseAdaptively;
         this.isHandshake = isHandshake;
         this.breakerRelease = breakerRelease;
     }
@@ -73,7 +76,8 @@ public final class TcpTransportChannel implements TransportChannel {
     @Override
     public void sendResponse(TransportResponse response) throws IOException {
         try {
-            outboundHandler.sendResponse(version, features, channel, requestId, action, response, compressResponse, isHandshake);
+            outboundHandler.sendResponse(version, features, channel, requestId, action, response, compressResponse,
+                compressResponseAdaptively, isHandshake);
         } finally {
             release(false);
         }
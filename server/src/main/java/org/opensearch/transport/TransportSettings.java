@@ -35,6 +35,7 @@ import org.opensearch.action.admin.cluster.node.liveness.TransportLivenessAction
 import org.opensearch.common.network.NetworkService;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 
@@ -79,6 +80,16 @@ public final class TransportSettings {
         boolSetting("transport.tcp.compress", false, Setting.Property.NodeScope, Setting.Property.Deprecated);
     public static final Setting<Boolean> TRANSPORT_COMPRESS =
         boolSetting("transport.compress", OLD_TRANSPORT_COMPRESS, Setting.Property.NodeScope);
+    // Decides per request whether requests on connections with compression enabled are compressed, see AdaptiveCompression
+    public static final Setting<Boolean> ADAPTIVE_COMPRESSION_ENABLED =
+        boolSetting("transport.adaptive_compression.enabled", false, Setting.Property.NodeScope);
+    public static final Setting<ByteSizeValue> ADAPTIVE_COMPRESSION_MIN_SIZE =
+        Setting.byteSizeSetting("transport.adaptive_compression.min_size", new ByteSizeValue(1, ByteSizeUnit.KB),
+            Setting.Property.NodeScope);
+    public static final Setting<Double> ADAPTIVE_COMPRESSION_MAX_RATIO =
+        Setting.doubleSetting("transport.adaptive_compression.max_ratio", 0.9, 0.0, 1.0, Setting.Property.NodeScope);
+    public static final Setting<String> ADAPTIVE_COMPRESSION_LINK_ATTRIBUTE =
+        Setting.simpleString("transport.adaptive_compression.link_attribute", "zone", Setting.Property.NodeScope);
     // the scheduled internal ping interval setting, defaults to disabled (-1)
     public static final Setting<TimeValue> PING_SCHEDULE =
         timeSetting("transport.ping_schedule", TimeValue.timeValueSeconds(-1), Setting.Property.NodeScope);
@@ -186,6 +197,21 @@ public final class TransportSettings {
             Setting.positiveTimeSetting("transport.slow_operation_logging_threshold", TimeValue.timeValueSeconds(5),
                     Setting.Property.Dynamic, Setting.Property.NodeScope);
 
+    // Framing settings
+
+    // Splits large outbound messages into frames that are interleaved with the frames of other messages on the same channel,
+    // giving precedence to latency sensitive messages such as fault detection and cluster coordination
+    public static final Setting<Boolean> FRAMING_ENABLED =
+        boolSetting("transport.framing.enabled", false, Setting.Property.NodeScope);
+    public static final Setting<ByteSizeValue> FRAMING_FRAME_SIZE =
+        Setting.byteSizeSetting("transport.framing.frame_size", new ByteSizeValue(64, ByteSizeUnit.KB),
+            new ByteSizeValue(4, ByteSizeUnit.KB), new ByteSizeValue(TcpFrame.MAX_FRAME_PAYLOAD_SIZE, ByteSizeUnit.BYTES),
+            Setting.Property.NodeScope);
+    // The number of frames or small messages of a channel that are handed to the network layer but not written yet. More frames
+    // in flight keep a fast link busy, fewer let latency sensitive messages overtake the frames of large messages sooner.
+    public static final Setting<Integer> FRAMING_MAX_FRAMES_IN_FLIGHT =
+        intSetting("transport.framing.max_frames_in_flight", 2, 1, Setting.Property.NodeScope);
+
 
     private TransportSettings() {
     }
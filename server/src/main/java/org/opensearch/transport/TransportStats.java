@@ -33,14 +33,17 @@
 package org.opensearch.transport;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 public class TransportStats implements Writeable, ToXContentFragment {
 
@@ -50,14 +53,23 @@ public class TransportStats implements Writeable, ToXContentFragment {
     private final long rxSize;
     private final long txCount;
     private final long txSize;
+    private final long txCompressionSavedSize;
+    private final long txCompressionTimeNanos;
 
     public TransportStats(long serverOpen, long totalOutboundConnections, long rxCount, long rxSize, long txCount, long txSize) {
+        this(serverOpen, totalOutboundConnections, rxCount, rxSize, txCount, txSize, 0L, 0L);
+    }
+
+    public TransportStats(long serverOpen, long totalOutboundConnections, long rxCount, long rxSize, long txCount, long txSize,
+                          long txCompressionSavedSize, long txCompressionTimeNanos) {
         this.serverOpen = serverOpen;
         this.totalOutboundConnections = totalOutboundConnections;
         this.rxCount = rxCount;
         this.rxSize = rxSize;
         this.txCount = txCount;
         this.txSize = txSize;
+        this.txCompressionSavedSize = txCompressionSavedSize;
+        this.txCompressionTimeNanos = txCompressionTimeNanos;
     }
 
     public TransportStats(StreamInput in) throws IOException {
@@ -71,6 +83,13 @@ public class TransportStats implements Writeable, ToXContentFragment {
         rxSize = in.readVLong();
         txCount = in.readVLong();
         txSize = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            txCompressionSavedSize = in.readZLong();
+            txCompressionTimeNanos = in.readVLong();
+        } else {
+            txCompressionSavedSize = 0L;
+            txCompressionTimeNanos = 0L;
+        }
     }
 
     @Override
@@ -83,6 +102,10 @@ public class TransportStats implements Writeable, ToXContentFragment {
         out.writeVLong(rxSize);
         out.writeVLong(txCount);
         out.writeVLong(txSize);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeZLong(txCompressionSavedSize);
+            out.writeVLong(txCompressionTimeNanos);
+        }
     }
 
     public long serverOpen() {
@@ -125,6 +148,20 @@ public class TransportStats implements Writeable, ToXContentFragment {
         return txSize();
     }
 
+    /**
+     * The number of bytes saved by compressing outbound messages, negative if compression made messages larger.
+     */
+    public long getTxCompressionSavedSize() {
+        return txCompressionSavedSize;
+    }
+
+    /**
+     * The time spent compressing outbound messages, only tracked with adaptive compression.
+     */
+    public TimeValue getTxCompressionTime() {
+        return new TimeValue(txCompressionTimeNanos, TimeUnit.NANOSECONDS);
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.TRANSPORT);
@@ -134,6 +171,8 @@ public class TransportStats implements Writeable, ToXContentFragment {
         builder.humanReadableField(Fields.RX_SIZE_IN_BYTES, Fields.RX_SIZE, new ByteSizeValue(rxSize));
         builder.field(Fields.TX_COUNT, txCount);
         builder.humanReadableField(Fields.TX_SIZE_IN_BYTES, Fields.TX_SIZE, new ByteSizeValue(txSize));
+        builder.field(Fields.TX_COMPRESSION_SAVED_SIZE_IN_BYTES, txCompressionSavedSize);
+        builder.humanReadableField(Fields.TX_COMPRESSION_TIME_IN_MILLIS, Fields.TX_COMPRESSION_TIME, getTxCompressionTime());
         builder.endObject();
         return builder;
     }
@@ -148,5 +187,8 @@ public class TransportStats implements Writeable, ToXContentFragment {
         static final String TX_COUNT = "tx_count";
         static final String TX_SIZE = "tx_size";
         static final String TX_SIZE_IN_BYTES = "tx_size_in_bytes";
+        static final String TX_COMPRESSION_SAVED_SIZE_IN_BYTES = "tx_compression_saved_size_in_bytes";
+        static final String TX_COMPRESSION_TIME = "tx_compression_time";
+        static final String TX_COMPRESSION_TIME_IN_MILLIS = "tx_compression_time_in_millis";
     }
 }
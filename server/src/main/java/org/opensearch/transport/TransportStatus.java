@@ -38,6 +38,7 @@ public final class TransportStatus {
     private static final byte STATUS_ERROR = 1 << 1;
     private static final byte STATUS_COMPRESS = 1 << 2;
     private static final byte STATUS_HANDSHAKE = 1 << 3;
+    private static final byte STATUS_COMPRESS_RESPONSE_ADAPTIVELY = 1 << 4;
 
     public static boolean isRequest(byte value) {
         return (value & STATUS_REQRES) == 0;
@@ -79,4 +80,17 @@ public final class TransportStatus {
         value |= STATUS_HANDSHAKE;
         return value;
     }
+
+    /**
+     * Whether the sender of a request uses adaptive compression and asks the receiver to decide in the same way whether to compress
+     * the response, regardless of whether the request is compressed. Only set towards nodes on or after 1.0.0.
+     */
+    static boolean isCompressResponseAdaptively(byte value) { // pkg private since it's only used internally
+        return (value & STATUS_COMPRESS_RESPONSE_ADAPTIVELY) != 0;
+    }
+
+    static byte setCompressResponseAdaptively(byte value) { // pkg private since it's only used internally
+        value |= STATUS_COMPRESS_RESPONSE_ADAPTIVELY;
+        return value;
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.xcontent.support.filtering;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.common.xcontent.support.AbstractFilteringTestCase;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+
+/**
+ * Checks that {@link JsonSourceFilter} filters like {@link XContentMapValues#filter(Map, String[], String[])}.
+ */
+public class JsonSourceFilterTests extends AbstractFilteringTestCase {
+
+    @Override
+    protected void testFilter(Builder expected, Builder actual, Set<String> includes, Set<String> excludes) throws IOException {
+        final String[] sourceIncludes = includes == null ? null : includes.toArray(new String[0]);
+        final String[] sourceExcludes = excludes == null ? null : excludes.toArray(new String[0]);
+        final BytesReference source = BytesReference.bytes(actual.apply(JsonXContent.contentBuilder()));
+        final BytesReference filtered = filter(source, XContentMapValues.jsonSourceFilter(sourceIncludes, sourceExcludes));
+
+        assertEquals("Filtered source must be equal to the expected source",
+            toMap(BytesReference.bytes(expected.apply(JsonXContent.contentBuilder()))), toMap(filtered));
+        assertEquals("Filtered source must be equal to the filtered map",
+            XContentMapValues.filter(toMap(source), sourceIncludes, sourceExcludes), toMap(filtered));
+    }
+
+    @Override
+    public void testSimpleArrayOfObjectsExclusive() throws Exception {
+        // Empty arrays are preserved like by XContentMapValues
+        testFilter(SIMPLE_ARRAY_OF_OBJECTS_EXCLUSIVE, SAMPLE, emptySet(), singleton("authors"));
+    }
+
+    public void testKeptValuesAreCopied() throws IOException {
+        final String source = "{ \"b\" : 1.50, \"a\" : { \"c\" : \"\\u00e9\", \"d\" : [ 1, 2 ] }, \"e\" : [ { \"f\" : 1 }, 2 ] }";
+        assertEquals("{\"b\":1.50,\"a\":{ \"c\" : \"\\u00e9\", \"d\" : [ 1, 2 ] }}",
+            filter(source, new String[] { "a", "b" }, null));
+        assertEquals("{\"a\":{\"d\":[ 1, 2 ]},\"e\":[{\"f\":1}]}", filter(source, new String[] { "*.d", "e.f" }, null));
+        assertEquals("{\"b\":1.50,\"a\":{\"c\":\"\\u00e9\"},\"e\":[2]}", filter(source, null, new String[] { "a.d", "e.f" }));
+    }
+
+    public void testRejectsNonStrictJson() {
+        expectThrows(IOException.class, () -> filter("{ \"a\" : 1 /* comment */ }", new String[] { "a" }, null));
+        expectThrows(IOException.class, () -> filter("[ 1, 2 ]", new String[] { "a" }, null));
+    }
+
+    private static String filter(String source, String[] includes, String[] excludes) throws IOException {
+        final BytesStreamOutput out = new BytesStreamOutput();
+        final byte[] bytes = ("  " + source).getBytes(StandardCharsets.UTF_8);
+        XContentMapValues.jsonSourceFilter(includes, excludes).filter(bytes, 2, bytes.length - 2, out);
+        return out.bytes().utf8ToString();
+    }
+
+    private static BytesReference filter(BytesReference source, JsonSourceFilter filter) throws IOException {
+        final BytesRef bytes = source.toBytesRef();
+        final BytesStreamOutput out = new BytesStreamOutput();
+        filter.filter(bytes.bytes, bytes.offset, bytes.length, out);
+        return out.bytes();
+    }
+
+    private static Map<String, Object> toMap(BytesReference bytes) {
+        return XContentHelper.convertToMap(bytes, true, XContentType.JSON).v2();
+    }
+}
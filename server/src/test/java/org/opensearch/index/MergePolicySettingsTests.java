@@ -32,6 +32,7 @@
 package org.opensearch.index;
 
 import org.apache.lucene.index.NoMergePolicy;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.common.unit.ByteSizeValue;
@@ -77,6 +78,32 @@ public class MergePolicySettingsTests extends OpenSearchTestCase {
         assertTrue(mp.getMergePolicy() instanceof NoMergePolicy);
     }
 
+    public void testTimeOrderedMergePolicy() {
+        IndexSettings indexSettings = indexSettings(Settings.EMPTY);
+        assertTrue(indexSettings.getMergePolicy() instanceof OpenSearchTieredMergePolicy);
+        assertFalse(indexSettings.shouldCollapseSegments());
+
+        final Settings timeOrdered = Settings.builder()
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_TIME_ORDERED_SETTING.getKey(), true)
+            .put(MergePolicyConfig.INDEX_MERGE_POLICY_MAX_MERGED_SEGMENT_SETTING.getKey(), "1gb")
+            .build();
+        indexSettings = indexSettings(timeOrdered);
+        assertTrue(indexSettings.getMergePolicy() instanceof OpenSearchTimeSeriesMergePolicy);
+        assertEquals(1024, ((OpenSearchTimeSeriesMergePolicy) indexSettings.getMergePolicy()).getMaxMergedSegmentMB(), 0d);
+        assertFalse(indexSettings.shouldCollapseSegments());
+
+        indexSettings.updateIndexMetadata(newIndexMeta("index", Settings.builder().put(timeOrdered)
+            .put(IndexMetadata.INDEX_BLOCKS_WRITE_SETTING.getKey(), true).build()));
+        assertTrue(indexSettings.shouldCollapseSegments());
+        assertTrue(((OpenSearchTimeSeriesMergePolicy) indexSettings.getMergePolicy()).isReadOnly());
+
+        indexSettings.updateIndexMetadata(newIndexMeta("index", timeOrdered));
+        assertFalse(indexSettings.shouldCollapseSegments());
+
+        assertTrue(indexSettings(Settings.builder().put(timeOrdered)
+            .put(IndexMetadata.INDEX_READ_ONLY_SETTING.getKey(), true).build()).shouldCollapseSegments());
+    }
+
     public void testUpdateSettings() throws IOException {
         IndexSettings indexSettings = indexSettings(EMPTY_SETTINGS);
         assertThat(indexSettings.getMergePolicy().getNoCFSRatio(), equalTo(0.1));
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.index.SerialMergeScheduler;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class OpenSearchTimeSeriesMergePolicyTests extends OpenSearchTestCase {
+
+    public void testDefaults() {
+        OpenSearchTimeSeriesMergePolicy policy = new OpenSearchTimeSeriesMergePolicy();
+        assertEquals(new LogByteSizeMergePolicy().getMaxMergeMB(), policy.getMaxMergedSegmentMB(), 0d);
+        assertEquals(Double.POSITIVE_INFINITY, policy.regularMergePolicy.getMaxMergeMBForForcedMerge(), 0d);
+        assertFalse(policy.isReadOnly());
+    }
+
+    public void testSetters() {
+        OpenSearchTimeSeriesMergePolicy policy = new OpenSearchTimeSeriesMergePolicy();
+        policy.setMaxMergedSegmentMB(10 * 1024);
+        assertEquals(10 * 1024, policy.regularMergePolicy.getMaxMergeMB(), 0d);
+        policy.setFloorSegmentMB(42);
+        assertEquals(42, policy.regularMergePolicy.getMinMergeMB(), 0d);
+        policy.setMaxMergeAtOnce(42);
+        assertEquals(42, policy.regularMergePolicy.getMergeFactor());
+        policy.setNoCFSRatio(0.5);
+        assertEquals(0.5, policy.regularMergePolicy.getNoCFSRatio(), 0d);
+    }
+
+    public void testCollapsesWhenReadOnly() throws IOException {
+        OpenSearchTimeSeriesMergePolicy policy = new OpenSearchTimeSeriesMergePolicy();
+        policy.setMaxMergeAtOnce(100);
+        try (Directory dir = newDirectory();
+             IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig()
+                 .setMergePolicy(policy)
+                 .setMergeScheduler(new SerialMergeScheduler()))) {
+            final int segments = randomIntBetween(2, 10);
+            for (int i = 0; i < segments; i++) {
+                Document doc = new Document();
+                doc.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                doc.add(new LongPoint("@timestamp", i));
+                writer.addDocument(doc);
+                writer.commit();
+            }
+            writer.maybeMerge();
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                assertEquals(segments, reader.leaves().size());
+            }
+
+            policy.setReadOnly(true);
+            writer.maybeMerge();
+            writer.commit();
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                assertEquals(1, reader.leaves().size());
+                assertEquals(segments, reader.numDocs());
+            }
+        }
+    }
+}
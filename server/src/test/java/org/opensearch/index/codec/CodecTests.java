@@ -39,6 +39,7 @@ import org.apache.lucene.codecs.lucene87.Lucene87Codec;
 import org.apache.lucene.codecs.lucene87.Lucene87StoredFieldsFormat;
 import org.apache.lucene.document.BinaryDocValuesField;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
@@ -46,12 +47,14 @@ import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.LuceneTestCase.SuppressCodecs;
+import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.env.Environment;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.analysis.IndexAnalyzers;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.IndicesModule;
 import org.opensearch.indices.mapper.MapperRegistry;
 import org.opensearch.plugins.MapperPlugin;
 import org.opensearch.test.OpenSearchTestCase;
@@ -84,6 +87,35 @@ public class CodecTests extends OpenSearchTestCase {
         assertStoredFieldsFormatCompressionEquals(Lucene87StoredFieldsFormat.Mode.BEST_COMPRESSION, codec);
     }
 
+    public void testPerFieldDocValuesCompression() throws Exception {
+        MapperService service = createMapperService(new IndicesModule(Collections.emptyList()).getMapperRegistry());
+        service.merge("_doc", new CompressedXContent("{\"_doc\":{\"properties\":{"
+            + "\"fast\":{\"type\":\"keyword\",\"doc_values_compression\":\"best_speed\"},"
+            + "\"small\":{\"type\":\"keyword\"}}}}"), MapperService.MergeReason.MAPPING_UPDATE);
+        Codec codec = new CodecService(service, LogManager.getLogger("test")).codec("default");
+
+        Directory dir = newDirectory();
+        IndexWriterConfig iwc = newIndexWriterConfig(null);
+        iwc.setCodec(codec);
+        IndexWriter iw = new IndexWriter(dir, iwc);
+        Document doc = new Document();
+        doc.add(new SortedSetDocValuesField("fast", new BytesRef("aaa")));
+        doc.add(new SortedSetDocValuesField("small", new BytesRef("bbb")));
+        iw.addDocument(doc);
+        iw.commit();
+        iw.close();
+        DirectoryReader ir = DirectoryReader.open(dir);
+        SegmentReader sr = (SegmentReader) ir.leaves().get(0).reader();
+        assertEquals(Lucene80DocValuesFormat.Mode.BEST_SPEED.name(),
+            sr.getFieldInfos().fieldInfo("fast").getAttribute(Lucene80DocValuesFormat.MODE_KEY));
+        assertEquals(Lucene80DocValuesFormat.Mode.BEST_COMPRESSION.name(),
+            sr.getFieldInfos().fieldInfo("small").getAttribute(Lucene80DocValuesFormat.MODE_KEY));
+        assertEquals(new BytesRef("aaa"), sr.getSortedSetDocValues("fast").lookupOrd(0));
+        assertEquals(new BytesRef("bbb"), sr.getSortedSetDocValues("small").lookupOrd(0));
+        ir.close();
+        dir.close();
+    }
+
     private void assertDVCompressionEquals(Lucene80DocValuesFormat.Mode expected, Codec actual) throws Exception {
         Directory dir = newDirectory();
         IndexWriterConfig iwc = newIndexWriterConfig(null);
@@ -122,16 +154,19 @@ public class CodecTests extends OpenSearchTestCase {
     }
 
     private CodecService createCodecService() throws IOException {
+        MapperRegistry mapperRegistry = new MapperRegistry(Collections.emptyMap(), Collections.emptyMap(), MapperPlugin.NOOP_FIELD_FILTER);
+        return new CodecService(createMapperService(mapperRegistry), LogManager.getLogger("test"));
+    }
+
+    private MapperService createMapperService(MapperRegistry mapperRegistry) throws IOException {
         Settings nodeSettings = Settings.builder()
                 .put(Environment.PATH_HOME_SETTING.getKey(), createTempDir())
                 .build();
         IndexSettings settings = IndexSettingsModule.newIndexSettings("_na", nodeSettings);
         SimilarityService similarityService = new SimilarityService(settings, null, Collections.emptyMap());
         IndexAnalyzers indexAnalyzers = createTestAnalysis(settings, nodeSettings).indexAnalyzers;
-        MapperRegistry mapperRegistry = new MapperRegistry(Collections.emptyMap(), Collections.emptyMap(), MapperPlugin.NOOP_FIELD_FILTER);
-        MapperService service = new MapperService(settings, indexAnalyzers, xContentRegistry(), similarityService, mapperRegistry,
+        return new MapperService(settings, indexAnalyzers, xContentRegistry(), similarityService, mapperRegistry,
                 () -> null, () -> false, null);
-        return new CodecService(service, LogManager.getLogger("test"));
     }
 
 }
@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.MergeTrigger;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.MergeSchedulerConfig;
+import org.opensearch.index.merge.NodeMergeScheduler;
+import org.opensearch.index.merge.OnGoingMerge;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.test.IndexSettingsModule;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OpenSearchConcurrentMergeSchedulerTests extends OpenSearchTestCase {
+
+    public void testMergeWaitingForNodeSlotIsNotInFlight() throws Exception {
+        Settings settings = Settings.builder().put(NodeMergeScheduler.MAX_CONCURRENT_MERGES_SETTING.getKey(), 1).build();
+        NodeMergeScheduler nodeMergeScheduler = new NodeMergeScheduler(settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        AtomicInteger inFlight = new AtomicInteger();
+        OpenSearchConcurrentMergeScheduler scheduler = new OpenSearchConcurrentMergeScheduler(new ShardId("index", "_na_", 0),
+            IndexSettingsModule.newIndexSettings("index", Settings.EMPTY), nodeMergeScheduler) {
+            @Override
+            protected void beforeMerge(OnGoingMerge merge) {
+                inFlight.incrementAndGet();
+            }
+
+            @Override
+            protected void afterMerge(OnGoingMerge merge) {
+                inFlight.decrementAndGet();
+            }
+        };
+        try (Directory dir = newDirectory();
+             IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig().setMergeScheduler(scheduler))) {
+            for (int i = 0; i < 2; i++) {
+                Document doc = new Document();
+                doc.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                writer.addDocument(doc);
+                writer.commit();
+            }
+            SegmentInfos infos = SegmentInfos.readLatestCommit(dir);
+            // the only node wide slot is taken, so the merge of the shard has to wait for it
+            Releasable slot = nodeMergeScheduler.acquire(new MergePolicy.OneMerge(Collections.singletonList(infos.info(0))), () -> 0L);
+            try {
+                writer.forceMerge(1, false);
+                assertBusy(() -> assertEquals(1, nodeMergeScheduler.stats().getQueued()));
+                assertEquals(0, inFlight.get());
+                assertTrue(scheduler.onGoingMerges().isEmpty());
+                assertEquals(0, scheduler.stats().getCurrent());
+            } finally {
+                slot.close();
+            }
+            writer.waitForMerges();
+            assertEquals(0, inFlight.get());
+            assertEquals(1, scheduler.stats().getTotal());
+            assertEquals(1, nodeMergeScheduler.stats().getTotalQueued());
+        }
+    }
+
+    public void testMergeWaitingForNodeSlotDoesNotPauseMergeHoldingIt() throws Exception {
+        Settings nodeSettings = Settings.builder().put(NodeMergeScheduler.MAX_CONCURRENT_MERGES_SETTING.getKey(), 1).build();
+        NodeMergeScheduler nodeMergeScheduler = new NodeMergeScheduler(nodeSettings,
+            new ClusterSettings(nodeSettings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        Settings indexSettings = Settings.builder()
+            .put(MergeSchedulerConfig.MAX_THREAD_COUNT_SETTING.getKey(), 1)
+            .put(MergeSchedulerConfig.MAX_MERGE_COUNT_SETTING.getKey(), 2)
+            .put(MergeSchedulerConfig.AUTO_THROTTLE_SETTING.getKey(), false)
+            .build();
+        OpenSearchConcurrentMergeScheduler scheduler = new OpenSearchConcurrentMergeScheduler(new ShardId("index", "_na_", 0),
+            IndexSettingsModule.newIndexSettings("index", indexSettings), nodeMergeScheduler) {
+            @Override
+            protected MergeThread getMergeThread(MergeSource mergeSource, MergePolicy.OneMerge merge) throws IOException {
+                // both merges are big enough for CMS to pause the biggest one beyond max_thread_count, the merge of the small
+                // segments gets the node wide slot first and is the biggest one
+                merge.estimatedMergeBytes = (merge.totalNumDocs() < 10 ? 200 : 100) * 1024L * 1024L;
+                return super.getMergeThread(mergeSource, merge);
+            }
+        };
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir,
+            new IndexWriterConfig().setMergeScheduler(scheduler).setMergePolicy(new PairsMergePolicy()));
+        try {
+            for (int segment = 0; segment < 4; segment++) {
+                for (int i = 0; i < (segment < 2 ? 1 : 100); i++) {
+                    Document doc = new Document();
+                    doc.add(new StringField("id", segment + "_" + i, Field.Store.NO));
+                    writer.addDocument(doc);
+                }
+                writer.commit();
+            }
+            SegmentInfos infos = SegmentInfos.readLatestCommit(dir);
+            Releasable slot = nodeMergeScheduler.acquire(new MergePolicy.OneMerge(Collections.singletonList(infos.info(0))), () -> 0L);
+            try {
+                writer.forceMerge(2, false);
+                assertBusy(() -> assertEquals(2, nodeMergeScheduler.stats().getQueued()));
+            } finally {
+                slot.close();
+            }
+            assertBusy(() -> assertEquals(2, scheduler.stats().getTotal()));
+        } finally {
+            // aborts the merges if they never finish
+            writer.rollback();
+            dir.close();
+        }
+    }
+
+    /**
+     * Merges the first two and the last two of four segments with two separate merges.
+     */
+    private static class PairsMergePolicy extends MergePolicy {
+        @Override
+        public MergeSpecification findMerges(MergeTrigger mergeTrigger, SegmentInfos segmentInfos, MergeContext mergeContext) {
+            return null;
+        }
+
+        @Override
+        public MergeSpecification findForcedMerges(SegmentInfos segmentInfos, int maxSegmentCount,
+                                                   Map<SegmentCommitInfo, Boolean> segmentsToMerge, MergeContext mergeContext) {
+            if (segmentInfos.size() != 4) {
+                return null;
+            }
+            MergeSpecification spec = new MergeSpecification();
+            spec.add(new OneMerge(Arrays.asList(segmentInfos.info(0), segmentInfos.info(1))));
+            spec.add(new OneMerge(Arrays.asList(segmentInfos.info(2), segmentInfos.info(3))));
+            return spec;
+        }
+
+        @Override
+        public MergeSpecification findForcedDeletesMerges(SegmentInfos segmentInfos, MergeContext mergeContext) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.containsString;
+
+public class FieldPathLookupTests extends MapperServiceTestCase {
+
+    public void testResolvesDottedNames() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(mapping(b -> {
+            b.startObject("obj");
+            {
+                b.startObject("properties");
+                b.startObject("inner");
+                {
+                    b.startObject("properties");
+                    b.startObject("leaf").field("type", "keyword").endObject();
+                    b.endObject();
+                }
+                b.endObject();
+                b.endObject();
+            }
+            b.endObject();
+        }));
+        FieldPathLookup lookup = mapper.fieldPaths();
+        RootObjectMapper root = mapper.root();
+
+        FieldPathLookup.ResolvedField resolved = lookup.get(root, "obj.inner.leaf");
+        assertNotNull(resolved);
+        assertThat(resolved.path(), arrayContaining("obj", "inner", "leaf"));
+        assertEquals("obj.inner.leaf", resolved.mapper().name());
+        assertFalse(resolved.containsDisabledObject());
+
+        // names are relative to the object they are found in
+        ObjectMapper obj = (ObjectMapper) root.getMapper("obj");
+        assertSame(resolved.mapper(), lookup.get(obj, "inner.leaf").mapper());
+        assertNull(lookup.get(root, "inner.leaf"));
+        assertNull(lookup.get(root, "obj.unmapped"));
+        // object mappers of other mappings are unknown
+        assertNull(lookup.get(createDocumentMapper(mapping(b -> {})).root(), "obj"));
+    }
+
+    public void testDisabledAndNestedObjects() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(mapping(b -> {
+            b.startObject("disabled").field("type", "object").field("enabled", false);
+            {
+                b.startObject("properties");
+                b.startObject("leaf").field("type", "keyword").endObject();
+                b.endObject();
+            }
+            b.endObject();
+            b.startObject("nested").field("type", "nested");
+            {
+                b.startObject("properties");
+                b.startObject("leaf").field("type", "keyword").endObject();
+                b.endObject();
+            }
+            b.endObject();
+        }));
+        FieldPathLookup lookup = mapper.fieldPaths();
+        RootObjectMapper root = mapper.root();
+
+        assertFalse(lookup.get(root, "disabled").containsDisabledObject());
+        assertTrue(lookup.get(root, "disabled.leaf").containsDisabledObject());
+        ParsedDocument doc = mapper.parse(source(b -> b.field("disabled.leaf", "value")));
+        assertNull(doc.rootDoc().getField("disabled.leaf"));
+
+        // values can't be added through nested objects, which the regular resolution rejects
+        assertNotNull(lookup.get(root, "nested"));
+        assertNull(lookup.get(root, "nested.leaf"));
+        assertNotNull(lookup.get((ObjectMapper) root.getMapper("nested"), "leaf"));
+        MapperParsingException e = expectThrows(MapperParsingException.class,
+            () -> mapper.parse(source(b -> b.field("nested.leaf", "value"))));
+        assertThat(e.getMessage(), containsString("one of the intermediate objects is mapped as a nested object"));
+    }
+
+    public void testMetadataFields() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(mapping(b -> b.startObject("field").field("type", "keyword").endObject()));
+        FieldPathLookup lookup = mapper.fieldPaths();
+        assertTrue(lookup.mayBeMetadataField(IdFieldMapper.NAME));
+        assertTrue(lookup.mayBeMetadataField("id"));
+        assertFalse(lookup.mayBeMetadataField("field"));
+        assertNull(lookup.get(mapper.root(), IdFieldMapper.NAME));
+
+        MapperParsingException e = expectThrows(MapperParsingException.class,
+            () -> mapper.parse(source(b -> b.field(IdFieldMapper.NAME, "1"))));
+        assertThat(e.getCause().getMessage(), containsString("is a metadata field and cannot be added inside a document"));
+    }
+}
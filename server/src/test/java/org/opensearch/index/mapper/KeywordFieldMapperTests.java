@@ -188,6 +188,8 @@ public class KeywordFieldMapperTests extends MapperTestCase {
             m -> assertTrue(m.fieldType().eagerGlobalOrdinals()));
         checker.registerUpdateCheck(b -> b.field("ignore_above", 256),
             m -> assertEquals(256, ((KeywordFieldMapper)m).ignoreAbove()));
+        checker.registerUpdateCheck(b -> b.field("doc_values_compression", "best_speed"),
+            m -> assertEquals("best_speed", ((KeywordFieldMapper.KeywordFieldType) m.fieldType()).docValuesCompression()));
         checker.registerUpdateCheck(b -> b.field("split_queries_on_whitespace", true),
             m -> assertEquals("_whitespace", m.fieldType().getTextSearchInfo().getSearchAnalyzer().name()));
 
@@ -0,0 +1,180 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.merge;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class NodeMergeSchedulerTests extends OpenSearchTestCase {
+
+    public void testDisabledByDefault() throws IOException {
+        NodeMergeScheduler scheduler = new NodeMergeScheduler(Settings.EMPTY,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        assertFalse(scheduler.isEnabled());
+        assertEquals(Double.POSITIVE_INFINITY, scheduler.getPerMergeMBPerSec(), 0d);
+        try (Directory dir = newDirectory()) {
+            MergePolicy.OneMerge merge = newMerge(dir);
+            try (Releasable first = scheduler.acquire(merge, () -> 0L);
+                 Releasable second = scheduler.acquire(merge, () -> 0L)) {
+                NodeMergeStats stats = scheduler.stats();
+                assertEquals(2, stats.getRunning());
+                assertEquals(0, stats.getQueued());
+                assertEquals(-1, stats.getConcurrencyLimit());
+            }
+        }
+        assertEquals(0, scheduler.stats().getRunning());
+    }
+
+    public void testMergesWaitForSlot() throws Exception {
+        Settings settings = Settings.builder().put(NodeMergeScheduler.MAX_CONCURRENT_MERGES_SETTING.getKey(), 1).build();
+        NodeMergeScheduler scheduler = new NodeMergeScheduler(settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        assertTrue(scheduler.isEnabled());
+        try (Directory dir = newDirectory()) {
+            MergePolicy.OneMerge merge = newMerge(dir);
+            Releasable first = scheduler.acquire(merge, () -> 0L);
+            CountDownLatch started = new CountDownLatch(1);
+            AtomicBoolean secondRan = new AtomicBoolean();
+            Thread thread = new Thread(() -> {
+                started.countDown();
+                try (Releasable second = scheduler.acquire(merge, () -> 0L)) {
+                    secondRan.set(true);
+                }
+            });
+            thread.start();
+            started.await();
+            assertBusy(() -> assertEquals(1, scheduler.stats().getQueued()));
+            assertFalse(secondRan.get());
+            first.close();
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+            assertTrue(secondRan.get());
+            NodeMergeStats stats = scheduler.stats();
+            assertEquals(0, stats.getQueued());
+            assertEquals(0, stats.getRunning());
+            assertEquals(1, stats.getTotalQueued());
+            assertEquals(1, stats.getConcurrencyLimit());
+        }
+    }
+
+    public void testDisablingReleasesWaitingMerges() throws Exception {
+        Settings settings = Settings.builder().put(NodeMergeScheduler.MAX_CONCURRENT_MERGES_SETTING.getKey(), 1).build();
+        ClusterSettings clusterSettings = new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        NodeMergeScheduler scheduler = new NodeMergeScheduler(settings, clusterSettings);
+        try (Directory dir = newDirectory()) {
+            MergePolicy.OneMerge merge = newMerge(dir);
+            try (Releasable first = scheduler.acquire(merge, () -> 0L)) {
+                Thread thread = new Thread(() -> scheduler.acquire(merge, () -> 0L).close());
+                thread.start();
+                assertBusy(() -> assertEquals(1, scheduler.stats().getQueued()));
+                clusterSettings.applySettings(
+                    Settings.builder().put(NodeMergeScheduler.MAX_CONCURRENT_MERGES_SETTING.getKey(), 0).build());
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+                assertFalse(thread.isAlive());
+                assertFalse(scheduler.isEnabled());
+            }
+        }
+    }
+
+    public void testBytesPerSecIsSplitAcrossRunningMerges() throws IOException {
+        Settings settings = Settings.builder()
+            .put(NodeMergeScheduler.MAX_CONCURRENT_MERGES_SETTING.getKey(), 4)
+            .put(NodeMergeScheduler.MAX_BYTES_PER_SEC_SETTING.getKey(), "40mb")
+            .build();
+        NodeMergeScheduler scheduler = new NodeMergeScheduler(settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        assertEquals(40d, scheduler.getPerMergeMBPerSec(), 0.001d);
+        try (Directory dir = newDirectory()) {
+            MergePolicy.OneMerge merge = newMerge(dir);
+            try (Releasable first = scheduler.acquire(merge, () -> 0L);
+                 Releasable second = scheduler.acquire(merge, () -> 0L)) {
+                assertEquals(20d, scheduler.getPerMergeMBPerSec(), 0.001d);
+            }
+        }
+    }
+
+    public void testConcurrencyBacksOffWhenThroughputDrops() throws Exception {
+        Settings settings = Settings.builder().put(NodeMergeScheduler.MAX_CONCURRENT_MERGES_SETTING.getKey(), 4).build();
+        long[] now = new long[] { 0 };
+        NodeMergeScheduler scheduler = new NodeMergeScheduler(settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), () -> now[0]);
+        assertEquals(4, scheduler.getConcurrencyLimit());
+        try (Directory dir = newDirectory()) {
+            MergePolicy.OneMerge merge = newMerge(dir);
+            // first window: fill all slots so the next merge is contended, then close the window with a high throughput
+            Releasable[] running = new Releasable[4];
+            for (int i = 0; i < running.length; i++) {
+                running[i] = scheduler.acquire(merge, () -> 1L << 30);
+            }
+            Thread waiter = new Thread(() -> scheduler.acquire(merge, () -> 0L).close());
+            waiter.start();
+            assertBusy(() -> assertEquals(1, scheduler.stats().getQueued()));
+            for (int i = 0; i < running.length - 1; i++) {
+                running[i].close();
+            }
+            joinQuietly(waiter);
+            now[0] += NodeMergeScheduler.ADJUST_INTERVAL_NANOS;
+            running[running.length - 1].close();
+            // the limit was already at its maximum, so it stays there
+            assertEquals(4, scheduler.getConcurrencyLimit());
+
+            // second window: contended again but with a much lower throughput, so the scheduler backs off
+            for (int i = 0; i < running.length; i++) {
+                running[i] = scheduler.acquire(merge, () -> 1L << 20);
+            }
+            waiter = new Thread(() -> scheduler.acquire(merge, () -> 0L).close());
+            waiter.start();
+            assertBusy(() -> assertEquals(1, scheduler.stats().getQueued()));
+            for (int i = 0; i < running.length - 1; i++) {
+                running[i].close();
+            }
+            joinQuietly(waiter);
+            now[0] += NodeMergeScheduler.ADJUST_INTERVAL_NANOS;
+            running[running.length - 1].close();
+            assertEquals(3, scheduler.getConcurrencyLimit());
+            assertTrue(scheduler.stats().getThroughputInBytesPerSec() > 0);
+        }
+    }
+
+    private static void joinQuietly(Thread thread) {
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+        assertFalse(thread.isAlive());
+    }
+
+    private static MergePolicy.OneMerge newMerge(Directory dir) throws IOException {
+        try (IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig())) {
+            Document doc = new Document();
+            doc.add(new StringField("id", "1", Field.Store.NO));
+            writer.addDocument(doc);
+            writer.commit();
+        }
+        SegmentInfos infos = SegmentInfos.readLatestCommit(dir);
+        return new MergePolicy.OneMerge(Collections.singletonList(infos.info(0)));
+    }
+}
@@ -42,7 +42,8 @@ public class RefreshStatsTests extends OpenSearchTestCase {
 
     public void testSerialize() throws IOException {
         RefreshStats stats = new RefreshStats(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
-            randomNonNegativeLong(), between(0, Integer.MAX_VALUE));
+            randomNonNegativeLong(), between(0, Integer.MAX_VALUE), randomNonNegativeLong(), randomLongBetween(-1, Long.MAX_VALUE),
+            randomNonNegativeLong());
         BytesStreamOutput out = new BytesStreamOutput();
         stats.writeTo(out);
         StreamInput input = out.bytes().streamInput();
@@ -53,5 +54,18 @@ public class RefreshStatsTests extends OpenSearchTestCase {
         assertEquals(stats.getListeners(), read.getListeners());
         assertEquals(stats.getTotalTimeInMillis(), read.getTotalTimeInMillis());
         assertEquals(stats.getExternalTotalTimeInMillis(), read.getExternalTotalTimeInMillis());
+        assertEquals(stats.getDeferred(), read.getDeferred());
+        assertEquals(stats.getEffectiveIntervalInMillis(), read.getEffectiveIntervalInMillis());
+        assertEquals(stats.getCostInMillis(), read.getCostInMillis());
+        assertEquals(stats, read);
+    }
+
+    public void testAddKeepsLongestIntervalAndHighestCost() {
+        RefreshStats stats = new RefreshStats(1, 10, 0, 0, 0, 2, 1000, 5);
+        stats.add(new RefreshStats(3, 30, 1, 1, 1, 4, 30000, 2));
+        assertEquals(4, stats.getTotal());
+        assertEquals(6, stats.getDeferred());
+        assertEquals(30000, stats.getEffectiveIntervalInMillis());
+        assertEquals(5, stats.getCostInMillis());
     }
 }
@@ -35,6 +35,7 @@ package org.opensearch.index.reindex;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.support.ActiveShardCount;
 import org.opensearch.common.xcontent.ToXContent;
+import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.tasks.TaskId;
 import org.opensearch.test.AbstractXContentTestCase;
 import org.opensearch.test.OpenSearchTestCase;
@@ -57,6 +58,9 @@ public abstract class AbstractBulkByScrollRequestTestCase<R extends AbstractBulk
                 randomFrom(ActiveShardCount.ALL, ActiveShardCount.NONE, ActiveShardCount.ONE, ActiveShardCount.DEFAULT));
         original.setRetryBackoffInitialTime(parseTimeValue(randomPositiveTimeValue(), "retry_backoff_initial_time"));
         original.setMaxRetries(between(0, 1000));
+        original.setSliceField(randomBoolean() ? IdFieldMapper.NAME : randomAlphaOfLength(5));
+        original.setPrefetch(between(0, 10));
+        original.setUsePointInTime(randomBoolean());
         original.setRequestsPerSecond(
                 randomBoolean() ? Float.POSITIVE_INFINITY : randomValueOtherThanMany(r -> r < 0, OpenSearchTestCase::randomFloat));
         if (randomBoolean()) {
@@ -82,6 +86,9 @@ public abstract class AbstractBulkByScrollRequestTestCase<R extends AbstractBulk
         assertEquals(original.getWaitForActiveShards(), forSliced.getWaitForActiveShards());
         assertEquals(original.getRetryBackoffInitialTime(), forSliced.getRetryBackoffInitialTime());
         assertEquals(original.getMaxRetries(), forSliced.getMaxRetries());
+        assertEquals(original.getSliceField(), forSliced.getSliceField());
+        assertEquals(original.getPrefetch(), forSliced.getPrefetch());
+        assertEquals(original.isUsePointInTime(), forSliced.isUsePointInTime());
         assertEquals("only the parent task should store results", false, forSliced.getShouldStoreResult());
         assertEquals("slice requests always have a single worker", 1, forSliced.getSlices());
         assertEquals("requests_per_second is split between all workers", original.getRequestsPerSecond() / actualSlices,
@@ -141,6 +141,21 @@ public class DeleteByQueryRequestTests extends AbstractBulkByScrollRequestTestCa
         assertThat(e, is(nullValue()));
     }
 
+    public void testValidatePointInTimeSort() {
+        SearchRequest searchRequest = new SearchRequest();
+        DeleteByQueryRequest deleteByQueryRequest = new DeleteByQueryRequest(searchRequest);
+        deleteByQueryRequest.indices("*");
+        deleteByQueryRequest.setUsePointInTime(true);
+        searchRequest.source().query(QueryBuilders.matchAllQuery());
+        searchRequest.source().sort("_doc");
+        assertThat(deleteByQueryRequest.validate(), is(nullValue()));
+
+        searchRequest.source().sort("foo");
+        ActionRequestValidationException e = deleteByQueryRequest.validate();
+        assertThat(e, is(not(nullValue())));
+        assertThat(e.getMessage(), containsString("point in time only supports sorting by [_doc]"));
+    }
+
     // TODO: Implement standard to/from x-content parsing tests
 
     @Override
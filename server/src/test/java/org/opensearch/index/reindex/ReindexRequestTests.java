@@ -162,16 +162,19 @@ public class ReindexRequestTests extends AbstractBulkByScrollRequestTestCase<Rei
                 e.getMessage());
     }
 
-    public void testReindexFromRemoteDoesNotSupportSlices() {
+    public void testReindexFromRemoteSupportsSlices() {
         ReindexRequest reindex = newRequest();
         reindex.setRemoteInfo(
                 new RemoteInfo(randomAlphaOfLength(5), randomAlphaOfLength(5), between(1, Integer.MAX_VALUE), null,
                     matchAll, null, null, emptyMap(), RemoteInfo.DEFAULT_SOCKET_TIMEOUT, RemoteInfo.DEFAULT_CONNECT_TIMEOUT));
-        reindex.setSlices(between(2, Integer.MAX_VALUE));
-        ActionRequestValidationException e = reindex.validate();
-        assertEquals(
-                "Validation Failed: 1: reindex from remote sources doesn't support slices > 1 but was [" + reindex.getSlices() + "];",
-                e.getMessage());
+        reindex.setSlices(randomBoolean() ? AbstractBulkByScrollRequest.AUTO_SLICES : between(2, Integer.MAX_VALUE));
+        assertNull(reindex.validate());
+    }
+
+    public void testNegativePrefetch() {
+        ReindexRequest reindex = newRequest();
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> reindex.setPrefetch(-1));
+        assertEquals("[prefetch] must be at least 0 but was [-1]", e.getMessage());
     }
 
     public void testNoSliceBuilderSetWithSlicedRequest() {
@@ -32,12 +32,16 @@
 
 package org.opensearch.index.search.stats;
 
+import org.opensearch.common.Strings;
 import org.opensearch.index.search.stats.SearchStats.Stats;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
 public class SearchStatsTests extends OpenSearchTestCase {
 
     // https://github.com/elastic/elasticsearch/issues/7644
@@ -65,6 +69,16 @@ public class SearchStatsTests extends OpenSearchTestCase {
         assertStats(groupStats1.get("group1"), 3);
     }
 
+    public void testSyntheticSourceStatsOnlyRenderedOnceUsed() {
+        Stats unused = new Stats(1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1);
+        assertThat(Strings.toString(unused), not(containsString("synthetic_source")));
+
+        Stats used = new Stats(1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 3, 7);
+        String json = Strings.toString(used);
+        assertThat(json, containsString("\"synthetic_source_total\":3"));
+        assertThat(json, containsString("\"synthetic_source_time_in_millis\":7"));
+    }
+
     private static void assertStats(Stats stats, long equalTo) {
         assertEquals(equalTo, stats.getQueryCount());
         assertEquals(equalTo, stats.getQueryTimeInMillis());
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.lessThan;
+
+public class AdaptiveRefreshSchedulerTests extends OpenSearchTestCase {
+
+    private static final TimeValue MIN = TimeValue.timeValueSeconds(1);
+    private static final TimeValue MAX = TimeValue.timeValueSeconds(30);
+
+    public void testFirstTickRefreshes() {
+        AdaptiveRefreshScheduler scheduler = new AdaptiveRefreshScheduler(() -> 0L, () -> 0L);
+        assertTrue(scheduler.shouldRefresh(0, MIN, MAX));
+        assertEquals(0, scheduler.getDeferred());
+    }
+
+    public void testWriteHeavyShardBacksOffToMaxInterval() {
+        AtomicLong indexing = new AtomicLong();
+        AdaptiveRefreshScheduler scheduler = new AdaptiveRefreshScheduler(indexing::get, () -> 0L);
+        long now = 0;
+        assertTrue(scheduler.shouldRefresh(now, MIN, MAX));
+        scheduler.onRefresh(now, 0);
+        int refreshes = 0;
+        for (int i = 0; i < 29; i++) {
+            now += MIN.millis();
+            indexing.addAndGet(10_000);
+            if (scheduler.shouldRefresh(now, MIN, MAX)) {
+                scheduler.onRefresh(now, 0);
+                refreshes++;
+            }
+        }
+        assertEquals(0, refreshes);
+        assertEquals(29, scheduler.getDeferred());
+        assertEquals(MAX.millis(), scheduler.getEffectiveIntervalMillis());
+        now += MIN.millis();
+        assertTrue(scheduler.shouldRefresh(now, MIN, MAX));
+    }
+
+    public void testSearchHeavyShardRefreshesAtMinInterval() {
+        AtomicLong indexing = new AtomicLong();
+        AtomicLong searches = new AtomicLong();
+        AdaptiveRefreshScheduler scheduler = new AdaptiveRefreshScheduler(indexing::get, searches::get);
+        long now = 0;
+        for (int i = 0; i < 10; i++) {
+            indexing.addAndGet(1);
+            searches.addAndGet(100_000);
+            assertTrue(scheduler.shouldRefresh(now, MIN, MAX));
+            scheduler.onRefresh(now, 0);
+            now += MIN.millis();
+        }
+        assertEquals(0, scheduler.getDeferred());
+        assertThat(scheduler.getEffectiveIntervalMillis(), lessThan(MIN.millis() + 10));
+    }
+
+    public void testExpensiveRefreshesStretchInterval() {
+        AdaptiveRefreshScheduler scheduler = new AdaptiveRefreshScheduler(() -> 0L, () -> 0L);
+        assertTrue(scheduler.shouldRefresh(0, MIN, MAX));
+        scheduler.onRefresh(0, TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals(500, scheduler.getCostMillis());
+        assertFalse(scheduler.shouldRefresh(MIN.millis(), MIN, MAX));
+        assertEquals(500 * AdaptiveRefreshScheduler.COST_FACTOR, scheduler.getEffectiveIntervalMillis());
+        assertTrue(scheduler.shouldRefresh(500 * AdaptiveRefreshScheduler.COST_FACTOR, MIN, MAX));
+    }
+
+    public void testIntervalNeverExceedsMax() {
+        AdaptiveRefreshScheduler scheduler = new AdaptiveRefreshScheduler(() -> 0L, () -> 0L);
+        assertTrue(scheduler.shouldRefresh(0, MIN, MAX));
+        scheduler.onRefresh(0, TimeUnit.MINUTES.toNanos(10));
+        assertFalse(scheduler.shouldRefresh(MIN.millis(), MIN, MAX));
+        assertEquals(MAX.millis(), scheduler.getEffectiveIntervalMillis());
+    }
+}
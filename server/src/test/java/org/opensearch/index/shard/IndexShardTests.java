@@ -91,6 +91,7 @@ import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.MergePolicyConfig;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.codec.CodecService;
 import org.opensearch.index.engine.CommitStats;
@@ -2117,6 +2118,30 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(newShard);
     }
 
+    public void testCollapseSegmentsWhenReadOnlyShardStarts() throws Exception {
+        final IndexShard shard = newStartedShard(true,
+            Settings.builder().put(MergePolicyConfig.INDEX_MERGE_POLICY_TIME_ORDERED_SETTING.getKey(), true).build());
+        final int numSegments = randomIntBetween(2, 5);
+        for (int i = 0; i < numSegments; i++) {
+            indexDoc(shard, "_doc", Integer.toString(i));
+            flushShard(shard, true);
+        }
+        assertThat(shard.segments(false), hasSize(numSegments));
+        // the index is made read-only while the shard is not started, so the settings update does not collapse its segments
+        final IndexMetadata readOnlyMetadata = IndexMetadata.builder(shard.indexSettings().getIndexMetadata())
+            .settings(Settings.builder().put(shard.indexSettings().getSettings()).put(IndexMetadata.SETTING_BLOCKS_WRITE, true))
+            .build();
+        final IndexShard newShard = reinitShard(shard, ShardRoutingHelper.initWithSameId(shard.routingEntry(),
+            RecoverySource.ExistingStoreRecoverySource.INSTANCE), readOnlyMetadata, shard.engineFactory);
+        recoverShardFromStore(newShard);
+        assertBusy(() -> {
+            newShard.refresh("test");
+            assertThat(newShard.segments(false), hasSize(1));
+        });
+        assertDocCount(newShard, numSegments);
+        closeShards(newShard);
+    }
+
     public void testRecoverFromStalePrimaryForceNewHistoryUUID() throws IOException {
         final IndexShard shard = newStartedShard(true);
         int totalOps = randomInt(10);
@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.apache.lucene.index.Term;
+import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.index.mapper.Uid;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+public class ParallelTranslogReplayerTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(getTestName());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        super.tearDown();
+    }
+
+    public void testKeepsOrderPerDocument() throws Exception {
+        final int numDocs = randomIntBetween(1, 50);
+        final List<Translog.Operation> operations = new ArrayList<>();
+        final int numOps = randomIntBetween(100, 2000);
+        long seqNo = 0;
+        for (int i = 0; i < numOps; i++) {
+            final String id = Integer.toString(randomInt(numDocs - 1));
+            switch (randomInt(2)) {
+                case 0:
+                    operations.add(new Translog.Index("_doc", id, seqNo++, 1, new byte[] { 1 }));
+                    break;
+                case 1:
+                    operations.add(new Translog.Delete("_doc", id, seqNo++, 1, new Term(IdFieldMapper.NAME, Uid.encodeId(id))));
+                    break;
+                default:
+                    operations.add(new Translog.NoOp(seqNo++, 1, "test"));
+                    break;
+            }
+        }
+        final Map<String, List<Long>> applied = new ConcurrentHashMap<>();
+        final AtomicInteger noOps = new AtomicInteger();
+        final AtomicInteger recovered = new AtomicInteger();
+        final ParallelTranslogReplayer replayer = new ParallelTranslogReplayer(randomIntBetween(1, 8), threadPool.generic(),
+            operation -> {
+                final String id = idOf(operation);
+                if (id == null) {
+                    noOps.incrementAndGet();
+                } else {
+                    // every document is only ever touched by a single worker
+                    applied.computeIfAbsent(id, k -> Collections.synchronizedList(new ArrayList<>())).add(operation.seqNo());
+                }
+                return true;
+            }, recovered::incrementAndGet);
+
+        assertThat(replayer.replay(new ListSnapshot(operations)), equalTo(operations.size()));
+        assertThat(recovered.get(), equalTo(operations.size()));
+
+        final Map<String, List<Long>> expected = new ConcurrentHashMap<>();
+        int expectedNoOps = 0;
+        for (Translog.Operation operation : operations) {
+            final String id = idOf(operation);
+            if (id == null) {
+                expectedNoOps++;
+            } else {
+                expected.computeIfAbsent(id, k -> new ArrayList<>()).add(operation.seqNo());
+            }
+        }
+        assertThat(noOps.get(), equalTo(expectedNoOps));
+        assertThat(applied, equalTo(expected));
+    }
+
+    public void testSkippedOperationsAreNotCounted() throws Exception {
+        final List<Translog.Operation> operations = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            operations.add(new Translog.Index("_doc", Integer.toString(i), i, 1, new byte[] { 1 }));
+        }
+        final AtomicInteger recovered = new AtomicInteger();
+        final ParallelTranslogReplayer replayer = new ParallelTranslogReplayer(4, threadPool.generic(),
+            operation -> operation.seqNo() % 2 == 0, recovered::incrementAndGet);
+        assertThat(replayer.replay(new ListSnapshot(operations)), equalTo(50));
+        assertThat(recovered.get(), equalTo(50));
+    }
+
+    public void testFailureStopsReplay() throws Exception {
+        final List<Translog.Operation> operations = new ArrayList<>();
+        final int numOps = ParallelTranslogReplayer.QUEUE_CAPACITY * 4;
+        for (int i = 0; i < numOps; i++) {
+            operations.add(new Translog.Index("_doc", Integer.toString(i), i, 1, new byte[] { 1 }));
+        }
+        final long failingSeqNo = randomIntBetween(0, 100);
+        // a single worker fails early, so the reading thread cannot have buffered the whole snapshot
+        final ParallelTranslogReplayer replayer = new ParallelTranslogReplayer(1, threadPool.generic(),
+            operation -> {
+                if (operation.seqNo() == failingSeqNo) {
+                    throw new IllegalStateException("boom");
+                }
+                return true;
+            }, () -> {});
+        final ListSnapshot snapshot = new ListSnapshot(operations);
+        final IllegalStateException e = expectThrows(IllegalStateException.class, () -> replayer.replay(snapshot));
+        assertThat(e.getMessage(), equalTo("boom"));
+        assertThat(snapshot.read, lessThan(numOps));
+    }
+
+    private static String idOf(Translog.Operation operation) {
+        switch (operation.opType()) {
+            case INDEX:
+                return ((Translog.Index) operation).id();
+            case DELETE:
+                return ((Translog.Delete) operation).id();
+            default:
+                return null;
+        }
+    }
+
+    private static final class ListSnapshot implements Translog.Snapshot {
+        private final List<Translog.Operation> operations;
+        private final Iterator<Translog.Operation> iterator;
+        private volatile int read;
+
+        ListSnapshot(List<Translog.Operation> operations) {
+            this.operations = operations;
+            this.iterator = operations.iterator();
+        }
+
+        @Override
+        public int totalOperations() {
+            return operations.size();
+        }
+
+        @Override
+        public Translog.Operation next() {
+            if (iterator.hasNext()) {
+                read++;
+                return iterator.next();
+            }
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
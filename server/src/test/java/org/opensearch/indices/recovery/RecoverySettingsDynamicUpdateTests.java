@@ -94,4 +94,17 @@ public class RecoverySettingsDynamicUpdateTests extends OpenSearchTestCase {
         ).build());
         assertEquals(new TimeValue(duration, timeUnit), recoverySettings.internalActionLongTimeout());
     }
+
+    public void testTranslogReplayThreadsBudget() {
+        clusterSettings.applySettings(Settings.builder().put(
+                RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_TRANSLOG_REPLAY_THREADS_SETTING.getKey(), 6).build());
+        assertEquals(6, recoverySettings.getMaxConcurrentTranslogReplayThreads());
+        assertEquals(4, recoverySettings.acquireTranslogReplayThreads(4));
+        assertEquals(2, recoverySettings.acquireTranslogReplayThreads(4));
+        assertEquals(0, recoverySettings.acquireTranslogReplayThreads(4));
+        recoverySettings.releaseTranslogReplayThreads(4);
+        assertEquals(3, recoverySettings.acquireTranslogReplayThreads(3));
+        recoverySettings.releaseTranslogReplayThreads(3);
+        recoverySettings.releaseTranslogReplayThreads(2);
+    }
 }
@@ -36,9 +36,11 @@ import org.opensearch.OpenSearchException;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
@@ -377,6 +379,105 @@ public class CompoundProcessorTests extends OpenSearchTestCase {
         assertThat(ingestProcessorException.getHeader("pipeline_origin"), equalTo(Arrays.asList("2", "1")));
     }
 
+    public void testExecuteBatch() {
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L, TimeUnit.MILLISECONDS.toNanos(2));
+        BatchTestProcessor first = new BatchTestProcessor();
+        TestProcessor second = new TestProcessor(ingestDocument -> ingestDocument.setFieldValue("second", true));
+        BatchTestProcessor third = new BatchTestProcessor();
+        CompoundProcessor compoundProcessor =
+            new CompoundProcessor(false, Arrays.asList(first, second, third), Collections.emptyList(), relativeTimeProvider);
+
+        List<IngestDocument> documents = new ArrayList<>();
+        for (String value : Arrays.asList("keep", "fail", "drop", "keep")) {
+            Map<String, Object> source = new HashMap<>();
+            source.put("value", value);
+            documents.add(new IngestDocument(source, new HashMap<>()));
+        }
+        IngestDocument[] results = new IngestDocument[documents.size()];
+        Exception[] failures = new Exception[documents.size()];
+        int[] calls = new int[documents.size()];
+        compoundProcessor.executeBatch(documents, (slot, result, e) -> {
+            calls[slot]++;
+            results[slot] = result;
+            failures[slot] = e;
+        });
+
+        assertThat(calls, equalTo(new int[] { 1, 1, 1, 1 }));
+        assertThat(first.batchSizes, equalTo(singletonList(4)));
+        assertThat(third.batchSizes, equalTo(singletonList(2)));
+        assertThat(second.getInvokedCounter(), equalTo(2));
+        for (int slot : new int[] { 0, 3 }) {
+            assertThat(results[slot], sameInstance(documents.get(slot)));
+            assertThat(results[slot].getFieldValue("second", Boolean.class), is(true));
+            assertThat(failures[slot], nullValue());
+        }
+        assertThat(results[1], nullValue());
+        assertThat(((OpenSearchException) failures[1]).getRootCause().getMessage(), equalTo("failed"));
+        assertThat(results[2], nullValue());
+        assertThat(failures[2], nullValue());
+
+        assertStats(0, compoundProcessor, 0, 4, 1, 2);
+        assertStats(1, compoundProcessor, 0, 2, 0, 0);
+        assertStats(2, compoundProcessor, 0, 2, 0, 0);
+        assertThat(compoundProcessor.getProcessorsWithMetrics().get(0).v2().createStats().getBatchCount(), equalTo(1L));
+        assertThat(compoundProcessor.getProcessorsWithMetrics().get(1).v2().createStats().getBatchCount(), equalTo(0L));
+    }
+
+    public void testExecuteBatchWithOnFailureProcessor() {
+        TestProcessor onFailure = new TestProcessor(ingestDocument -> ingestDocument.setFieldValue("handled", true));
+        CompoundProcessor compoundProcessor =
+            new CompoundProcessor(false, singletonList(new BatchTestProcessor()), singletonList(onFailure));
+
+        Map<String, Object> source = new HashMap<>();
+        source.put("value", "fail");
+        IngestDocument document = new IngestDocument(source, new HashMap<>());
+        IngestDocument[] results = new IngestDocument[1];
+        compoundProcessor.executeBatch(singletonList(document), (slot, result, e) -> {
+            assertThat(e, nullValue());
+            results[slot] = result;
+        });
+        assertThat(results[0].getFieldValue("handled", Boolean.class), is(true));
+        assertThat(results[0].getIngestMetadata().containsKey(CompoundProcessor.ON_FAILURE_MESSAGE_FIELD), is(false));
+    }
+
+    /**
+     * Fails and drops documents depending on their value, and records the size of its batches.
+     */
+    private static class BatchTestProcessor extends AbstractProcessor implements BatchProcessor {
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        BatchTestProcessor() {
+            super("batch", null);
+        }
+
+        @Override
+        public IngestDocument execute(IngestDocument ingestDocument) {
+            String value = ingestDocument.getFieldValue("value", String.class);
+            if ("fail".equals(value)) {
+                throw new IllegalArgumentException("failed");
+            }
+            return "drop".equals(value) ? null : ingestDocument;
+        }
+
+        @Override
+        public void executeBatch(List<IngestDocument> ingestDocuments, BatchHandler handler) {
+            batchSizes.add(ingestDocuments.size());
+            for (int slot = 0; slot < ingestDocuments.size(); slot++) {
+                try {
+                    handler.accept(slot, execute(ingestDocuments.get(slot)), null);
+                } catch (IllegalArgumentException e) {
+                    handler.accept(slot, null, e);
+                }
+            }
+        }
+
+        @Override
+        public String getType() {
+            return "batch";
+        }
+    }
+
     private void assertStats(CompoundProcessor compoundProcessor, long count,  long failed, long time) {
         assertStats(0, compoundProcessor, 0L, count, failed, time);
     }
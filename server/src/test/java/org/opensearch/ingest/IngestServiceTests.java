@@ -60,8 +60,11 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.logging.Loggers;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.cbor.CborXContent;
@@ -83,6 +86,7 @@ import org.mockito.ArgumentMatcher;
 import org.mockito.invocation.InvocationOnMock;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
@@ -90,8 +94,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -141,7 +149,7 @@ public class IngestServiceTests extends OpenSearchTestCase {
     }
     public void testIngestPlugin() {
         Client client = mock(Client.class);
-        IngestService ingestService = new IngestService(mock(ClusterService.class), threadPool, null, null,
+        IngestService ingestService = new IngestService(mockClusterService(Settings.EMPTY), threadPool, null, null,
             null, Collections.singletonList(DUMMY_PLUGIN), client);
         Map<String, Processor.Factory> factories = ingestService.getProcessorFactories();
         assertTrue(factories.containsKey("foo"));
@@ -151,14 +159,14 @@ public class IngestServiceTests extends OpenSearchTestCase {
     public void testIngestPluginDuplicate() {
         Client client = mock(Client.class);
         IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () ->
-            new IngestService(mock(ClusterService.class), threadPool, null, null,
+            new IngestService(mockClusterService(Settings.EMPTY), threadPool, null, null,
             null, Arrays.asList(DUMMY_PLUGIN, DUMMY_PLUGIN), client));
         assertTrue(e.getMessage(), e.getMessage().contains("already registered"));
     }
 
     public void testExecuteIndexPipelineDoesNotExist() {
         Client client = mock(Client.class);
-        IngestService ingestService = new IngestService(mock(ClusterService.class), threadPool, null, null,
+        IngestService ingestService = new IngestService(mockClusterService(Settings.EMPTY), threadPool, null, null,
             null, Collections.singletonList(DUMMY_PLUGIN), client);
         final IndexRequest indexRequest =
             new IndexRequest("_index", "_type", "_id").source(emptyMap()).setPipeline("_id").setFinalPipeline("_none");
@@ -1058,6 +1066,228 @@ public class IngestServiceTests extends OpenSearchTestCase {
         }
     }
 
+    public void testBulkRequestExecutionInBatches() throws Exception {
+        BulkRequest bulkRequest = new BulkRequest();
+        int numRequest = scaledRandomIntBetween(8, 64);
+        for (int i = 0; i < numRequest; i++) {
+            IndexRequest indexRequest = new IndexRequest("_index", "_type", "_id").setPipeline(i % 2 == 0 ? "_id1" : "_id2")
+                .setFinalPipeline("_none");
+            indexRequest.source(Requests.INDEX_CONTENT_TYPE, "field1", "value1");
+            bulkRequest.add(indexRequest);
+        }
+
+        final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        final BatchProcessor processor = mock(BatchProcessor.class);
+        when(processor.getType()).thenReturn("mock");
+        when(processor.getTag()).thenReturn("mockTag");
+        doAnswer(args -> {
+            @SuppressWarnings("unchecked")
+            List<IngestDocument> documents = (List<IngestDocument>) args.getArguments()[0];
+            BatchProcessor.BatchHandler handler = (BatchProcessor.BatchHandler) args.getArguments()[1];
+            batchSizes.add(documents.size());
+            for (int i = 0; i < documents.size(); i++) {
+                documents.get(i).setFieldValue("field2", "value2");
+                handler.accept(i, documents.get(i), null);
+            }
+            return null;
+        }).when(processor).executeBatch(any(), any());
+        Map<String, Processor.Factory> map = new HashMap<>(2);
+        map.put("mock", (factories, tag, description, config) -> processor);
+
+        IngestService ingestService = createWithProcessors(map);
+        ClusterState clusterState = ClusterState.builder(new ClusterName("_name")).build();
+        for (String id : Arrays.asList("_id1", "_id2")) {
+            PutPipelineRequest putRequest = new PutPipelineRequest(id,
+                new BytesArray("{\"processors\": [{\"mock\": {}}]}"), XContentType.JSON);
+            ClusterState previousClusterState = clusterState;
+            clusterState = IngestService.innerPut(putRequest, clusterState);
+            ingestService.applyClusterState(new ClusterChangedEvent("", clusterState, previousClusterState));
+        }
+
+        @SuppressWarnings("unchecked")
+        BiConsumer<Integer, Exception> requestItemErrorHandler = mock(BiConsumer.class);
+        @SuppressWarnings("unchecked")
+        final BiConsumer<Thread, Exception> completionHandler = mock(BiConsumer.class);
+        ingestService.executeBulkRequest(numRequest, bulkRequest.requests(), requestItemErrorHandler, completionHandler, indexReq -> {},
+            Names.WRITE);
+
+        verify(requestItemErrorHandler, never()).accept(any(), any());
+        verify(completionHandler, times(1)).accept(Thread.currentThread(), null);
+        verify(processor, never()).execute(any(IngestDocument.class), any());
+        batchSizes.sort(Comparator.naturalOrder());
+        assertThat(batchSizes, equalTo(Arrays.asList(numRequest / 2, (numRequest + 1) / 2)));
+        for (DocWriteRequest<?> docWriteRequest : bulkRequest.requests()) {
+            IndexRequest indexRequest = TransportBulkAction.getIndexWriteRequest(docWriteRequest);
+            assertThat(indexRequest.sourceAsMap().get("field2"), equalTo("value2"));
+        }
+
+        final IngestStats stats = ingestService.stats();
+        assertStats(stats.getTotalStats(), numRequest, 0, 0);
+        assertThat(stats.getTotalStats().getBatchCount(), equalTo(2L));
+        assertThat(getPipelineStats(stats.getPipelineStats(), "_id1").getBatchCount(), equalTo(1L));
+        assertThat(stats.getProcessorStats().get("_id1").get(0).getStats().getBatchCount(), equalTo(1L));
+    }
+
+    public void testBulkRequestExecutionInChunks() throws Exception {
+        BulkRequest bulkRequest = new BulkRequest();
+        int numRequest = scaledRandomIntBetween(8, 64);
+        for (int i = 0; i < numRequest; i++) {
+            IndexRequest indexRequest = new IndexRequest("_index", "_type", Integer.toString(i)).setPipeline("_id")
+                .setFinalPipeline("_none");
+            indexRequest.source(Requests.INDEX_CONTENT_TYPE, "field1", i);
+            bulkRequest.add(indexRequest);
+        }
+
+        final Set<String> threads = ConcurrentCollections.newConcurrentSet();
+        final Processor processor = mock(Processor.class);
+        when(processor.getType()).thenReturn("mock");
+        when(processor.getTag()).thenReturn("mockTag");
+        doAnswer(args -> {
+            IngestDocument document = (IngestDocument) args.getArguments()[0];
+            @SuppressWarnings("unchecked")
+            BiConsumer<IngestDocument, Exception> handler = (BiConsumer) args.getArguments()[1];
+            threads.add(Thread.currentThread().getName());
+            int value = document.getFieldValue("field1", Integer.class);
+            if (value % 3 == 1) {
+                handler.accept(null, new RuntimeException("error"));
+            } else if (value % 3 == 2) {
+                handler.accept(null, null);
+            } else {
+                document.setFieldValue("field2", value);
+                handler.accept(document, null);
+            }
+            return null;
+        }).when(processor).execute(any(), any());
+        Map<String, Processor.Factory> map = new HashMap<>(2);
+        map.put("mock", (factories, tag, description, config) -> processor);
+
+        final int chunkSize = randomIntBetween(1, 8);
+        final ExecutorService executorService = OpenSearchExecutors.newFixed(getTestName(), 4, 1000,
+            OpenSearchExecutors.daemonThreadFactory("test"), new ThreadContext(Settings.EMPTY));
+        try {
+            IngestService ingestService = createWithProcessors(map,
+                Settings.builder().put(IngestService.BULK_CHUNK_SIZE_SETTING.getKey(), chunkSize).build(), executorService);
+            PutPipelineRequest putRequest = new PutPipelineRequest("_id",
+                new BytesArray("{\"processors\": [{\"mock\": {}}]}"), XContentType.JSON);
+            ClusterState clusterState = ClusterState.builder(new ClusterName("_name")).build();
+            ClusterState previousClusterState = clusterState;
+            clusterState = IngestService.innerPut(putRequest, clusterState);
+            ingestService.applyClusterState(new ClusterChangedEvent("", clusterState, previousClusterState));
+
+            final Map<Integer, Exception> failures = ConcurrentCollections.newConcurrentMap();
+            final Set<Integer> dropped = ConcurrentCollections.newConcurrentSet();
+            final CountDownLatch latch = new CountDownLatch(1);
+            final AtomicInteger completions = new AtomicInteger();
+            ingestService.executeBulkRequest(numRequest, bulkRequest.requests(), failures::put, (thread, e) -> {
+                assertThat(e, nullValue());
+                completions.incrementAndGet();
+                latch.countDown();
+            }, dropped::add, Names.WRITE);
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+            assertThat(completions.get(), equalTo(1));
+            for (int i = 0; i < numRequest; i++) {
+                IndexRequest indexRequest = TransportBulkAction.getIndexWriteRequest(bulkRequest.requests().get(i));
+                assertThat(failures.containsKey(i), is(i % 3 == 1));
+                assertThat(dropped.contains(i), is(i % 3 == 2));
+                if (i % 3 == 0) {
+                    assertThat(indexRequest.sourceAsMap().get("field2"), equalTo(i));
+                }
+            }
+            assertThat(threads.isEmpty(), is(false));
+
+            final IngestStats stats = ingestService.stats();
+            assertStats(stats.getTotalStats(), numRequest, (numRequest + 1) / 3, 0);
+            assertPipelineStats(stats.getPipelineStats(), "_id", numRequest, (numRequest + 1) / 3, 0);
+            assertProcessorStats(0, stats, "_id", numRequest, (numRequest + 1) / 3, 0);
+        } finally {
+            terminate(executorService);
+        }
+    }
+
+    public void testBulkRequestExecutionWithFailingChunk() throws Exception {
+        BulkRequest bulkRequest = new BulkRequest();
+        int numRequest = scaledRandomIntBetween(8, 64);
+        for (int i = 0; i < numRequest; i++) {
+            IndexRequest indexRequest = new IndexRequest("_index", "_type", Integer.toString(i)).setPipeline("_id")
+                .setFinalPipeline("_none");
+            indexRequest.source(Requests.INDEX_CONTENT_TYPE, "field1", i);
+            bulkRequest.add(indexRequest);
+        }
+
+        // the processor throws instead of calling its handler for one request, which fails the execution of its whole chunk
+        final int poisoned = randomIntBetween(0, numRequest - 1);
+        final Processor processor = mock(Processor.class);
+        when(processor.getType()).thenReturn("mock");
+        when(processor.getTag()).thenReturn("mockTag");
+        doAnswer(args -> {
+            IngestDocument document = (IngestDocument) args.getArguments()[0];
+            @SuppressWarnings("unchecked")
+            BiConsumer<IngestDocument, Exception> handler = (BiConsumer) args.getArguments()[1];
+            int value = document.getFieldValue("field1", Integer.class);
+            if (value == poisoned) {
+                throw new IllegalStateException("boom");
+            } else if (value % 3 == 1) {
+                handler.accept(null, new RuntimeException("error"));
+            } else if (value % 3 == 2) {
+                handler.accept(null, null);
+            } else {
+                handler.accept(document, null);
+            }
+            return null;
+        }).when(processor).execute(any(), any());
+        Map<String, Processor.Factory> map = new HashMap<>(2);
+        map.put("mock", (factories, tag, description, config) -> processor);
+
+        final int chunkSize = randomIntBetween(1, 8);
+        final ExecutorService executorService = OpenSearchExecutors.newFixed(getTestName(), 4, 1000,
+            OpenSearchExecutors.daemonThreadFactory("test"), new ThreadContext(Settings.EMPTY));
+        try {
+            IngestService ingestService = createWithProcessors(map,
+                Settings.builder().put(IngestService.BULK_CHUNK_SIZE_SETTING.getKey(), chunkSize).build(), executorService);
+            PutPipelineRequest putRequest = new PutPipelineRequest("_id",
+                new BytesArray("{\"processors\": [{\"mock\": {}}]}"), XContentType.JSON);
+            ClusterState clusterState = ClusterState.builder(new ClusterName("_name")).build();
+            ClusterState previousClusterState = clusterState;
+            clusterState = IngestService.innerPut(putRequest, clusterState);
+            ingestService.applyClusterState(new ClusterChangedEvent("", clusterState, previousClusterState));
+
+            final Map<Integer, Exception> failures = ConcurrentCollections.newConcurrentMap();
+            final Set<Integer> dropped = ConcurrentCollections.newConcurrentSet();
+            final AtomicInteger duplicates = new AtomicInteger();
+            final CountDownLatch latch = new CountDownLatch(1);
+            final AtomicInteger completions = new AtomicInteger();
+            ingestService.executeBulkRequest(numRequest, bulkRequest.requests(), (slot, e) -> {
+                if (failures.putIfAbsent(slot, e) != null) {
+                    duplicates.incrementAndGet();
+                }
+            }, (thread, e) -> {
+                assertThat(e, nullValue());
+                completions.incrementAndGet();
+                latch.countDown();
+            }, slot -> {
+                if (dropped.add(slot) == false) {
+                    duplicates.incrementAndGet();
+                }
+            }, Names.WRITE);
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+            assertThat(completions.get(), equalTo(1));
+            assertThat(duplicates.get(), equalTo(0));
+            assertThat(failures.containsKey(poisoned), is(true));
+            for (int i = 0; i < numRequest; i++) {
+                if (i / chunkSize == poisoned / chunkSize) {
+                    assertThat(failures.containsKey(i) || dropped.contains(i), is(true));
+                } else {
+                    assertThat(failures.containsKey(i), is(i % 3 == 1));
+                    assertThat(dropped.contains(i), is(i % 3 == 2));
+                }
+            }
+        } finally {
+            terminate(executorService);
+        }
+    }
+
     public void testStats() throws Exception {
         final Processor processor = mock(Processor.class);
         final Processor processorFailure = mock(Processor.class);
@@ -1183,6 +1413,22 @@ public class IngestServiceTests extends OpenSearchTestCase {
         assertProcessorStats(0, afterForthRequestStats, "_id2", 1, 0, 0);
     }
 
+    public void testCacheStats() {
+        IngestService ingestService = createWithProcessors(Collections.emptyMap());
+        assertThat(ingestService.stats().getCacheStats().size(), equalTo(0));
+
+        AtomicLong hits = new AtomicLong();
+        ingestService.registerCacheStats("my_cache", () -> new IngestStats.CacheStats(1, 100, hits.get(), 1, 0));
+        hits.set(5);
+        IngestStats.CacheStats stats = ingestService.stats().getCacheStats().get("my_cache");
+        assertThat(stats.getHits(), equalTo(5L));
+        assertThat(stats.getMisses(), equalTo(1L));
+
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> ingestService.registerCacheStats("my_cache", () -> new IngestStats.CacheStats(0, 0, 0, 0, 0)));
+        assertThat(e.getMessage(), equalTo("Ingest cache [my_cache] is already registered"));
+    }
+
     public void testStatName(){
         Processor processor = mock(Processor.class);
         String name = randomAlphaOfLength(10);
@@ -1283,7 +1529,7 @@ public class IngestServiceTests extends OpenSearchTestCase {
         // Create ingest service:
         Client client = mock(Client.class);
         IngestService ingestService =
-            new IngestService(mock(ClusterService.class), threadPool, null, null, null, Arrays.asList(testPlugin), client);
+            new IngestService(mockClusterService(Settings.EMPTY), threadPool, null, null, null, Arrays.asList(testPlugin), client);
         ingestService.addIngestClusterStateListener(ingestClusterStateListener);
 
         // Create pipeline and apply the resulting cluster state, which should update the counter in the right order:
@@ -1473,13 +1719,17 @@ public class IngestServiceTests extends OpenSearchTestCase {
     }
 
     private static IngestService createWithProcessors(Map<String, Processor.Factory> processors) {
+        ExecutorService executorService = OpenSearchExecutors.newDirectExecutorService();
+        return createWithProcessors(processors, Settings.EMPTY, executorService);
+    }
 
+    private static IngestService createWithProcessors(Map<String, Processor.Factory> processors, Settings settings,
+                                                      ExecutorService executorService) {
         Client client = mock(Client.class);
         ThreadPool threadPool = mock(ThreadPool.class);
-        ExecutorService executorService = OpenSearchExecutors.newDirectExecutorService();
         when(threadPool.generic()).thenReturn(executorService);
         when(threadPool.executor(anyString())).thenReturn(executorService);
-        return new IngestService(mock(ClusterService.class), threadPool, null, null,
+        return new IngestService(mockClusterService(settings), threadPool, null, null,
             null, Collections.singletonList(new IngestPlugin() {
             @Override
             public Map<String, Processor.Factory> getProcessors(final Processor.Parameters parameters) {
@@ -1488,6 +1738,13 @@ public class IngestServiceTests extends OpenSearchTestCase {
         }), client);
     }
 
+    private static ClusterService mockClusterService(Settings settings) {
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getSettings()).thenReturn(settings);
+        when(clusterService.getClusterSettings()).thenReturn(new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        return clusterService;
+    }
+
     private CompoundProcessor mockCompoundProcessor() {
         CompoundProcessor processor = mock(CompoundProcessor.class);
         doAnswer(args -> {
@@ -33,6 +33,7 @@
 package org.opensearch.ingest;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.collect.MapBuilder;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.StreamInput;
@@ -50,7 +51,7 @@ import java.util.stream.Stream;
 public class IngestStatsTests extends OpenSearchTestCase {
 
     public void testSerialization() throws IOException {
-        IngestStats.Stats totalStats = new IngestStats.Stats(50, 100, 200, 300);
+        IngestStats.Stats totalStats = new IngestStats.Stats(50, 100, 200, 300, 10, 60);
         List<IngestStats.PipelineStat> pipelineStats = createPipelineStats();
         Map<String, List<IngestStats.ProcessorStat>> processorStats = createProcessorStats(pipelineStats);
         IngestStats ingestStats = new IngestStats(totalStats, pipelineStats, processorStats);
@@ -96,6 +97,26 @@ public class IngestStatsTests extends OpenSearchTestCase {
         assertIngestStats(expectedIngestStats, serializedStats, true, false);
     }
 
+    public void testCacheStatsSerialization() throws IOException {
+        IngestStats.Stats totalStats = new IngestStats.Stats(50, 100, 200, 300);
+        List<IngestStats.PipelineStat> pipelineStats = createPipelineStats();
+        Map<String, List<IngestStats.ProcessorStat>> processorStats = createProcessorStats(pipelineStats);
+        Map<String, IngestStats.CacheStats> cacheStats = Collections.singletonMap("geoip", new IngestStats.CacheStats(10, 4096, 90, 20, 5));
+        IngestStats ingestStats = new IngestStats(totalStats, pipelineStats, processorStats, cacheStats);
+
+        IngestStats serializedStats = serialize(ingestStats);
+        assertEquals(cacheStats, serializedStats.getCacheStats());
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(VersionUtils.getPreviousVersion(Version.V_1_0_0));
+        ingestStats.writeTo(out);
+        StreamInput in = out.bytes().streamInput();
+        in.setVersion(VersionUtils.getPreviousVersion(Version.V_1_0_0));
+        serializedStats = new IngestStats(in);
+        assertIngestStats(ingestStats, serializedStats, true, true);
+        assertEquals(Collections.emptyMap(), serializedStats.getCacheStats());
+    }
+
     private List<IngestStats.PipelineStat> createPipelineStats() {
         IngestStats.PipelineStat pipeline1Stats = new IngestStats.PipelineStat("pipeline1", new IngestStats.Stats(3, 3, 3, 3));
         IngestStats.PipelineStat pipeline2Stats = new IngestStats.PipelineStat("pipeline2", new IngestStats.Stats(47, 97, 197, 297));
@@ -167,6 +188,8 @@ public class IngestStatsTests extends OpenSearchTestCase {
         assertEquals(fromObject.getIngestFailedCount(), fromStream.getIngestFailedCount());
         assertEquals(fromObject.getIngestTimeInMillis(), fromStream.getIngestTimeInMillis());
         assertEquals(fromObject.getIngestCurrent(), fromStream.getIngestCurrent());
+        assertEquals(fromObject.getBatchCount(), fromStream.getBatchCount());
+        assertEquals(fromObject.getBatchTimeInMillis(), fromStream.getBatchTimeInMillis());
     }
 
     private IngestStats.Stats getPipelineStats(List<IngestStats.PipelineStat> pipelineStats, String id) {
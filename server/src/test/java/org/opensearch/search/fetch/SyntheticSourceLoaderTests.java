@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.util.SetOnce;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.fielddata.IndexFieldDataCache;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.MapperServiceTestCase;
+import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.search.lookup.SourceLookup;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+import static java.util.Collections.singletonMap;
+
+public class SyntheticSourceLoaderTests extends MapperServiceTestCase {
+
+    @Override
+    protected Settings getIndexSettings() {
+        return Settings.builder().put(IndexSettings.INDEX_SYNTHETIC_SOURCE_SETTING.getKey(), true).build();
+    }
+
+    public void testRebuildsSource() throws IOException {
+        MapperService mapperService = createMapperService(mapping(b -> {
+            b.startObject("kwd").field("type", "keyword").endObject();
+            b.startObject("text").field("type", "text").field("store", true).endObject();
+            b.startObject("not_loaded").field("type", "keyword").field("doc_values", false).endObject();
+            b.startObject("obj");
+            {
+                b.startObject("properties");
+                b.startObject("count").field("type", "long").endObject();
+                b.endObject();
+            }
+            b.endObject();
+        }));
+        ParsedDocument doc = mapperService.documentMapper().parse(source(b -> {
+            b.field("kwd", "value");
+            b.field("text", "some text");
+            b.field("not_loaded", "lost");
+            b.field("obj.count", 3);
+            b.array("tags", "a", "b");
+        }));
+        assertNull("synthetic source must not store _source", doc.rootDoc().getField("_source"));
+
+        Map<String, Object> source = load(mapperService, doc);
+        assertEquals("value", source.get("kwd"));
+        assertEquals("some text", source.get("text"));
+        assertEquals(singletonMap("count", 3), source.get("obj"));
+        assertFalse(source.containsKey("not_loaded"));
+        assertFalse("unmapped fields are dropped", source.containsKey("tags"));
+    }
+
+    public void testTextFieldsMustBeStored() throws IOException {
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> createMapperService(mapping(b -> {
+            b.startObject("obj");
+            {
+                b.startObject("properties");
+                b.startObject("text").field("type", "text").endObject();
+                b.endObject();
+            }
+            b.endObject();
+        })));
+        assertEquals("field [obj.text] of type [text] must set [store] to [true] when [index.mapping.synthetic_source] is enabled",
+            e.getMessage());
+
+        // multi-fields are rebuilt from the values of their parent
+        createMapperService(mapping(b -> {
+            b.startObject("kwd").field("type", "keyword");
+            b.startObject("fields").startObject("text").field("type", "text").endObject().endObject();
+            b.endObject();
+        }));
+    }
+
+    public void testMultiValuedFields() throws IOException {
+        MapperService mapperService = createMapperService(mapping(b -> b.startObject("kwd").field("type", "keyword").endObject()));
+        ParsedDocument doc = mapperService.documentMapper().parse(source(b -> b.array("kwd", "b", "a", "c")));
+
+        // doc values are sorted, the order of the values in the original source is lost
+        assertEquals(Arrays.asList("a", "b", "c"), load(mapperService, doc).get("kwd"));
+    }
+
+    private Map<String, Object> load(MapperService mapperService, ParsedDocument doc) throws IOException {
+        SyntheticSourceLoader loader = SyntheticSourceLoader.create(
+            mapperService,
+            ft -> ft.fielddataBuilder("test", () -> { throw new UnsupportedOperationException(); })
+                .build(new IndexFieldDataCache.None(), new NoneCircuitBreakerService())
+        );
+        SetOnce<Map<String, Object>> result = new SetOnce<>();
+        withLuceneIndex(mapperService, iw -> iw.addDocument(doc.rootDoc()), reader -> {
+            LeafReaderContext context = reader.leaves().get(0);
+            SourceLookup lookup = new SourceLookup();
+            lookup.setSegmentAndDocument(context, 0);
+            loader.setNextReader(context);
+            result.set(XContentHelper.convertToMap(loader.load(lookup), true, XContentType.JSON).v2());
+        });
+        return result.get();
+    }
+}
@@ -92,6 +92,20 @@ public class FetchSourcePhaseTests extends OpenSearchTestCase {
         assertEquals(Collections.singletonMap("field","value"), hitContext.hit().getSourceAsMap());
     }
 
+    public void testFilteringKeepsSourceOrder() throws IOException {
+        XContentBuilder source = XContentFactory.jsonBuilder().startObject()
+            .startObject("field3").field("a", 1).field("b", 2).endObject()
+            .field("field1", "value")
+            .field("field2", "value2")
+            .endObject();
+        HitContext hitContext = hitExecuteMultiple(source, true, new String[]{"field3.a", "field1"}, null);
+        assertEquals("{\"field3\":{\"a\":1},\"field1\":\"value\"}", hitContext.hit().getSourceRef().utf8ToString());
+
+        hitContext = hitExecute(source, true, null, "field3.b");
+        assertEquals("{\"field3\":{\"a\":1},\"field1\":\"value\",\"field2\":\"value2\"}",
+            hitContext.hit().getSourceRef().utf8ToString());
+    }
+
     public void testNestedSource() throws IOException {
         Map<String, Object> expectedNested = Collections.singletonMap("nested2", Collections.singletonMap("field", "value0"));
         XContentBuilder source = XContentFactory.jsonBuilder().startObject()
@@ -61,7 +61,9 @@ public class QueryProfileShardResultTests extends OpenSearchTestCase {
         if (randomBoolean()) {
             rewriteTime = rewriteTime % 1000; // make sure to often test this with small values too
         }
-        return new QueryProfileShardResult(queryProfileResults, rewriteTime, profileCollector);
+        int segmentCount = randomIntBetween(0, 100);
+        int prunedSegmentCount = randomIntBetween(0, segmentCount);
+        return new QueryProfileShardResult(queryProfileResults, rewriteTime, profileCollector, segmentCount, prunedSegmentCount);
     }
 
     public void testFromXContent() throws IOException {
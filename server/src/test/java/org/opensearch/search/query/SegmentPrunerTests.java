@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class SegmentPrunerTests extends OpenSearchTestCase {
+
+    public void testNoRangeNoPruner() {
+        assertNull(SegmentPruner.fromQuery(new MatchAllDocsQuery()));
+        assertNull(SegmentPruner.fromQuery(new TermQuery(new Term("foo", "bar"))));
+        BooleanQuery optional = new BooleanQuery.Builder()
+            .add(new TermQuery(new Term("foo", "bar")), Occur.MUST)
+            .add(LongPoint.newRangeQuery("timestamp", 0, 10), Occur.SHOULD)
+            .build();
+        assertNull(SegmentPruner.fromQuery(optional));
+    }
+
+    public void testRangeQueryPrunesDisjointSegments() throws IOException {
+        try (Directory dir = newDirectory()) {
+            indexSegments(dir, false);
+            try (IndexReader reader = DirectoryReader.open(dir)) {
+                assertEquals(3, reader.leaves().size());
+                assertMatchingSegments(reader, LongPoint.newRangeQuery("timestamp", 1050, 1060), false, true, false);
+                assertMatchingSegments(reader, LongPoint.newRangeQuery("timestamp", 50, 1050), true, true, false);
+                assertMatchingSegments(reader, LongPoint.newRangeQuery("timestamp", 120, 180), false, false, false);
+
+                Query wrapped = new BooleanQuery.Builder()
+                    .add(new TermQuery(new Term("foo", "bar")), Occur.MUST)
+                    .add(new ConstantScoreQuery(new IndexOrDocValuesQuery(
+                        LongPoint.newRangeQuery("timestamp", 2050, 2060),
+                        NumericDocValuesField.newSlowRangeQuery("timestamp", 2050, 2060))), Occur.FILTER)
+                    .build();
+                assertMatchingSegments(reader, wrapped, false, false, true);
+
+                SegmentPruner pruner = SegmentPruner.fromQuery(LongPoint.newRangeQuery("timestamp", 120, 180));
+                assertFalse(pruner.canMatch(reader));
+                pruner = SegmentPruner.fromQuery(LongPoint.newRangeQuery("timestamp", 0, 10000));
+                assertTrue(pruner.canMatch(reader));
+            }
+        }
+    }
+
+    public void testRangeOnMissingFieldPrunesEverything() throws IOException {
+        try (Directory dir = newDirectory()) {
+            indexSegments(dir, false);
+            try (IndexReader reader = DirectoryReader.open(dir)) {
+                assertMatchingSegments(reader, LongPoint.newRangeQuery("other", 0, 1000), false, false, false);
+            }
+        }
+    }
+
+    public void testSearchAfter() throws IOException {
+        try (Directory dir = newDirectory()) {
+            indexSegments(dir, false);
+            try (IndexReader reader = DirectoryReader.open(dir)) {
+                SortField asc = new SortField("timestamp", SortField.Type.LONG);
+                SegmentPruner pruner = SegmentPruner.fromSearchAfter(asc, new FieldDoc(0, Float.NaN, new Object[] { 1050L }));
+                assertMatchingSegments(reader, pruner, false, true, true);
+
+                SortField desc = new SortField("timestamp", SortField.Type.LONG, true);
+                pruner = SegmentPruner.fromSearchAfter(desc, new FieldDoc(0, Float.NaN, new Object[] { 1050L }));
+                assertMatchingSegments(reader, pruner, true, true, false);
+
+                assertNull(SegmentPruner.fromSearchAfter(asc, new FieldDoc(0, Float.NaN, new Object[] { "foo" })));
+            }
+        }
+    }
+
+    public void testSearchAfterKeepsSegmentsWithMissingValues() throws IOException {
+        try (Directory dir = newDirectory()) {
+            indexSegments(dir, true);
+            try (IndexReader reader = DirectoryReader.open(dir)) {
+                SortField asc = new SortField("timestamp", SortField.Type.LONG);
+                SegmentPruner pruner = SegmentPruner.fromSearchAfter(asc, new FieldDoc(0, Float.NaN, new Object[] { 2050L }));
+                // documents without a timestamp sort last and must still be collected
+                assertMatchingSegments(reader, pruner, true, true, true);
+            }
+        }
+    }
+
+    public void testAnd() throws IOException {
+        assertNull(SegmentPruner.and(null, null));
+        SegmentPruner first = SegmentPruner.fromQuery(LongPoint.newRangeQuery("timestamp", 0, 1050));
+        SegmentPruner second = SegmentPruner.fromQuery(LongPoint.newRangeQuery("timestamp", 1050, 3000));
+        assertSame(first, SegmentPruner.and(first, null));
+        assertSame(second, SegmentPruner.and(null, second));
+        try (Directory dir = newDirectory()) {
+            indexSegments(dir, false);
+            try (IndexReader reader = DirectoryReader.open(dir)) {
+                assertMatchingSegments(reader, SegmentPruner.and(first, second), false, true, false);
+            }
+        }
+    }
+
+    /**
+     * Indexes three segments with the timestamps [0, 99], [1000, 1099] and [2000, 2099], with gaps in between.
+     */
+    private static void indexSegments(Directory dir, boolean withMissingValues) throws IOException {
+        IndexWriterConfig iwc = newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE);
+        try (IndexWriter writer = new IndexWriter(dir, iwc)) {
+            for (int segment = 0; segment < 3; segment++) {
+                for (int i = 0; i < 100; i += 10) {
+                    Document doc = new Document();
+                    doc.add(new StringField("foo", "bar", Field.Store.NO));
+                    long timestamp = segment * 1000 + i + (i == 90 ? 9 : 0);
+                    doc.add(new LongPoint("timestamp", timestamp));
+                    doc.add(new NumericDocValuesField("timestamp", timestamp));
+                    writer.addDocument(doc);
+                }
+                if (withMissingValues) {
+                    Document doc = new Document();
+                    doc.add(new StringField("foo", "bar", Field.Store.NO));
+                    writer.addDocument(doc);
+                }
+                writer.commit();
+            }
+        }
+    }
+
+    private static void assertMatchingSegments(IndexReader reader, Query query, boolean... expected) throws IOException {
+        assertMatchingSegments(reader, SegmentPruner.fromQuery(query), expected);
+    }
+
+    private static void assertMatchingSegments(IndexReader reader, SegmentPruner pruner, boolean... expected) throws IOException {
+        assertNotNull(pruner);
+        assertEquals(expected.length, reader.leaves().size());
+        for (LeafReaderContext ctx : reader.leaves()) {
+            assertEquals("segment " + ctx.ord, expected[ctx.ord], pruner.canMatch(ctx));
+        }
+    }
+}
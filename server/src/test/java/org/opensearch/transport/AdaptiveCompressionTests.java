@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.transport.TransportAddress;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.net.InetAddress;
+import java.util.Collections;
+import java.util.Map;
+
+public class AdaptiveCompressionTests extends OpenSearchTestCase {
+
+    public void testSameLinkIsNeverCompressed() {
+        final Settings settings = Settings.builder().put("node.attr.zone", "a").build();
+        final AdaptiveCompression sameZone = AdaptiveCompression.forConnection(settings, node(Collections.singletonMap("zone", "a")));
+        assertTrue(sameZone.isSameLink());
+        assertFalse(sameZone.shouldCompress("action"));
+        assertFalse(sameZone.shouldCompressResponse());
+
+        final AdaptiveCompression otherZone = AdaptiveCompression.forConnection(settings, node(Collections.singletonMap("zone", "b")));
+        assertFalse(otherZone.isSameLink());
+        assertTrue(otherZone.shouldCompress("action"));
+        assertTrue(otherZone.shouldCompressResponse());
+
+        // a node without the attribute may well be elsewhere
+        assertFalse(AdaptiveCompression.forConnection(settings, node(Collections.emptyMap())).isSameLink());
+        assertFalse(AdaptiveCompression.forConnection(Settings.EMPTY, node(Collections.singletonMap("zone", "a"))).isSameLink());
+
+        final Settings rackSettings = Settings.builder()
+            .put("node.attr.rack", "r1")
+            .put(TransportSettings.ADAPTIVE_COMPRESSION_LINK_ATTRIBUTE.getKey(), "rack")
+            .build();
+        assertTrue(AdaptiveCompression.forConnection(rackSettings, node(Collections.singletonMap("rack", "r1"))).isSameLink());
+    }
+
+    public void testSmallMessagesAreNotCompressed() {
+        final AdaptiveCompression compression = new AdaptiveCompression(false, 1024, 0.9);
+        assertTrue(compression.shouldCompress("small"));
+        compression.onSerialized("small", true, 100, 80);
+        assertFalse(compression.shouldCompress("small"));
+        // learning is per action
+        assertTrue(compression.shouldCompress("large"));
+        compression.onSerialized("large", true, 100_000, 20_000);
+        assertTrue(compression.shouldCompress("large"));
+        // uncompressed messages teach the size as well
+        for (int i = 0; i < 20; i++) {
+            compression.onSerialized("small", false, 100_000, 100_000);
+        }
+        assertTrue(compression.shouldCompress("small"));
+    }
+
+    public void testPoorRatioIsProbedPeriodically() {
+        final AdaptiveCompression compression = new AdaptiveCompression(false, 1024, 0.9);
+        compression.onSerialized("action", true, 100_000, 99_000);
+        int compressed = 0;
+        final int messages = AdaptiveCompression.PROBE_INTERVAL * 4;
+        for (int i = 0; i < messages; i++) {
+            if (compression.shouldCompress("action")) {
+                compressed++;
+            }
+        }
+        assertEquals(4, compressed);
+
+        // the payload became compressible again
+        for (int i = 0; i < 20; i++) {
+            compression.onSerialized("action", true, 100_000, 10_000);
+        }
+        assertTrue(compression.shouldCompress("action"));
+    }
+
+    private static DiscoveryNode node(Map<String, String> attributes) {
+        return new DiscoveryNode("node", "node", new TransportAddress(InetAddress.getLoopbackAddress(), 9300), attributes,
+            Collections.emptySet(), Version.CURRENT);
+    }
+}
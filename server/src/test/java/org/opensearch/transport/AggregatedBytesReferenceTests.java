@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.common.bytes.AbstractBytesReferenceTestCase;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+
+import java.io.IOException;
+
+public class AggregatedBytesReferenceTests extends AbstractBytesReferenceTestCase {
+
+    @Override
+    protected BytesReference newBytesReference(int length) throws IOException {
+        return newBytesReferenceWithOffsetOfZero(length);
+    }
+
+    @Override
+    protected BytesReference newBytesReferenceWithOffsetOfZero(int length) throws IOException {
+        return toPages(randomByteArrayOfLength(length));
+    }
+
+    public void testReadNumbersAcrossPages() throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            // shift the numbers so that some of them cross a page boundary
+            out.writeBytes(randomByteArrayOfLength(PAGE_SIZE - randomIntBetween(1, 16)));
+            final int count = randomIntBetween(1, 100);
+            final short[] shorts = new short[count];
+            final int[] ints = new int[count];
+            final long[] longs = new long[count];
+            for (int i = 0; i < count; i++) {
+                shorts[i] = randomShort();
+                ints[i] = randomInt();
+                longs[i] = randomLong();
+                out.writeShort(shorts[i]);
+                out.writeInt(ints[i]);
+                out.writeLong(longs[i]);
+            }
+            final byte[] bytes = BytesReference.toBytes(out.bytes());
+            final BytesReference reference = toPages(bytes);
+            assertEquals(out.bytes(), reference);
+            try (StreamInput in = reference.streamInput()) {
+                in.skip(bytes.length - count * (Short.BYTES + Integer.BYTES + Long.BYTES));
+                for (int i = 0; i < count; i++) {
+                    assertEquals(shorts[i], in.readShort());
+                    assertEquals(ints[i], in.readInt());
+                    assertEquals(longs[i], in.readLong());
+                }
+                assertEquals(0, in.available());
+            }
+        }
+    }
+
+    private static BytesReference toPages(byte[] bytes) {
+        final byte[][] pages = new byte[(bytes.length + PAGE_SIZE - 1) / PAGE_SIZE][];
+        for (int i = 0; i < pages.length; i++) {
+            pages[i] = new byte[PAGE_SIZE];
+            System.arraycopy(bytes, i * PAGE_SIZE, pages[i], 0, Math.min(PAGE_SIZE, bytes.length - i * PAGE_SIZE));
+        }
+        return new AggregatedBytesReference(pages, 0, bytes.length);
+    }
+}
@@ -55,6 +55,8 @@ public class CompressibleBytesOutputStreamTests extends OpenSearchTestCase {
         BytesReference bytesRef = stream.materializeBytes();
         // Closing compression stream does not close underlying stream
         stream.close();
+        assertEquals(expectedBytes.length, stream.uncompressedBytes());
+        assertEquals(0L, stream.compressionNanos());
 
         assertFalse(CompressorFactory.COMPRESSOR.isCompressed(bytesRef));
 
@@ -82,6 +84,7 @@ public class CompressibleBytesOutputStreamTests extends OpenSearchTestCase {
 
         BytesReference bytesRef = stream.materializeBytes();
         stream.close();
+        assertEquals(expectedBytes.length, stream.uncompressedBytes());
 
         assertTrue(CompressorFactory.COMPRESSOR.isCompressed(bytesRef));
 
@@ -100,6 +103,39 @@ public class CompressibleBytesOutputStreamTests extends OpenSearchTestCase {
         }
     }
 
+    public void testStreamWithCompressionOfManyChunks() throws IOException {
+        BytesStream bStream = new ZeroOutOnCloseStream();
+        CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bStream, true);
+
+        // mixes single bytes with writes that are smaller and larger than the chunks handed to the compressor
+        BytesStreamOutput expected = new BytesStreamOutput();
+        for (int i = between(1, 20); i > 0; i--) {
+            if (randomBoolean()) {
+                byte b = randomByte();
+                stream.writeByte(b);
+                expected.writeByte(b);
+            } else {
+                byte[] bytes = randomBytes(between(1, 10_000));
+                stream.write(bytes);
+                expected.write(bytes);
+            }
+        }
+        byte[] expectedBytes = BytesReference.toBytes(expected.bytes());
+
+        BytesReference bytesRef = stream.materializeBytes();
+        stream.close();
+        assertEquals(expectedBytes.length, stream.uncompressedBytes());
+
+        StreamInput streamInput = new InputStreamStreamInput(CompressorFactory.COMPRESSOR.threadLocalInputStream(bytesRef.streamInput()));
+        byte[] actualBytes = new byte[expectedBytes.length];
+        streamInput.readBytes(actualBytes, 0, expectedBytes.length);
+
+        assertEquals(-1, streamInput.read());
+        assertArrayEquals(expectedBytes, actualBytes);
+
+        bStream.close();
+    }
+
     public void testCompressionWithCallingMaterializeFails() throws IOException {
         BytesStream bStream = new ZeroOutOnCloseStream();
         CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bStream, true);
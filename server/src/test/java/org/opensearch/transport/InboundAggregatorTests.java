@@ -40,6 +40,8 @@ import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.MockPageCacheRecycler;
+import org.opensearch.common.util.PageCacheRecycler;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
@@ -114,15 +116,50 @@ public class InboundAggregatorTests extends OpenSearchTestCase {
         assertTrue(aggregated.getHeader().isRequest());
         assertThat(aggregated.getHeader().getRequestId(), equalTo(requestId));
         assertThat(aggregated.getHeader().getVersion(), equalTo(Version.CURRENT));
+        // a single fragment is used as it is, several fragments are copied into pages and released right away
+        final int expectedRefCount = references.size() == 1 ? 1 : 0;
         for (ReleasableBytesReference reference : references) {
-            assertEquals(1, reference.refCount());
+            assertEquals(expectedRefCount, reference.refCount());
         }
+        assertEquals(bytes, readContent(aggregated));
         aggregated.close();
         for (ReleasableBytesReference reference : references) {
             assertEquals(0, reference.refCount());
         }
     }
 
+    public void testMultiPageContent() throws Exception {
+        final MockPageCacheRecycler recycler = new MockPageCacheRecycler(Settings.EMPTY);
+        aggregator = new InboundAggregator(() -> circuitBreaker, recycler, (Predicate<String>) action -> true);
+        long requestId = randomNonNegativeLong();
+        Header header = new Header(randomInt(), requestId, TransportStatus.setRequest((byte) 0), Version.CURRENT);
+        header.headers = new Tuple<>(Collections.emptyMap(), Collections.emptyMap());
+        header.actionName = "action_name";
+        aggregator.headerReceived(header);
+
+        final int length = randomIntBetween(PageCacheRecycler.BYTE_PAGE_SIZE + 1, PageCacheRecycler.BYTE_PAGE_SIZE * 3);
+        final BytesArray bytes = new BytesArray(randomByteArrayOfLength(length));
+        final ArrayList<ReleasableBytesReference> references = new ArrayList<>();
+        int offset = 0;
+        while (offset < length) {
+            final int fragmentLength = Math.min(length - offset, randomIntBetween(1, PageCacheRecycler.BYTE_PAGE_SIZE));
+            final ReleasableBytesReference content = ReleasableBytesReference.wrap(bytes.slice(offset, fragmentLength));
+            references.add(content);
+            aggregator.aggregate(content);
+            content.close();
+            offset += fragmentLength;
+        }
+        for (ReleasableBytesReference reference : references) {
+            assertEquals(0, reference.refCount());
+        }
+
+        try (InboundMessage aggregated = aggregator.finishAggregation()) {
+            assertEquals(bytes, readContent(aggregated));
+        }
+        // the pages go back to the recycler with the message
+        MockPageCacheRecycler.ensureAllPagesAreReleased();
+    }
+
     public void testInboundUnknownAction() throws IOException {
         long requestId = randomNonNegativeLong();
         Header header = new Header(randomInt(), requestId, TransportStatus.setRequest((byte) 0), Version.CURRENT);
@@ -206,7 +243,7 @@ public class InboundAggregatorTests extends OpenSearchTestCase {
         assertFalse(aggregated3.isShortCircuit());
     }
 
-    public void testCloseWillCloseContent() {
+    public void testCloseWillCloseContent() throws IOException {
         long requestId = randomNonNegativeLong();
         Header header = new Header(randomInt(), requestId, TransportStatus.setRequest((byte) 0), Version.CURRENT);
         header.headers = new Tuple<>(Collections.emptyMap(), Collections.emptyMap());
@@ -278,4 +315,9 @@ public class InboundAggregatorTests extends OpenSearchTestCase {
         }
     }
 
+    private static BytesArray readContent(InboundMessage message) throws IOException {
+        final byte[] content = new byte[message.getContentLength()];
+        message.openOrGetStreamInput().readBytes(content, 0, content.length);
+        return new BytesArray(content);
+    }
 }
@@ -39,6 +39,7 @@ import org.opensearch.common.breaker.NoopCircuitBreaker;
 import org.opensearch.common.breaker.TestCircuitBreaker;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.io.stream.BytesStreamOutput;
@@ -51,11 +52,13 @@ import org.opensearch.core.internal.io.Streams;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.io.StreamCorruptedException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.LongSupplier;
 import java.util.function.Predicate;
@@ -277,6 +280,171 @@ public class InboundPipelineTests extends OpenSearchTestCase {
         }
     }
 
+    public void testFramedMessagesAreReassembled() throws IOException {
+        final List<Tuple<Long, String>> actual = new ArrayList<>();
+        final BiConsumer<TcpChannel, InboundMessage> messageHandler = (c, m) -> {
+            try {
+                final TestRequest request = new TestRequest(m.openOrGetStreamInput());
+                actual.add(new Tuple<>(m.getHeader().getRequestId(), request.value));
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        };
+        final StatsTracker statsTracker = new StatsTracker();
+        final LongSupplier millisSupplier = () -> TimeValue.nsecToMSec(System.nanoTime());
+        final InboundDecoder decoder = new InboundDecoder(Version.CURRENT, PageCacheRecycler.NON_RECYCLING_INSTANCE);
+        final Supplier<CircuitBreaker> breaker = () -> new NoopCircuitBreaker("test");
+        final InboundAggregator aggregator = new InboundAggregator(breaker, (Predicate<String>) action -> true);
+        final InboundPipeline pipeline = new InboundPipeline(statsTracker, millisSupplier, decoder, aggregator, messageHandler);
+
+        final String firstValue = randomAlphaOfLength(randomIntBetween(1000, 2000));
+        final String secondValue = randomAlphaOfLength(randomIntBetween(1000, 2000));
+        final String wholeValue = randomAlphaOfLength(10);
+        final BytesReference first = serializeRequest(0, firstValue, randomBoolean());
+        final BytesReference second = serializeRequest(1, secondValue, randomBoolean());
+        final BytesReference whole = serializeRequest(2, wholeValue, false);
+
+        // interleave the frames of two messages and put a whole message in between
+        final int frameSize = randomIntBetween(16, 256);
+        final List<BytesReference> firstFrames = frames(0, first, frameSize);
+        final List<BytesReference> secondFrames = frames(1, second, frameSize);
+        final List<BytesReference> wire = new ArrayList<>();
+        for (int i = 0; i < Math.max(firstFrames.size(), secondFrames.size()); i++) {
+            if (i < firstFrames.size()) {
+                wire.add(firstFrames.get(i));
+            }
+            if (i < secondFrames.size()) {
+                wire.add(secondFrames.get(i));
+            }
+            if (i == 1) {
+                wire.add(whole);
+            }
+        }
+        final BytesReference bytes = CompositeBytesReference.of(wire.toArray(new BytesReference[0]));
+        int offset = 0;
+        while (offset < bytes.length()) {
+            final int length = Math.min(bytes.length() - offset, randomIntBetween(1, 512));
+            try (ReleasableBytesReference slice = ReleasableBytesReference.wrap(bytes.slice(offset, length))) {
+                pipeline.handleBytes(new FakeTcpChannel(), slice);
+            }
+            offset += length;
+        }
+
+        assertEquals(3, actual.size());
+        assertEquals(new Tuple<>(2L, wholeValue), actual.get(0));
+        assertTrue(actual.contains(new Tuple<>(0L, firstValue)));
+        assertTrue(actual.contains(new Tuple<>(1L, secondValue)));
+    }
+
+    public void testOversizedFrameIsRejected() throws IOException {
+        final StatsTracker statsTracker = new StatsTracker();
+        final LongSupplier millisSupplier = () -> TimeValue.nsecToMSec(System.nanoTime());
+        final InboundDecoder decoder = new InboundDecoder(Version.CURRENT, PageCacheRecycler.NON_RECYCLING_INSTANCE);
+        final Supplier<CircuitBreaker> breaker = () -> new NoopCircuitBreaker("test");
+        final InboundAggregator aggregator = new InboundAggregator(breaker, (Predicate<String>) action -> true);
+        final InboundPipeline pipeline = new InboundPipeline(statsTracker, millisSupplier, decoder, aggregator, (c, m) -> {});
+
+        final BytesStreamOutput output = new BytesStreamOutput();
+        output.writeByte(TcpFrame.MARKER_FIRST_BYTE);
+        output.writeByte(TcpFrame.MARKER_SECOND_BYTE);
+        output.writeInt(TcpFrame.MAX_FRAME_PAYLOAD_SIZE + TcpFrame.STREAM_ID_BYTES + TcpFrame.FLAGS_BYTES + 1);
+        output.writeLong(0);
+        output.writeByte(TcpFrame.FLAG_LAST);
+        try (ReleasableBytesReference bytes = ReleasableBytesReference.wrap(output.bytes())) {
+            expectThrows(StreamCorruptedException.class, () -> pipeline.handleBytes(new FakeTcpChannel(), bytes));
+        }
+    }
+
+    public void testBufferedFramesAreAccountedAgainstTheBreaker() throws IOException {
+        final AtomicLong used = new AtomicLong();
+        final CircuitBreaker countingBreaker = new NoopCircuitBreaker(CircuitBreaker.IN_FLIGHT_REQUESTS) {
+            @Override
+            public double addEstimateBytesAndMaybeBreak(long bytes, String label) {
+                return used.addAndGet(bytes);
+            }
+
+            @Override
+            public long addWithoutBreaking(long bytes) {
+                return used.addAndGet(bytes);
+            }
+        };
+        final List<String> received = new ArrayList<>();
+        final BiConsumer<TcpChannel, InboundMessage> messageHandler = (c, m) -> {
+            try {
+                received.add(new TestRequest(m.openOrGetStreamInput()).value);
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        };
+        final InboundDecoder decoder = new InboundDecoder(Version.CURRENT, PageCacheRecycler.NON_RECYCLING_INSTANCE);
+        final InboundAggregator aggregator = new InboundAggregator(() -> new NoopCircuitBreaker("test"), (Predicate<String>) a -> true);
+        final InboundPipeline pipeline = new InboundPipeline(new StatsTracker(), () -> 0L, decoder, aggregator, messageHandler,
+            () -> countingBreaker, Long.MAX_VALUE);
+
+        final String value = randomAlphaOfLength(randomIntBetween(1000, 2000));
+        final BytesReference message = serializeRequest(0, value, false);
+        final List<BytesReference> frames = frames(0, message, randomIntBetween(16, 256));
+        long buffered = 0;
+        for (BytesReference frame : frames.subList(0, frames.size() - 1)) {
+            try (ReleasableBytesReference bytes = ReleasableBytesReference.wrap(frame)) {
+                pipeline.handleBytes(new FakeTcpChannel(), bytes);
+            }
+            buffered += frame.length() - TcpFrame.HEADER_SIZE;
+            assertEquals(buffered, used.get());
+        }
+        try (ReleasableBytesReference bytes = ReleasableBytesReference.wrap(frames.get(frames.size() - 1))) {
+            pipeline.handleBytes(new FakeTcpChannel(), bytes);
+        }
+        assertEquals(Collections.singletonList(value), received);
+        assertEquals(0L, used.get());
+
+        // frames of a message that never completes are released with the pipeline
+        try (ReleasableBytesReference bytes = ReleasableBytesReference.wrap(frames.get(0))) {
+            pipeline.handleBytes(new FakeTcpChannel(), bytes);
+        }
+        assertEquals(frames.get(0).length() - TcpFrame.HEADER_SIZE, used.get());
+        pipeline.close();
+        assertEquals(0L, used.get());
+    }
+
+    public void testBufferedFramesAreLimited() throws IOException {
+        final InboundDecoder decoder = new InboundDecoder(Version.CURRENT, PageCacheRecycler.NON_RECYCLING_INSTANCE);
+        final Supplier<CircuitBreaker> breaker = () -> new NoopCircuitBreaker("test");
+        final InboundAggregator aggregator = new InboundAggregator(breaker, (Predicate<String>) action -> true);
+        final int frameSize = 64;
+        final int maxFrames = randomIntBetween(1, 10);
+        final InboundPipeline pipeline = new InboundPipeline(new StatsTracker(), () -> 0L, decoder, aggregator, (c, m) -> {},
+            breaker, (long) maxFrames * frameSize);
+
+        // the peer never sends the last frame of its messages
+        for (int i = 0; i < maxFrames; i++) {
+            final BytesReference frame = TcpFrame.frame(i % 2, false, new BytesArray(randomByteArrayOfLength(frameSize)));
+            try (ReleasableBytesReference bytes = ReleasableBytesReference.wrap(frame)) {
+                pipeline.handleBytes(new FakeTcpChannel(), bytes);
+            }
+        }
+        final BytesReference frame = TcpFrame.frame(0, false, new BytesArray(randomByteArrayOfLength(1)));
+        try (ReleasableBytesReference bytes = ReleasableBytesReference.wrap(frame)) {
+            expectThrows(StreamCorruptedException.class, () -> pipeline.handleBytes(new FakeTcpChannel(), bytes));
+        }
+        pipeline.close();
+    }
+
+    private BytesReference serializeRequest(long requestId, String value, boolean compress) throws IOException {
+        final OutboundMessage message = new OutboundMessage.Request(threadContext, new String[0], new TestRequest(value),
+            Version.CURRENT, "actionName", requestId, false, compress);
+        return message.serialize(new BytesStreamOutput());
+    }
+
+    private static List<BytesReference> frames(long streamId, BytesReference message, int frameSize) {
+        final List<BytesReference> frames = new ArrayList<>();
+        for (int offset = 0; offset < message.length(); offset += frameSize) {
+            final int length = Math.min(frameSize, message.length() - offset);
+            frames.add(TcpFrame.frame(streamId, offset + length == message.length(), message.slice(offset, length)));
+        }
+        return frames;
+    }
+
     private static class MessageData {
 
         private final Version version;
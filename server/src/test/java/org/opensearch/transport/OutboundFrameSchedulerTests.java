@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.OutboundFrameScheduler.Lane;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class OutboundFrameSchedulerTests extends OpenSearchTestCase {
+
+    private final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+
+    public void testLaneForAction() {
+        assertEquals(Lane.HIGH, Lane.forAction("internal:coordination/fault_detection/follower_check"));
+        assertEquals(Lane.HIGH, Lane.forAction("internal:cluster/coordination/publish_state"));
+        assertEquals(Lane.HIGH, Lane.forAction(TransportService.HANDSHAKE_ACTION_NAME));
+        assertEquals(Lane.LOW, Lane.forAction("indices:data/write/bulk[s][r]"));
+        assertEquals(Lane.LOW, Lane.forAction("internal:index/shard/recovery/file_chunk"));
+        assertEquals(Lane.NORMAL, Lane.forAction("indices:data/read/search[phase/query]"));
+        assertEquals(Lane.NORMAL, Lane.forAction(null));
+    }
+
+    public void testHighLaneOvertakesLargeMessage() {
+        final RecordingChannel channel = new RecordingChannel();
+        final int maxUnitsInFlight = randomIntBetween(1, 5);
+        final OutboundFrameScheduler scheduler = new OutboundFrameScheduler(channel, 16, maxUnitsInFlight, threadContext);
+        final BytesReference large = new BytesArray(randomByteArrayOfLength(16 * 10));
+        final BytesReference small = new BytesArray(randomByteArrayOfLength(8));
+        final PlainActionFuture<Void> largeFuture = PlainActionFuture.newFuture();
+        final PlainActionFuture<Void> smallFuture = PlainActionFuture.newFuture();
+
+        scheduler.send(Lane.LOW, large, largeFuture);
+        assertThat(channel.sent.size(), equalTo(maxUnitsInFlight));
+        scheduler.send(Lane.HIGH, small, smallFuture);
+        assertThat(channel.sent.size(), equalTo(maxUnitsInFlight));
+
+        // the small message goes out as soon as a slot is free, ahead of the remaining frames
+        channel.complete(0);
+        assertThat(channel.sent.size(), equalTo(maxUnitsInFlight + 1));
+        assertSame(small, channel.sent.get(maxUnitsInFlight).v1());
+        channel.complete(maxUnitsInFlight);
+        assertTrue(smallFuture.isDone());
+        assertFalse(largeFuture.isDone());
+
+        channel.completeAll();
+        assertTrue(largeFuture.isDone());
+        assertEquals(0, scheduler.queuedMessages());
+        assertEquals(large, reassemble(channel.sent, 0));
+    }
+
+    public void testRoundRobinWithinLane() {
+        final RecordingChannel channel = new RecordingChannel();
+        final OutboundFrameScheduler scheduler = new OutboundFrameScheduler(channel, 16, 2, threadContext);
+        final BytesReference first = new BytesArray(randomByteArrayOfLength(16 * 6));
+        final BytesReference second = new BytesArray(randomByteArrayOfLength(16 * 6));
+        final PlainActionFuture<Void> firstFuture = PlainActionFuture.newFuture();
+        final PlainActionFuture<Void> secondFuture = PlainActionFuture.newFuture();
+        scheduler.send(Lane.NORMAL, first, firstFuture);
+        scheduler.send(Lane.NORMAL, second, secondFuture);
+        channel.completeAll();
+
+        assertTrue(firstFuture.isDone());
+        assertTrue(secondFuture.isDone());
+        // the first message fills the window before the second one is queued, from then on the frames alternate
+        final long[] expectedStreams = new long[] { 0, 0, 0, 1, 0, 1, 0, 1, 0, 1, 1, 1 };
+        assertEquals(expectedStreams.length, channel.sent.size());
+        for (int i = 0; i < expectedStreams.length; i++) {
+            assertEquals("unit " + i, expectedStreams[i], TcpFrame.streamId(channel.sent.get(i).v1()));
+        }
+        assertEquals(first, reassemble(channel.sent, 0));
+        assertEquals(second, reassemble(channel.sent, 1));
+    }
+
+    public void testCloseFailsQueuedMessages() {
+        final RecordingChannel channel = new RecordingChannel();
+        final OutboundFrameScheduler scheduler = new OutboundFrameScheduler(channel, 16, 2, threadContext);
+        final PlainActionFuture<Void> inFlight = PlainActionFuture.newFuture();
+        final PlainActionFuture<Void> queued = PlainActionFuture.newFuture();
+        scheduler.send(Lane.NORMAL, new BytesArray(randomByteArrayOfLength(16 * 4)), inFlight);
+        scheduler.send(Lane.NORMAL, new BytesArray(randomByteArrayOfLength(8)), queued);
+        scheduler.close();
+
+        assertThat(expectThrows(ExecutionException.class, queued::get).getCause(), instanceOf(ClosedChannelException.class));
+        // the message with frames in flight fails once its frames are done
+        assertFalse(inFlight.isDone());
+        channel.completeAll();
+        assertThat(expectThrows(ExecutionException.class, inFlight::get).getCause(), instanceOf(ClosedChannelException.class));
+
+        final PlainActionFuture<Void> afterClose = PlainActionFuture.newFuture();
+        scheduler.send(Lane.HIGH, new BytesArray(randomByteArrayOfLength(8)), afterClose);
+        assertThat(expectThrows(ExecutionException.class, afterClose::get).getCause(), instanceOf(ClosedChannelException.class));
+    }
+
+    public void testWriteFailureFailsMessageAndClosesChannel() {
+        final RecordingChannel channel = new RecordingChannel();
+        final OutboundFrameScheduler scheduler = new OutboundFrameScheduler(channel, 16, 2, threadContext);
+        final PlainActionFuture<Void> future = PlainActionFuture.newFuture();
+        scheduler.send(Lane.LOW, new BytesArray(randomByteArrayOfLength(16 * 4)), future);
+        channel.sent.get(0).v2().onFailure(new ClosedChannelException());
+        assertFalse(channel.isOpen());
+        assertFalse(future.isDone());
+        channel.sent.get(1).v2().onResponse(null);
+        assertThat(expectThrows(ExecutionException.class, future::get).getCause(), instanceOf(ClosedChannelException.class));
+    }
+
+    private static BytesReference reassemble(List<Tuple<BytesReference, ActionListener<Void>>> sent, long streamId) {
+        final List<BytesReference> payloads = new ArrayList<>();
+        boolean last = false;
+        for (Tuple<BytesReference, ActionListener<Void>> unit : sent) {
+            final BytesReference frame = unit.v1();
+            if (TcpFrame.isFrame(frame) && TcpFrame.streamId(frame) == streamId) {
+                assertFalse("frame after the last frame of stream [" + streamId + "]", last);
+                payloads.add(frame.slice(TcpFrame.HEADER_SIZE, frame.length() - TcpFrame.HEADER_SIZE));
+                last = TcpFrame.isLast(frame);
+            }
+        }
+        assertTrue(last);
+        return CompositeBytesReference.of(payloads.toArray(new BytesReference[0]));
+    }
+
+    /**
+     * Records the sent units and completes them only when asked to.
+     */
+    private static class RecordingChannel extends FakeTcpChannel {
+        private final List<Tuple<BytesReference, ActionListener<Void>>> sent = new ArrayList<>();
+        private final List<Boolean> completed = new ArrayList<>();
+
+        @Override
+        public void sendMessage(BytesReference reference, ActionListener<Void> listener) {
+            sent.add(new Tuple<>(reference, listener));
+            completed.add(false);
+        }
+
+        void complete(int index) {
+            assertFalse(completed.get(index));
+            completed.set(index, true);
+            sent.get(index).v2().onResponse(null);
+        }
+
+        void completeAll() {
+            // completing a unit may send the next one
+            for (int i = 0; i < sent.size(); i++) {
+                if (completed.get(i) == false) {
+                    complete(i);
+                }
+            }
+        }
+    }
+}
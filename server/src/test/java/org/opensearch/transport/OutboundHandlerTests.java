@@ -259,6 +259,37 @@ public class OutboundHandlerTests extends OpenSearchTestCase {
         assertEquals("header_value", header.getHeaders().v1().get("header"));
     }
 
+    public void testCompressedRequestAsksForAdaptiveResponse() throws IOException {
+        final AdaptiveCompression adaptiveCompression = new AdaptiveCompression(false, 1024, 0.9);
+        handler.sendRequest(node, channel, randomLongBetween(0, 300), "action", new TestRequest("message"), options, Version.CURRENT,
+            true, false, adaptiveCompression);
+        pipeline.handleBytes(channel, new ReleasableBytesReference(channel.getMessageCaptor().get(), () -> {
+        }));
+        final Header header = message.get().v1();
+        // the first request of an action is compressed to learn its ratio, and the response is left to the receiver either way
+        assertTrue(header.isCompressed());
+        assertTrue(header.isCompressResponseAdaptively());
+    }
+
+    public void testAdaptivelyCompressedResponse() throws IOException {
+        final String action = "action";
+        // the first response of an action is compressed to learn its size and ratio
+        handler.sendResponse(Version.CURRENT, Collections.emptySet(), channel, randomLongBetween(0, 300), action,
+            new TestResponse("message"), false, true, false);
+        pipeline.handleBytes(channel, new ReleasableBytesReference(channel.getMessageCaptor().get(), () -> {
+        }));
+        assertTrue(message.get().v1().isCompressed());
+        assertEquals("message", new TestResponse(message.get().v2().streamInput()).value);
+
+        // the responses of the action are small, so they are not compressed anymore, even if the request was compressed
+        handler.sendResponse(Version.CURRENT, Collections.emptySet(), channel, randomLongBetween(0, 300), action,
+            new TestResponse("message"), true, true, false);
+        pipeline.handleBytes(channel, new ReleasableBytesReference(channel.getMessageCaptor().get(), () -> {
+        }));
+        assertFalse(message.get().v1().isCompressed());
+        assertEquals("message", new TestResponse(message.get().v2().streamInput()).value);
+    }
+
     public void testErrorResponse() throws IOException {
         ThreadContext threadContext = threadPool.getThreadContext();
         Version version = randomFrom(Version.CURRENT, Version.CURRENT.minimumCompatibilityVersion());